@@ -0,0 +1,75 @@
+-- ===========================================
+-- 스키마 변경 (MySQL)
+-- ===========================================
+-- 운영은 spring.jpa.hibernate.ddl-auto=validate로 실행되므로 Hibernate가 테이블/컬럼/인덱스를 만들지 않음
+-- 배포 전에 아래 변경을 순서대로 적용해야 함 (컬럼/테이블이 없으면 서버가 시작되지 않음)
+
+-- 일정 소요 시간(분): 시간 충돌 검사에 사용, 없으면 검사에서 제외
+ALTER TABLE itinerary ADD COLUMN duration INT NULL;
+
+-- 맛집 추천 id를 INSERT 배치가 가능한 시퀀스(allocationSize 50)로 할당
+-- MySQL에는 시퀀스가 없으므로 Hibernate는 next_val 한 행짜리 테이블로 대신함
+-- pooled 최적화는 읽은 값 - 49부터 id를 쓰므로, 기존 id와 겹치지 않도록 최대 id + 50에서 시작
+CREATE TABLE place_recommendation_seq (next_val BIGINT) ENGINE = InnoDB;
+INSERT INTO place_recommendation_seq (next_val) SELECT COALESCE(MAX(id), 0) + 50 FROM place_recommendation;
+
+-- 도시별 최근 맛집 추천 조회/개수/삭제용
+-- 만료 데이터 정리(findIdsCreatedBefore)는 id 순 키셋이라 이 인덱스 대신 기본 키를 순서대로 읽음
+CREATE INDEX idx_place_recommendation_city_created ON place_recommendation (country, city, created_at);
+
+-- 커뮤니티 목록 썸네일 (본문의 첫 이미지 주소, 이미지가 없으면 "", 아직 계산 전인 기존 게시글은 NULL)
+-- 기존 게시글은 NULL로 두면 서버 시작 시 게시글에 연결된 첫 번째 이미지로 채움 (ImageCleanupService.backfillThumbnails)
+ALTER TABLE community ADD COLUMN thumbnail_url VARCHAR(1024) NULL;
+
+-- 인기 해시태그 스냅샷 (서버 재시작 시 메모리 순위 복원용, score는 saved_at 시점 기준으로 감쇠된 점수)
+-- tag는 post_hashtag와 같이 대소문자를 구분하도록 binary collation 사용
+CREATE TABLE hashtag_trend (
+    tag      VARCHAR(50) CHARACTER SET utf8mb4 COLLATE utf8mb4_bin NOT NULL,
+    score    DOUBLE      NOT NULL,
+    saved_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (tag)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+-- 여행별/카테고리별 예약 비용 합계 (예약 생성/수정/삭제 시 함께 갱신)
+-- 기존 여행은 비워 두면 처음 예약이 바뀔 때 DB 집계로 초기화 (그 전 조회는 DB 집계 사용)
+CREATE TABLE reservation_cost_summary (
+    trip_id           INT         NOT NULL,
+    category          VARCHAR(20) NOT NULL,
+    total_cost        INT         NOT NULL,
+    reservation_count INT         NOT NULL,
+    PRIMARY KEY (trip_id, category)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+-- 여행 일정/예약 비용 합계 (NULL이면 아직 집계 전이며, 처음 일정/예약이 바뀔 때 DB 집계로 초기화)
+ALTER TABLE trip ADD COLUMN itinerary_spend INT NULL, ADD COLUMN reservation_spend INT NULL;
+
+-- 여행 날짜별 일정 비용 합계 (일정 생성/수정/삭제 시 함께 갱신)
+CREATE TABLE trip_daily_spend (
+    trip_id    INT  NOT NULL,
+    spend_date DATE NOT NULL,
+    total_cost INT  NOT NULL,
+    PRIMARY KEY (trip_id, spend_date)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+-- 장소 중복 판별용 정규화 키 (PlaceUtil.normalizeKey), 기존 데이터는 서버 시작 시 채움 (PlaceService.backfillNormalizedKeys)
+ALTER TABLE place ADD COLUMN normalized_key VARCHAR(520) NULL;
+CREATE INDEX idx_place_normalized_key ON place (normalized_key);
+
+-- 게시글-해시태그 (해시태그 검색용, (tag, post_id) 인덱스를 범위 스캔)
+-- 기존 게시글은 서버 시작 시 community.hashtags에서 채움 (CommunityHashtagService)
+CREATE TABLE post_hashtag (
+    post_id INT                                             NOT NULL,
+    tag     VARCHAR(50) CHARACTER SET utf8mb4 COLLATE utf8mb4_bin NOT NULL,
+    PRIMARY KEY (post_id, tag),
+    INDEX idx_post_hashtag_tag_post (tag, post_id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+-- 게시글 고유 조회자 추정값 (post_view_sketch의 HyperLogLog 추정값, 기존 게시글은 0부터 집계)
+ALTER TABLE community ADD COLUMN unique_viewers INT NOT NULL DEFAULT 0;
+
+-- 게시글 고유 조회자 HyperLogLog 스케치 (HyperLogLog.toBytes 형식, 최대 16KB + 1바이트)
+CREATE TABLE post_view_sketch (
+    post_id INT  NOT NULL,
+    sketch  BLOB NOT NULL,
+    PRIMARY KEY (post_id)
+) ENGINE = InnoDB;
@@ -0,0 +1,73 @@
+package com.jandi.plan_backend.commu.community;
+
+import com.jandi.plan_backend.commu.community.entity.CommunityContentsCodec;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게시글 본문 압축 저장의 저장 크기와 읽기/쓰기 비용 (본문 16K / 64K / 1M자)
+ * - read*: 드라이버가 컬럼 바이트를 문자열로 만드는 비용 + (압축본이면) 복원 비용
+ * - 저장 크기(원문 UTF-8 바이트 vs 압축본)는 setUp에서 출력
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CommunityContentsCodecBenchmark {
+
+    @Param({"16384", "65536", "1048576"})
+    private int contentsLength;
+
+    private String contents;
+    private byte[] rawColumn;
+    private byte[] compressedColumn;
+
+    @Setup
+    public void setUp() {
+        // 한글 문단, 목록/강조 서식, 이미지가 섞인 Quill JSON
+        String[] words = {"여행", "파리", "에펠탑", "야경이", "정말", "아름다웠다", "다음에는", "로마에", "가고", "싶다",
+                "숙소는", "시내", "중심이라", "이동이", "편했다", "추천", "맛집", "크루아상", "박물관", "줄이"};
+        Random random = new Random(42);
+        StringBuilder builder = new StringBuilder("{\"ops\":[");
+        while (builder.length() < contentsLength) {
+            builder.append("{\"insert\":\"");
+            for (int i = 0, n = 5 + random.nextInt(30); i < n; i++) {
+                builder.append(words[random.nextInt(words.length)]).append(' ');
+            }
+            builder.append("\"},");
+            switch (random.nextInt(4)) {
+                case 0 -> builder.append("{\"attributes\":{\"list\":\"bullet\"},\"insert\":\"\\n\"},");
+                case 1 -> builder.append("{\"attributes\":{\"bold\":true},\"insert\":\"")
+                        .append(words[random.nextInt(words.length)]).append("\"},");
+                case 2 -> builder.append("{\"insert\":{\"image\":\"https://storage.googleapis.com/plan-storage/")
+                        .append(Long.toHexString(random.nextLong())).append(".jpg\"}},");
+                default -> builder.append("{\"insert\":\"\\n\"},");
+            }
+        }
+        builder.setLength(builder.length() - 1);
+        contents = builder.append("]}").toString();
+
+        rawColumn = contents.getBytes(StandardCharsets.UTF_8);
+        compressedColumn = CommunityContentsCodec.encode(contents).getBytes(StandardCharsets.UTF_8);
+        System.out.printf("%n[contents=%d chars] stored bytes: raw=%d, compressed=%d (%.1f%%)%n",
+                contentsLength, rawColumn.length, compressedColumn.length,
+                100.0 * compressedColumn.length / rawColumn.length);
+    }
+
+    @Benchmark
+    public String readRaw() {
+        return new String(rawColumn, StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public String readCompressed() {
+        return CommunityContentsCodec.decode(new String(compressedColumn, StandardCharsets.UTF_8));
+    }
+
+    @Benchmark
+    public String encode() {
+        return CommunityContentsCodec.encode(contents);
+    }
+}
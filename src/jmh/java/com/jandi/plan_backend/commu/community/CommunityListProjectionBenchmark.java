@@ -0,0 +1,127 @@
+package com.jandi.plan_backend.commu.community;
+
+import com.jandi.plan_backend.commu.community.dto.CommunitySummaryDTO;
+import com.jandi.plan_backend.commu.community.entity.Community;
+import com.jandi.plan_backend.commu.community.entity.CommunityHashtagConverter;
+import com.jandi.plan_backend.user.entity.User;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게시글 목록 한 페이지(10건)를 엔티티 전체로 읽을 때와 목록 프로젝션으로 읽을 때 비교 (본문 2KB / 100KB / 1MB)
+ * - DB 없이 한 페이지의 결과 행을 UTF-8 바이트로 준비해 두고, 드라이버처럼 컬럼을 문자열로 디코딩해서 객체를 만드는 비용을 측정
+ * - 페이지당 전송 바이트는 setUp에서 출력
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CommunityListProjectionBenchmark {
+
+    private static final int PAGE_SIZE = 10;
+
+    @Param({"2048", "102400", "1048576"})
+    private int contentsBytes;
+
+    // 행마다 [title, preview, thumbnail_url, hashtags, user_name, first_name, last_name, email, contents]
+    private byte[][][] rows;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        rows = new byte[PAGE_SIZE][][];
+        long entityBytes = 0;
+        long projectionBytes = 0;
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            String contents = quillContents(random, contentsBytes);
+            rows[i] = new byte[][]{
+                    utf8("유럽 여행 후기 " + i),
+                    utf8(contents.substring(0, Math.min(200, contents.length()))),
+                    utf8("https://storage.googleapis.com/plan-storage/" + i + ".jpg"),
+                    utf8("[\"여행\",\"유럽\",\"파리\"]"),
+                    utf8("user" + i), utf8("길동"), utf8("홍"), utf8("user" + i + "@example.com"),
+                    utf8(contents)
+            };
+            for (int c = 0; c < rows[i].length; c++) {
+                // 숫자/날짜 컬럼(postId, createdAt, 카운트 3개, userId)은 양쪽 모두 40바이트로 계산
+                entityBytes += rows[i][c].length;
+                projectionBytes += (c == rows[i].length - 1) ? 0 : rows[i][c].length;
+            }
+            entityBytes += 40;
+            projectionBytes += 40;
+        }
+        System.out.printf("%n[contents=%d] bytes per page: entity=%d, projection=%d%n",
+                contentsBytes, entityBytes, projectionBytes);
+    }
+
+    @Benchmark
+    public Community[] entityPage() {
+        Community[] page = new Community[PAGE_SIZE];
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            byte[][] row = rows[i];
+            User user = new User();
+            user.setUserId(i);
+            user.setUserName(string(row[4]));
+            user.setFirstName(string(row[5]));
+            user.setLastName(string(row[6]));
+            user.setEmail(string(row[7]));
+
+            Community community = new Community();
+            community.setPostId(i);
+            community.setUser(user);
+            community.setCreatedAt(LocalDateTime.MIN);
+            community.setTitle(string(row[0]));
+            community.setPreview(string(row[1]));
+            community.setThumbnailUrl(string(row[2]));
+            community.setHashtags(CommunityHashtagConverter.fromJson(string(row[3])));
+            community.setContents(string(row[8]));
+            community.setLikeCount(0);
+            community.setCommentCount(0);
+            community.setViewCount(0);
+            page[i] = community;
+        }
+        return page;
+    }
+
+    @Benchmark
+    public CommunitySummaryDTO[] projectionPage() {
+        CommunitySummaryDTO[] page = new CommunitySummaryDTO[PAGE_SIZE];
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            byte[][] row = rows[i];
+            page[i] = new CommunitySummaryDTO(i, LocalDateTime.MIN, string(row[0]), string(row[1]), string(row[2]),
+                    string(row[3]), 0, 0, 0,
+                    i, string(row[4]), string(row[5]), string(row[6]), string(row[7]));
+        }
+        return page;
+    }
+
+    private static String string(byte[] bytes) {
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static byte[] utf8(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    // 한글 문단과 서식 op가 섞인 Quill JSON (UTF-8 기준 약 size 바이트)
+    private static String quillContents(Random random, int size) {
+        String[] words = {"여행", "파리", "에펠탑", "야경이", "정말", "아름다웠다", "다음에는", "로마에", "가고", "싶다"};
+        StringBuilder builder = new StringBuilder("{\"ops\":[");
+        int bytes = 0;
+        while (bytes < size) {
+            StringBuilder ops = new StringBuilder("{\"insert\":\"");
+            for (int i = 0; i < 40; i++) {
+                ops.append(words[random.nextInt(words.length)]).append(' ');
+            }
+            ops.append("\\n\"},{\"attributes\":{\"bold\":true},\"insert\":\"")
+                    .append(words[random.nextInt(words.length)]).append("\"},");
+            builder.append(ops);
+            bytes += utf8(ops.toString()).length;
+        }
+        builder.setLength(builder.length() - 1);
+        return builder.append("]}").toString();
+    }
+}
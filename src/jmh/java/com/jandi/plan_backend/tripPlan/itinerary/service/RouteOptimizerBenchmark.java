@@ -0,0 +1,49 @@
+package com.jandi.plan_backend.tripPlan.itinerary.service;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 하루 일정 방문 순서 최적화 성능 측정 (장소 10 / 50 / 200개)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RouteOptimizerBenchmark {
+
+    @Param({"10", "50", "200"})
+    private int stops;
+
+    private double[] latitudes;
+    private double[] longitudes;
+    private double[] matrix;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        latitudes = new double[stops];
+        longitudes = new double[stops];
+        for (int i = 0; i < stops; i++) {
+            latitudes[i] = 37.45 + random.nextDouble() * 0.2;
+            longitudes[i] = 126.85 + random.nextDouble() * 0.3;
+        }
+        matrix = RouteOptimizer.buildDistanceMatrix(latitudes, longitudes);
+    }
+
+    @Benchmark
+    public double[] buildDistanceMatrix() {
+        return RouteOptimizer.buildDistanceMatrix(latitudes, longitudes);
+    }
+
+    @Benchmark
+    public int[] nearestNeighbourOnly() {
+        return RouteOptimizer.nearestNeighbour(matrix, stops);
+    }
+
+    @Benchmark
+    public int[] optimize() {
+        return RouteOptimizer.optimize(matrix, stops);
+    }
+}
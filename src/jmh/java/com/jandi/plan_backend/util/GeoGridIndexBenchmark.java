@@ -0,0 +1,75 @@
+package com.jandi.plan_backend.util;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 격자 인덱스와 전체 스캔의 반경/최근접 조회 성능 비교 (좌표 1만 / 10만개)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class GeoGridIndexBenchmark {
+
+    private static final double CENTER_LAT = 37.5665;
+    private static final double CENTER_LNG = 126.9780;
+    private static final double RADIUS_METERS = 2000;
+    private static final int K = 10;
+
+    @Param({"10000", "100000"})
+    private int points;
+
+    private double[] latitudes;
+    private double[] longitudes;
+    private GeoGridIndex index;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        long[] ids = new long[points];
+        latitudes = new double[points];
+        longitudes = new double[points];
+        for (int i = 0; i < points; i++) {
+            ids[i] = i;
+            latitudes[i] = 37.0 + random.nextDouble();
+            longitudes[i] = 126.5 + random.nextDouble();
+        }
+        index = new GeoGridIndex(0.01);
+        index.replaceAll(ids, latitudes, longitudes);
+    }
+
+    @Benchmark
+    public List<GeoGridIndex.Hit> radiusGrid() {
+        return index.withinRadius(CENTER_LAT, CENTER_LNG, RADIUS_METERS);
+    }
+
+    @Benchmark
+    public int radiusFullScan() {
+        int count = 0;
+        for (int i = 0; i < points; i++) {
+            if (GeoGridIndex.distanceMeters(CENTER_LAT, CENTER_LNG, latitudes[i], longitudes[i]) <= RADIUS_METERS) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    public List<GeoGridIndex.Hit> nearestGrid() {
+        return index.nearest(CENTER_LAT, CENTER_LNG, K);
+    }
+
+    @Benchmark
+    public double[] nearestFullScan() {
+        double[] distances = new double[points];
+        for (int i = 0; i < points; i++) {
+            distances[i] = GeoGridIndex.distanceMeters(CENTER_LAT, CENTER_LNG, latitudes[i], longitudes[i]);
+        }
+        Arrays.sort(distances);
+        return Arrays.copyOf(distances, K);
+    }
+}
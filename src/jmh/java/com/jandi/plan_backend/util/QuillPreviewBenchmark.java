@@ -0,0 +1,66 @@
+package com.jandi.plan_backend.util;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Quill 본문 미리보기(200자) 추출 성능 비교: 이전 트리 방식 vs 스트리밍 파서 (본문 1KB / 100KB / 1MB)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class QuillPreviewBenchmark {
+
+    private static final int MAX_PREVIEW_LENGTH = 200;
+
+    @Param({"1024", "102400", "1048576"})
+    private int contentsBytes;
+
+    private String contents;
+
+    @Setup
+    public void setUp() {
+        String[] words = {"여행", "파리", "에펠탑", "야경이", "정말", "아름다웠다", "다음에는", "로마에", "가고", "싶다"};
+        Random random = new Random(42);
+        StringBuilder builder = new StringBuilder("{\"ops\":[");
+        int bytes = 0;
+        while (bytes < contentsBytes) {
+            StringBuilder op = new StringBuilder("{\"insert\":\"");
+            for (int i = 0; i < 8; i++) {
+                op.append(words[random.nextInt(words.length)]).append(' ');
+            }
+            op.append("\\n\"},{\"attributes\":{\"list\":\"bullet\"},\"insert\":\"\\n\"},");
+            builder.append(op);
+            bytes += op.toString().getBytes(StandardCharsets.UTF_8).length;
+        }
+        builder.setLength(builder.length() - 1);
+        contents = builder.append("]}").toString();
+    }
+
+    // 이전 구현: 호출마다 ObjectMapper 생성, 본문 전체를 JsonNode 트리로 파싱
+    @Benchmark
+    public String tree() throws Exception {
+        StringBuilder preview = new StringBuilder();
+        JsonNode node = new ObjectMapper().readTree(contents);
+        for (JsonNode opsNode : node.get("ops")) {
+            int leftLength = MAX_PREVIEW_LENGTH - preview.length();
+            if (leftLength < 1) break;
+            JsonNode insertNode = opsNode.get("insert");
+            if (insertNode != null) {
+                String text = insertNode.asText().replace("\n", "");
+                preview.append(text.length() > leftLength ? text.substring(0, leftLength) : text);
+            }
+        }
+        return preview.toString();
+    }
+
+    @Benchmark
+    public String streaming() {
+        return QuillPreviewExtractor.extract(contents, MAX_PREVIEW_LENGTH);
+    }
+}
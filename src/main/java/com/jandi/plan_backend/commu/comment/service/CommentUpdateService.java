@@ -7,6 +7,7 @@ import com.jandi.plan_backend.commu.comment.repository.CommentLikeRepository;
 import com.jandi.plan_backend.commu.comment.repository.CommentReportedRepository;
 import com.jandi.plan_backend.commu.comment.repository.CommentRepository;
 import com.jandi.plan_backend.commu.community.entity.Community;
+import com.jandi.plan_backend.commu.community.service.HotPostService;
 import com.jandi.plan_backend.image.service.ImageService;
 import com.jandi.plan_backend.user.entity.User;
 import com.jandi.plan_backend.util.TimeUtil;
@@ -27,6 +28,7 @@ public class CommentUpdateService {
     private final ImageService imageService;
     private final CommentLikeRepository commentLikeRepository;
     private final CommentReportedRepository commentReportedRepository;
+    private final HotPostService hotPostService;
 
     /** 댓글 작성 */
     @Transactional
@@ -39,6 +41,7 @@ public class CommentUpdateService {
 
         // 댓글 수 증가 처리
         commentRepository.increaseCommentCount(post.getPostId(), 1);
+        hotPostService.recordComment(post.getPostId(), 1);
 
         return new CommentRespDTO(newComment, imageService);
     }
@@ -57,6 +60,7 @@ public class CommentUpdateService {
         // 댓글 수, 답글 수 증가 처리
         commentRepository.increaseCommentCount(post.getPostId(), 1);
         commentRepository.increaseRepliesCount(commentId);
+        hotPostService.recordComment(post.getPostId(), 1);
 
         return new CommentRespDTO(newComment, imageService);
     }
@@ -132,6 +136,7 @@ public class CommentUpdateService {
         // 댓글 수 감소 처리
         Integer postId = comment.getCommunity().getPostId();
         commentRepository.decreaseCommentCount(postId, 1 + repliesCount);
+        hotPostService.recordComment(postId, -(1 + repliesCount));
 
         // 자신 삭제
         deleteCommentAssociations(comment);
@@ -144,6 +149,7 @@ public class CommentUpdateService {
         // 댓글 수 감소 처리
         Integer postId = comment.getCommunity().getPostId();
         commentRepository.decreaseCommentCount(postId, 1);
+        hotPostService.recordComment(postId, -1);
 
         // 답글 수 감소 처리
         Integer parentCommentId = comment.getParentComment().getCommentId();
@@ -2,6 +2,7 @@ package com.jandi.plan_backend.commu.community.controller;
 
 import com.jandi.plan_backend.commu.community.dto.*;
 import com.jandi.plan_backend.commu.community.service.*;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -10,6 +11,7 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.HashMap;
 import java.util.Map;
 
 @RestController
@@ -22,6 +24,8 @@ public class PostController {
     private final CommunityReportService communityReportService;
     private final CommunitySearchService communitySearchService;
     private final CommunityUpdateService communityUpdateService;
+    private final HashtagTrendService hashtagTrendService;
+    private final HotPostService hotPostService;
 
     /** 게시물 목록 조회 API */
     @GetMapping("/posts")
@@ -41,14 +45,34 @@ public class PostController {
         );
     }
 
+    /** 인기 게시물 목록 조회 API (커서 페이지) */
+    @GetMapping("/posts/hot")
+    public Map<String, Object> getHotPosts(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        HotPostPageDTO hotPage = hotPostService.getHotPosts(cursor, size);
+        Map<String, Object> response = new HashMap<>();
+        response.put("items", hotPage.getItems());
+        response.put("nextCursor", hotPage.getNextCursor()); // 마지막 페이지면 null
+        return response;
+    }
+
     /** 특정 게시물 조회 API */
     @GetMapping("/posts/{postId}")
     public Map<String, Object> getPosts(
             @PathVariable Integer postId,
-            @AuthenticationPrincipal UserDetails userDetails
+            @AuthenticationPrincipal UserDetails userDetails,
+            HttpServletRequest request
     ) {
         String userEmail = (userDetails != null) ? userDetails.getUsername() : null;
-        return Map.of("items", communityQueryService.getSpecPost(postId, userEmail));
+        return Map.of("items", communityQueryService.getSpecPost(postId, userEmail, clientFingerprint(request)));
+    }
+
+    // 비로그인 조회자 식별값 (클라이언트 주소 + User-Agent)
+    // 프록시 헤더는 직접 읽지 않음: 신뢰하는 프록시의 X-Forwarded-For만 컨테이너가 remoteAddr에 반영 (server.forward-headers-strategy)
+    private String clientFingerprint(HttpServletRequest request) {
+        return request.getRemoteAddr() + "|" + request.getHeader("User-Agent");
     }
 
     /** 게시물 수정 API */
@@ -140,4 +164,12 @@ public class PostController {
                 "items", postsPage.getContent()
         );
     }
+
+    /** 인기 해시태그 조회 */
+    @GetMapping("/hashtags/trending")
+    public Map<String, Object> getTrendingHashtags(
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        return Map.of("items", hashtagTrendService.getTrending(size));
+    }
 }
@@ -21,12 +21,19 @@ public class CommunityItemDTO {
     private final Integer likeCount;
     private final Integer commentCount;
     private final Integer viewCount;
+    private final Integer uniqueViewers;
     private final Boolean liked;
     private final List<String> hashtag;
 
-    public CommunityItemDTO(Community community, ImageService imageService, boolean liked) {
+    /**
+     * @param viewCount 아직 DB에 반영하지 않은 조회 수를 더한 조회 수
+     * @param uniqueViewers 고유 조회자 추정값
+     */
+    public CommunityItemDTO(Community community, ImageService imageService, boolean liked,
+                            int viewCount, int uniqueViewers) {
         this.postId = community.getPostId();
-        this.viewCount = community.getViewCount();
+        this.viewCount = viewCount;
+        this.uniqueViewers = uniqueViewers;
         this.user = new UserCommunityDTO(community.getUser(), imageService);
         this.createdAt = community.getCreatedAt();
         this.title = community.getTitle();
@@ -37,6 +37,21 @@ public class CommunityListDTO {
         this.hashtag = community.getHashtags().toArray(new String[0]);
     }
 
+    // 목록/검색 프로젝션 버전 (본문 없이 조회한 결과)
+    public CommunityListDTO(CommunitySummaryDTO summary, ImageService imageService, String thumbnail) {
+        this.postId = summary.getPostId();
+        this.viewCount = summary.getViewCount();
+        this.preview = summary.getPreview();
+        this.user = new UserCommunityDTO(summary.getUserId(), summary.getUserName(), summary.getFirstName(),
+                summary.getLastName(), summary.getEmail(), imageService);
+        this.createdAt = summary.getCreatedAt();
+        this.title = summary.getTitle();
+        this.likeCount = summary.getLikeCount();
+        this.commentCount = summary.getCommentCount();
+        this.thumbnail = thumbnail;
+        this.hashtag = summary.getHashtags().toArray(new String[0]);
+    }
+
     // 프로필 사진 필요없는 버전
     public CommunityListDTO(Community community) {
         this.postId = community.getPostId();
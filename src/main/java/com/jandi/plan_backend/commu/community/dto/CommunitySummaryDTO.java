@@ -0,0 +1,40 @@
+package com.jandi.plan_backend.commu.community.dto;
+
+import com.jandi.plan_backend.commu.community.entity.CommunityHashtagConverter;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 게시글 목록/검색용 조회 결과 (JPQL 생성자 프로젝션)
+ * 본문(contents, TEXT)은 목록에서 쓰지 않으므로 조회하지 않고, 목록에 필요한 컬럼과 작성자 정보만 가져온다
+ * 해시태그는 JSON 문자열로 받아 getHashtags()를 호출할 때 목록으로 변환한다
+ */
+@Getter
+@AllArgsConstructor
+public class CommunitySummaryDTO {
+    private final Integer postId;
+    private final LocalDateTime createdAt;
+    private final String title;
+    private final String preview;
+    private final String thumbnailUrl;
+    @Getter(AccessLevel.NONE)
+    private final String hashtagsJson;
+    private final Integer likeCount;
+    private final Integer commentCount;
+    private final Integer viewCount;
+
+    // 작성자
+    private final Integer userId;
+    private final String userName;
+    private final String firstName;
+    private final String lastName;
+    private final String email;
+
+    public List<String> getHashtags() {
+        return CommunityHashtagConverter.fromJson(hashtagsJson);
+    }
+}
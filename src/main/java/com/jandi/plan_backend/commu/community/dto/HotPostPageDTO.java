@@ -0,0 +1,16 @@
+package com.jandi.plan_backend.commu.community.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 인기 게시글 한 페이지 (nextCursor: 다음 페이지 요청에 넘길 커서, 마지막 페이지면 null)
+ */
+@Getter
+@AllArgsConstructor
+public class HotPostPageDTO {
+    private final List<CommunityListDTO> items;
+    private final String nextCursor;
+}
@@ -0,0 +1,14 @@
+package com.jandi.plan_backend.commu.community.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 인기 해시태그 (score: 시간 감쇠된 게시글 사용/검색 점수)
+ */
+@Getter
+@AllArgsConstructor
+public class TrendingHashtagDTO {
+    private final String hashtag;
+    private final double score;
+}
@@ -15,13 +15,19 @@ public class UserCommunityDTO {
 
     // 프로필 이미지 같이 넘겨주는 버전
     public UserCommunityDTO(User user, ImageService imageService) {
-        this.userId = user.getUserId();
-        this.userName = user.getUserName();
-        this.firstName = user.getFirstName();
-        this.lastName = user.getLastName();
-        this.email = user.getEmail();
+        this(user.getUserId(), user.getUserName(), user.getFirstName(), user.getLastName(), user.getEmail(), imageService);
+    }
+
+    // 프로필 이미지 같이 넘겨주는 버전 (목록 프로젝션처럼 User 엔티티 없이 작성자 컬럼만 있는 경우)
+    public UserCommunityDTO(Integer userId, String userName, String firstName, String lastName, String email,
+                            ImageService imageService) {
+        this.userId = userId;
+        this.userName = userName;
+        this.firstName = firstName;
+        this.lastName = lastName;
+        this.email = email;
         // 프로필 이미지 URL을 가져옴 (예: imageService에서 최신 URL 반환)
-        this.profileImageUrl = imageService.getImageByTarget("profile", user.getUserId())
+        this.profileImageUrl = imageService.getImageByTarget("profile", userId)
                 .map(img -> "https://storage.googleapis.com/plan-storage/" + img.getImageUrl())
                 .orElseGet(() -> imageService.getPublicUrlByImageId(1));
     }
@@ -2,7 +2,11 @@ package com.jandi.plan_backend.commu.community.entity;
 
 import com.jandi.plan_backend.commu.comment.entity.Comment;
 import jakarta.persistence.*;
+import lombok.AccessLevel;
 import lombok.Data;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
 import com.jandi.plan_backend.user.entity.User;
 import java.time.LocalDateTime;
 import java.util.List;
@@ -26,15 +30,39 @@ public class Community {
     @Column(length = 255)
     private String title;
 
+    // 본문 (Quill JSON). 큰 본문은 압축된 형태로 저장되며(CommunityContentsCodec), getContents()를 처음 호출할 때 복원
     @Column(columnDefinition = "TEXT")
     private String contents;
 
+    // 복원한 본문과 복원에 사용한 저장값 (목록/좋아요 등 본문을 쓰지 않는 조회는 복원 비용이 없음)
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @ToString.Exclude
+    private transient String decodedContents;
+
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @ToString.Exclude
+    private transient String decodedFrom;
+
     @Column(length = 200, nullable = false)
     private String preview;
 
-    @Convert(converter = CommunityHashtagConverter.class)
-    @Column(columnDefinition = "JSON")
-    private List<String> hashtags;
+    // 목록 썸네일 (본문의 첫 이미지 주소, 이미지가 없으면 "", 아직 계산 전인 기존 게시글은 null)
+    @Column(name = "thumbnail_url", length = 1024)
+    private String thumbnailUrl;
+
+    // 해시태그 (JSON 배열 문자열 그대로 보관하고, getHashtags()를 처음 호출할 때 목록으로 변환)
+    // 해시태그 검색은 post_hashtag 테이블(PostHashtag)을 사용
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @Column(name = "hashtags", columnDefinition = "JSON")
+    private String hashtagsJson;
+
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @ToString.Exclude
+    private transient List<String> hashtagList;
 
     @Column(nullable = false)
     private Integer likeCount;
@@ -45,7 +73,36 @@ public class Community {
     @Column(nullable = false)
     private Integer viewCount = 0;
 
+    // 고유 조회자 추정값 (post_view_sketch의 HyperLogLog 스케치를 병합할 때 갱신)
+    @Column(name = "unique_viewers", nullable = false)
+    private Integer uniqueViewers = 0;
+
     @OneToMany(mappedBy = "community", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<Comment> comments;
-}
 
+    public String getContents() {
+        if (decodedFrom != contents) {
+            decodedContents = CommunityContentsCodec.decode(contents);
+            decodedFrom = contents;
+        }
+        return decodedContents;
+    }
+
+    public void setContents(String contents) {
+        this.contents = CommunityContentsCodec.encode(contents);
+        this.decodedContents = contents;
+        this.decodedFrom = this.contents;
+    }
+
+    public List<String> getHashtags() {
+        if (hashtagList == null) {
+            hashtagList = CommunityHashtagConverter.fromJson(hashtagsJson);
+        }
+        return hashtagList;
+    }
+
+    public void setHashtags(List<String> hashtags) {
+        this.hashtagsJson = CommunityHashtagConverter.toJson(hashtags);
+        this.hashtagList = hashtags;
+    }
+}
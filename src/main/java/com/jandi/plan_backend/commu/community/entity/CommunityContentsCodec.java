@@ -0,0 +1,89 @@
+package com.jandi.plan_backend.commu.community.entity;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * 게시글 본문(Quill JSON) 저장 형식 변환
+ *
+ * - COMPRESS_THRESHOLD자 이상인 본문만 deflate(가장 빠른 단계)로 압축하고, 줄어드는 경우에만 압축본을 저장
+ * - 압축본 형식: 헤더 문자(\u0001) + Base64([원문 UTF-8 바이트 수 4바이트][deflate 데이터])
+ *   컬럼 타입(TEXT)을 그대로 쓰기 위해 Base64로 저장하며, Quill JSON은 '{'로 시작하므로 헤더와 겹치지 않음
+ * - 헤더가 없는 값(기존 게시글, 작은 본문)은 그대로 반환
+ */
+public final class CommunityContentsCodec {
+
+    // 압축본 표시 문자
+    static final char COMPRESSED_HEADER = '\u0001';
+
+    // 이 길이(문자 수) 이상인 본문만 압축
+    public static final int COMPRESS_THRESHOLD = 8 * 1024;
+
+    private CommunityContentsCodec() {
+        // 유틸리티 클래스이므로 인스턴스화 방지
+    }
+
+    /** 저장할 형식으로 변환 (작거나 압축해도 줄지 않는 본문은 원문 그대로) */
+    public static String encode(String contents) {
+        if (contents == null || contents.length() < COMPRESS_THRESHOLD) {
+            return contents;
+        }
+        byte[] raw = contents.getBytes(StandardCharsets.UTF_8);
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED, true);
+        try {
+            deflater.setInput(raw);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(raw.length / 4 + 16);
+            out.writeBytes(ByteBuffer.allocate(Integer.BYTES).putInt(raw.length).array());
+            byte[] buffer = new byte[8192];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+            }
+            String packed = COMPRESSED_HEADER + Base64.getEncoder().encodeToString(out.toByteArray());
+            // 압축본은 ASCII이므로 문자 수 = 저장 바이트 수
+            return (packed.length() < raw.length) ? packed : contents;
+        } finally {
+            deflater.end();
+        }
+    }
+
+    /** 저장된 값을 원문으로 변환 (헤더가 없으면 그대로) */
+    public static String decode(String stored) {
+        if (!isCompressed(stored)) {
+            return stored;
+        }
+        ByteBuffer packed = Base64.getDecoder().decode(
+                ByteBuffer.wrap(stored.substring(1).getBytes(StandardCharsets.ISO_8859_1)));
+        byte[] raw = new byte[packed.getInt()];
+        Inflater inflater = new Inflater(true);
+        try {
+            inflater.setInput(packed);
+            int length = 0;
+            while (length < raw.length && !inflater.finished()) {
+                int read = inflater.inflate(raw, length, raw.length - length);
+                if (read == 0 && inflater.needsInput()) {
+                    break;
+                }
+                length += read;
+            }
+            if (length != raw.length) {
+                throw new IllegalStateException("압축된 본문이 손상되었습니다");
+            }
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("압축된 본문이 손상되었습니다", e);
+        } finally {
+            inflater.end();
+        }
+        return new String(raw, StandardCharsets.UTF_8);
+    }
+
+    /** 압축본 여부 */
+    public static boolean isCompressed(String stored) {
+        return stored != null && !stored.isEmpty() && stored.charAt(0) == COMPRESSED_HEADER;
+    }
+}
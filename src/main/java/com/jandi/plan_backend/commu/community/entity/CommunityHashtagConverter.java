@@ -1,34 +1,38 @@
 package com.jandi.plan_backend.commu.community.entity;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
-import jakarta.persistence.AttributeConverter;
-import jakarta.persistence.Converter;
-
 import java.util.Collections;
 import java.util.List;
 
-@Converter
-public class CommunityHashtagConverter implements AttributeConverter<List<String>, String> {
+/**
+ * 해시태그 목록 <-> community.hashtags 컬럼(JSON 배열 문자열) 변환
+ * 엔티티/목록 조회 시에는 문자열만 읽고, 목록이 실제로 필요할 때(getHashtags) 한 번만 변환
+ */
+public final class CommunityHashtagConverter {
 
     private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static final JavaType LIST_TYPE = objectMapper.getTypeFactory().constructCollectionType(List.class, String.class);
+
+    private CommunityHashtagConverter() {
+        // 유틸리티 클래스이므로 인스턴스화 방지
+    }
 
-    @Override
-    public String convertToDatabaseColumn(List<String> attribute) {
-        if (attribute == null || attribute.isEmpty()) return "[]";
+    public static String toJson(List<String> hashtags) {
+        if (hashtags == null || hashtags.isEmpty()) return "[]";
         try {
-            return objectMapper.writeValueAsString(attribute);
+            return objectMapper.writeValueAsString(hashtags);
         } catch (JsonProcessingException e) {
             throw new RuntimeException("Failed to convert List<String> to JSON", e);
         }
     }
 
-    @Override
-    public List<String> convertToEntityAttribute(String dbData) {
-        if (dbData == null || dbData.isEmpty()) return Collections.emptyList();
+    public static List<String> fromJson(String json) {
+        if (json == null || json.isEmpty()) return Collections.emptyList();
         try {
-            return objectMapper.readValue(dbData, objectMapper.getTypeFactory().constructCollectionType(List.class, String.class));
+            return objectMapper.readValue(json, LIST_TYPE);
         } catch (Exception e) {
             throw new RuntimeException("Failed to convert JSON to List<String>", e);
         }
@@ -0,0 +1,29 @@
+package com.jandi.plan_backend.commu.community.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 인기 해시태그 스냅샷 (서버 재시작 시 메모리 순위 복원용)
+ * score는 savedAt 시점 기준으로 감쇠된 점수
+ */
+@Entity
+@Table(name = "hashtag_trend")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class HashtagTrend {
+    @Id
+    @Column(name = "tag", nullable = false, columnDefinition = "VARCHAR(50) COLLATE utf8mb4_bin")
+    private String tag;
+
+    @Column(nullable = false)
+    private double score;
+
+    @Column(name = "saved_at", nullable = false)
+    private LocalDateTime savedAt;
+}
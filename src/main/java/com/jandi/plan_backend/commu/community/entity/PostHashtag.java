@@ -0,0 +1,59 @@
+package com.jandi.plan_backend.commu.community.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Data;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.domain.Persistable;
+
+/**
+ * 게시글-해시태그 (해시태그 검색용)
+ * - community.hashtags(JSON)는 화면 표시용 원본이고, 검색은 (tag, post_id) 인덱스를 범위 스캔
+ * - 게시글 생성/수정/삭제 시 CommunityHashtagService에서 함께 갱신
+ * - tag는 JSON_CONTAINS와 같이 대소문자를 구분하도록 binary collation 사용
+ * - id를 직접 지정하는 엔티티라 save가 merge(SELECT 후 INSERT)로 처리되지 않도록 Persistable로 새 행 여부를 알려줌
+ *   (생성자로 만든 객체는 새 행, 조회/저장된 객체는 기존 행)
+ */
+@Entity
+@Table(name = "post_hashtag", indexes = {
+        @Index(name = "idx_post_hashtag_tag_post", columnList = "tag, post_id")
+})
+@IdClass(PostHashtagId.class)
+@Data
+@NoArgsConstructor
+public class PostHashtag implements Persistable<PostHashtagId> {
+    @Id
+    @Column(name = "post_id", nullable = false)
+    private Integer postId;
+
+    @Id
+    @Column(name = "tag", nullable = false, columnDefinition = "VARCHAR(50) COLLATE utf8mb4_bin")
+    private String tag;
+
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private transient boolean newEntity = true;
+
+    public PostHashtag(Integer postId, String tag) {
+        this.postId = postId;
+        this.tag = tag;
+    }
+
+    @Override
+    public PostHashtagId getId() {
+        return new PostHashtagId(postId, tag);
+    }
+
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.newEntity = false;
+    }
+}
@@ -0,0 +1,13 @@
+package com.jandi.plan_backend.commu.community.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostHashtagId {
+    private Integer postId;
+    private String tag;
+}
@@ -0,0 +1,26 @@
+package com.jandi.plan_backend.commu.community.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 게시글 고유 조회자 HyperLogLog 스케치 (HyperLogLog.toBytes 형식)
+ * 메모리에 모은 조회자를 주기적으로 합쳐 저장하고, 추정값은 community.unique_viewers에 함께 반영
+ */
+@Entity
+@Table(name = "post_view_sketch")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostViewSketch {
+    @Id
+    @Column(name = "post_id", nullable = false)
+    private Integer postId;
+
+    @ToString.Exclude
+    @Column(name = "sketch", nullable = false, columnDefinition = "BLOB")
+    private byte[] sketch;
+}
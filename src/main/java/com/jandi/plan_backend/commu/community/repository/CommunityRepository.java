@@ -1,5 +1,6 @@
 package com.jandi.plan_backend.commu.community.repository;
 
+import com.jandi.plan_backend.commu.community.dto.CommunitySummaryDTO;
 import com.jandi.plan_backend.commu.community.entity.Community;
 import com.jandi.plan_backend.user.entity.User;
 import org.springframework.data.domain.Page;
@@ -10,7 +11,9 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -27,24 +30,48 @@ public interface CommunityRepository extends JpaRepository<Community, Integer> {
     @EntityGraph(attributePaths = {"user"})
     Optional<Community> findByPostId(Integer postId);
 
-    /** 검사 */
-    // 제목
-    List<Community> searchAllByTitleContaining(String keyword); // 내부적으로 like 연산자 이용
+    /** 목록/검색 프로젝션: 본문(contents)을 제외한 목록 컬럼과 작성자 정보만 조회 */
+    String SUMMARY_SELECT = "select new com.jandi.plan_backend.commu.community.dto.CommunitySummaryDTO("
+            + "c.postId, c.createdAt, c.title, c.preview, c.thumbnailUrl, c.hashtagsJson, "
+            + "c.likeCount, c.commentCount, c.viewCount, "
+            + "u.userId, u.userName, u.firstName, u.lastName, u.email) "
+            + "from Community c join c.user u ";
 
-    // 내용
-    List<Community> searchAllByContentsContaining(String keyword); // 내부적으로 like 연산자 이용
+    // 전체 목록
+    @Query(value = SUMMARY_SELECT, countQuery = "select count(c) from Community c")
+    Page<CommunitySummaryDTO> findSummaries(Pageable pageable);
 
-    // 제목 + 내용
-    // title과 contents 중 일부가 keyword에 매칭되는지 검사. like보다 속도가 빠른 fulltext 인덱싱 방식 채택
-    // nativeQuery = true로 하여 단어 일부만 검색해도 매칭되도록 함 (단어: 띄어쓰기 기준)
-    @Query(value = "SELECT * FROM community WHERE MATCH(title, contents) AGAINST(:keyword IN BOOLEAN MODE)", nativeQuery = true)
-    List<Community> searchByTitleAndContents(String keyword);
+    /** 검사 (목록에 필요한 컬럼만 postId 내림차순으로 한 페이지씩 조회, 전체 개수는 count 쿼리로 따로 조회) */
+    // 제목: like 연산자 이용, 검색어의 %, _는 이스케이프
+    @Query(SUMMARY_SELECT + "where c.title like %?#{escape([0])}% escape ?#{escapeCharacter()} order by c.postId desc")
+    List<CommunitySummaryDTO> searchSummariesByTitle(String keyword, Pageable pageable);
+
+    long countByTitleContaining(String keyword);
+
+    // 검색으로 찾은 id 목록의 프로젝션
+    @Query(SUMMARY_SELECT + "where c.postId in :postIds")
+    List<CommunitySummaryDTO> findSummariesByPostIdIn(@Param("postIds") Collection<Integer> postIds);
 
     List<Community> findByUser(User user);
 
-    //해시태그로 검색: JSON 형태로 검색
-    @Query(value = "SELECT * FROM community WHERE JSON_CONTAINS(hashtags, :jsonTag)", nativeQuery = true)
-    List<Community> searchByHashTag(@Param("jsonTag") String keyword);
+    // 검색 인덱스 구성용 id, 제목, 본문(저장된 형식 그대로) (postId 순 키셋 페이지)
+    @Query("select c.postId, c.title, c.contents from Community c where c.postId > :afterId order by c.postId")
+    List<Object[]> findSearchSourcesAfter(@Param("afterId") Integer afterId, Pageable pageable);
+
+    // 인기 게시글 순위 구성용 id, 작성 시각, 좋아요/댓글/조회 수 (최신 글부터 postId 역순 키셋 페이지)
+    @Query("select c.postId, c.createdAt, c.likeCount, c.commentCount, c.viewCount from Community c "
+            + "where c.postId < :beforeId order by c.postId desc")
+    List<Object[]> findRankingSourcesBefore(@Param("beforeId") Integer beforeId, Pageable pageable);
+
+    // 썸네일 갱신 (본문을 읽지 않고 컬럼만 변경)
+    @Transactional
+    @Modifying
+    @Query("update Community c set c.thumbnailUrl = :thumbnailUrl where c.postId = :postId")
+    void updateThumbnailUrl(@Param("postId") Integer postId, @Param("thumbnailUrl") String thumbnailUrl);
+
+    // 썸네일 계산 전인 기존 게시글 id (postId 순 키셋 페이지)
+    @Query("select c.postId from Community c where c.thumbnailUrl is null and c.postId > :afterId order by c.postId")
+    List<Integer> findPostIdsWithoutThumbnail(@Param("afterId") Integer afterId, Pageable pageable);
 
     // 증감 쿼리
     @Modifying
@@ -55,8 +82,9 @@ public interface CommunityRepository extends JpaRepository<Community, Integer> {
     @Query("update Community c set c.likeCount = c.likeCount - 1 where c.postId = :id")
     void decrementLikeCount(@Param("id") Integer id);
 
+    // 모아 둔 조회 수와 고유 조회자 추정값 반영 (게시글이 없으면 0 반환)
     @Modifying
-    @Query("update Community c set c.viewCount = c.viewCount + 1 where c.postId = :id")
-    void incrementViewCount(@Param("id") Integer id);
+    @Query("update Community c set c.viewCount = c.viewCount + :views, c.uniqueViewers = :uniqueViewers where c.postId = :id")
+    int addViews(@Param("id") Integer id, @Param("views") int views, @Param("uniqueViewers") int uniqueViewers);
 
 }
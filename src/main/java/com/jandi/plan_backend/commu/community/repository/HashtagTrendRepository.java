@@ -0,0 +1,7 @@
+package com.jandi.plan_backend.commu.community.repository;
+
+import com.jandi.plan_backend.commu.community.entity.HashtagTrend;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface HashtagTrendRepository extends JpaRepository<HashtagTrend, String> {
+}
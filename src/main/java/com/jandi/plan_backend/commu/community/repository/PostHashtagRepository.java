@@ -0,0 +1,44 @@
+package com.jandi.plan_backend.commu.community.repository;
+
+import com.jandi.plan_backend.commu.community.entity.PostHashtag;
+import com.jandi.plan_backend.commu.community.entity.PostHashtagId;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface PostHashtagRepository extends JpaRepository<PostHashtag, PostHashtagId> {
+
+    // 해시태그 검색: (tag, post_id) 인덱스 범위 스캔으로 현재 페이지의 id만 postId 내림차순 조회
+    @Query("select h.postId from PostHashtag h where h.tag = :tag order by h.postId desc")
+    List<Integer> findPostIdsByTag(@Param("tag") String tag, Pageable pageable);
+
+    long countByTag(String tag);
+
+    // 게시글의 해시태그
+    @Query("select h.tag from PostHashtag h where h.postId = :postId")
+    List<String> findTagsByPostId(@Param("postId") Integer postId);
+
+    @Modifying
+    @Query("delete from PostHashtag h where h.postId = :postId and h.tag in :tags")
+    void deleteByPostIdAndTagIn(@Param("postId") Integer postId, @Param("tags") Collection<String> tags);
+
+    @Modifying
+    @Query("delete from PostHashtag h where h.postId = :postId")
+    void deleteByPostId(@Param("postId") Integer postId);
+
+    // post_hashtag에 반영되지 않은 기존 게시글의 해시태그를 community.hashtags(JSON)에서 옮겨 담음 (이미 있는 행은 무시)
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO post_hashtag (post_id, tag) "
+            + "SELECT c.post_id, jt.tag FROM community c, "
+            + "JSON_TABLE(c.hashtags, '$[*]' COLUMNS (tag VARCHAR(50) PATH '$')) jt "
+            + "WHERE jt.tag IS NOT NULL "
+            + "AND NOT EXISTS (SELECT 1 FROM post_hashtag h WHERE h.post_id = c.post_id)", nativeQuery = true)
+    int backfillFromCommunity();
+}
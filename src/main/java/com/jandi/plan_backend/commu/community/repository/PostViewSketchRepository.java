@@ -0,0 +1,23 @@
+package com.jandi.plan_backend.commu.community.repository;
+
+import com.jandi.plan_backend.commu.community.entity.PostViewSketch;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface PostViewSketchRepository extends JpaRepository<PostViewSketch, Integer> {
+
+    // 스케치 병합 중 다른 인스턴스의 병합과 겹치지 않도록 행 잠금
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from PostViewSketch s where s.postId = :postId")
+    Optional<PostViewSketch> findByIdForUpdate(@Param("postId") Integer postId);
+
+    @Modifying
+    @Query("delete from PostViewSketch s where s.postId = :postId")
+    void deleteByPostId(@Param("postId") Integer postId);
+}
@@ -0,0 +1,76 @@
+package com.jandi.plan_backend.commu.community.service;
+
+import com.jandi.plan_backend.commu.community.entity.PostHashtag;
+import com.jandi.plan_backend.commu.community.repository.PostHashtagRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 게시글 해시태그 검색 테이블(post_hashtag) 관리
+ * - 게시글 생성/수정/삭제와 같은 트랜잭션에서 갱신
+ * - 테이블 도입 전의 게시글은 서버 시작 시 community.hashtags(JSON)에서 옮겨 담음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CommunityHashtagService {
+    private final PostHashtagRepository postHashtagRepository;
+
+    /** 서버 시작 시 post_hashtag에 없는 기존 게시글의 해시태그 반영 */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillHashtags() {
+        try {
+            int inserted = postHashtagRepository.backfillFromCommunity();
+            log.info("해시태그 테이블 반영 완료 - 추가된 행: {}", inserted);
+        } catch (Exception e) {
+            log.warn("해시태그 테이블 반영 중 예외 발생: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 새 게시글의 해시태그 추가
+     * @return 추가된 해시태그 (중복 제외)
+     */
+    public List<String> addHashtags(Integer postId, List<String> hashtags) {
+        if (hashtags == null || hashtags.isEmpty()) {
+            return List.of();
+        }
+        List<String> tags = List.copyOf(new LinkedHashSet<>(hashtags));
+        postHashtagRepository.saveAll(tags.stream()
+                .map(tag -> new PostHashtag(postId, tag))
+                .toList());
+        return tags;
+    }
+
+    /**
+     * 수정된 게시글의 해시태그 반영 (빠진 해시태그만 삭제하고 새 해시태그만 추가)
+     * @return 새로 추가된 해시태그
+     */
+    public List<String> replaceHashtags(Integer postId, List<String> hashtags) {
+        Set<String> tags = (hashtags == null) ? Set.of() : new LinkedHashSet<>(hashtags);
+        Set<String> current = new HashSet<>(postHashtagRepository.findTagsByPostId(postId));
+
+        List<String> removed = current.stream().filter(tag -> !tags.contains(tag)).toList();
+        if (!removed.isEmpty()) {
+            postHashtagRepository.deleteByPostIdAndTagIn(postId, removed);
+        }
+        List<String> added = tags.stream().filter(tag -> !current.contains(tag)).toList();
+        if (!added.isEmpty()) {
+            postHashtagRepository.saveAll(added.stream().map(tag -> new PostHashtag(postId, tag)).toList());
+        }
+        return added;
+    }
+
+    /** 삭제된 게시글의 해시태그 제거 */
+    public void removeHashtags(Integer postId) {
+        postHashtagRepository.deleteByPostId(postId);
+    }
+}
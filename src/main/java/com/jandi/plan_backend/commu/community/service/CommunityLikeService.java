@@ -20,14 +20,17 @@ public class CommunityLikeService {
     private final ValidationUtil validationUtil;
     private final CommunityLikeRepository communityLikeRepository;
     private final CommunityRepository communityRepository;
+    private final HotPostService hotPostService;
 
     public CommunityLikeService(
             ValidationUtil validationUtil,
             CommunityLikeRepository communityLikeRepository,
-            CommunityRepository communityRepository) {
+            CommunityRepository communityRepository,
+            HotPostService hotPostService) {
         this.validationUtil = validationUtil;
         this.communityLikeRepository = communityLikeRepository;
         this.communityRepository = communityRepository;
+        this.hotPostService = hotPostService;
     }
 
     /** 게시물 좋아요 */
@@ -51,6 +54,7 @@ public class CommunityLikeService {
 
         communityLikeRepository.save(communityLike);
         communityRepository.incrementLikeCount(postId);
+        hotPostService.recordLike(postId, 1);
     }
 
     /** 게시물 좋아요 취소 */
@@ -66,5 +70,6 @@ public class CommunityLikeService {
         }
         communityLikeRepository.delete(communityLike.get());
         communityRepository.decrementLikeCount(postId);
+        hotPostService.recordLike(postId, -1);
     }
 }
@@ -22,43 +22,57 @@ public class CommunityQueryService {
     private final CommunityRepository communityRepository;
     private final ImageService imageService;
     private final CommunityUtil communityUtil;
+    private final HotPostService hotPostService;
+    private final PostViewService postViewService;
 
     public CommunityQueryService(
             ValidationUtil validationUtil,
             CommunityRepository communityRepository,
             ImageService imageService,
-            CommunityUtil communityUtil
+            CommunityUtil communityUtil,
+            HotPostService hotPostService,
+            PostViewService postViewService
     ) {
         this.validationUtil = validationUtil;
         this.communityRepository = communityRepository;
         this.imageService = imageService;
         this.communityUtil = communityUtil;
+        this.hotPostService = hotPostService;
+        this.postViewService = postViewService;
     }
 
-    /** 특정 게시글 조회 */
-    @Transactional
-    public CommunityItemDTO getSpecPost(Integer postId, String userEmail) {
+    /**
+     * 특정 게시글 조회
+     * 조회 수는 메모리에 모았다가 PostViewService에서 주기적으로 반영 (응답에는 반영 전 조회 수 포함)
+     * @param clientFingerprint 비로그인 사용자의 고유 조회자 판별용 클라이언트 식별값
+     */
+    @Transactional(readOnly = true)
+    public CommunityItemDTO getSpecPost(Integer postId, String userEmail, String clientFingerprint) {
         //게시글의 존재 여부 검증
         Community community = validationUtil.validatePostExists(postId);
-        communityRepository.incrementViewCount(postId);
+        String viewerKey = (userEmail != null) ? "user:" + userEmail : "client:" + clientFingerprint;
+        postViewService.recordView(postId, viewerKey);
+        hotPostService.recordView(postId);
 
         //게시글 좋아요 여부
         boolean isLike = communityUtil.isLikedCommunity(userEmail, community);
 
         //게시글 반환
-        return new CommunityItemDTO(community, imageService, isLike); // imageService 포함
+        int viewCount = community.getViewCount() + postViewService.getPendingViews(postId);
+        int uniqueViewers = postViewService.getUniqueViewers(postId, community.getUniqueViewers());
+        return new CommunityItemDTO(community, imageService, isLike, viewCount, uniqueViewers); // imageService 포함
     }
 
-    /** 게시글 목록 전체 조회 */
+    /** 게시글 목록 전체 조회 (본문 없이 목록 컬럼만 조회) */
     @Transactional(readOnly = true)
     public Page<CommunityListDTO> getAllPosts(int page, int size) {
         long totalCount = communityRepository.count();
         Sort sort = Sort.by(Sort.Direction.DESC, "postId");
         return PaginationService.getPagedData(page, size, totalCount,
-                (pageable) -> communityRepository.findAll(PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), sort)),
-                community -> {
-                    String thumbnail = communityUtil.getThumbnailUrl(community);
-                    return new CommunityListDTO(community, imageService, thumbnail);
+                (pageable) -> communityRepository.findSummaries(PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), sort)),
+                summary -> {
+                    String thumbnail = communityUtil.getThumbnailUrl(summary.getPostId(), summary.getThumbnailUrl());
+                    return new CommunityListDTO(summary, imageService, thumbnail);
                 });
     }
 }
\ No newline at end of file
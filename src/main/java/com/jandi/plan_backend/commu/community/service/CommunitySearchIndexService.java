@@ -0,0 +1,187 @@
+package com.jandi.plan_backend.commu.community.service;
+
+import com.jandi.plan_backend.commu.community.entity.Community;
+import com.jandi.plan_backend.commu.community.entity.CommunityContentsCodec;
+import com.jandi.plan_backend.commu.community.repository.CommunityRepository;
+import com.jandi.plan_backend.util.BigramIndex;
+import com.jandi.plan_backend.util.BigramIndex.Match;
+import com.jandi.plan_backend.util.QuillPreviewExtractor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 게시글 제목/본문 검색 인덱스 (bigram 역색인)
+ * - 서버 시작 시 제목과 본문의 텍스트(Quill 서식 제외)로 인덱스를 구성하고, 게시글 생성/수정/삭제 커밋 후 갱신
+ * - 검색 시에는 인덱스에서 순위가 매겨진 id만 구하고 contents 컬럼은 읽지 않음
+ * - 인덱스는 서버 인스턴스별로 유지되므로, DB에 없는 id가 조회되면 인덱스에서 제거
+ * - 다른 인스턴스의 변경을 따라잡기 위해
+ *   짧은 주기로 마지막으로 읽은 postId 이후의 새 게시글을 색인하고(catchUp),
+ *   긴 주기로 전체를 새 인덱스에 다시 구성해 교체함(rebuildIndex, 수정/삭제 반영)
+ */
+@Slf4j
+@Service
+public class CommunitySearchIndexService {
+
+    private static final int BUILD_BATCH_SIZE = 500;
+
+    // 제목 + 내용 검색에서 제목 일치 점수의 가중치
+    static final int TITLE_WEIGHT = 3;
+
+    private final CommunityRepository communityRepository;
+
+    // 검색에 사용하는 인덱스 (재구성이 끝나면 통째로 교체)
+    private volatile Indexes indexes = new Indexes();
+    // 재구성 중인 인덱스 (구성 중에 들어온 생성/수정/삭제도 함께 반영)
+    private volatile Indexes building;
+    // 새 게시글 확인 기준 (DB에서 읽은 마지막 postId)
+    private volatile int lastIndexedId;
+    private final ReentrantLock refreshLock = new ReentrantLock();
+
+    // 인덱스 구성이 끝나기 전에는 DB 검색 사용
+    private volatile boolean ready;
+
+    private record Indexes(BigramIndex title, BigramIndex content) {
+        Indexes() {
+            this(new BigramIndex(), new BigramIndex());
+        }
+    }
+
+    public CommunitySearchIndexService(CommunityRepository communityRepository) {
+        this.communityRepository = communityRepository;
+    }
+
+    /**
+     * 검색 대상
+     */
+    public enum Field {
+        TITLE, CONTENT, BOTH
+    }
+
+    /**
+     * 인덱스 전체 구성 (서버 시작 시, 이후 주기적으로)
+     * id, 제목, 본문만 postId 순으로 나누어 새 인덱스에 읽은 뒤 교체하므로, 구성 중에도 기존 인덱스로 검색 가능
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${community.search-index.rebuild-interval-ms:3600000}",
+            initialDelayString = "${community.search-index.rebuild-interval-ms:3600000}")
+    public void rebuildIndex() {
+        refreshLock.lock();
+        Indexes rebuilt = new Indexes();
+        building = rebuilt;
+        try {
+            int lastId = readAfter(rebuilt, 0);
+            indexes = rebuilt;
+            lastIndexedId = lastId;
+            ready = true;
+            log.info("검색 인덱스 구성 완료 - posts: {}, title terms: {} ({} bytes), content terms: {} ({} bytes)",
+                    rebuilt.title().size(), rebuilt.title().termCount(), rebuilt.title().postingBytes(),
+                    rebuilt.content().termCount(), rebuilt.content().postingBytes());
+        } finally {
+            building = null;
+            refreshLock.unlock();
+        }
+    }
+
+    /**
+     * 마지막으로 읽은 postId 이후의 게시글 색인 (다른 인스턴스에서 작성된 게시글)
+     * 늦게 커밋되어 이미 지나간 id나 다른 인스턴스의 수정/삭제는 다음 전체 구성 때 반영
+     */
+    @Scheduled(fixedDelayString = "${community.search-index.catch-up-interval-ms:30000}",
+            initialDelayString = "${community.search-index.catch-up-interval-ms:30000}")
+    public void catchUp() {
+        if (!ready || !refreshLock.tryLock()) {
+            return; // 구성 전이거나 전체 구성 중
+        }
+        try {
+            lastIndexedId = readAfter(indexes, lastIndexedId);
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    // afterId 이후의 게시글을 키셋 배치로 읽어 색인하고 마지막 postId 반환
+    private int readAfter(Indexes target, int afterId) {
+        int lastId = afterId;
+        while (true) {
+            List<Object[]> rows = communityRepository.findSearchSourcesAfter(lastId, PageRequest.of(0, BUILD_BATCH_SIZE));
+            for (Object[] row : rows) {
+                Integer postId = (Integer) row[0];
+                put(target, postId, (String) row[1], CommunityContentsCodec.decode((String) row[2]));
+                lastId = postId;
+            }
+            if (rows.size() < BUILD_BATCH_SIZE) {
+                return lastId;
+            }
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /** 게시글 생성/수정 반영 */
+    public void index(Community community) {
+        Indexes rebuilding = building;
+        if (rebuilding != null) {
+            put(rebuilding, community.getPostId(), community.getTitle(), community.getContents());
+        }
+        put(indexes, community.getPostId(), community.getTitle(), community.getContents());
+    }
+
+    /** 게시글 삭제 반영 */
+    public void remove(Integer postId) {
+        Indexes rebuilding = building;
+        if (rebuilding != null) {
+            rebuilding.title().remove(postId);
+            rebuilding.content().remove(postId);
+        }
+        Indexes current = indexes;
+        current.title().remove(postId);
+        current.content().remove(postId);
+    }
+
+    /**
+     * 검색어가 포함된 게시글 id (점수 높은 순, 같으면 최신 순)
+     */
+    public List<Integer> search(Field field, String keyword) {
+        Indexes current = indexes;
+        Map<Integer, Integer> scores = new HashMap<>();
+        if (field != Field.CONTENT) {
+            for (Match match : current.title().search(keyword)) {
+                scores.merge(match.id(), match.score() * TITLE_WEIGHT, Integer::sum);
+            }
+        }
+        if (field != Field.TITLE) {
+            for (Match match : current.content().search(keyword)) {
+                scores.merge(match.id(), match.score(), Integer::sum);
+            }
+        }
+        List<Integer> postIds = new ArrayList<>(scores.keySet());
+        postIds.sort(Comparator.<Integer>comparingInt(scores::get).reversed().thenComparing(Comparator.reverseOrder()));
+        return postIds;
+    }
+
+    private static void put(Indexes target, Integer postId, String title, String contents) {
+        target.title().put(postId, title);
+        target.content().put(postId, plainText(contents));
+    }
+
+    // Quill JSON이 아닌 본문(초기 데이터 등)은 그대로 색인
+    private static String plainText(String contents) {
+        if (contents == null) {
+            return null;
+        }
+        try {
+            return QuillPreviewExtractor.plainText(contents);
+        } catch (RuntimeException e) {
+            return contents;
+        }
+    }
+}
@@ -1,10 +1,9 @@
 package com.jandi.plan_backend.commu.community.service;
 
 import com.jandi.plan_backend.commu.community.dto.CommunityListDTO;
-import com.jandi.plan_backend.commu.community.entity.Community;
+import com.jandi.plan_backend.commu.community.dto.CommunitySummaryDTO;
 import com.jandi.plan_backend.commu.community.repository.CommunityRepository;
-import com.jandi.plan_backend.image.entity.Image;
-import com.jandi.plan_backend.image.repository.ImageRepository;
+import com.jandi.plan_backend.commu.community.repository.PostHashtagRepository;
 import com.jandi.plan_backend.image.service.ImageService;
 import com.jandi.plan_backend.util.CommunityUtil;
 import com.jandi.plan_backend.util.ValidationUtil;
@@ -15,8 +14,12 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Comparator;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @Service
 public class CommunitySearchService {
@@ -24,17 +27,26 @@ public class CommunitySearchService {
     private final ImageService imageService;
     private final CommunityRepository communityRepository;
     private final CommunityUtil communityUtil;
+    private final CommunitySearchIndexService communitySearchIndexService;
+    private final PostHashtagRepository postHashtagRepository;
+    private final HashtagTrendService hashtagTrendService;
 
     public CommunitySearchService(
             ValidationUtil validationUtil,
             ImageService imageService,
             CommunityRepository communityRepository,
-            CommunityUtil communityUtil
+            CommunityUtil communityUtil,
+            CommunitySearchIndexService communitySearchIndexService,
+            PostHashtagRepository postHashtagRepository,
+            HashtagTrendService hashtagTrendService
     ) {
         this.validationUtil = validationUtil;
         this.imageService = imageService;
         this.communityRepository = communityRepository;
         this.communityUtil = communityUtil;
+        this.communitySearchIndexService = communitySearchIndexService;
+        this.postHashtagRepository = postHashtagRepository;
+        this.hashtagTrendService = hashtagTrendService;
     }
 
     @Transactional(readOnly = true)
@@ -51,36 +63,97 @@ public class CommunitySearchService {
             throw new BadRequestExceptionMessage("검색어는 2글자 이상이어야 합니다");
         }
 
-        // 검색
-        List<Community> searchList = switch (category) {
+        // 제목/내용 검색은 인덱스에서 순위가 매겨진 id를 구한 뒤 현재 페이지만 조회 (인덱스 구성 전에는 DB 검색)
+        if (!"HASHTAG".equals(category) && communitySearchIndexService.isReady()) {
+            return searchIndex(toField(category), keyword, page, size);
+        }
+
+        // 큰 본문은 압축되어 저장되므로(CommunityContentsCodec) DB의 LIKE/FULLTEXT로는 내용을 검색할 수 없음
+        // 인덱스 구성 전에는 제목만 일치하는 결과를 내려주지 않고 명시적으로 거부
+        if ("CONTENT".equals(category) || "BOTH".equals(category)) {
+            throw new BadRequestExceptionMessage("검색 준비 중입니다. 잠시 후 다시 시도해 주세요.");
+        }
+
+        // DB 검색: 전체 개수는 count 쿼리로 구하고, 목록은 postId 내림차순으로 현재 페이지만 조회 (본문 없이 목록 컬럼만)
+        if ("HASHTAG".equals(category)) {
+            validationUtil.validateIsHashTagValid(keyword); //키워드가 해시태그대로 들어왔는지 검증
+        }
+        long totalCount = switch (category) {
             case "TITLE" -> // 제목 검색
-                    communityRepository.searchAllByTitleContaining(keyword);
-            case "CONTENT" -> // 내용 검색
-                    communityRepository.searchAllByContentsContaining(keyword);
-            case "BOTH" -> // 제목 + 내용 검색
-                    communityRepository.searchByTitleAndContents("\"" + keyword + "\""); //공백 포함하여 계산되도록 따옴표로 래핑
-            case "HASHTAG" -> { // 해시태그 검색
-                validationUtil.validateIsHashTagValid(keyword); //키워드가 해시태그대로 들어왔는지 검증
-                yield communityRepository.searchByHashTag("\"" + keyword + "\"");
-            }
+                    communityRepository.countByTitleContaining(keyword);
+            case "HASHTAG" -> // 해시태그 검색: post_hashtag의 (tag, post_id) 인덱스 사용
+                    postHashtagRepository.countByTag(keyword);
             default ->
                     throw new IllegalStateException("카테고리 지정이 잘못되었습니다: " + category);
         };
-        searchList.sort(Comparator.comparing(Community::getPostId).reversed()); // postId 내림차순으로 정렬
-        long totalCount = searchList.size();
+        if ("HASHTAG".equals(category) && totalCount > 0) {
+            hashtagTrendService.recordSearch(keyword); // 결과가 있는 해시태그 검색만 인기 해시태그에 반영
+        }
+
+        return PaginationService.getPagedData(page, size, totalCount,
+                (pageable) -> new PageImpl<>(switch (category) {
+                    case "TITLE" -> communityRepository.searchSummariesByTitle(keyword, pageable);
+                    default -> findSummaries(postHashtagRepository.findPostIdsByTag(keyword, pageable));
+                }, pageable, totalCount),
+                summary -> {
+                    String thumbnail = communityUtil.getThumbnailUrl(summary.getPostId(), summary.getThumbnailUrl());
+                    return new CommunityListDTO(summary, imageService, thumbnail);
+                }
+        );
+    }
+
+    // 인덱스 검색 결과(점수 순 id)에서 현재 페이지의 목록 컬럼만 조회
+    private Page<CommunityListDTO> searchIndex(CommunitySearchIndexService.Field field, String keyword, int page, int size) {
+        List<Integer> postIds = communitySearchIndexService.search(field, keyword);
+        long totalCount = postIds.size();
 
         return PaginationService.getPagedData(page, size, totalCount,
                 (pageable) -> {
-                    int start = (int) pageable.getOffset();
-                    int end = Math.min(start + pageable.getPageSize(), searchList.size());
-                    List<Community> pagedList = searchList.subList(start, end);
+                    int start = (int) Math.min(pageable.getOffset(), totalCount);
+                    int end = (int) Math.min(start + pageable.getPageSize(), totalCount);
+                    List<Integer> pageIds = postIds.subList(start, end);
+                    List<CommunitySummaryDTO> pagedList = findSummaries(pageIds);
+                    if (pagedList.size() < pageIds.size()) {
+                        // 다른 인스턴스에서 삭제된 경우 등 DB에 없는 id는 인덱스에서 제거
+                        Set<Integer> found = new HashSet<>();
+                        pagedList.forEach(summary -> found.add(summary.getPostId()));
+                        pageIds.stream().filter(postId -> !found.contains(postId)).forEach(communitySearchIndexService::remove);
+                    }
                     return new PageImpl<>(pagedList, pageable, totalCount);
                 },
-                community -> {
-                    String thumbnail = communityUtil.getThumbnailUrl(community);
-                    return new CommunityListDTO(community, imageService, thumbnail);
+                summary -> {
+                    String thumbnail = communityUtil.getThumbnailUrl(summary.getPostId(), summary.getThumbnailUrl());
+                    return new CommunityListDTO(summary, imageService, thumbnail);
                 }
         );
     }
 
+    private static CommunitySearchIndexService.Field toField(String category) {
+        return switch (category) {
+            case "TITLE" -> CommunitySearchIndexService.Field.TITLE;
+            case "CONTENT" -> CommunitySearchIndexService.Field.CONTENT;
+            case "BOTH" -> CommunitySearchIndexService.Field.BOTH;
+            default -> throw new IllegalStateException("카테고리 지정이 잘못되었습니다: " + category);
+        };
+    }
+
+    // id 목록의 목록 컬럼을 id 순서대로 조회 (DB에 없는 id는 제외)
+    private List<CommunitySummaryDTO> findSummaries(List<Integer> postIds) {
+        if (postIds.isEmpty()) {
+            return List.of();
+        }
+        Map<Integer, CommunitySummaryDTO> byId = new HashMap<>();
+        for (CommunitySummaryDTO summary : communityRepository.findSummariesByPostIdIn(postIds)) {
+            byId.put(summary.getPostId(), summary);
+        }
+        List<CommunitySummaryDTO> summaries = new ArrayList<>(postIds.size());
+        for (Integer postId : postIds) {
+            CommunitySummaryDTO summary = byId.get(postId);
+            if (summary != null) {
+                summaries.add(summary);
+            }
+        }
+        return summaries;
+    }
+
 }
@@ -44,6 +44,11 @@ public class CommunityUpdateService {
     private final CommentReportedRepository commentReportedRepository;
     private final CommentLikeRepository commentLikeRepository;
     private final ImageCleanupService imageCleanupService;
+    private final CommunitySearchIndexService communitySearchIndexService;
+    private final CommunityHashtagService communityHashtagService;
+    private final HashtagTrendService hashtagTrendService;
+    private final HotPostService hotPostService;
+    private final PostViewService postViewService;
 
     /** 최종 게시글 생성 (임시 postId(음수)를 실제 postId로 전환) */
     @Transactional
@@ -64,6 +69,8 @@ public class CommunityUpdateService {
 
         // 최종 게시글 생성 후, 사용되지 않는 이미지 삭제
         runAfterCommit("finalizePost 이미지 정리", () -> imageCleanupService.cleanupUnusedImages(community));
+        runAfterCommit("finalizePost 검색 인덱스 갱신", () -> communitySearchIndexService.index(community));
+        runAfterCommit("finalizePost 인기 게시글 반영", () -> hotPostService.addPost(realPostId, community.getCreatedAt()));
         return new CommunityRespDTO(community, imageService);
     }
 
@@ -79,6 +86,7 @@ public class CommunityUpdateService {
 
         // 게시글 수정 후, 사용되지 않는 이미지 삭제
         runAfterCommit("updatePost 이미지 정리", () -> imageCleanupService.cleanupUnusedImages(post));
+        runAfterCommit("updatePost 검색 인덱스 갱신", () -> communitySearchIndexService.index(post));
         return new CommunityRespDTO(post, imageService);
     }
 
@@ -91,6 +99,9 @@ public class CommunityUpdateService {
 
         deleteCommunityData(postId, post);
         communityRepository.delete(post);
+        runAfterCommit("deletePost 검색 인덱스 갱신", () -> communitySearchIndexService.remove(postId));
+        runAfterCommit("deletePost 인기 게시글 반영", () -> hotPostService.removePost(postId));
+        runAfterCommit("deletePost 조회 수 정리", () -> postViewService.discardPending(postId));
 
         return post.getCommentCount();
     }
@@ -113,8 +124,11 @@ public class CommunityUpdateService {
         community.setLikeCount(0);
         community.setCommentCount(0);
         community.setPreview(communityUtil.getPreview(reqDTO.getContent())); // 미리보기 반영
+        community.setThumbnailUrl(communityUtil.getFirstInlineImageUrl(reqDTO.getContent())); // 썸네일 반영
         community.setHashtags(reqDTO.getHashtag()); //해시태그 반영
         communityRepository.save(community);
+        List<String> addedHashtags = communityHashtagService.addHashtags(community.getPostId(), reqDTO.getHashtag()); // 해시태그 검색 테이블 반영
+        runAfterCommit("finalizePost 인기 해시태그 반영", () -> hashtagTrendService.recordPostHashtags(addedHashtags));
 
         return community;
     }
@@ -124,13 +138,18 @@ public class CommunityUpdateService {
         community.setTitle(postDTO.getTitle());
         community.setContents(postDTO.getContent());
         community.setPreview(communityUtil.getPreview(postDTO.getContent())); // 미리보기 반영
+        community.setThumbnailUrl(communityUtil.getFirstInlineImageUrl(postDTO.getContent())); // 썸네일 반영
         community.setHashtags(postDTO.getHashtag()); // 해시태그 반영
+        List<String> addedHashtags = communityHashtagService.replaceHashtags(community.getPostId(), postDTO.getHashtag()); // 해시태그 검색 테이블 반영
+        runAfterCommit("updatePost 인기 해시태그 반영", () -> hashtagTrendService.recordPostHashtags(addedHashtags));
     }
 
     // 게시글 삭제
     private void deleteCommunityData(Integer postId, Community post) {
         communityReportedRepository.deleteAll(communityReportedRepository.findByCommunity_PostId(postId));
         communityLikeRepository.deleteAll(communityLikeRepository.findByCommunity(post));
+        communityHashtagService.removeHashtags(postId);
+        postViewService.deleteSketch(postId);
 
         List<Comment> comments = commentRepository.findByCommunity(post);
         for (Comment comment : comments) {
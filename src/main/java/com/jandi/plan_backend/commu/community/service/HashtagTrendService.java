@@ -0,0 +1,96 @@
+package com.jandi.plan_backend.commu.community.service;
+
+import com.jandi.plan_backend.commu.community.dto.TrendingHashtagDTO;
+import com.jandi.plan_backend.commu.community.entity.HashtagTrend;
+import com.jandi.plan_backend.commu.community.repository.HashtagTrendRepository;
+import com.jandi.plan_backend.util.DecayingTopK;
+import com.jandi.plan_backend.util.TimeUtil;
+import com.jandi.plan_backend.util.service.BadRequestExceptionMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 인기 해시태그
+ * - 게시글 작성/수정에 새로 붙은 해시태그와 결과가 있는 해시태그 검색을 점수로 모아 시간 감쇠 상위 K개를 메모리에서 추적
+ *   (community.hashtags를 매번 집계하지 않음)
+ * - 조회는 정렬해 둔 상위 목록에서 요청 개수만 복사
+ * - 주기적으로 상위 목록을 hashtag_trend 테이블에 저장하고, 서버 시작 시 저장 시각 기준으로 감쇠하여 복원
+ *   (인스턴스별로 추적하므로 스냅샷은 마지막으로 저장한 인스턴스의 순위)
+ */
+@Slf4j
+@Service
+public class HashtagTrendService {
+
+    // 추적할 후보 수와 조회 가능한 최대 개수
+    static final int TRACKED_SIZE = 100;
+    public static final int MAX_SIZE = 20;
+
+    private static final int SKETCH_WIDTH = 4096;
+    static final Duration HALF_LIFE = Duration.ofHours(6);
+
+    // 게시글에 붙은 해시태그는 검색보다 높은 점수
+    static final double POST_WEIGHT = 3.0;
+    static final double SEARCH_WEIGHT = 1.0;
+
+    private final HashtagTrendRepository hashtagTrendRepository;
+    private final DecayingTopK tracker = new DecayingTopK(TRACKED_SIZE, SKETCH_WIDTH, HALF_LIFE, System.currentTimeMillis());
+
+    public HashtagTrendService(HashtagTrendRepository hashtagTrendRepository) {
+        this.hashtagTrendRepository = hashtagTrendRepository;
+    }
+
+    /** 서버 시작 시 마지막 스냅샷 복원 */
+    @EventListener(ApplicationReadyEvent.class)
+    public void restoreSnapshot() {
+        List<HashtagTrend> snapshot = hashtagTrendRepository.findAll();
+        for (HashtagTrend trend : snapshot) {
+            tracker.add(trend.getTag(), trend.getScore(), TimeUtil.toEpochMilli(trend.getSavedAt()));
+        }
+        log.info("인기 해시태그 복원 완료 - {}개", snapshot.size());
+    }
+
+    /** 게시글에 새로 붙은 해시태그 반영 */
+    public void recordPostHashtags(List<String> hashtags) {
+        long now = System.currentTimeMillis();
+        for (String hashtag : hashtags) {
+            tracker.add(hashtag, POST_WEIGHT, now);
+        }
+    }
+
+    /** 해시태그 검색 반영 */
+    public void recordSearch(String hashtag) {
+        tracker.add(hashtag, SEARCH_WEIGHT, System.currentTimeMillis());
+    }
+
+    /** 인기 해시태그 상위 size개 */
+    public List<TrendingHashtagDTO> getTrending(int size) {
+        if (size < 1 || size > MAX_SIZE) {
+            throw new BadRequestExceptionMessage("조회 개수는 1~" + MAX_SIZE + " 사이여야 합니다");
+        }
+        return tracker.top(size, System.currentTimeMillis()).stream()
+                .map(item -> new TrendingHashtagDTO(item.key(), Math.round(item.score() * 100) / 100.0))
+                .toList();
+    }
+
+    /** 상위 목록 스냅샷 저장 (이전 스냅샷은 교체) */
+    @Scheduled(fixedDelayString = "${community.hashtag-trend.snapshot-interval-ms:300000}",
+            initialDelayString = "${community.hashtag-trend.snapshot-interval-ms:300000}")
+    @Transactional
+    public void saveSnapshot() {
+        LocalDateTime savedAt = TimeUtil.now();
+        List<HashtagTrend> snapshot = tracker.top(TRACKED_SIZE, TimeUtil.toEpochMilli(savedAt)).stream()
+                .map(item -> new HashtagTrend(item.key(), item.score(), savedAt))
+                .toList();
+        hashtagTrendRepository.deleteAllInBatch();
+        hashtagTrendRepository.saveAll(snapshot);
+        log.debug("인기 해시태그 스냅샷 저장 - {}개", snapshot.size());
+    }
+}
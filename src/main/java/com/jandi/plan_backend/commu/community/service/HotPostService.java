@@ -0,0 +1,189 @@
+package com.jandi.plan_backend.commu.community.service;
+
+import com.jandi.plan_backend.commu.community.dto.CommunityListDTO;
+import com.jandi.plan_backend.commu.community.dto.CommunitySummaryDTO;
+import com.jandi.plan_backend.commu.community.dto.HotPostPageDTO;
+import com.jandi.plan_backend.commu.community.repository.CommunityRepository;
+import com.jandi.plan_backend.image.service.ImageService;
+import com.jandi.plan_backend.util.CommunityUtil;
+import com.jandi.plan_backend.util.DecayedScoreRanking;
+import com.jandi.plan_backend.util.DecayedScoreRanking.Cursor;
+import com.jandi.plan_backend.util.DecayedScoreRanking.Entry;
+import com.jandi.plan_backend.util.TimeUtil;
+import com.jandi.plan_backend.util.service.BadRequestExceptionMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 인기 게시글 순위
+ * - 최근 RECENT_WINDOW 안에 작성된 게시글의 점수를 메모리에서 관리 (작성 시 기본 점수 + 좋아요/댓글/조회 이벤트마다 가중치)
+ *   점수는 HALF_LIFE마다 절반으로 감쇠하므로 오래된 활동보다 최근 활동이 높게 반영됨
+ * - 조회는 점수 순 skip list를 커서 다음부터 읽고, 해당 페이지의 목록 컬럼만 DB에서 조회
+ * - 서버 시작 시 최근 게시글의 좋아요/댓글/조회 수로 점수를 구성 (활동 시각을 모르므로 작성 시각에 일어난 것으로 계산)
+ * - 기간이 지난 게시글 제거와 최대 개수 유지는 주기적으로 요청 경로 밖에서 수행
+ */
+@Slf4j
+@Service
+public class HotPostService {
+
+    static final Duration HALF_LIFE = Duration.ofHours(12);
+    static final Duration RECENT_WINDOW = Duration.ofDays(7);
+    static final int MAX_TRACKED = 5000;
+    public static final int MAX_PAGE_SIZE = 50;
+
+    private static final int BUILD_BATCH_SIZE = 500;
+
+    // 이벤트별 가중치
+    static final double POST_WEIGHT = 1.0;
+    static final double LIKE_WEIGHT = 3.0;
+    static final double COMMENT_WEIGHT = 2.0;
+    static final double VIEW_WEIGHT = 0.1;
+
+    private final CommunityRepository communityRepository;
+    private final ImageService imageService;
+    private final CommunityUtil communityUtil;
+    private final DecayedScoreRanking ranking = new DecayedScoreRanking(HALF_LIFE);
+
+    public HotPostService(
+            CommunityRepository communityRepository,
+            ImageService imageService,
+            CommunityUtil communityUtil
+    ) {
+        this.communityRepository = communityRepository;
+        this.imageService = imageService;
+        this.communityUtil = communityUtil;
+    }
+
+    /** 서버 시작 시 최근 게시글로 순위 구성 (postId 역순으로 나누어 조회하다가 기간을 벗어나면 중단) */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildRanking() {
+        long since = System.currentTimeMillis() - RECENT_WINDOW.toMillis();
+        int beforeId = Integer.MAX_VALUE;
+        boolean done = false;
+        while (!done) {
+            List<Object[]> rows = communityRepository.findRankingSourcesBefore(beforeId, PageRequest.of(0, BUILD_BATCH_SIZE));
+            for (Object[] row : rows) {
+                beforeId = (Integer) row[0];
+                long createdAt = TimeUtil.toEpochMilli((LocalDateTime) row[1]);
+                if (createdAt < since) {
+                    done = true;
+                    break;
+                }
+                double weight = POST_WEIGHT + LIKE_WEIGHT * (Integer) row[2]
+                        + COMMENT_WEIGHT * (Integer) row[3] + VIEW_WEIGHT * (Integer) row[4];
+                ranking.put(beforeId, weight, createdAt, createdAt);
+            }
+            done |= rows.size() < BUILD_BATCH_SIZE;
+        }
+        log.info("인기 게시글 순위 구성 완료 - {}개", ranking.size());
+    }
+
+    /** 새 게시글 추가 */
+    public void addPost(Integer postId, LocalDateTime createdAt) {
+        long time = TimeUtil.toEpochMilli(createdAt);
+        ranking.put(postId, POST_WEIGHT, time, time);
+    }
+
+    /** 삭제된 게시글 제거 */
+    public void removePost(Integer postId) {
+        ranking.remove(postId);
+    }
+
+    /** 좋아요(+1)/좋아요 취소(-1) 반영 (트랜잭션 안에서 호출하면 커밋 후 반영) */
+    public void recordLike(Integer postId, int delta) {
+        runAfterCommit(() -> ranking.add(postId, LIKE_WEIGHT * delta, System.currentTimeMillis()));
+    }
+
+    /** 댓글 작성(+)/삭제(-) 반영 (트랜잭션 안에서 호출하면 커밋 후 반영) */
+    public void recordComment(Integer postId, int delta) {
+        runAfterCommit(() -> ranking.add(postId, COMMENT_WEIGHT * delta, System.currentTimeMillis()));
+    }
+
+    /** 조회 반영 */
+    public void recordView(Integer postId) {
+        ranking.add(postId, VIEW_WEIGHT, System.currentTimeMillis());
+    }
+
+    /**
+     * 인기 게시글 한 페이지
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지면 null)
+     */
+    @Transactional(readOnly = true)
+    public HotPostPageDTO getHotPosts(String cursor, int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new BadRequestExceptionMessage("조회 개수는 1~" + MAX_PAGE_SIZE + " 사이여야 합니다");
+        }
+        Cursor after = null;
+        if (cursor != null && !cursor.isEmpty()) {
+            try {
+                after = Cursor.decode(cursor);
+            } catch (IllegalArgumentException e) {
+                throw new BadRequestExceptionMessage("잘못된 커서입니다");
+            }
+        }
+
+        List<Entry> entries = ranking.page(after, size);
+        List<Integer> postIds = entries.stream().map(Entry::id).toList();
+        Map<Integer, CommunitySummaryDTO> byId = new HashMap<>();
+        if (!postIds.isEmpty()) {
+            for (CommunitySummaryDTO summary : communityRepository.findSummariesByPostIdIn(postIds)) {
+                byId.put(summary.getPostId(), summary);
+            }
+        }
+
+        List<CommunityListDTO> items = new ArrayList<>(entries.size());
+        for (Integer postId : postIds) {
+            CommunitySummaryDTO summary = byId.get(postId);
+            if (summary == null) {
+                ranking.remove(postId); // 다른 인스턴스에서 삭제된 게시글
+                continue;
+            }
+            String thumbnail = communityUtil.getThumbnailUrl(summary.getPostId(), summary.getThumbnailUrl());
+            items.add(new CommunityListDTO(summary, imageService, thumbnail));
+        }
+
+        String nextCursor = null;
+        if (entries.size() == size) {
+            Entry last = entries.get(entries.size() - 1);
+            nextCursor = new Cursor(last.key(), last.id()).encode();
+        }
+        return new HotPostPageDTO(items, nextCursor);
+    }
+
+    /** 기간이 지난 게시글 제거 및 최대 개수 유지 */
+    @Scheduled(fixedDelayString = "${community.hot-posts.rebalance-interval-ms:600000}",
+            initialDelayString = "${community.hot-posts.rebalance-interval-ms:600000}")
+    public void rebalance() {
+        int expired = ranking.removeCreatedBefore(System.currentTimeMillis() - RECENT_WINDOW.toMillis());
+        int trimmed = ranking.trim(MAX_TRACKED);
+        log.debug("인기 게시글 순위 정리 - 기간 만료: {}, 개수 초과: {}, 남은 게시글: {}", expired, trimmed, ranking.size());
+    }
+
+    // 롤백된 좋아요/댓글이 점수에 남지 않도록 커밋 이후에 반영 (트랜잭션 밖이면 바로 반영)
+    private void runAfterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+}
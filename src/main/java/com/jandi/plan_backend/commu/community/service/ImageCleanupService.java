@@ -1,6 +1,7 @@
 package com.jandi.plan_backend.commu.community.service;
 
 import com.jandi.plan_backend.commu.community.entity.Community;
+import com.jandi.plan_backend.commu.community.repository.CommunityRepository;
 import com.jandi.plan_backend.image.entity.Image;
 import com.jandi.plan_backend.image.repository.ImageRepository;
 import com.jandi.plan_backend.image.service.ImageService;
@@ -8,12 +9,19 @@ import org.springframework.transaction.annotation.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -23,6 +31,7 @@ import java.util.regex.Pattern;
 public class ImageCleanupService {
     private final ImageRepository imageRepository;
     private final ImageService imageService;
+    private final CommunityRepository communityRepository;
     @Value("${image-prefix}") private String prefix;
 
     /**
@@ -41,20 +50,73 @@ public class ImageCleanupService {
 
     /**
      * 게시글과 연결된 이미지 중, 게시글 내용에 포함되지 않은 이미지를 삭제합니다.
+     * 정리 후 남은 이미지 기준으로 썸네일이 달라졌으면 함께 갱신합니다.
      */
     // 게시글에 연결된 이미지 삭제에 실패하더라도 일단 게시글 작업은 유지되어야 하므로 이미지 작업과 관련된 물리 트랜잭션을 별도 분리함
     @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void cleanupUnusedImages(Community post) {
         Set<String> usedFileNames = extractImageFileNamesFromContent(post.getContents());
         List<Image> images = imageRepository.findAllByTargetTypeAndTargetId("community", post.getPostId());
+        List<Image> remaining = new ArrayList<>();
         for (Image image : images) {
             if (!usedFileNames.contains(image.getImageUrl())) {
                 try {
-                    imageService.deleteImage(image.getImageId());
+                    if (imageService.deleteImage(image.getImageId())) {
+                        continue;
+                    }
                 } catch (Exception e) {
                     log.warn("이미지 정리 실패 - 이미지 ID: {}, 에러: {}", image.getImageId(), e.getMessage());
                 }
             }
+            remaining.add(image);
         }
+
+        String thumbnailUrl = resolveThumbnailUrl(post.getContents(), remaining);
+        if (!thumbnailUrl.equals(post.getThumbnailUrl())) {
+            communityRepository.updateThumbnailUrl(post.getPostId(), thumbnailUrl);
+            post.setThumbnailUrl(thumbnailUrl);
+        }
+    }
+
+    /**
+     * 썸네일 계산 전인 기존 게시글의 썸네일을 채움 (서버 시작 시, postId 순으로 500건씩)
+     * 기존 목록과 같도록 게시글에 연결된 첫 번째 이미지를 사용
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillThumbnails() {
+        int lastPostId = 0;
+        int filled = 0;
+        List<Integer> postIds;
+        while (!(postIds = communityRepository.findPostIdsWithoutThumbnail(lastPostId, PageRequest.of(0, 500)))
+                .isEmpty()) {
+            Map<Integer, String> firstImageByPost = imageRepository
+                    .findAllByTargetTypeAndTargetIdIn("community", postIds).stream()
+                    .sorted(Comparator.comparing(Image::getImageId))
+                    .collect(Collectors.toMap(Image::getTargetId, Image::getImageUrl, (first, second) -> first));
+            for (Integer postId : postIds) {
+                String fileName = firstImageByPost.get(postId);
+                communityRepository.updateThumbnailUrl(postId, fileName == null ? "" : prefix + fileName);
+            }
+            lastPostId = postIds.get(postIds.size() - 1);
+            filled += postIds.size();
+        }
+        if (filled > 0) {
+            log.info("게시글 썸네일 채움: {}건", filled);
+        }
+    }
+
+    // 본문 순서상 첫 번째로 남아 있는 이미지, 본문에서 찾지 못하면 남은 이미지 중 첫 번째
+    private String resolveThumbnailUrl(String content, List<Image> remaining) {
+        if (remaining.isEmpty()) {
+            return "";
+        }
+        Set<String> remainingFileNames = remaining.stream().map(Image::getImageUrl).collect(Collectors.toSet());
+        Matcher matcher = Pattern.compile(Pattern.quote(prefix) + "([^\"\\s]+)").matcher(content);
+        while (matcher.find()) {
+            if (remainingFileNames.contains(matcher.group(1))) {
+                return prefix + matcher.group(1);
+            }
+        }
+        return prefix + remaining.get(0).getImageUrl();
     }
 }
@@ -0,0 +1,185 @@
+package com.jandi.plan_backend.commu.community.service;
+
+import com.jandi.plan_backend.commu.community.entity.PostViewSketch;
+import com.jandi.plan_backend.commu.community.repository.CommunityRepository;
+import com.jandi.plan_backend.commu.community.repository.PostViewSketchRepository;
+import com.jandi.plan_backend.util.HyperLogLog;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 게시글 조회 수 / 고유 조회자 수
+ * - 게시글 조회 시 DB에 쓰지 않고 게시글별 조회 수와 조회자(HyperLogLog)를 메모리에 모음
+ *   조회자 키는 로그인 사용자면 이메일, 아니면 클라이언트 식별값(IP + User-Agent)
+ * - 주기적으로(또는 모인 게시글이 많아지면 바로) 게시글마다 한 트랜잭션에서
+ *   저장된 스케치(post_view_sketch)와 합치고 community의 view_count, unique_viewers를 한 번에 갱신
+ * - 반영에 실패한 게시글은 다시 메모리에 합쳐 다음 주기에 재시도하고, 서버 종료 시 남은 값을 반영
+ */
+@Slf4j
+@Service
+public class PostViewService {
+
+    // 메모리에 모을 최대 게시글 수 (스케치 하나가 16KB이므로 넘으면 바로 반영)
+    static final int MAX_PENDING_POSTS = 2000;
+
+    private final CommunityRepository communityRepository;
+    private final PostViewSketchRepository postViewSketchRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final ConcurrentHashMap<Integer, PendingViews> pending = new ConcurrentHashMap<>();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+    private final ExecutorService flushExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "post-view-flush");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public PostViewService(
+            CommunityRepository communityRepository,
+            PostViewSketchRepository postViewSketchRepository,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.communityRepository = communityRepository;
+        this.postViewSketchRepository = postViewSketchRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    // 게시글 하나의 아직 반영하지 않은 조회 (pending.compute 안에서만 변경)
+    private static final class PendingViews {
+        private final HyperLogLog viewers = new HyperLogLog();
+        private int views;
+
+        void absorb(PendingViews other) {
+            viewers.merge(other.viewers);
+            views += other.views;
+        }
+    }
+
+    /** 조회 기록 */
+    public void recordView(Integer postId, String viewerKey) {
+        pending.compute(postId, (key, views) -> {
+            if (views == null) {
+                views = new PendingViews();
+            }
+            views.viewers.add(viewerKey);
+            views.views++;
+            return views;
+        });
+        // 이미 예약된 반영이 끝나기 전에는 다시 예약하지 않음
+        if (pending.size() >= MAX_PENDING_POSTS && flushScheduled.compareAndSet(false, true)) {
+            try {
+                flushExecutor.execute(() -> {
+                    try {
+                        flush();
+                    } finally {
+                        flushScheduled.set(false);
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                flushScheduled.set(false); // 종료 중
+            }
+        }
+    }
+
+    /** 아직 DB에 반영하지 않은 조회 수 */
+    public int getPendingViews(Integer postId) {
+        int[] views = new int[1];
+        pending.computeIfPresent(postId, (key, current) -> {
+            views[0] = current.views;
+            return current;
+        });
+        return views[0];
+    }
+
+    /**
+     * 고유 조회자 수 (저장된 추정값과 아직 반영하지 않은 조회자 추정값 중 큰 값)
+     * @param storedUniqueViewers community.unique_viewers
+     */
+    public int getUniqueViewers(Integer postId, int storedUniqueViewers) {
+        long[] estimate = new long[1];
+        pending.computeIfPresent(postId, (key, current) -> {
+            estimate[0] = current.viewers.estimate();
+            return current;
+        });
+        return (int) Math.max(storedUniqueViewers, estimate[0]);
+    }
+
+    /** 삭제된 게시글의 스케치 삭제 (게시글 삭제 트랜잭션 안에서 호출) */
+    public void deleteSketch(Integer postId) {
+        postViewSketchRepository.deleteByPostId(postId);
+    }
+
+    /** 삭제된 게시글의 모아 둔 조회 버림 */
+    public void discardPending(Integer postId) {
+        pending.remove(postId);
+    }
+
+    /** 모아 둔 조회를 DB에 반영 */
+    @Scheduled(fixedDelayString = "${community.post-views.flush-interval-ms:60000}",
+            initialDelayString = "${community.post-views.flush-interval-ms:60000}")
+    public void flush() {
+        if (!flushLock.tryLock()) {
+            return; // 다른 스레드에서 반영 중
+        }
+        try {
+            List<Integer> postIds = new ArrayList<>(pending.keySet());
+            int flushed = 0;
+            for (Integer postId : postIds) {
+                PendingViews views = pending.remove(postId);
+                if (views == null) {
+                    continue;
+                }
+                try {
+                    transactionTemplate.executeWithoutResult(status -> flushPost(postId, views));
+                    flushed++;
+                } catch (Exception e) {
+                    log.warn("조회 수 반영 실패 - postId: {}, 에러: {}", postId, e.getMessage());
+                    pending.merge(postId, views, (current, failed) -> {
+                        current.absorb(failed);
+                        return current;
+                    });
+                }
+            }
+            if (flushed > 0) {
+                log.debug("조회 수 반영 완료 - 게시글 {}개", flushed);
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flushExecutor.shutdown();
+        flush();
+    }
+
+    // 저장된 스케치에 합치고 조회 수/추정값 갱신 (게시글이 삭제되었으면 버림)
+    private void flushPost(Integer postId, PendingViews views) {
+        PostViewSketch stored = postViewSketchRepository.findByIdForUpdate(postId)
+                .orElseGet(() -> new PostViewSketch(postId, null));
+        HyperLogLog sketch = HyperLogLog.fromBytes(stored.getSketch());
+        sketch.merge(views.viewers);
+
+        int updated = communityRepository.addViews(postId, views.views, (int) sketch.estimate());
+        if (updated == 0) {
+            return;
+        }
+        stored.setSketch(sketch.toBytes());
+        postViewSketchRepository.save(stored);
+    }
+}
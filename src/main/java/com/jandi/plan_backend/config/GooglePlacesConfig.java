@@ -0,0 +1,37 @@
+package com.jandi.plan_backend.config;
+
+import com.google.maps.GeoApiContext;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Google Places API 호출에 쓰는 GeoApiContext 설정.
+ * GeoApiContext는 내부에 HTTP 커넥션 풀과 호출 속도 제한을 가지고 있으므로 하나를 만들어 모든 호출에서 재사용.
+ */
+@Configuration
+public class GooglePlacesConfig {
+
+    @Value("${google.api.key}")
+    private String googleApiKey;
+
+    // 테스트/부하 측정 시 스텁 서버 주소로 교체 (비어 있으면 Google 기본 주소)
+    @Value("${google.places.base-url:}")
+    private String baseUrl;
+
+    @Bean(destroyMethod = "shutdown")
+    public GeoApiContext geoApiContext() {
+        GeoApiContext.Builder builder = new GeoApiContext.Builder()
+                .apiKey(googleApiKey)
+                .connectTimeout(3, TimeUnit.SECONDS)
+                .readTimeout(10, TimeUnit.SECONDS)
+                .retryTimeout(10, TimeUnit.SECONDS)
+                .maxRetries(2);
+        if (!baseUrl.isBlank()) {
+            builder.baseUrlOverride(baseUrl);
+        }
+        return builder.build();
+    }
+}
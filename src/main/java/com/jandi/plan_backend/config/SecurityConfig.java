@@ -1,6 +1,7 @@
 package com.jandi.plan_backend.config;
 
 import com.jandi.plan_backend.security.*;
+import jakarta.servlet.DispatcherType;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -61,6 +62,8 @@ public class SecurityConfig {
                 .authorizeHttpRequests(authorize -> authorize
                         // 모든 OPTIONS 메서드 요청은 인증 없이 허용 (CORS Preflight 대응)
                         .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
+                        // 비동기 응답(CompletableFuture, StreamingResponseBody)의 재디스패치는 최초 요청에서 이미 인가됨
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         /** 미로그인 상태에서도 접근 가능 */
                         .requestMatchers(
                                 // user - 자체 login & register 관련
@@ -78,6 +81,7 @@ public class SecurityConfig {
                         .requestMatchers(HttpMethod.GET,
                                 // community - post 관련
                                 "/api/community/posts", "/api/community/posts/{postId}", "/api/community/search",
+                                "/api/community/posts/hot", "/api/community/hashtags/trending",
 
                                 // community - comment 관련
                                 "/api/community/comments/{postId}", "/api/community/replies/{commentId}",
@@ -87,6 +91,15 @@ public class SecurityConfig {
 
                                 // trip 관련
                                 "/api/trip/*", "/api/trip/itinerary/*", "/api/trip/reservation/*",
+                                "/api/trip/itinerary/{tripId}/route",
+                                "/api/trip/itinerary/{tripId}/conflicts",
+                                "/api/trip/{tripId}/spend",
+
+                                // 위치 기반 조회
+                                "/api/nearby/**",
+
+                                // 추천 장소 사진 (img 태그로 바로 불러옴)
+                                "/api/recommend/photo/{placeId}",
 
                                 "/error"
                         ).permitAll()
@@ -122,7 +135,9 @@ public class SecurityConfig {
                                 "/api/trip/my/create",
                                 "/api/trip/reservation/{tripId}", "/api/trip/reservation/{ReservationId}",
                                 "/api/trip/itinerary/{tripId}", "/api/trip/itinerary/{itineraryId}",
+                                "/api/trip/itinerary/{tripId}/bulk",
                                 "/api/place", "/api/place/{placeId}", "/api/place/",
+                                "/api/place/paged", "/api/place/stream",
 
                                 // city - recommend 관련
                                 "/api/map/recommend/restaurant"
@@ -0,0 +1,77 @@
+package com.jandi.plan_backend.geo.controller;
+
+import com.jandi.plan_backend.geo.dto.NearbyItemRespDTO;
+import com.jandi.plan_backend.geo.service.NearbySearchService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 위치 기반 조회 API
+ * target: places(사용자 등록 장소), recommendations(추천 장소), cities(도시)
+ */
+@RestController
+@RequestMapping("/api/nearby")
+@RequiredArgsConstructor
+public class NearbyController {
+
+    private final NearbySearchService nearbySearchService;
+
+    /** 반경 조회 API (가까운 순) */
+    @GetMapping("/{target}/radius")
+    public Map<String, Object> searchRadius(
+            @PathVariable String target,
+            @RequestParam double latitude,
+            @RequestParam double longitude,
+            @RequestParam(defaultValue = "1000") double radius,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        Page<NearbyItemRespDTO<?>> itemPage =
+                nearbySearchService.searchRadius(target, latitude, longitude, radius, page, size);
+        return toPageResponse(itemPage);
+    }
+
+    /** 영역 조회 API */
+    @GetMapping("/{target}/box")
+    public Map<String, Object> searchBox(
+            @PathVariable String target,
+            @RequestParam double minLatitude,
+            @RequestParam double minLongitude,
+            @RequestParam double maxLatitude,
+            @RequestParam double maxLongitude,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        Page<NearbyItemRespDTO<?>> itemPage = nearbySearchService.searchBox(
+                target, minLatitude, minLongitude, maxLatitude, maxLongitude, page, size);
+        return toPageResponse(itemPage);
+    }
+
+    /** 가장 가까운 k개 조회 API */
+    @GetMapping("/{target}/nearest")
+    public ResponseEntity<List<NearbyItemRespDTO<?>>> searchNearest(
+            @PathVariable String target,
+            @RequestParam double latitude,
+            @RequestParam double longitude,
+            @RequestParam(defaultValue = "10") int k
+    ) {
+        return ResponseEntity.ok(nearbySearchService.searchNearest(target, latitude, longitude, k));
+    }
+
+    private Map<String, Object> toPageResponse(Page<NearbyItemRespDTO<?>> itemPage) {
+        return Map.of(
+                "pageInfo", Map.of(
+                        "currentPage", itemPage.getNumber(),
+                        "currentSize", itemPage.getContent().size(),
+                        "totalPages", itemPage.getTotalPages(),
+                        "totalSize", itemPage.getTotalElements()
+                ),
+                "items", itemPage.getContent()
+        );
+    }
+}
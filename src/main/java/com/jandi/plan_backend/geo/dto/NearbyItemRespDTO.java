@@ -0,0 +1,15 @@
+package com.jandi.plan_backend.geo.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 위치 기반 조회 결과 항목
+ * distanceMeters: 기준 좌표로부터의 거리(m), 영역 조회처럼 기준 좌표가 없으면 null
+ */
+@Getter
+@AllArgsConstructor
+public class NearbyItemRespDTO<T> {
+    private T item;
+    private Double distanceMeters;
+}
@@ -0,0 +1,287 @@
+package com.jandi.plan_backend.geo.service;
+
+import com.jandi.plan_backend.geo.dto.NearbyItemRespDTO;
+import com.jandi.plan_backend.googlePlace.dto.RecommPlaceRespDTO;
+import com.jandi.plan_backend.googlePlace.entity.PlaceRecommendation;
+import com.jandi.plan_backend.googlePlace.repository.PlaceRecommendationRepository;
+import com.jandi.plan_backend.image.entity.Image;
+import com.jandi.plan_backend.image.repository.ImageRepository;
+import com.jandi.plan_backend.tripPlan.place.dto.PlaceRespDTO;
+import com.jandi.plan_backend.tripPlan.place.entity.Place;
+import com.jandi.plan_backend.tripPlan.place.repository.PlaceRepository;
+import com.jandi.plan_backend.user.dto.CityRespDTO;
+import com.jandi.plan_backend.user.entity.City;
+import com.jandi.plan_backend.user.repository.CityRepository;
+import com.jandi.plan_backend.util.GeoGridIndex;
+import com.jandi.plan_backend.util.GeoGridIndex.Hit;
+import com.jandi.plan_backend.util.service.BadRequestExceptionMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * 장소/추천 장소/도시의 위치 기반 조회 (반경, 영역, 최근접 k개)
+ * - 서버 시작 시 좌표만 조회해 메모리 격자 인덱스를 구성하고, 생성/수정 시점에 인덱스를 갱신
+ * - 인덱스에서 id를 찾은 뒤 현재 페이지에 해당하는 엔티티만 일괄 조회
+ * - 인덱스는 서버 인스턴스별로 유지되므로, DB에 없는 id가 조회되면 인덱스에서 제거
+ */
+@Slf4j
+@Service
+public class NearbySearchService {
+
+    public static final double MAX_RADIUS_METERS = 50_000d;
+    public static final int MAX_PAGE_SIZE = 100;
+    public static final int MAX_NEAREST = 100;
+
+    private final PlaceRepository placeRepository;
+    private final PlaceRecommendationRepository placeRecommendationRepository;
+    private final CityRepository cityRepository;
+    private final ImageRepository imageRepository;
+
+    // 장소/추천 장소는 약 1km, 도시는 약 100km 크기의 칸
+    private final GeoGridIndex placeIndex = new GeoGridIndex(0.01);
+    private final GeoGridIndex recommendationIndex = new GeoGridIndex(0.01);
+    private final GeoGridIndex cityIndex = new GeoGridIndex(1.0);
+
+    // 추천 장소 사진 프록시 절대 주소를 만들 서버 공개 주소 (비어 있으면 상대 경로)
+    @Value("${recommend.photo.public-base-url:}")
+    private String photoBaseUrl = "";
+
+    public NearbySearchService(PlaceRepository placeRepository,
+                               PlaceRecommendationRepository placeRecommendationRepository,
+                               CityRepository cityRepository,
+                               ImageRepository imageRepository) {
+        this.placeRepository = placeRepository;
+        this.placeRecommendationRepository = placeRecommendationRepository;
+        this.cityRepository = cityRepository;
+        this.imageRepository = imageRepository;
+    }
+
+    /**
+     * 조회 대상
+     */
+    public enum Target {
+        PLACES, RECOMMENDATIONS, CITIES;
+
+        public static Target from(String value) {
+            for (Target target : values()) {
+                if (target.name().equalsIgnoreCase(value)) {
+                    return target;
+                }
+            }
+            throw new BadRequestExceptionMessage("지원하지 않는 조회 대상입니다: " + value);
+        }
+    }
+
+    /**
+     * 서버 시작 시 인덱스 구성 (좌표 컬럼만 조회)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuildIndexes() {
+        load(placeIndex, placeRepository.findAllCoordinates());
+        load(recommendationIndex, placeRecommendationRepository.findAllCoordinates());
+        load(cityIndex, cityRepository.findAllCoordinates());
+        log.info("위치 인덱스 구성 완료 - place: {}, recommendation: {}, city: {}",
+                placeIndex.size(), recommendationIndex.size(), cityIndex.size());
+    }
+
+    public void indexPlace(Place place) {
+        put(placeIndex, place.getPlaceId(), place.getLatitude(), place.getLongitude());
+    }
+
+    public void indexRecommendation(PlaceRecommendation recommendation) {
+        put(recommendationIndex, recommendation.getId(), recommendation.getLatitude(), recommendation.getLongitude());
+    }
+
+    public void removeRecommendation(Long id) {
+        recommendationIndex.remove(id);
+    }
+
+    public void indexCity(City city) {
+        put(cityIndex, city.getCityId(), city.getLatitude(), city.getLongitude());
+    }
+
+    public void removeCity(Integer cityId) {
+        cityIndex.remove(cityId);
+    }
+
+    /**
+     * 좌표 주변 장소 id (가까운 순, 엔티티 조회 없음)
+     */
+    public List<Long> findPlaceIdsWithin(double latitude, double longitude, double radiusMeters) {
+        return placeIndex.withinRadius(latitude, longitude, radiusMeters).stream().map(Hit::id).toList();
+    }
+
+    /**
+     * 반경 조회 (가까운 순)
+     */
+    @Transactional(readOnly = true)
+    public Page<NearbyItemRespDTO<?>> searchRadius(String target, double latitude, double longitude,
+                                                   double radiusMeters, int page, int size) {
+        validateCoordinate(latitude, longitude);
+        if (radiusMeters <= 0 || radiusMeters > MAX_RADIUS_METERS) {
+            throw new BadRequestExceptionMessage("반경은 0보다 크고 " + (int) MAX_RADIUS_METERS + "m 이하여야 합니다.");
+        }
+        validatePage(page, size);
+        Target resolved = Target.from(target);
+        List<Hit> hits = indexOf(resolved).withinRadius(latitude, longitude, radiusMeters);
+        return toPage(resolved, hits, page, size);
+    }
+
+    /**
+     * 영역 조회 (id 순). minLongitude > maxLongitude이면 날짜 변경선을 넘는 영역
+     */
+    @Transactional(readOnly = true)
+    public Page<NearbyItemRespDTO<?>> searchBox(String target, double minLatitude, double minLongitude,
+                                                double maxLatitude, double maxLongitude, int page, int size) {
+        validateCoordinate(minLatitude, minLongitude);
+        validateCoordinate(maxLatitude, maxLongitude);
+        if (minLatitude > maxLatitude) {
+            throw new BadRequestExceptionMessage("최소 위도는 최대 위도보다 클 수 없습니다.");
+        }
+        validatePage(page, size);
+        Target resolved = Target.from(target);
+        long[] ids = indexOf(resolved).withinBox(minLatitude, minLongitude, maxLatitude, maxLongitude);
+        List<Hit> hits = new ArrayList<>(ids.length);
+        for (long id : ids) {
+            hits.add(new Hit(id, Double.NaN));
+        }
+        return toPage(resolved, hits, page, size);
+    }
+
+    /**
+     * 가장 가까운 k개 조회 (가까운 순)
+     */
+    @Transactional(readOnly = true)
+    public List<NearbyItemRespDTO<?>> searchNearest(String target, double latitude, double longitude, int k) {
+        validateCoordinate(latitude, longitude);
+        if (k < 1 || k > MAX_NEAREST) {
+            throw new BadRequestExceptionMessage("조회 개수는 1 이상 " + MAX_NEAREST + " 이하여야 합니다.");
+        }
+        Target resolved = Target.from(target);
+        return loadItems(resolved, indexOf(resolved).nearest(latitude, longitude, k));
+    }
+
+    private Page<NearbyItemRespDTO<?>> toPage(Target target, List<Hit> hits, int page, int size) {
+        int from = (int) Math.min((long) page * size, hits.size());
+        int to = Math.min(from + size, hits.size());
+        List<NearbyItemRespDTO<?>> items = loadItems(target, hits.subList(from, to));
+        return new PageImpl<>(items, PageRequest.of(page, size), hits.size());
+    }
+
+    // 현재 페이지 id의 엔티티만 일괄 조회해 인덱스 순서대로 변환
+    private List<NearbyItemRespDTO<?>> loadItems(Target target, List<Hit> hits) {
+        if (hits.isEmpty()) {
+            return List.of();
+        }
+        return switch (target) {
+            case PLACES -> {
+                List<Long> ids = hits.stream().map(Hit::id).toList();
+                Map<Long, Place> byId = toMap(placeRepository.findAllById(ids), Place::getPlaceId);
+                yield assemble(placeIndex, hits, id -> byId.get(id), place -> new PlaceRespDTO(
+                        place.getPlaceId(), place.getName(), place.getAddress(),
+                        place.getLatitude(), place.getLongitude()));
+            }
+            case RECOMMENDATIONS -> {
+                List<Long> ids = hits.stream().map(Hit::id).toList();
+                Map<Long, PlaceRecommendation> byId =
+                        toMap(placeRecommendationRepository.findAllById(ids), PlaceRecommendation::getId);
+                yield assemble(recommendationIndex, hits, id -> byId.get(id), place -> new RecommPlaceRespDTO(place, photoBaseUrl));
+            }
+            case CITIES -> {
+                List<Integer> ids = hits.stream().map(hit -> (int) hit.id()).toList();
+                Map<Long, City> byId = toMap(cityRepository.findByCityIdIn(ids), city -> city.getCityId().longValue());
+                Map<Integer, String> imageUrls = new HashMap<>();
+                for (Image image : imageRepository.findAllByTargetTypeAndTargetIdIn("city", ids)) {
+                    imageUrls.putIfAbsent(image.getTargetId(),
+                            "https://storage.googleapis.com/plan-storage/" + image.getImageUrl());
+                }
+                yield assemble(cityIndex, hits, id -> byId.get(id),
+                        city -> new CityRespDTO(city, imageUrls.get(city.getCityId())));
+            }
+        };
+    }
+
+    private <E> List<NearbyItemRespDTO<?>> assemble(GeoGridIndex index, List<Hit> hits,
+                                                    Function<Long, E> finder, Function<E, ?> mapper) {
+        List<NearbyItemRespDTO<?>> items = new ArrayList<>(hits.size());
+        for (Hit hit : hits) {
+            E entity = finder.apply(hit.id());
+            if (entity == null) {
+                // 다른 인스턴스에서 삭제된 경우 등 DB에 없는 id는 인덱스에서 제거
+                index.remove(hit.id());
+                continue;
+            }
+            Double distance = Double.isNaN(hit.distanceMeters()) ? null : hit.distanceMeters();
+            items.add(new NearbyItemRespDTO<>(mapper.apply(entity), distance));
+        }
+        return items;
+    }
+
+    private static <E> Map<Long, E> toMap(List<E> entities, Function<E, Long> idGetter) {
+        Map<Long, E> byId = new HashMap<>(entities.size() * 2);
+        for (E entity : entities) {
+            byId.put(idGetter.apply(entity), entity);
+        }
+        return byId;
+    }
+
+    private GeoGridIndex indexOf(Target target) {
+        return switch (target) {
+            case PLACES -> placeIndex;
+            case RECOMMENDATIONS -> recommendationIndex;
+            case CITIES -> cityIndex;
+        };
+    }
+
+    private static void load(GeoGridIndex index, List<Object[]> rows) {
+        long[] ids = new long[rows.size()];
+        double[] lats = new double[rows.size()];
+        double[] lngs = new double[rows.size()];
+        int count = 0;
+        for (Object[] row : rows) {
+            if (row[0] == null || row[1] == null || row[2] == null) {
+                continue;
+            }
+            ids[count] = ((Number) row[0]).longValue();
+            lats[count] = ((Number) row[1]).doubleValue();
+            lngs[count] = ((Number) row[2]).doubleValue();
+            count++;
+        }
+        index.replaceAll(Arrays.copyOf(ids, count), Arrays.copyOf(lats, count), Arrays.copyOf(lngs, count));
+    }
+
+    // 좌표가 없으면 인덱스에서 제외
+    private static void put(GeoGridIndex index, Number id, Double latitude, Double longitude) {
+        if (id == null) {
+            return;
+        }
+        if (latitude == null || longitude == null) {
+            index.remove(id.longValue());
+            return;
+        }
+        index.put(id.longValue(), latitude, longitude);
+    }
+
+    private static void validateCoordinate(double latitude, double longitude) {
+        if (latitude < -90 || latitude > 90 || longitude < -180 || longitude > 180) {
+            throw new BadRequestExceptionMessage("위도는 -90~90, 경도는 -180~180 범위여야 합니다.");
+        }
+    }
+
+    private static void validatePage(int page, int size) {
+        if (page < 0 || size < 1 || size > MAX_PAGE_SIZE) {
+            throw new BadRequestExceptionMessage("page는 0 이상, size는 1 이상 " + MAX_PAGE_SIZE + " 이하여야 합니다.");
+        }
+    }
+}
@@ -9,6 +9,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/api/map/recommend")
@@ -21,14 +22,14 @@ public class RecommendController {
      * POST /api/map/recommend/restaurant
      * RequestBody로 { "cityId": 123 }를 받고,
      * DB에서 1개월 이내 데이터가 있으면 반환,
-     * 없거나 오래됐으면 구글 API로 갱신 후 DB 저장 & 반환
+     * 없거나 오래됐으면 구글 API로 갱신 후 DB 저장 & 반환 (요청 스레드를 점유하지 않는 비동기 응답)
      */
     @PostMapping("/restaurant")
-    public ResponseEntity<List<RecommPlaceRespDTO>> getRecommendedPlaces(
+    public CompletableFuture<ResponseEntity<List<RecommPlaceRespDTO>>> getRecommendedPlaces(
             @Valid @RequestBody RecommPlaceReqDTO reqDTO
     ) {
         // cityId 유효성 검증(@Valid) → 실패 시 400 Bad Request 자동 응답
-        List<RecommPlaceRespDTO> result = recommendService.getAllRecommendedPlace(reqDTO);
-        return ResponseEntity.ok(result);
+        // Google 조회가 필요하면 비동기로 처리되고, 완료 시 응답
+        return recommendService.getAllRecommendedPlace(reqDTO).thenApply(ResponseEntity::ok);
     }
 }
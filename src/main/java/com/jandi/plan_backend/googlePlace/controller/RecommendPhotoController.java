@@ -0,0 +1,96 @@
+package com.jandi.plan_backend.googlePlace.controller;
+
+import com.jandi.plan_backend.googlePlace.service.RecommendPhotoService;
+import com.jandi.plan_backend.googlePlace.service.RecommendPhotoService.Photo;
+import com.jandi.plan_backend.util.DiskLruCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+@RestController
+@RequestMapping("/api/recommend")
+@RequiredArgsConstructor
+public class RecommendPhotoController {
+
+    // 버전이 있는 주소는 내용이 바뀌지 않으므로 1년, 버전이 없거나 지난 주소는 1시간
+    private static final CacheControl VERSIONED_CACHE = CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable();
+    private static final CacheControl UNVERSIONED_CACHE = CacheControl.maxAge(Duration.ofHours(1)).cachePublic();
+
+    private final RecommendPhotoService recommendPhotoService;
+
+    /**
+     * GET /api/recommend/photo/{placeId}?v={사진 버전}
+     * 추천 장소 사진을 디스크 캐시에서 응답 (처음 요청 시에만 Google에서 받아 저장)
+     * If-None-Match가 ETag와 같으면 304
+     */
+    @GetMapping("/photo/{placeId}")
+    public CompletableFuture<ResponseEntity<StreamingResponseBody>> getPhoto(
+            @PathVariable String placeId,
+            @RequestParam(name = "v", required = false) String version,
+            @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
+        return recommendPhotoService.getPhoto(placeId, version).thenApply(photo -> toResponse(photo, ifNoneMatch));
+    }
+
+    private ResponseEntity<StreamingResponseBody> toResponse(Photo photo, String ifNoneMatch) {
+        DiskLruCache.Entry entry = photo.entry();
+        String etag = "\"" + entry.etag() + "\"";
+        CacheControl cacheControl = photo.versioned() ? VERSIONED_CACHE : UNVERSIONED_CACHE;
+        if (matchesETag(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(cacheControl).build();
+        }
+
+        // 응답 직전에 캐시에서 밀려나도 열어 둔 파일은 끝까지 읽을 수 있도록 미리 열어 둠
+        FileChannel channel;
+        try {
+            channel = recommendPhotoService.open(photo);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        long size = entry.size();
+        StreamingResponseBody body = out -> {
+            try (channel) {
+                WritableByteChannel target = Channels.newChannel(out);
+                long position = 0;
+                while (position < size) {
+                    position += channel.transferTo(position, size - position, target);
+                }
+            }
+        };
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(cacheControl)
+                .contentType(MediaType.parseMediaType(entry.contentType()))
+                .contentLength(size)
+                .body(body);
+    }
+
+    private static boolean matchesETag(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals("*") || tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
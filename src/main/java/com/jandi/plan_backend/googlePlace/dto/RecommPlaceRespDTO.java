@@ -1,5 +1,7 @@
 package com.jandi.plan_backend.googlePlace.dto;
 
+import com.jandi.plan_backend.googlePlace.entity.PlaceRecommendation;
+import com.jandi.plan_backend.googlePlace.service.RecommendPhotoService;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -21,4 +23,24 @@ public class RecommPlaceRespDTO {
     private String openTimeJson;
     private String country;
     private String city;
+
+    /**
+     * @param photoBaseUrl 사진 프록시 주소 앞에 붙일 서버 공개 주소 (프론트엔드가 다른 도메인이어도 열 수 있도록)
+     */
+    public RecommPlaceRespDTO(PlaceRecommendation entity, String photoBaseUrl) {
+        this.placeId = entity.getPlaceId();
+        this.name = entity.getName();
+        this.url = entity.getDetailUrl();
+        this.rating = entity.getRating();
+        // API 키가 들어 있는 Google 주소 대신 사진 프록시 주소를 내려줌
+        this.photoUrl = RecommendPhotoService.proxyUrl(photoBaseUrl, entity.getPlaceId(), entity.getPhotoUrl());
+        this.address = entity.getAddress();
+        this.latitude = entity.getLatitude();
+        this.longitude = entity.getLongitude();
+        this.ratingCount = entity.getRatingCount();
+        this.dineIn = entity.isDineIn();
+        this.openTimeJson = entity.getOpenTimeJson();
+        this.country = entity.getCountry();
+        this.city = entity.getCity();
+    }
 }
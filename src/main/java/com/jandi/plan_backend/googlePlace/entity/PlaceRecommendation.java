@@ -10,11 +10,18 @@ import java.time.LocalDateTime;
 @Getter
 @Setter
 @Entity
-@Table(name = "place_recommendation")
+// 인덱스는 ddl-auto=validate에서 생성되지 않으므로 docs/db/schema-changes.sql로 적용
+// 도시별 최근 데이터 조회/개수/삭제용 (만료 데이터 정리는 기본 키를 순서대로 읽음)
+@Table(name = "place_recommendation", indexes = {
+        @Index(name = "idx_place_recommendation_city_created", columnList = "country, city, created_at")
+})
 public class PlaceRecommendation {
 
+    // IDENTITY는 INSERT 배치가 불가능하므로 시퀀스(allocationSize 50)로 id를 미리 할당
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "place_recommendation_seq_generator")
+    @SequenceGenerator(name = "place_recommendation_seq_generator", sequenceName = "place_recommendation_seq",
+            allocationSize = 50)
     private Long id;
 
     @Column(name = "place_id", length = 128, nullable = false)
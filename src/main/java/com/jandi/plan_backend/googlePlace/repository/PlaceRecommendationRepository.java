@@ -1,23 +1,52 @@
 package com.jandi.plan_backend.googlePlace.repository;
 
 import com.jandi.plan_backend.googlePlace.entity.PlaceRecommendation;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
-import java.util.Optional;
 
 public interface PlaceRecommendationRepository extends JpaRepository<PlaceRecommendation, Long> {
 
     List<PlaceRecommendation> findByCountryAndCity(String country, String city);
 
-    void deleteByCountryAndCity(String country, String city);
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("delete from PlaceRecommendation p " +
+            "where p.country = :country and p.city = :city and p.createdAt < :threshold")
+    int deleteByCountryAndCityAndCreatedAtBefore(@Param("country") String country, @Param("city") String city,
+                                                 @Param("threshold") LocalDateTime threshold);
+
+    // 만료 데이터 정리용: threshold 이전에 저장된 행의 id를 afterId 다음부터 순서대로 (키셋 페이지)
+    // id 순서가 필요하므로 created_at 인덱스 대신 기본 키를 afterId부터 순서대로 읽으며 created_at을 거름
+    // (한 번의 정리에서 테이블을 한 바퀴 읽음, created_at 인덱스로 거르면 배치마다 오래된 행 전체를 정렬해야 함)
+    @Query("select p.id from PlaceRecommendation p where p.createdAt < :threshold and p.id > :afterId order by p.id")
+    List<Long> findIdsCreatedBefore(@Param("threshold") LocalDateTime threshold, @Param("afterId") long afterId,
+                                    Pageable pageable);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("delete from PlaceRecommendation p where p.id in :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 30일 이내(최근 데이터) 조회용 (country, city, created_at 인덱스 범위 조회)
+    List<PlaceRecommendation> findByCountryAndCityAndCreatedAtAfter(String country, String city, LocalDateTime createdAt);
 
-    void deleteByCountryAndCityAndCreatedAtBefore(String country, String city, LocalDateTime threshold);
+    long countByCountryAndCityAndCreatedAtAfter(String country, String city, LocalDateTime createdAt);
 
-    // 30일 이내(최근 데이터) 조회용
-    List<PlaceRecommendation> findByCountryAndCityAndCreatedAtAfter(String country, String city, LocalDateTime createdAt);
+    // 사진 프록시용 placeId 조회
+    List<PlaceRecommendation> findByPlaceIdIn(Collection<String> placeIds);
+
+    // 검색 결과 한 페이지의 placeId를 한 번에 확인 (같은 장소라도 도시마다 따로 저장하므로 도시 범위로 한정)
+    List<PlaceRecommendation> findByCountryAndCityAndPlaceIdIn(String country, String city, Collection<String> placeIds);
 
-    // placeId로 이미 저장된 데이터가 있는지 확인
-    Optional<PlaceRecommendation> findByPlaceId(String placeId);
+    // 공간 인덱스 구성용 [id, latitude, longitude]
+    @Query("select p.id, p.latitude, p.longitude from PlaceRecommendation p")
+    List<Object[]> findAllCoordinates();
 }
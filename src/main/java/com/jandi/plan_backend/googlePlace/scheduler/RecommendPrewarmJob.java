@@ -0,0 +1,104 @@
+package com.jandi.plan_backend.googlePlace.scheduler;
+
+import com.jandi.plan_backend.googlePlace.service.GooglePlacesClient;
+import com.jandi.plan_backend.googlePlace.service.RecommendService;
+import com.jandi.plan_backend.user.entity.City;
+import com.jandi.plan_backend.user.repository.CityRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 검색 수 상위 도시의 맛집 추천 데이터를 만료 전에 미리 갱신
+ * - 도시를 하나씩 순서대로 갱신하고, 이번 실행의 Google API 호출 수가 예산을 넘으면 다음 도시는 시작하지 않음
+ * - 도시마다 갱신 완료를 기다리므로 전용 스레드에서 실행 (스케줄러 스레드를 점유하면 다른 @Scheduled 작업이 밀림)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RecommendPrewarmJob {
+
+    private final CityRepository cityRepository;
+    private final RecommendService recommendService;
+    private final GooglePlacesClient placesClient;
+
+    // 갱신 대상 도시 수 (searchCount 상위)
+    @Value("${google.places.prewarm.top-cities:20}")
+    private int topCities = 20;
+
+    // 만료까지 남은 기간이 이 일수 이하인 데이터를 갱신
+    @Value("${google.places.prewarm.window-days:3}")
+    private int windowDays = 3;
+
+    // 한 번 실행할 때 사용할 수 있는 Google API 호출 수
+    @Value("${google.places.prewarm.max-api-calls:200}")
+    private long maxApiCalls = 200;
+
+    // 이전 실행이 끝나지 않았으면 새 실행을 시작하지 않음
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final ExecutorService prewarmExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "recommend-prewarm");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @Scheduled(cron = "${google.places.prewarm.cron:0 30 4 * * *}")
+    public void schedulePrewarm() {
+        if (!running.compareAndSet(false, true)) {
+            log.info("Previous prewarm is still running, skipping this run");
+            return;
+        }
+        try {
+            prewarmExecutor.execute(() -> {
+                try {
+                    prewarmTopCities();
+                } finally {
+                    running.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            running.set(false); // 종료 중
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        prewarmExecutor.shutdownNow();
+    }
+
+    void prewarmTopCities() {
+        long callsAtStart = placesClient.apiCallCount();
+        List<City> cities = cityRepository.findByOrderBySearchCountDesc(PageRequest.of(0, topCities));
+        int refreshed = 0;
+        for (City city : cities) {
+            long used = placesClient.apiCallCount() - callsAtStart;
+            if (used >= maxApiCalls) {
+                log.info("Prewarm API budget exhausted ({} calls), stopping before cityId={}", used, city.getCityId());
+                break;
+            }
+            try {
+                if (recommendService.prewarm(city, windowDays).get(1, TimeUnit.MINUTES)) {
+                    refreshed++;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("Failed to prewarm cityId {}: {}", city.getCityId(), e.getMessage());
+            }
+        }
+        log.info("Prewarm completed: {} of {} cities refreshed, {} API calls",
+                refreshed, cities.size(), placesClient.apiCallCount() - callsAtStart);
+    }
+}
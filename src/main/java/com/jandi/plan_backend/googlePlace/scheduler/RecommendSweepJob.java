@@ -0,0 +1,58 @@
+package com.jandi.plan_backend.googlePlace.scheduler;
+
+import com.jandi.plan_backend.geo.service.NearbySearchService;
+import com.jandi.plan_backend.googlePlace.repository.PlaceRecommendationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 오래된 맛집 추천 데이터 정리
+ * - 요청이 없는 도시의 데이터는 갱신 시점의 삭제로 정리되지 않으므로 주기적으로 삭제
+ * - 만료(30일) 후에도 갱신 중 임시로 보여줄 수 있도록 retentionDays가 지난 데이터만 삭제
+ * - id 순 키셋 페이지로 batchSize개씩 조회/삭제해서 한 번의 DELETE가 잡는 잠금 범위를 제한
+ *   (조회는 기본 키 범위 스캔이므로 (country, city, created_at) 인덱스를 쓰지 않음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RecommendSweepJob {
+
+    private final PlaceRecommendationRepository placeRecommendationRepository;
+    private final NearbySearchService nearbySearchService;
+
+    // 저장 후 이 일수가 지난 데이터를 삭제
+    @Value("${google.places.sweep.retention-days:90}")
+    private int retentionDays = 90;
+
+    // 한 번에 삭제하는 행 수
+    @Value("${google.places.sweep.batch-size:500}")
+    private int batchSize = 500;
+
+    @Scheduled(cron = "${google.places.sweep.cron:0 0 5 * * *}")
+    public void sweepExpired() {
+        LocalDateTime threshold = LocalDateTime.now().minusDays(retentionDays);
+        long lastId = 0;
+        int deleted = 0;
+        while (true) {
+            List<Long> ids = placeRecommendationRepository.findIdsCreatedBefore(
+                    threshold, lastId, PageRequest.of(0, batchSize));
+            if (ids.isEmpty()) {
+                break;
+            }
+            deleted += placeRecommendationRepository.deleteByIdIn(ids);
+            ids.forEach(nearbySearchService::removeRecommendation);
+            lastId = ids.get(ids.size() - 1);
+            if (ids.size() < batchSize) {
+                break;
+            }
+        }
+        log.info("Sweep completed: {} recommendations older than {} deleted", deleted, threshold);
+    }
+}
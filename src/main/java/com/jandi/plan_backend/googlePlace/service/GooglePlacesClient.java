@@ -0,0 +1,96 @@
+package com.jandi.plan_backend.googlePlace.service;
+
+import com.google.maps.GeoApiContext;
+import com.google.maps.ImageResult;
+import com.google.maps.NearbySearchRequest;
+import com.google.maps.PendingResult;
+import com.google.maps.PlacesApi;
+import com.google.maps.model.LatLng;
+import com.google.maps.model.PlaceDetails;
+import com.google.maps.model.PlacesSearchResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Google Places API 비동기 호출
+ * - 공용 GeoApiContext의 콜백 방식(setCallback)을 CompletableFuture로 감싸 호출 스레드를 점유하지 않음
+ * - future가 취소되면 진행 중인 HTTP 요청도 취소
+ * - 호출 수를 API/결과별로 집계 (google.places.api.calls)
+ */
+@Component
+public class GooglePlacesClient {
+
+    public static final String METRIC_API_CALLS = "google.places.api.calls";
+
+    private final GeoApiContext context;
+    private final MeterRegistry meterRegistry;
+    private final AtomicLong apiCallCount = new AtomicLong();
+
+    public GooglePlacesClient(GeoApiContext context, MeterRegistry meterRegistry) {
+        this.context = context;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 서버 시작 이후 전체 API 호출 수 (호출 예산 계산용)
+     */
+    public long apiCallCount() {
+        return apiCallCount.get();
+    }
+
+    /**
+     * Nearby Search (pageToken이 있으면 다음 페이지)
+     */
+    public CompletableFuture<PlacesSearchResponse> nearbySearch(LatLng location, int radius, String keyword,
+                                                                String pageToken) {
+        NearbySearchRequest request = PlacesApi.nearbySearchQuery(context, location)
+                .radius(radius)
+                .keyword(keyword)
+                .language("ko");
+        if (pageToken != null) {
+            request.pageToken(pageToken);
+        }
+        return toFuture("nearbysearch", request);
+    }
+
+    /**
+     * Place Details
+     */
+    public CompletableFuture<PlaceDetails> placeDetails(String placeId) {
+        return toFuture("details", PlacesApi.placeDetails(context, placeId).language("ko"));
+    }
+
+    /**
+     * Place Photo (photoReference의 이미지를 maxWidth 이하 너비로)
+     */
+    public CompletableFuture<ImageResult> photo(String photoReference, int maxWidth) {
+        return toFuture("photo", PlacesApi.photo(context, photoReference).maxWidth(maxWidth));
+    }
+
+    private <T> CompletableFuture<T> toFuture(String api, PendingResult<T> pending) {
+        apiCallCount.incrementAndGet();
+        CompletableFuture<T> future = new CompletableFuture<>();
+        future.whenComplete((result, e) -> {
+            if (future.isCancelled()) {
+                pending.cancel();
+            }
+            meterRegistry.counter(METRIC_API_CALLS, "api", api, "outcome", e == null ? "success" : "error")
+                    .increment();
+        });
+        pending.setCallback(new PendingResult.Callback<>() {
+            @Override
+            public void onResult(T result) {
+                future.complete(result);
+            }
+
+            @Override
+            public void onFailure(Throwable e) {
+                future.completeExceptionally(e);
+            }
+        });
+        return future;
+    }
+}
@@ -0,0 +1,197 @@
+package com.jandi.plan_backend.googlePlace.service;
+
+import com.google.maps.ImageResult;
+import com.jandi.plan_backend.googlePlace.entity.PlaceRecommendation;
+import com.jandi.plan_backend.googlePlace.repository.PlaceRecommendationRepository;
+import com.jandi.plan_backend.util.DiskLruCache;
+import com.jandi.plan_backend.util.service.BadRequestExceptionMessage;
+import com.jandi.plan_backend.util.service.GoogleApiException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.util.UriComponentsBuilder;
+import org.springframework.web.util.UriUtils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * 추천 장소 사진 프록시
+ * - Google Place Photo는 사진마다 한 번만 받아 디스크 LRU 캐시(DiskLruCache)에 저장하고, 이후에는 캐시 파일로 응답
+ * - 사진 주소는 /api/recommend/photo/{placeId}?v={사진 버전} (버전은 photoreference의 해시)
+ *   사진이 바뀌면 주소도 바뀌므로 버전이 있는 주소의 응답은 브라우저에 오래 캐시해도 됨
+ * - 같은 사진을 동시에 요청하면 Google 호출은 한 번만 하고 결과를 함께 기다림
+ */
+@Slf4j
+@Service
+public class RecommendPhotoService {
+
+    public static final String PHOTO_PATH = "/api/recommend/photo/";
+    private static final int PHOTO_MAX_WIDTH = 500;
+    private static final int VERSION_LENGTH = 12;
+
+    private final PlaceRecommendationRepository placeRepo;
+    private final GooglePlacesClient placesClient;
+    private final DiskLruCache cache;
+
+    // DB 조회/파일 쓰기는 가상 스레드에서 실행 (HTTP 콜백 스레드를 막지 않음)
+    private final ExecutorService blockingExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    // 캐시 키 → 진행 중인 다운로드
+    private final Map<String, CompletableFuture<DiskLruCache.Entry>> inFlightDownloads = new ConcurrentHashMap<>();
+
+    public RecommendPhotoService(PlaceRecommendationRepository placeRepo,
+                                 GooglePlacesClient placesClient,
+                                 @Value("${recommend.photo.cache-dir:}") String cacheDir,
+                                 @Value("${recommend.photo.cache-max-bytes:536870912}") long cacheMaxBytes,
+                                 @Value("${recommend.photo.cache-max-entries:20000}") int cacheMaxEntries)
+            throws IOException {
+        this.placeRepo = placeRepo;
+        this.placesClient = placesClient;
+        Path dir = cacheDir.isBlank()
+                ? Path.of(System.getProperty("java.io.tmpdir"), "plan-recommend-photo")
+                : Path.of(cacheDir);
+        this.cache = new DiskLruCache(dir, cacheMaxBytes, cacheMaxEntries);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        blockingExecutor.shutdown();
+        try {
+            cache.close();
+        } catch (IOException e) {
+            log.warn("사진 캐시 색인을 닫지 못했습니다: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 저장된 Google 사진 주소를 프록시 주소로 변환 (사진이 없으면 null)
+     * @param publicBaseUrl 서버 공개 주소 (예: https://api.example.com, 비어 있으면 상대 경로)
+     */
+    public static String proxyUrl(String publicBaseUrl, String placeId, String photoUrl) {
+        String reference = photoReference(photoUrl);
+        if (reference == null) {
+            return null;
+        }
+        String baseUrl = (publicBaseUrl == null) ? "" : publicBaseUrl.replaceAll("/+$", "");
+        return baseUrl + PHOTO_PATH + UriUtils.encodePathSegment(placeId, UTF_8) + "?v=" + version(reference);
+    }
+
+    /**
+     * 사진 조회
+     * - 요청한 버전이 캐시에 있으면 DB/Google 조회 없이 바로 반환
+     * - 없으면 장소의 현재 사진을 확인해 캐시 또는 Google에서 가져옴
+     *   (요청한 버전이 현재 사진과 다르면 versioned=false → 짧게만 캐시)
+     */
+    public CompletableFuture<Photo> getPhoto(String placeId, String version) {
+        if (version != null) {
+            Optional<DiskLruCache.Entry> cached = cache.get(cacheKey(placeId, version));
+            if (cached.isPresent()) {
+                return CompletableFuture.completedFuture(new Photo(cached.get(), true));
+            }
+        }
+        return CompletableFuture.supplyAsync(() -> currentPhotoReference(placeId), blockingExecutor)
+                .thenCompose(reference -> {
+                    String currentVersion = version(reference);
+                    String key = cacheKey(placeId, currentVersion);
+                    boolean versioned = currentVersion.equals(version);
+                    return cache.get(key)
+                            .map(CompletableFuture::completedFuture)
+                            .orElseGet(() -> download(key, reference))
+                            .thenApply(entry -> new Photo(entry, versioned));
+                });
+    }
+
+    /**
+     * 캐시된 사진 파일 열기 (응답 본문을 FileChannel.transferTo로 전송)
+     */
+    public FileChannel open(Photo photo) throws IOException {
+        return FileChannel.open(photo.entry().file(), StandardOpenOption.READ);
+    }
+
+    private String currentPhotoReference(String placeId) {
+        List<PlaceRecommendation> places = placeRepo.findByPlaceIdIn(List.of(placeId));
+        if (places.isEmpty()) {
+            throw new BadRequestExceptionMessage("존재하지 않는 추천 장소입니다.");
+        }
+        return places.stream()
+                .map(place -> photoReference(place.getPhotoUrl()))
+                .filter(reference -> reference != null)
+                .findFirst()
+                .orElseThrow(() -> new BadRequestExceptionMessage("사진이 없는 추천 장소입니다."));
+    }
+
+    private CompletableFuture<DiskLruCache.Entry> download(String key, String reference) {
+        CompletableFuture<DiskLruCache.Entry> created = new CompletableFuture<>();
+        CompletableFuture<DiskLruCache.Entry> running = inFlightDownloads.putIfAbsent(key, created);
+        if (running != null) {
+            return running.copy();
+        }
+        placesClient.photo(reference, PHOTO_MAX_WIDTH)
+                .thenApplyAsync(image -> store(key, image), blockingExecutor)
+                .whenComplete((entry, e) -> {
+                    inFlightDownloads.remove(key, created);
+                    if (e != null) {
+                        log.error("Error fetching photo {}: {}", key, e.getMessage());
+                        created.completeExceptionally(e);
+                    } else {
+                        created.complete(entry);
+                    }
+                });
+        return created.copy();
+    }
+
+    private DiskLruCache.Entry store(String key, ImageResult image) {
+        String contentType = image.contentType == null ? "" : image.contentType.split(";")[0].trim();
+        if (!contentType.startsWith("image/")) {
+            throw new GoogleApiException("Unexpected photo content type: " + image.contentType, null);
+        }
+        try {
+            return cache.put(key, image.imageData, contentType);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String cacheKey(String placeId, String version) {
+        return placeId + "/" + version;
+    }
+
+    static String photoReference(String photoUrl) {
+        if (photoUrl == null) {
+            return null;
+        }
+        return UriComponentsBuilder.fromUriString(photoUrl).build().getQueryParams().getFirst("photoreference");
+    }
+
+    static String version(String photoReference) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(photoReference.getBytes(UTF_8));
+            return HexFormat.of().formatHex(digest).substring(0, VERSION_LENGTH);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 응답할 사진 (versioned: 요청 주소의 버전이 현재 사진과 같음)
+     */
+    public record Photo(DiskLruCache.Entry entry, boolean versioned) {
+    }
+}
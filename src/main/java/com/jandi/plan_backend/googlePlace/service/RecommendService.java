@@ -4,23 +4,34 @@ import com.jandi.plan_backend.googlePlace.dto.RecommPlaceReqDTO;
 import com.jandi.plan_backend.googlePlace.dto.RecommPlaceRespDTO;
 import com.jandi.plan_backend.googlePlace.entity.PlaceRecommendation;
 import com.jandi.plan_backend.googlePlace.repository.PlaceRecommendationRepository;
+import com.jandi.plan_backend.geo.service.NearbySearchService;
 import com.jandi.plan_backend.util.service.GoogleApiException;
 import com.jandi.plan_backend.user.entity.City;
 import com.jandi.plan_backend.user.repository.CityRepository;
-import com.google.maps.GeoApiContext;
-import com.google.maps.PlacesApi;
 import com.google.maps.model.LatLng;
 import com.google.maps.model.PlaceDetails;
 import com.google.maps.model.PlacesSearchResponse;
 import com.google.maps.model.PlacesSearchResult;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -30,25 +41,81 @@ public class RecommendService {
     @Value("${google.api.key}")
     private String googleApiKey;
 
+    // 사진 프록시 절대 주소를 만들 서버 공개 주소 (비어 있으면 상대 경로)
+    @Value("${recommend.photo.public-base-url:}")
+    private String photoBaseUrl = "";
+
+    // 요청 하나에서 동시에 호출하는 Place Details 개수
+    @Value("${google.places.details-concurrency:4}")
+    private int detailsConcurrency = 4;
+
+    // next_page_token이 유효해질 때까지 기다리는 시간 (ms)
+    @Value("${google.places.page-token-delay-ms:2000}")
+    private long pageTokenDelayMillis = 2000;
+
+    // Google 조회 전체 제한 시간 (초)
+    @Value("${google.places.fetch-timeout-seconds:30}")
+    private long fetchTimeoutSeconds = 30;
+
+    // Google 검색 결과가 없던 도시를 다시 조회하지 않는 시간 (초)
+    @Value("${google.places.negative-cache-seconds:600}")
+    private long negativeCacheSeconds = 600;
+
     // 검색 반경 (예: 30km)
     private static final int SEARCH_RADIUS = 30000;
+    private static final String SEARCH_KEYWORD = "맛집";
+    private static final int RECOMMEND_SIZE = 10;
+    // 추천 데이터 유효 기간 (일)
+    private static final int FRESH_DAYS = 30;
+
+    private static final String TRIGGER_REQUEST = "request";
+    private static final String TRIGGER_BACKGROUND = "background";
+    private static final String TRIGGER_PREWARM = "prewarm";
+    public static final String METRIC_REFRESH_LATENCY = "recommend.refresh.latency";
+    public static final String METRIC_STALENESS_AGE = "recommend.staleness.age.seconds";
 
     private final PlaceRecommendationRepository placeRepo;
     private final CityRepository cityRepo;
+    private final NearbySearchService nearbySearchService;
+    private final GooglePlacesClient placesClient;
+    private final MeterRegistry meterRegistry;
+
+    // DB 저장/조회처럼 블로킹되는 단계는 가상 스레드에서 실행 (HTTP 콜백 스레드를 막지 않음)
+    private final ExecutorService blockingExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    // 도시별 진행 중인 갱신 (동시 요청은 같은 갱신 결과를 기다림)
+    private final Map<Integer, CompletableFuture<List<RecommPlaceRespDTO>>> inFlightRefreshes =
+            new ConcurrentHashMap<>();
+    // 검색 결과가 없던 도시 → 재조회 가능 시각 (epoch ms)
+    private final Map<Integer, Long> emptyResultUntil = new ConcurrentHashMap<>();
 
     public RecommendService(PlaceRecommendationRepository placeRepo,
-                            CityRepository cityRepo) {
+                            CityRepository cityRepo,
+                            NearbySearchService nearbySearchService,
+                            GooglePlacesClient placesClient,
+                            MeterRegistry meterRegistry) {
         this.placeRepo = placeRepo;
         this.cityRepo = cityRepo;
+        this.nearbySearchService = nearbySearchService;
+        this.placesClient = placesClient;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        blockingExecutor.shutdown();
     }
 
     /**
      * 요청받은 cityId로 City 엔티티를 조회한 뒤,
      * 최근 30일 이내에 저장된 맛집 추천 데이터가 있으면 그 개수를 확인한다.
      * - 10개 이상이면 그대로 반환
-     * - 10개 미만이면 Google Places API (Nearby Search)를 호출하여 부족분을 채운 뒤 반환
+     * - 10개 미만이지만 저장된 데이터(30일이 지난 데이터 포함)가 있으면 바로 반환하고 백그라운드에서 갱신
+     * - 저장된 데이터가 없으면 Google Places API (Nearby Search)로 채운 뒤 반환
+     * Google 호출이 필요한 경우 요청 스레드를 점유하지 않도록 CompletableFuture로 반환
+     * 같은 도시의 갱신이 이미 진행 중이면 새로 조회하지 않고 그 결과를 함께 기다림
      */
-    public List<RecommPlaceRespDTO> getAllRecommendedPlace(RecommPlaceReqDTO reqDTO) {
+    public CompletableFuture<List<RecommPlaceRespDTO>> getAllRecommendedPlace(RecommPlaceReqDTO reqDTO) {
         // cityId 유효성 검증
         Integer cityId = reqDTO.getCityId();
         City cityEntity = cityRepo.findById(cityId)
@@ -57,190 +124,318 @@ public class RecommendService {
                         "Invalid cityId: " + cityId + " (City not found in DB)"
                 ));
 
-        // 국가/도시 이름
-        String countryName = cityEntity.getCountry().getName();
-        String cityName = cityEntity.getName();
-
         // 최근 30일 이내 데이터 조회
-        LocalDateTime oneMonthAgo = LocalDateTime.now().minusDays(30);
+        LocalDateTime oneMonthAgo = LocalDateTime.now().minusDays(FRESH_DAYS);
+        SearchTarget target = new SearchTarget(cityEntity, oneMonthAgo);
         List<PlaceRecommendation> recentList =
-                placeRepo.findByCountryAndCityAndCreatedAtAfter(countryName, cityName, oneMonthAgo);
+                placeRepo.findByCountryAndCityAndCreatedAtAfter(target.country(), target.city(), oneMonthAgo);
 
-        // DB에 저장된 맛집이 0개인 경우 → 기존 데이터 삭제 후 새 검색
-        if (recentList.isEmpty()) {
-            log.info("No recent data found for cityId={}. Deleting old data and fetching new data.", cityId);
-            placeRepo.deleteByCountryAndCity(countryName, cityName);
+        if (recentList.size() >= RECOMMEND_SIZE || isEmptyResultCached(cityId)) {
+            return CompletableFuture.completedFuture(serve(recentList));
+        }
 
-            // 새로 검색하여 DB 저장
-            callGooglePlacesApiAndAppend(cityEntity, 0);
-        } else {
-            // 1~9개인 경우: 부족분만큼 추가 검색
-            if (recentList.size() < 10) {
-                log.info("Found {} recent data for cityId={}, fetching more to reach 10...", recentList.size(), cityId);
-                callGooglePlacesApiAndAppend(cityEntity, recentList.size());
-            }
+        // 오래된 데이터라도 있으면 바로 반환하고, 갱신은 백그라운드에서 진행
+        List<PlaceRecommendation> storedList = placeRepo.findByCountryAndCity(target.country(), target.city());
+        if (!storedList.isEmpty()) {
+            log.info("Serving {} stored places for cityId={} while refreshing in background",
+                    storedList.size(), cityId);
+            refresh(cityId, target, TRIGGER_BACKGROUND);
+            List<PlaceRecommendation> newestFirst = new ArrayList<>(storedList);
+            newestFirst.sort(Comparator.comparing(PlaceRecommendation::getCreatedAt,
+                    Comparator.nullsLast(Comparator.reverseOrder())));
+            return CompletableFuture.completedFuture(serve(newestFirst));
         }
 
-        // 최종적으로 DB에서 10개까지만 추려서 반환
-        List<PlaceRecommendation> finalList =
-                placeRepo.findByCountryAndCityAndCreatedAtAfter(countryName, cityName, oneMonthAgo);
-        return finalList.stream()
-                .map(this::convertToDTO)
-                .limit(10)
-                .collect(Collectors.toList());
+        log.info("No stored data found for cityId={}. Fetching new data.", cityId);
+        // 한 요청의 취소가 공유 중인 갱신에 영향을 주지 않도록 복사본 반환
+        return refresh(cityId, target, TRIGGER_REQUEST).copy();
     }
 
     /**
-     * Google Places API의 Nearby Search를 사용하여,
-     * 도시의 위/경도를 중심으로 반경(SEARCH_RADIUS) 내 "맛집" 검색.
-     * nextPageToken이 존재하면 최대 10개 이상 모을 때까지 반복.
+     * 만료 전 미리 갱신 (검색 수 상위 도시 대상)
+     * windowDays일 안에 만료될 데이터까지 갱신 대상으로 보고, 유효한 데이터가 10개 이상이면 건너뜀
+     * @return 갱신 여부
      */
-    private void callGooglePlacesApiAndAppend(City cityEntity, int countSoFar) {
-        double lat = cityEntity.getLatitude();
-        double lng = cityEntity.getLongitude();
-        String country = cityEntity.getCountry().getName();
-        String city = cityEntity.getName();
+    public CompletableFuture<Boolean> prewarm(City city, int windowDays) {
+        LocalDateTime refreshBefore = LocalDateTime.now().minusDays(FRESH_DAYS - windowDays);
+        SearchTarget target = new SearchTarget(city, refreshBefore);
+        List<PlaceRecommendation> freshList =
+                placeRepo.findByCountryAndCityAndCreatedAtAfter(target.country(), target.city(), refreshBefore);
+        if (freshList.size() >= RECOMMEND_SIZE || isEmptyResultCached(city.getCityId())) {
+            return CompletableFuture.completedFuture(false);
+        }
+        return refresh(city.getCityId(), target, TRIGGER_PREWARM).thenApply(result -> true);
+    }
 
-        // GeoApiContext 생성
-        GeoApiContext context = new GeoApiContext.Builder()
-                .apiKey(googleApiKey)
-                .build();
+    /**
+     * 도시 갱신 시작 (이미 진행 중이면 그 갱신을 반환)
+     * 갱신은 target.refreshBefore() 이전에 저장된 데이터를 다시 조회해 덮어쓰고,
+     * 새 데이터가 생기면 나머지 오래된 데이터를 삭제
+     */
+    private CompletableFuture<List<RecommPlaceRespDTO>> refresh(Integer cityId, SearchTarget target, String trigger) {
+        CompletableFuture<List<RecommPlaceRespDTO>> refresh = new CompletableFuture<>();
+        CompletableFuture<List<RecommPlaceRespDTO>> inFlight = inFlightRefreshes.putIfAbsent(cityId, refresh);
+        if (inFlight != null) {
+            log.info("Joining in-flight refresh for cityId={}", cityId);
+            return inFlight;
+        }
 
+        Timer.Sample sample = Timer.start(meterRegistry);
         try {
-            // 첫 페이지 Nearby Search
-            PlacesSearchResponse response = PlacesApi.nearbySearchQuery(context, new LatLng(lat, lng))
-                    .radius(SEARCH_RADIUS)
-                    .keyword("맛집")
-                    .language("ko")
-                    .await();
-
-            saveSearchResultsToDB(response.results, country, city);
+            fetchFromGoogle(target)
+                    .thenApplyAsync(v -> finishRefresh(cityId, target), blockingExecutor)
+                    .whenComplete((result, e) -> {
+                        sample.stop(meterRegistry.timer(METRIC_REFRESH_LATENCY,
+                                "trigger", trigger, "outcome", e == null ? "success" : "error"));
+                        if (e != null && !TRIGGER_REQUEST.equals(trigger)) {
+                            log.warn("Background refresh failed for cityId={}: {}", cityId, e.getMessage());
+                        }
+                        // 완료 전에 제거해서, 이후 요청은 갱신된 DB를 다시 읽음
+                        inFlightRefreshes.remove(cityId, refresh);
+                        if (e != null) {
+                            refresh.completeExceptionally(e);
+                        } else {
+                            refresh.complete(result);
+                        }
+                    });
+        } catch (RuntimeException e) {
+            inFlightRefreshes.remove(cityId, refresh);
+            refresh.completeExceptionally(e);
+        }
+        return refresh;
+    }
 
-            // nextPageToken
-            String nextPageToken = response.nextPageToken;
+    private List<RecommPlaceRespDTO> finishRefresh(Integer cityId, SearchTarget target) {
+        List<PlaceRecommendation> freshList = placeRepo.findByCountryAndCityAndCreatedAtAfter(
+                target.country(), target.city(), target.refreshBefore());
+        if (freshList.isEmpty()) {
+            // 기존 데이터는 그대로 두고 일정 시간 동안 다시 조회하지 않음
+            log.info("No places found on Google for cityId={}, skipping refresh for {}s",
+                    cityId, negativeCacheSeconds);
+            emptyResultUntil.put(cityId, System.currentTimeMillis() + negativeCacheSeconds * 1000);
+        } else {
+            emptyResultUntil.remove(cityId);
+            placeRepo.deleteByCountryAndCityAndCreatedAtBefore(target.country(), target.city(), target.refreshBefore());
+        }
+        return toResponse(freshList);
+    }
 
-            // DB에 저장된 개수 확인
-            int storedCount = placeRepo.findByCountryAndCity(country, city).size();
+    private boolean isEmptyResultCached(Integer cityId) {
+        Long until = emptyResultUntil.get(cityId);
+        if (until == null) {
+            return false;
+        }
+        if (until > System.currentTimeMillis()) {
+            return true;
+        }
+        emptyResultUntil.remove(cityId, until);
+        return false;
+    }
 
-            // DB에 10개 미만이고, 다음 페이지가 존재하면 계속 조회
-            while (storedCount < 10 && nextPageToken != null) {
-                // next_page_token 유효해질 때까지 2초 대기
-                Thread.sleep(2000);
+    // 응답 데이터 중 가장 오래된 항목의 경과 시간을 기록
+    private List<RecommPlaceRespDTO> serve(List<PlaceRecommendation> places) {
+        List<PlaceRecommendation> served = places.stream().limit(RECOMMEND_SIZE).toList();
+        served.stream()
+                .map(PlaceRecommendation::getCreatedAt)
+                .filter(Objects::nonNull)
+                .min(Comparator.naturalOrder())
+                .ifPresent(oldest -> meterRegistry.summary(METRIC_STALENESS_AGE)
+                        .record(Duration.between(oldest, LocalDateTime.now()).toSeconds()));
+        return toResponse(served);
+    }
 
-                response = PlacesApi.nearbySearchQuery(context, new LatLng(lat, lng))
-                        .radius(SEARCH_RADIUS)
-                        .keyword("맛집")
-                        .language("ko")
-                        .pageToken(nextPageToken)
-                        .await();
+    /**
+     * Google Places API의 Nearby Search를 사용하여,
+     * 도시의 위/경도를 중심으로 반경(SEARCH_RADIUS) 내 "맛집" 검색.
+     * nextPageToken이 존재하면 최대 10개 이상 모을 때까지 반복.
+     */
+    private CompletableFuture<Void> fetchFromGoogle(SearchTarget target) {
+        return fetchPage(target, null)
+                .orTimeout(fetchTimeoutSeconds, TimeUnit.SECONDS)
+                .exceptionally(e -> {
+                    Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                    throw cause instanceof GoogleApiException googleApiException
+                            ? googleApiException
+                            : new GoogleApiException(cause);
+                });
+    }
 
-                saveSearchResultsToDB(response.results, country, city);
+    private CompletableFuture<Void> fetchPage(SearchTarget target, String pageToken) {
+        return placesClient.nearbySearch(target.location(), SEARCH_RADIUS, SEARCH_KEYWORD, pageToken)
+                .thenCompose(response -> saveSearchResultsToDB(response.results, target)
+                        // DB에 저장된 개수 확인
+                        .thenApplyAsync(v -> placeRepo.countByCountryAndCityAndCreatedAtAfter(
+                                        target.country(), target.city(), target.refreshBefore()),
+                                blockingExecutor)
+                        .thenCompose(storedCount -> {
+                            // DB에 10개 이상이거나 다음 페이지가 없으면 종료
+                            if (storedCount >= RECOMMEND_SIZE || response.nextPageToken == null) {
+                                return CompletableFuture.<Void>completedFuture(null);
+                            }
+                            return fetchNextPage(target, response);
+                        }));
+    }
 
-                // 다음 페이지 토큰 갱신
-                nextPageToken = response.nextPageToken;
+    // next_page_token은 발급 직후에는 유효하지 않으므로 스레드를 재우지 않고 지연 실행으로 예약
+    private CompletableFuture<Void> fetchNextPage(SearchTarget target, PlacesSearchResponse response) {
+        return CompletableFuture
+                .supplyAsync(() -> response.nextPageToken,
+                        CompletableFuture.delayedExecutor(pageTokenDelayMillis, TimeUnit.MILLISECONDS, blockingExecutor))
+                .thenCompose(token -> fetchPage(target, token));
+    }
 
-                // 다시 DB에 저장된 개수 확인
-                storedCount = placeRepo.findByCountryAndCity(country, city).size();
-            }
+    /**
+     * 검색 결과 한 페이지를 DB에 저장
+     * - 페이지의 placeId를 IN 쿼리 한 번으로 확인해, 없거나 갱신 대상인 장소만 상세 정보를 조회
+     *   (다른 도시 검색에서 저장된 같은 장소는 그 도시의 데이터로 두고, 이 도시에는 새 행으로 저장)
+     * - 상세 조회는 detailsConcurrency개씩 동시에 진행하고, 모인 결과를 saveAll 한 번으로 일괄 저장
+     * - 상세 조회가 실패한 장소는 건너뜀
+     */
+    private CompletableFuture<Void> saveSearchResultsToDB(PlacesSearchResult[] results, SearchTarget target) {
+        if (results == null || results.length == 0) {
+            return CompletableFuture.completedFuture(null);
+        }
+        List<String> placeIds = Arrays.stream(results).map(sr -> sr.placeId).distinct().toList();
+        return CompletableFuture.supplyAsync(() -> findExisting(placeIds, target), blockingExecutor)
+                .thenCompose(existing -> {
+                    List<String> toFetch = placeIds.stream()
+                            .filter(placeId -> !existing.containsKey(placeId)
+                                    || target.needsRefresh(existing.get(placeId)))
+                            .toList();
+                    return mapWithConcurrency(toFetch, detailsConcurrency, this::fetchDetails)
+                            .thenAcceptAsync(detailsList -> saveAllDetails(toFetch, detailsList, existing, target),
+                                    blockingExecutor);
+                });
+    }
 
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            throw new GoogleApiException("Thread interrupted while fetching next page", e);
-        } catch (Exception e) {
-            throw new GoogleApiException(e);
+    private Map<String, PlaceRecommendation> findExisting(List<String> placeIds, SearchTarget target) {
+        Map<String, PlaceRecommendation> existing = new HashMap<>();
+        for (PlaceRecommendation place : placeRepo.findByCountryAndCityAndPlaceIdIn(
+                target.country(), target.city(), placeIds)) {
+            existing.putIfAbsent(place.getPlaceId(), place);
         }
+        return existing;
     }
 
-    /**
-     * PlacesSearchResult 배열을 순회하며 DB에 저장하는 메서드
-     */
-    private void saveSearchResultsToDB(PlacesSearchResult[] results, String country, String city) {
-        if (results == null) {
-            return;
+    private CompletableFuture<PlaceDetails> fetchDetails(String placeId) {
+        return placesClient.placeDetails(placeId)
+                .exceptionally(e -> {
+                    log.error("Error fetching details for placeId {}: {}", placeId, e.getMessage());
+                    return null;
+                });
+    }
+
+    private void saveAllDetails(List<String> placeIds, List<PlaceDetails> detailsList,
+                                Map<String, PlaceRecommendation> existing, SearchTarget target) {
+        List<PlaceRecommendation> entities = new ArrayList<>(placeIds.size());
+        for (int i = 0; i < placeIds.size(); i++) {
+            PlaceDetails details = detailsList.get(i);
+            if (details != null) {
+                entities.add(toEntity(placeIds.get(i), details, target, existing.get(placeIds.get(i))));
+            }
         }
-        for (PlacesSearchResult sr : results) {
-            getPlaceDetailsAndSave(sr.placeId, country, city);
+        if (entities.isEmpty()) {
+            return;
         }
+        placeRepo.saveAll(entities).forEach(nearbySearchService::indexRecommendation);
     }
 
     /**
-     * Google Places API에서 placeId로 상세 정보를 가져온 뒤 DB에 저장.
-     * 이미 DB에 placeId가 존재하면 기존 데이터를 반환(중복 저장 방지).
+     * Google 상세 정보를 엔티티로 변환 (기존 장소면 덮어씀)
      */
-    private RecommPlaceRespDTO getPlaceDetailsAndSave(String placeId, String country, String city) {
-        Optional<PlaceRecommendation> existing = placeRepo.findByPlaceId(placeId);
-        if (existing.isPresent()) {
-            return convertToDTO(existing.get());
+    private PlaceRecommendation toEntity(String placeId, PlaceDetails details, SearchTarget target,
+                                         PlaceRecommendation existing) {
+        float rating = details.rating;
+        int ratingCount = details.userRatingsTotal;
+
+        String photoUrl = null;
+        if (details.photos != null && details.photos.length > 0) {
+            photoUrl = "https://maps.googleapis.com/maps/api/place/photo?maxwidth=500&photoreference="
+                    + details.photos[0].photoReference
+                    + "&key=" + googleApiKey;
         }
 
-        // 별도 context (disableRetries) 생성
-        GeoApiContext context = new GeoApiContext.Builder()
-                .apiKey(googleApiKey)
-                .disableRetries()
-                .build();
+        String openTimeJson = null;
+        if (details.currentOpeningHours != null && details.currentOpeningHours.weekdayText != null) {
+            openTimeJson = String.join(", ", details.currentOpeningHours.weekdayText);
+        }
 
-        try {
-            // placeDetails
-            PlaceDetails details = PlacesApi.placeDetails(context, placeId)
-                    .language("ko")
-                    .await();
-
-            float rating = details.rating;
-            int ratingCount = details.userRatingsTotal;
-
-            String photoUrl = null;
-            if (details.photos != null && details.photos.length > 0) {
-                photoUrl = "https://maps.googleapis.com/maps/api/place/photo?maxwidth=500&photoreference="
-                        + details.photos[0].photoReference
-                        + "&key=" + googleApiKey;
-            }
+        PlaceRecommendation entity = existing != null ? existing : new PlaceRecommendation();
+        if (existing != null) {
+            // 갱신한 데이터는 다시 30일 동안 유효
+            entity.setCreatedAt(LocalDateTime.now());
+        }
+        entity.setPlaceId(placeId);
+        entity.setName(details.name);
+        entity.setDetailUrl(details.url != null ? details.url.toString() : null);
+        entity.setRating(rating);
+        entity.setPhotoUrl(photoUrl);
+        entity.setAddress(details.formattedAddress);
+        entity.setLatitude(details.geometry.location.lat);
+        entity.setLongitude(details.geometry.location.lng);
+        entity.setRatingCount(ratingCount);
+        entity.setDineIn(Boolean.TRUE.equals(details.dineIn));
+        entity.setOpenTimeJson(openTimeJson);
+        entity.setCountry(target.country());
+        entity.setCity(target.city());
+        return entity;
+    }
 
-            String openTimeJson = null;
-            if (details.currentOpeningHours != null && details.currentOpeningHours.weekdayText != null) {
-                openTimeJson = String.join(", ", details.currentOpeningHours.weekdayText);
-            }
+    /**
+     * items를 최대 concurrency개씩 동시에 처리 (하나가 끝나면 다음 항목을 시작), 결과는 입력 순서대로
+     */
+    static <T, R> CompletableFuture<List<R>> mapWithConcurrency(List<T> items, int concurrency,
+                                                                 Function<T, CompletableFuture<R>> task) {
+        List<R> results = new ArrayList<>(Collections.nCopies(items.size(), null));
+        AtomicInteger next = new AtomicInteger();
+        CompletableFuture<?>[] workers = new CompletableFuture<?>[Math.max(1, Math.min(concurrency, items.size()))];
+        for (int i = 0; i < workers.length; i++) {
+            workers[i] = runNext(items, task, results, next);
+        }
+        return CompletableFuture.allOf(workers).thenApply(v -> results);
+    }
 
-            PlaceRecommendation entity = new PlaceRecommendation();
-            entity.setPlaceId(placeId);
-            entity.setName(details.name);
-            entity.setDetailUrl(details.url != null ? details.url.toString() : null);
-            entity.setRating(rating);
-            entity.setPhotoUrl(photoUrl);
-            entity.setAddress(details.formattedAddress);
-            entity.setLatitude(details.geometry.location.lat);
-            entity.setLongitude(details.geometry.location.lng);
-            entity.setRatingCount(ratingCount);
-            entity.setDineIn(details.dineIn);
-            entity.setOpenTimeJson(openTimeJson);
-            entity.setCountry(country);
-            entity.setCity(city);
-
-            placeRepo.save(entity);
-            return convertToDTO(entity);
-        } catch (Exception e) {
-            log.error("Error fetching details for placeId {}: {}", placeId, e.getMessage());
-            return null;
+    private static <T, R> CompletableFuture<Void> runNext(List<T> items, Function<T, CompletableFuture<R>> task,
+                                                          List<R> results, AtomicInteger next) {
+        int index = next.getAndIncrement();
+        if (index >= items.size()) {
+            return CompletableFuture.completedFuture(null);
         }
+        return task.apply(items.get(index))
+                .thenCompose(result -> {
+                    synchronized (results) {
+                        results.set(index, result);
+                    }
+                    return runNext(items, task, results, next);
+                });
+    }
+
+    private List<RecommPlaceRespDTO> toResponse(List<PlaceRecommendation> places) {
+        return places.stream()
+                .map(this::convertToDTO)
+                .limit(RECOMMEND_SIZE)
+                .collect(Collectors.toList());
     }
 
     /**
      * PlaceRecommendation 엔티티를 RecommPlaceRespDTO로 변환
      */
     private RecommPlaceRespDTO convertToDTO(PlaceRecommendation entity) {
-        RecommPlaceRespDTO dto = new RecommPlaceRespDTO();
-        dto.setPlaceId(entity.getPlaceId());
-        dto.setName(entity.getName());
-        dto.setUrl(entity.getDetailUrl());
-        dto.setRating(entity.getRating());
-        dto.setPhotoUrl(entity.getPhotoUrl());
-        dto.setAddress(entity.getAddress());
-        dto.setLatitude(entity.getLatitude());
-        dto.setLongitude(entity.getLongitude());
-        dto.setRatingCount(entity.getRatingCount());
-        dto.setDineIn(entity.isDineIn());
-        dto.setOpenTimeJson(entity.getOpenTimeJson());
-        dto.setCountry(entity.getCountry());
-        dto.setCity(entity.getCity());
-        return dto;
+        return new RecommPlaceRespDTO(entity, photoBaseUrl);
+    }
+
+    /**
+     * 검색 대상 도시 정보 (지연 로딩 필드는 요청 스레드에서 미리 읽어 둠)
+     * refreshBefore: 이 시각 이전에 저장된 데이터는 갱신 대상
+     */
+    private record SearchTarget(LatLng location, String country, String city, LocalDateTime refreshBefore) {
+        SearchTarget(City city, LocalDateTime refreshBefore) {
+            this(new LatLng(city.getLatitude(), city.getLongitude()), city.getCountry().getName(), city.getName(),
+                    refreshBefore);
+        }
+
+        boolean needsRefresh(PlaceRecommendation place) {
+            return place.getCreatedAt() == null || !place.getCreatedAt().isAfter(refreshBefore);
+        }
     }
 }
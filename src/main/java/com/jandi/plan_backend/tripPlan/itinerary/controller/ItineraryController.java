@@ -1,8 +1,12 @@
 package com.jandi.plan_backend.tripPlan.itinerary.controller;
 
+import com.jandi.plan_backend.tripPlan.itinerary.dto.ItineraryBulkReqDTO;
+import com.jandi.plan_backend.tripPlan.itinerary.dto.ItineraryConflictRespDTO;
 import com.jandi.plan_backend.tripPlan.itinerary.dto.ItineraryReqDTO;
 import com.jandi.plan_backend.tripPlan.itinerary.dto.ItineraryRespDTO;
+import com.jandi.plan_backend.tripPlan.itinerary.dto.ItineraryRouteRespDTO;
 import com.jandi.plan_backend.tripPlan.itinerary.service.ItineraryQueryService;
+import com.jandi.plan_backend.tripPlan.itinerary.service.ItineraryRouteService;
 import com.jandi.plan_backend.tripPlan.itinerary.service.ItineraryUpdateService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -18,6 +22,7 @@ import java.util.List;
 public class ItineraryController {
     private final ItineraryQueryService itineraryQueryService;
     private final ItineraryUpdateService itineraryUpdateService;
+    private final ItineraryRouteService itineraryRouteService;
 
     @GetMapping("/{tripId}")
     public ResponseEntity<?> getItineraries(
@@ -29,6 +34,27 @@ public class ItineraryController {
         return ResponseEntity.ok(itineraryList);
     }
 
+    @GetMapping("/{tripId}/route")
+    public ResponseEntity<List<ItineraryRouteRespDTO>> suggestRoutes(
+            @PathVariable Integer tripId,
+            @RequestParam(required = false) String date,
+            @AuthenticationPrincipal UserDetails userDetails
+    ) {
+        String userEmail = (userDetails != null) ? userDetails.getUsername() : null;
+        List<ItineraryRouteRespDTO> routes = itineraryRouteService.suggestRoutes(userEmail, tripId, date);
+        return ResponseEntity.ok(routes);
+    }
+
+    @GetMapping("/{tripId}/conflicts")
+    public ResponseEntity<List<ItineraryConflictRespDTO>> getConflicts(
+            @PathVariable Integer tripId,
+            @AuthenticationPrincipal UserDetails userDetails
+    ) {
+        String userEmail = (userDetails != null) ? userDetails.getUsername() : null;
+        List<ItineraryConflictRespDTO> conflicts = itineraryQueryService.getConflicts(userEmail, tripId);
+        return ResponseEntity.ok(conflicts);
+    }
+
     @PostMapping("/{tripId}")
     public ResponseEntity<ItineraryRespDTO> createItinerary(
             @PathVariable Integer tripId,
@@ -40,6 +66,17 @@ public class ItineraryController {
         return ResponseEntity.ok(savedItinerary);
     }
 
+    @PutMapping("/{tripId}/bulk")
+    public ResponseEntity<List<ItineraryRespDTO>> bulkUpdateItineraries(
+            @PathVariable Integer tripId,
+            @AuthenticationPrincipal UserDetails userDetails,
+            @RequestBody ItineraryBulkReqDTO itineraryBulkReqDTO
+    ) {
+        String userEmail = userDetails.getUsername();
+        List<ItineraryRespDTO> itineraryList = itineraryUpdateService.bulkUpdateItineraries(userEmail, tripId, itineraryBulkReqDTO);
+        return ResponseEntity.ok(itineraryList);
+    }
+
     @PatchMapping("/{itineraryId}")
     public ResponseEntity<ItineraryRespDTO> updateItinerary(
             @PathVariable Long itineraryId,
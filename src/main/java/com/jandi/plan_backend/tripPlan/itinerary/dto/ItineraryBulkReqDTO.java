@@ -0,0 +1,30 @@
+package com.jandi.plan_backend.tripPlan.itinerary.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 일정 일괄 처리 요청 DTO
+ * date가 지정되면 해당 날짜의 일정만, 없으면 여행 전체 일정을 정렬하여 반환
+ */
+@Getter
+@NoArgsConstructor
+public class ItineraryBulkReqDTO {
+    private String date;
+    private List<ItineraryUpsertReqDTO> upserts = new ArrayList<>();
+    private List<ItineraryMoveReqDTO> moves = new ArrayList<>();
+    private List<Long> deletes = new ArrayList<>();
+
+    public ItineraryBulkReqDTO(String date,
+                               List<ItineraryUpsertReqDTO> upserts,
+                               List<ItineraryMoveReqDTO> moves,
+                               List<Long> deletes) {
+        this.date = date;
+        this.upserts = (upserts != null) ? upserts : new ArrayList<>();
+        this.moves = (moves != null) ? moves : new ArrayList<>();
+        this.deletes = (deletes != null) ? deletes : new ArrayList<>();
+    }
+}
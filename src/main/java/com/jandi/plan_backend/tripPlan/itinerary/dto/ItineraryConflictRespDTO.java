@@ -0,0 +1,23 @@
+package com.jandi.plan_backend.tripPlan.itinerary.dto;
+
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+/**
+ * 시간이 겹치는 일정 쌍 DTO (overlapMinutes: 겹치는 시간(분))
+ */
+@Getter
+public class ItineraryConflictRespDTO {
+    private final LocalDate date;
+    private final Long itineraryId;
+    private final Long conflictingItineraryId;
+    private final int overlapMinutes;
+
+    public ItineraryConflictRespDTO(LocalDate date, Long itineraryId, Long conflictingItineraryId, int overlapMinutes) {
+        this.date = date;
+        this.itineraryId = itineraryId;
+        this.conflictingItineraryId = conflictingItineraryId;
+        this.overlapMinutes = overlapMinutes;
+    }
+}
@@ -0,0 +1,21 @@
+package com.jandi.plan_backend.tripPlan.itinerary.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 일괄 처리 요청의 일정 이동 (날짜/시작 시간만 변경)
+ */
+@Getter
+@NoArgsConstructor
+public class ItineraryMoveReqDTO {
+    private Long itineraryId;
+    private String date;
+    private String startTime;
+
+    public ItineraryMoveReqDTO(Long itineraryId, String date, String startTime) {
+        this.itineraryId = itineraryId;
+        this.date = date;
+        this.startTime = startTime;
+    }
+}
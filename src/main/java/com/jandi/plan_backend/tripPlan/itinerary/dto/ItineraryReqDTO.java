@@ -9,6 +9,7 @@ public class ItineraryReqDTO {
     private Long placeId;
     private String date;
     private String startTime;
+    private Integer duration;
     private String title;
     private Integer cost;
 
@@ -19,4 +20,9 @@ public class ItineraryReqDTO {
         this.title = title;
         this.cost = cost;
     }
+
+    public ItineraryReqDTO(Long placeId, String date, String startTime, Integer duration, String title, Integer cost) {
+        this(placeId, date, startTime, title, cost);
+        this.duration = duration;
+    }
 }
@@ -14,6 +14,7 @@ public class ItineraryRespDTO {
     private PlaceRespDTO place;
     private LocalDate date;
     private LocalTime startTime;
+    private Integer duration;
     private String title;
     private Integer cost;
     private LocalDate createdAt;
@@ -24,6 +25,7 @@ public class ItineraryRespDTO {
         this.place = place;
         this.date = itinerary.getDate();
         this.startTime = itinerary.getStartTime();
+        this.duration = itinerary.getDuration();
         this.title = itinerary.getTitle();
         this.cost = itinerary.getCost();
         this.createdAt = itinerary.getCreatedAt();
@@ -0,0 +1,32 @@
+package com.jandi.plan_backend.tripPlan.itinerary.dto;
+
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 하루 일정의 추천 방문 순서 DTO (거리 단위: 미터)
+ */
+@Getter
+public class ItineraryRouteRespDTO {
+    private final LocalDate date;
+    private final List<Long> currentOrder;
+    private final List<Long> suggestedOrder;
+    private final double currentDistance;
+    private final double suggestedDistance;
+    private final double distanceSaved;
+
+    public ItineraryRouteRespDTO(LocalDate date,
+                                 List<Long> currentOrder,
+                                 List<Long> suggestedOrder,
+                                 double currentDistance,
+                                 double suggestedDistance) {
+        this.date = date;
+        this.currentOrder = currentOrder;
+        this.suggestedOrder = suggestedOrder;
+        this.currentDistance = currentDistance;
+        this.suggestedDistance = suggestedDistance;
+        this.distanceSaved = Math.max(0, currentDistance - suggestedDistance);
+    }
+}
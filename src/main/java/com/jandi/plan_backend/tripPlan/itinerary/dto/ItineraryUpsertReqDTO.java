@@ -0,0 +1,18 @@
+package com.jandi.plan_backend.tripPlan.itinerary.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 일괄 처리 요청의 개별 일정 (itineraryId가 없으면 생성, 있으면 수정)
+ */
+@Getter
+@NoArgsConstructor
+public class ItineraryUpsertReqDTO extends ItineraryReqDTO {
+    private Long itineraryId;
+
+    public ItineraryUpsertReqDTO(Long itineraryId, Long placeId, String date, String startTime, String title, Integer cost) {
+        super(placeId, date, startTime, title, cost);
+        this.itineraryId = itineraryId;
+    }
+}
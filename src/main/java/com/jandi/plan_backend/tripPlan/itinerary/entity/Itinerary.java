@@ -12,8 +12,10 @@ import java.time.LocalTime;
 @Data
 public class Itinerary {
 
+    // IDENTITY 전략은 INSERT 배치를 비활성화하므로 시퀀스(MySQL은 테이블 에뮬레이션) + pooled 할당 사용
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "itinerary_seq_generator")
+    @SequenceGenerator(name = "itinerary_seq_generator", sequenceName = "itinerary_seq", allocationSize = 50)
     private Long itineraryId;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -29,6 +31,10 @@ public class Itinerary {
     @Column(nullable = false)
     private LocalTime startTime;
 
+    // 소요 시간(분), 없으면 시간 충돌 검사에서 제외
+    @Column
+    private Integer duration;
+
     @Column(nullable = false, length = 255)
     private String title;
 
@@ -2,11 +2,30 @@ package com.jandi.plan_backend.tripPlan.itinerary.repository;
 
 import com.jandi.plan_backend.tripPlan.itinerary.entity.Itinerary;
 import com.jandi.plan_backend.tripPlan.trip.entity.Trip;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDate;
 import java.util.List;
 
 public interface ItineraryRepository extends JpaRepository<Itinerary, Long> {
     List<Itinerary> findByTrip_TripId(Integer tripId);
     List<Itinerary> findByTrip(Trip trip);
+    List<Itinerary> findByTrip_TripIdAndDate(Integer tripId, LocalDate date);
+
+    // 잠금 읽기: 여행 행 잠금을 잡은 뒤 다른 트랜잭션이 먼저 커밋한 일정까지 읽기 위함 (시간 충돌 검사용)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select i from Itinerary i where i.trip.tripId = :tripId")
+    List<Itinerary> findByTripIdForUpdate(@Param("tripId") Integer tripId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select i from Itinerary i where i.trip.tripId = :tripId and i.date = :date")
+    List<Itinerary> findByTripIdAndDateForUpdate(@Param("tripId") Integer tripId, @Param("date") LocalDate date);
+
+    // 날짜별 [날짜, 비용 합계] (비용 합계 초기화용)
+    @Query("select i.date, sum(i.cost) from Itinerary i where i.trip.tripId = :tripId group by i.date")
+    List<Object[]> sumCostByDate(@Param("tripId") Integer tripId);
 }
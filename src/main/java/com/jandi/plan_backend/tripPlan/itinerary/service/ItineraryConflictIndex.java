@@ -0,0 +1,289 @@
+package com.jandi.plan_backend.tripPlan.itinerary.service;
+
+import com.jandi.plan_backend.tripPlan.itinerary.dto.ItineraryConflictRespDTO;
+import com.jandi.plan_backend.tripPlan.itinerary.entity.Itinerary;
+import com.jandi.plan_backend.tripPlan.itinerary.repository.ItineraryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 여행/날짜별 일정 시간 구간 인덱스 (서버 메모리)
+ * - 날짜별 일정을 시작 시간(분) 순으로 정렬한 배열과 종료 시간의 누적 최대값을 유지
+ * - 새 구간과 겹치는 일정 존재 여부를 이진 탐색으로 O(log n)에 판단
+ * - 처음 조회하는 날짜는 DB에서 읽어 구성하고, 이후 변경은 커밋 후 반영
+ * 소요 시간(duration)이 없는 일정은 구간 정보가 없으므로 인덱스에서 제외
+ * 처음 조회하는 날짜를 쓰기 트랜잭션 안에서 적재하므로, 호출하는 쪽은 엔티티를 변경하기 전에 검사해야 함
+ * (변경 후 조회하면 자동 flush된 미커밋 상태가 캐시에 남음)
+ * 캐시는 커밋 후에 반영되고 다른 서버의 변경은 모르므로, 일정 저장 전 검사는 findConflictsForUpdate로
+ * 여행 행 잠금 아래에서 DB의 최신 상태를 읽어 판단해야 함
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ItineraryConflictIndex {
+    // 메모리 사용량 제한: 보관하는 날짜 수가 이를 넘으면 비우고 다시 적재
+    private static final int MAX_CACHED_DAYS = 10_000;
+
+    private final ItineraryRepository itineraryRepository;
+
+    private final Map<DayKey, DaySlots> days = new ConcurrentHashMap<>();
+
+    /**
+     * [start, start + duration) 구간과 겹치는 일정 ID 목록 (시작 시간 역순)
+     * @param excludeId 비교에서 제외할 일정 (수정 시 자기 자신)
+     */
+    public List<Long> findConflicts(Integer tripId, LocalDate date, LocalTime startTime, Integer duration, Long excludeId) {
+        if (duration == null || duration <= 0) {
+            return List.of();
+        }
+        int start = toMinute(startTime);
+        return getDay(tripId, date).findOverlaps(start, start + duration, excludeId);
+    }
+
+    /**
+     * DB의 최신 일정을 잠금 읽기로 다시 적재한 뒤 겹치는 일정 ID 목록 계산 (일정 저장 전 검사용)
+     * 호출하는 쪽은 여행 행 잠금(TripRepository.findByIdForUpdate)을 먼저 잡아야
+     * 같은 여행에 동시에 추가/수정되는 일정끼리도 서로를 보고 검사함
+     * @param excludeId 비교에서 제외할 일정 (수정 시 자기 자신)
+     */
+    public List<Long> findConflictsForUpdate(Integer tripId, LocalDate date, LocalTime startTime, Integer duration, Long excludeId) {
+        if (duration == null || duration <= 0) {
+            return List.of();
+        }
+        // 잠금 읽기 결과는 커밋된 최신 상태이므로 캐시도 교체 (다른 서버의 변경을 따라잡음)
+        DaySlots day = loadDay(itineraryRepository.findByTripIdAndDateForUpdate(tripId, date));
+        days.put(new DayKey(tripId, date), day);
+        int start = toMinute(startTime);
+        return day.findOverlaps(start, start + duration, excludeId);
+    }
+
+    /**
+     * 일정 저장/수정 내용을 커밋 이후 인덱스에 반영
+     * @param previousDate 수정 전 날짜 (신규 생성이면 null)
+     */
+    public void putAfterCommit(Itinerary itinerary, LocalDate previousDate) {
+        Integer tripId = itinerary.getTrip().getTripId();
+        Slot slot = toSlot(itinerary);
+        LocalDate date = itinerary.getDate();
+        runAfterCommit(() -> {
+            if (previousDate != null) {
+                days.computeIfPresent(new DayKey(tripId, previousDate), (key, day) -> day.without(slot.itineraryId()));
+            }
+            days.computeIfPresent(new DayKey(tripId, date), (key, day) -> {
+                DaySlots removed = day.without(slot.itineraryId());
+                return (slot.end() > slot.start()) ? removed.with(slot) : removed;
+            });
+        });
+    }
+
+    /**
+     * 일정 삭제 내용을 커밋 이후 인덱스에 반영
+     */
+    public void removeAfterCommit(Integer tripId, LocalDate date, Long itineraryId) {
+        runAfterCommit(() -> days.computeIfPresent(new DayKey(tripId, date), (key, day) -> day.without(itineraryId)));
+    }
+
+    /**
+     * 여행 전체 인덱스 무효화 (일괄 변경 등 개별 반영이 번거로운 경우)
+     */
+    public void evictTripAfterCommit(Integer tripId) {
+        runAfterCommit(() -> days.keySet().removeIf(key -> key.tripId().equals(tripId)));
+    }
+
+    /**
+     * 일정 목록에서 시간이 겹치는 일정 쌍 계산 (인덱스를 거치지 않음)
+     * 날짜/시작 시간 순으로 정렬한 뒤 진행 중인 일정을 종료 시간 순 힙으로 유지하며 한 번 스윕 (O(n log n + 충돌 수))
+     */
+    public static List<ItineraryConflictRespDTO> sweepConflicts(Collection<Itinerary> itineraries) {
+        // 소요 시간이 있는 일정만 충돌 검사 대상
+        List<Itinerary> sorted = itineraries.stream()
+                .filter(itinerary -> itinerary.getDuration() != null && itinerary.getDuration() > 0)
+                .sorted(Comparator.comparing(Itinerary::getDate).thenComparing(Itinerary::getStartTime))
+                .toList();
+
+        List<ItineraryConflictRespDTO> conflicts = new ArrayList<>();
+        PriorityQueue<Itinerary> active = new PriorityQueue<>(Comparator.comparingInt(ItineraryConflictIndex::endMinute));
+        for (Itinerary current : sorted) {
+            // 날짜가 바뀌면 이전 날짜의 일정은 모두 종료
+            if (!active.isEmpty() && !active.peek().getDate().equals(current.getDate())) {
+                active.clear();
+            }
+            int start = toMinute(current.getStartTime());
+            while (!active.isEmpty() && endMinute(active.peek()) <= start) {
+                active.poll();
+            }
+            int end = endMinute(current);
+            for (Itinerary other : active) {
+                int overlap = Math.min(end, endMinute(other)) - start;
+                conflicts.add(new ItineraryConflictRespDTO(
+                        current.getDate(), other.getItineraryId(), current.getItineraryId(), overlap));
+            }
+            active.add(current);
+        }
+        return conflicts;
+    }
+
+    private DaySlots getDay(Integer tripId, LocalDate date) {
+        if (days.size() > MAX_CACHED_DAYS) {
+            days.clear();
+        }
+        return days.computeIfAbsent(new DayKey(tripId, date),
+                key -> loadDay(itineraryRepository.findByTrip_TripIdAndDate(tripId, date)));
+    }
+
+    private static DaySlots loadDay(List<Itinerary> itineraries) {
+        List<Slot> slots = itineraries.stream()
+                .map(ItineraryConflictIndex::toSlot)
+                .filter(slot -> slot.end() > slot.start())
+                .toList();
+        return DaySlots.of(slots);
+    }
+
+    private void runAfterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                try {
+                    task.run();
+                } catch (Exception e) {
+                    log.warn("일정 구간 인덱스 반영 중 예외 발생: {}", e.getMessage());
+                }
+            }
+        });
+    }
+
+    private static Slot toSlot(Itinerary itinerary) {
+        int start = toMinute(itinerary.getStartTime());
+        int duration = (itinerary.getDuration() != null) ? Math.max(0, itinerary.getDuration()) : 0;
+        return new Slot(itinerary.getItineraryId(), start, start + duration);
+    }
+
+    private static int endMinute(Itinerary itinerary) {
+        return toMinute(itinerary.getStartTime()) + itinerary.getDuration();
+    }
+
+    private static int toMinute(LocalTime time) {
+        return time.toSecondOfDay() / 60;
+    }
+
+    private record DayKey(Integer tripId, LocalDate date) {
+    }
+
+    private record Slot(Long itineraryId, int start, int end) {
+    }
+
+    /**
+     * 하루치 일정 구간 (불변, 변경 시 새 객체로 교체)
+     * starts는 오름차순, maxEnds[i]는 ends[0..i]의 최대값
+     */
+    private static final class DaySlots {
+        private final long[] ids;
+        private final int[] starts;
+        private final int[] ends;
+        private final int[] maxEnds;
+
+        private DaySlots(long[] ids, int[] starts, int[] ends) {
+            this.ids = ids;
+            this.starts = starts;
+            this.ends = ends;
+            this.maxEnds = new int[ends.length];
+            int max = Integer.MIN_VALUE;
+            for (int i = 0; i < ends.length; i++) {
+                max = Math.max(max, ends[i]);
+                maxEnds[i] = max;
+            }
+        }
+
+        static DaySlots of(List<Slot> slots) {
+            List<Slot> sorted = new ArrayList<>(slots);
+            sorted.sort(Comparator.comparingInt(Slot::start));
+            int n = sorted.size();
+            long[] ids = new long[n];
+            int[] starts = new int[n];
+            int[] ends = new int[n];
+            for (int i = 0; i < n; i++) {
+                ids[i] = sorted.get(i).itineraryId();
+                starts[i] = sorted.get(i).start();
+                ends[i] = sorted.get(i).end();
+            }
+            return new DaySlots(ids, starts, ends);
+        }
+
+        List<Long> findOverlaps(int start, int end, Long excludeId) {
+            // 시작 시간이 end 미만인 구간만 겹칠 수 있음 → 이진 탐색으로 경계 k 계산
+            int k = lowerBound(end);
+            List<Long> overlaps = new ArrayList<>();
+            // 누적 최대 종료 시간이 start 이하가 되는 지점부터는 더 볼 필요 없음
+            for (int i = k - 1; i >= 0 && maxEnds[i] > start; i--) {
+                if (ends[i] > start && (excludeId == null || ids[i] != excludeId)) {
+                    overlaps.add(ids[i]);
+                }
+            }
+            return overlaps;
+        }
+
+        DaySlots with(Slot slot) {
+            int pos = lowerBound(slot.start());
+            int n = ids.length;
+            long[] newIds = new long[n + 1];
+            int[] newStarts = new int[n + 1];
+            int[] newEnds = new int[n + 1];
+            System.arraycopy(ids, 0, newIds, 0, pos);
+            System.arraycopy(starts, 0, newStarts, 0, pos);
+            System.arraycopy(ends, 0, newEnds, 0, pos);
+            newIds[pos] = slot.itineraryId();
+            newStarts[pos] = slot.start();
+            newEnds[pos] = slot.end();
+            System.arraycopy(ids, pos, newIds, pos + 1, n - pos);
+            System.arraycopy(starts, pos, newStarts, pos + 1, n - pos);
+            System.arraycopy(ends, pos, newEnds, pos + 1, n - pos);
+            return new DaySlots(newIds, newStarts, newEnds);
+        }
+
+        DaySlots without(Long itineraryId) {
+            int n = ids.length;
+            for (int i = 0; i < n; i++) {
+                if (ids[i] == itineraryId) {
+                    long[] newIds = new long[n - 1];
+                    int[] newStarts = new int[n - 1];
+                    int[] newEnds = new int[n - 1];
+                    System.arraycopy(ids, 0, newIds, 0, i);
+                    System.arraycopy(starts, 0, newStarts, 0, i);
+                    System.arraycopy(ends, 0, newEnds, 0, i);
+                    System.arraycopy(ids, i + 1, newIds, i, n - i - 1);
+                    System.arraycopy(starts, i + 1, newStarts, i, n - i - 1);
+                    System.arraycopy(ends, i + 1, newEnds, i, n - i - 1);
+                    return new DaySlots(newIds, newStarts, newEnds);
+                }
+            }
+            return this;
+        }
+
+        // starts에서 value 이상이 처음 나타나는 위치
+        private int lowerBound(int value) {
+            int low = 0;
+            int high = starts.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (starts[mid] < value) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+}
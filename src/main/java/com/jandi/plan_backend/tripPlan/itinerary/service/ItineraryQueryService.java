@@ -1,5 +1,6 @@
 package com.jandi.plan_backend.tripPlan.itinerary.service;
 
+import com.jandi.plan_backend.tripPlan.itinerary.dto.ItineraryConflictRespDTO;
 import com.jandi.plan_backend.tripPlan.itinerary.dto.ItineraryRespDTO;
 import com.jandi.plan_backend.tripPlan.itinerary.entity.Itinerary;
 import com.jandi.plan_backend.tripPlan.itinerary.repository.ItineraryRepository;
@@ -42,6 +43,22 @@ public class ItineraryQueryService {
         return convertItinerariesToDto(itineraries);
     }
 
+    /**
+     * 여행 전체에서 시간이 겹치는 일정 쌍 조회
+     * 날짜/시작 시간 순으로 정렬한 뒤 한 번의 스윕으로 계산 (O(n log n + 충돌 수))
+     */
+    public List<ItineraryConflictRespDTO> getConflicts(String userEmail, Integer tripId) {
+        Trip trip = validationUtil.validateTripExists(tripId);
+        User user = userRepository.findByEmail(userEmail).orElse(null);
+
+        // 접근 권한 검증
+        if (!tripUtil.isCanViewTrip(trip, user)) {
+            throw new BadRequestExceptionMessage("비공개 여행 계획입니다");
+        }
+
+        return ItineraryConflictIndex.sweepConflicts(itineraryRepository.findByTrip_TripId(tripId));
+    }
+
     private List<ItineraryRespDTO> convertItinerariesToDto(List<Itinerary> itineraries) {
         return itineraries.stream().map(itinerary -> {
             return placeUtil.convertPlaceToDto(itinerary.getPlaceId(), itinerary);
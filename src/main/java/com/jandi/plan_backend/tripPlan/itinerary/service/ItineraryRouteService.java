@@ -0,0 +1,134 @@
+package com.jandi.plan_backend.tripPlan.itinerary.service;
+
+import com.jandi.plan_backend.tripPlan.itinerary.dto.ItineraryRouteRespDTO;
+import com.jandi.plan_backend.tripPlan.itinerary.entity.Itinerary;
+import com.jandi.plan_backend.tripPlan.itinerary.repository.ItineraryRepository;
+import com.jandi.plan_backend.tripPlan.place.entity.Place;
+import com.jandi.plan_backend.tripPlan.place.repository.PlaceRepository;
+import com.jandi.plan_backend.tripPlan.trip.entity.Trip;
+import com.jandi.plan_backend.user.entity.User;
+import com.jandi.plan_backend.user.repository.UserRepository;
+import com.jandi.plan_backend.util.TripUtil;
+import com.jandi.plan_backend.util.ValidationUtil;
+import com.jandi.plan_backend.util.service.BadRequestExceptionMessage;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 장소 좌표를 이용한 일정 방문 순서 추천
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ItineraryRouteService {
+    private final ValidationUtil validationUtil;
+    private final TripUtil tripUtil;
+    private final ItineraryRepository itineraryRepository;
+    private final PlaceRepository placeRepository;
+    private final UserRepository userRepository;
+
+    private static final Comparator<Itinerary> CURRENT_ORDER = Comparator
+            .comparing(Itinerary::getStartTime)
+            .thenComparing(Itinerary::getItineraryId);
+
+    /**
+     * 여행의 날짜별 추천 방문 순서 조회
+     * @param date null이면 여행 전체 날짜, 지정하면 해당 날짜만
+     */
+    public List<ItineraryRouteRespDTO> suggestRoutes(String userEmail, Integer tripId, String date) {
+        Trip trip = validationUtil.validateTripExists(tripId);
+        User user = userRepository.findByEmail(userEmail).orElse(null);
+
+        // 접근 권한 검증
+        if (!tripUtil.isCanViewTrip(trip, user)) {
+            throw new BadRequestExceptionMessage("비공개 여행 계획입니다");
+        }
+
+        LocalDate targetDate = (date != null) ? validationUtil.ValidateDate(date) : null;
+        List<Itinerary> itineraries = itineraryRepository.findByTrip_TripId(tripId).stream()
+                .filter(itinerary -> targetDate == null || targetDate.equals(itinerary.getDate()))
+                .collect(Collectors.toList());
+        if (itineraries.isEmpty()) {
+            return List.of();
+        }
+
+        // 장소 좌표 일괄 조회
+        List<Long> placeIds = itineraries.stream().map(Itinerary::getPlaceId).distinct().collect(Collectors.toList());
+        Map<Long, Place> placeMap = placeRepository.findAllById(placeIds).stream()
+                .collect(Collectors.toMap(Place::getPlaceId, Function.identity()));
+
+        // 날짜별로 현재 순서(시작 시간 순)의 좌표 배열을 구성 (엔티티 접근은 요청 스레드에서만)
+        Map<LocalDate, List<Itinerary>> byDate = itineraries.stream()
+                .collect(Collectors.groupingBy(Itinerary::getDate, TreeMap::new, Collectors.toList()));
+        List<DayStops> days = new ArrayList<>(byDate.size());
+        byDate.forEach((day, dayItineraries) -> days.add(toDayStops(day, dayItineraries, placeMap)));
+
+        // 날짜별 최적화는 서로 독립적이므로 ForkJoin 공용 풀에서 병렬 계산
+        return days.parallelStream()
+                .map(ItineraryRouteService::optimizeDay)
+                .collect(Collectors.toList());
+    }
+
+    private DayStops toDayStops(LocalDate day, List<Itinerary> dayItineraries, Map<Long, Place> placeMap) {
+        dayItineraries.sort(CURRENT_ORDER);
+        int n = dayItineraries.size();
+        long[] itineraryIds = new long[n];
+        double[] latitudes = new double[n];
+        double[] longitudes = new double[n];
+        for (int i = 0; i < n; i++) {
+            Itinerary itinerary = dayItineraries.get(i);
+            Place place = placeMap.get(itinerary.getPlaceId());
+            if (place == null) {
+                throw new BadRequestExceptionMessage("일정에 연결된 장소 정보가 없습니다. placeId: " + itinerary.getPlaceId());
+            }
+            itineraryIds[i] = itinerary.getItineraryId();
+            latitudes[i] = place.getLatitude();
+            longitudes[i] = place.getLongitude();
+        }
+        return new DayStops(day, itineraryIds, latitudes, longitudes);
+    }
+
+    private static ItineraryRouteRespDTO optimizeDay(DayStops stops) {
+        int n = stops.itineraryIds().length;
+        double[] matrix = RouteOptimizer.buildDistanceMatrix(stops.latitudes(), stops.longitudes());
+
+        int[] current = new int[n];
+        for (int i = 0; i < n; i++) {
+            current[i] = i;
+        }
+        int[] suggested = RouteOptimizer.optimize(matrix, n);
+
+        double currentDistance = RouteOptimizer.pathLength(matrix, n, current);
+        double suggestedDistance = RouteOptimizer.pathLength(matrix, n, suggested);
+        // 휴리스틱 결과가 기존보다 나쁘면 기존 순서를 유지
+        if (suggestedDistance >= currentDistance) {
+            suggested = current;
+            suggestedDistance = currentDistance;
+        }
+
+        return new ItineraryRouteRespDTO(
+                stops.date(),
+                toIdList(stops.itineraryIds(), current),
+                toIdList(stops.itineraryIds(), suggested),
+                currentDistance,
+                suggestedDistance
+        );
+    }
+
+    private static List<Long> toIdList(long[] itineraryIds, int[] order) {
+        List<Long> ids = new ArrayList<>(order.length);
+        for (int index : order) {
+            ids.add(itineraryIds[index]);
+        }
+        return ids;
+    }
+
+    private record DayStops(LocalDate date, long[] itineraryIds, double[] latitudes, double[] longitudes) {
+    }
+}
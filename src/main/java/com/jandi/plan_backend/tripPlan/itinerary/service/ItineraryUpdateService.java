@@ -1,28 +1,49 @@
 package com.jandi.plan_backend.tripPlan.itinerary.service;
 
+import com.jandi.plan_backend.tripPlan.itinerary.dto.ItineraryBulkReqDTO;
+import com.jandi.plan_backend.tripPlan.itinerary.dto.ItineraryConflictRespDTO;
+import com.jandi.plan_backend.tripPlan.itinerary.dto.ItineraryMoveReqDTO;
 import com.jandi.plan_backend.tripPlan.itinerary.dto.ItineraryReqDTO;
 import com.jandi.plan_backend.tripPlan.itinerary.dto.ItineraryRespDTO;
+import com.jandi.plan_backend.tripPlan.itinerary.dto.ItineraryUpsertReqDTO;
 import com.jandi.plan_backend.tripPlan.itinerary.entity.Itinerary;
 import com.jandi.plan_backend.tripPlan.itinerary.repository.ItineraryRepository;
 import com.jandi.plan_backend.tripPlan.trip.entity.Trip;
+import com.jandi.plan_backend.tripPlan.trip.repository.TripRepository;
+import com.jandi.plan_backend.tripPlan.trip.service.TripSpendService;
 import com.jandi.plan_backend.user.entity.User;
 import com.jandi.plan_backend.util.PlaceUtil;
 import com.jandi.plan_backend.util.TripUtil;
 import com.jandi.plan_backend.util.ValidationUtil;
+import com.jandi.plan_backend.util.service.BadRequestExceptionMessage;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class ItineraryUpdateService {
+    // 일괄 처리 요청 1건당 허용하는 최대 작업 수
+    private static final int MAX_BULK_OPERATIONS = 500;
+
+    private static final Comparator<Itinerary> ITINERARY_ORDER = Comparator
+            .comparing(Itinerary::getDate)
+            .thenComparing(Itinerary::getStartTime)
+            .thenComparing(Itinerary::getItineraryId, Comparator.nullsLast(Comparator.naturalOrder()));
+
     private final ValidationUtil validationUtil;
     private final ItineraryRepository itineraryRepository;
+    private final TripRepository tripRepository;
     private final TripUtil tripUtil;
     private final PlaceUtil placeUtil;
+    private final ItineraryConflictIndex itineraryConflictIndex;
+    private final TripSpendService tripSpendService;
 
     @Transactional
     public ItineraryRespDTO createItinerary(String userEmail, Integer tripId, ItineraryReqDTO reqDTO) {
@@ -30,8 +51,13 @@ public class ItineraryUpdateService {
         Trip trip = validationUtil.validateTripExists(tripId);
         tripUtil.isCanEditTrip(trip, user);
 
-        // 일정 생성
-        Itinerary itinerary = createItineraryData(trip, reqDTO);
+        // 일정 생성 (시간이 겹치는 일정이 있으면 거부, 같은 여행의 일정 변경은 여행 행 잠금으로 직렬화)
+        Itinerary itinerary = buildItinerary(trip, reqDTO);
+        lockTrip(tripId);
+        validateNoTimeConflict(tripId, itinerary.getDate(), itinerary.getStartTime(), itinerary.getDuration(), null);
+        itineraryRepository.save(itinerary);
+        itineraryConflictIndex.putAfterCommit(itinerary, null);
+        tripSpendService.applyItineraryChange(tripId, Map.of(itinerary.getDate(), itinerary.getCost()));
 
         // 객체를 dto로 변환하여 반환
         return placeUtil.convertPlaceToDto(itinerary.getPlaceId(), itinerary);
@@ -44,8 +70,20 @@ public class ItineraryUpdateService {
         Trip trip = itinerary.getTrip();
         tripUtil.isCanEditTrip(trip, user);
 
+        // 시간이 겹치는 일정이 있으면 거부 (엔티티 변경 전에 요청 값으로 검사해야 미커밋 변경이 인덱스에 적재되지 않음)
+        LocalDate date = (reqDTO.getDate() != null) ? LocalDate.parse(reqDTO.getDate()) : itinerary.getDate();
+        LocalTime startTime = (reqDTO.getStartTime() != null) ? LocalTime.parse(reqDTO.getStartTime()) : itinerary.getStartTime();
+        Integer duration = (reqDTO.getDuration() != null) ? reqDTO.getDuration() : itinerary.getDuration();
+        lockTrip(trip.getTripId());
+        validateNoTimeConflict(trip.getTripId(), date, startTime, duration, itineraryId);
+
         // 일정 수정
+        LocalDate previousDate = itinerary.getDate();
+        int previousCost = itinerary.getCost();
         updateItineraryData(itinerary, reqDTO);
+        itineraryConflictIndex.putAfterCommit(itinerary, previousDate);
+        tripSpendService.applyItineraryChange(trip.getTripId(),
+                costDeltas(previousDate, previousCost, itinerary.getDate(), itinerary.getCost()));
 
         // 객체를 dto로 변환하여 반환
         return placeUtil.convertPlaceToDto(itinerary.getPlaceId(), itinerary);
@@ -60,10 +98,162 @@ public class ItineraryUpdateService {
 
         // 일정 삭제
         itineraryRepository.delete(itinerary);
+        itineraryConflictIndex.removeAfterCommit(trip.getTripId(), itinerary.getDate(), itineraryId);
+        tripSpendService.applyItineraryChange(trip.getTripId(), Map.of(itinerary.getDate(), -itinerary.getCost()));
         return !itineraryRepository.existsById(itineraryId);
     }
 
-    private Itinerary createItineraryData(Trip trip, ItineraryReqDTO reqDTO) {
+    /**
+     * 하루 또는 여행 전체의 일정을 한 트랜잭션에서 일괄 생성/수정/이동/삭제
+     * 사용자/여행 검증은 한 번만 수행하고, INSERT/UPDATE는 JDBC 배치로 전송
+     * @return 처리 후 정렬된 일정 목록 (date 지정 시 해당 날짜만)
+     */
+    @Transactional
+    public List<ItineraryRespDTO> bulkUpdateItineraries(String userEmail, Integer tripId, ItineraryBulkReqDTO reqDTO) {
+        User user = validationUtil.validateUserExists(userEmail);
+        Trip trip = validationUtil.validateTripExists(tripId);
+        tripUtil.isCanEditTrip(trip, user);
+
+        List<ItineraryUpsertReqDTO> upserts = Objects.requireNonNullElse(reqDTO.getUpserts(), List.of());
+        List<ItineraryMoveReqDTO> moves = Objects.requireNonNullElse(reqDTO.getMoves(), List.of());
+        List<Long> deletes = Objects.requireNonNullElse(reqDTO.getDeletes(), List.of());
+        if (upserts.size() + moves.size() + deletes.size() > MAX_BULK_OPERATIONS) {
+            throw new BadRequestExceptionMessage("한 번에 처리할 수 있는 일정은 최대 " + MAX_BULK_OPERATIONS + "개입니다.");
+        }
+
+        // 여행 행 잠금 후 여행의 일정을 잠금 읽기로 한 번에 조회 (itineraryId -> 일정)
+        // 다른 트랜잭션이 먼저 커밋한 일정까지 포함해야 최종 상태의 시간 충돌 검사가 정확함
+        lockTrip(tripId);
+        Map<Long, Itinerary> itineraryMap = itineraryRepository.findByTripIdForUpdate(tripId).stream()
+                .collect(Collectors.toMap(Itinerary::getItineraryId, Function.identity()));
+
+        // 1) 삭제: 단일 DELETE 쿼리로 처리
+        List<Itinerary> deleted = new ArrayList<>();
+        for (Long itineraryId : deletes) {
+            deleted.add(getItineraryOfTrip(itineraryMap, itineraryId));
+            itineraryMap.remove(itineraryId);
+        }
+        if (!deleted.isEmpty()) {
+            itineraryRepository.deleteAllInBatch(deleted);
+        }
+
+        // 2) 생성/수정: 수정은 변경 감지로, 생성은 saveAll로 모아서 배치 전송
+        List<Itinerary> created = new ArrayList<>();
+        for (ItineraryUpsertReqDTO upsert : upserts) {
+            if (upsert.getItineraryId() == null) {
+                validateNewItinerary(upsert);
+                created.add(buildItinerary(trip, upsert));
+            } else {
+                updateItineraryData(getItineraryOfTrip(itineraryMap, upsert.getItineraryId()), upsert);
+            }
+        }
+
+        // 3) 이동: 날짜/시작 시간만 변경
+        for (ItineraryMoveReqDTO move : moves) {
+            Itinerary itinerary = getItineraryOfTrip(itineraryMap, move.getItineraryId());
+            if (move.getDate() != null) {
+                itinerary.setDate(LocalDate.parse(move.getDate()));
+            }
+            if (move.getStartTime() != null) {
+                itinerary.setStartTime(LocalTime.parse(move.getStartTime()));
+            }
+        }
+        itineraryRepository.saveAll(created);
+
+        // 변경이 있었던 날짜의 최종 상태에 시간이 겹치는 일정이 있으면 거부 (롤백)
+        List<Itinerary> result = new ArrayList<>(itineraryMap.values());
+        result.addAll(created);
+        validateNoTimeConflictOnDates(result, touchedDates(itineraryMap, created, upserts, moves));
+        itineraryConflictIndex.evictTripAfterCommit(tripId);
+
+        // 여행의 최종 일정 상태를 모두 알고 있으므로 날짜별 비용은 새로 계산하여 교체
+        tripSpendService.replaceItinerarySpend(tripId, result.stream()
+                .collect(Collectors.groupingBy(Itinerary::getDate, TreeMap::new, Collectors.summingInt(Itinerary::getCost))));
+
+        // 처리 결과를 날짜/시간 순으로 정렬하여 반환
+        LocalDate targetDate = (reqDTO.getDate() != null) ? validationUtil.ValidateDate(reqDTO.getDate()) : null;
+        List<Itinerary> ordered = result.stream()
+                .filter(itinerary -> targetDate == null || targetDate.equals(itinerary.getDate()))
+                .sorted(ITINERARY_ORDER)
+                .collect(Collectors.toList());
+        return placeUtil.convertPlacesToDto(ordered);
+    }
+
+    private Itinerary getItineraryOfTrip(Map<Long, Itinerary> itineraryMap, Long itineraryId) {
+        Itinerary itinerary = (itineraryId != null) ? itineraryMap.get(itineraryId) : null;
+        if (itinerary == null) {
+            throw new BadRequestExceptionMessage("존재하지 않는 일정입니다. itineraryId: " + itineraryId);
+        }
+        return itinerary;
+    }
+
+    private void validateNewItinerary(ItineraryReqDTO reqDTO) {
+        if (reqDTO.getPlaceId() == null || reqDTO.getDate() == null || reqDTO.getStartTime() == null
+                || reqDTO.getTitle() == null || reqDTO.getCost() == null) {
+            throw new BadRequestExceptionMessage("새 일정에는 장소, 날짜, 시작 시간, 제목, 비용이 모두 필요합니다.");
+        }
+    }
+
+    // 날짜/비용 변경에 따른 날짜별 비용 변화량
+    private Map<LocalDate, Integer> costDeltas(LocalDate previousDate, int previousCost, LocalDate date, int cost) {
+        Map<LocalDate, Integer> deltas = new HashMap<>();
+        deltas.merge(previousDate, -previousCost, Integer::sum);
+        deltas.merge(date, cost, Integer::sum);
+        return deltas;
+    }
+
+    // 같은 여행의 일정 변경을 직렬화 (두 요청이 동시에 충돌 검사를 통과하지 않도록)
+    private void lockTrip(Integer tripId) {
+        tripRepository.findByIdForUpdate(tripId)
+                .orElseThrow(() -> new BadRequestExceptionMessage("존재하지 않는 여행 계획입니다."));
+    }
+
+    /**
+     * 지정한 날짜/시작 시간/소요 시간에 겹치는 일정이 있으면 거부 (여행 행 잠금을 잡은 뒤 호출)
+     * @param excludeId 비교에서 제외할 일정 (수정 시 자기 자신)
+     */
+    private void validateNoTimeConflict(Integer tripId, LocalDate date, LocalTime startTime, Integer duration, Long excludeId) {
+        if (duration != null && duration < 0) {
+            throw new BadRequestExceptionMessage("소요 시간은 0분 이상이어야 합니다.");
+        }
+        List<Long> conflicts = itineraryConflictIndex.findConflictsForUpdate(tripId, date, startTime, duration, excludeId);
+        if (!conflicts.isEmpty()) {
+            throw new BadRequestExceptionMessage("같은 시간대에 다른 일정이 있습니다. itineraryId: " + conflicts);
+        }
+    }
+
+    // 일괄 처리 후 일정 목록 중 dates에 속한 날짜에서 시간이 겹치는 일정이 있으면 거부
+    private void validateNoTimeConflictOnDates(List<Itinerary> itineraries, Set<LocalDate> dates) {
+        List<Itinerary> touched = new ArrayList<>();
+        for (Itinerary itinerary : itineraries) {
+            if (itinerary.getDuration() != null && itinerary.getDuration() < 0) {
+                throw new BadRequestExceptionMessage("소요 시간은 0분 이상이어야 합니다.");
+            }
+            if (dates.contains(itinerary.getDate())) {
+                touched.add(itinerary);
+            }
+        }
+        List<ItineraryConflictRespDTO> conflicts = ItineraryConflictIndex.sweepConflicts(touched);
+        if (!conflicts.isEmpty()) {
+            ItineraryConflictRespDTO first = conflicts.get(0);
+            throw new BadRequestExceptionMessage("같은 시간대에 다른 일정이 있습니다. date: " + first.getDate()
+                    + ", itineraryId: " + List.of(first.getItineraryId(), first.getConflictingItineraryId()));
+        }
+    }
+
+    // 일괄 처리로 생성/수정/이동된 일정의 최종 날짜
+    private Set<LocalDate> touchedDates(Map<Long, Itinerary> itineraryMap, List<Itinerary> created,
+                                        List<ItineraryUpsertReqDTO> upserts, List<ItineraryMoveReqDTO> moves) {
+        Set<LocalDate> dates = new HashSet<>();
+        created.forEach(itinerary -> dates.add(itinerary.getDate()));
+        upserts.stream()
+                .filter(upsert -> upsert.getItineraryId() != null)
+                .forEach(upsert -> dates.add(itineraryMap.get(upsert.getItineraryId()).getDate()));
+        moves.forEach(move -> dates.add(itineraryMap.get(move.getItineraryId()).getDate()));
+        return dates;
+    }
+
+    private Itinerary buildItinerary(Trip trip, ItineraryReqDTO reqDTO) {
         LocalDate date = LocalDate.parse(reqDTO.getDate());
         LocalTime startTime = LocalTime.parse(reqDTO.getStartTime());
 
@@ -72,11 +262,10 @@ public class ItineraryUpdateService {
         itinerary.setCreatedAt(date); // 필요에 따라 변경
         itinerary.setPlaceId(reqDTO.getPlaceId());
         itinerary.setStartTime(startTime);
+        itinerary.setDuration(reqDTO.getDuration());
         itinerary.setTitle(reqDTO.getTitle());
         itinerary.setCost(reqDTO.getCost());
         itinerary.setDate(date);
-
-        itineraryRepository.save(itinerary);
         return itinerary;
     }
 
@@ -90,6 +279,9 @@ public class ItineraryUpdateService {
         if (reqDTO.getStartTime() != null) { // 시간 변경
             itinerary.setStartTime(LocalTime.parse(reqDTO.getStartTime()));
         }
+        if (reqDTO.getDuration() != null) { // 소요 시간 변경
+            itinerary.setDuration(reqDTO.getDuration());
+        }
         if (reqDTO.getTitle() != null) { // 제목 변경
             itinerary.setTitle(reqDTO.getTitle());
         }
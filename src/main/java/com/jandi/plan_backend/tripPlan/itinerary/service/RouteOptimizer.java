@@ -0,0 +1,223 @@
+package com.jandi.plan_backend.tripPlan.itinerary.service;
+
+/**
+ * 하루 일정의 방문 순서를 최적화하는 경로 계산기.
+ * 첫 번째 장소를 출발지로 고정한 열린 경로(돌아오지 않음)를 대상으로
+ * 최근접 이웃으로 초기 경로를 만든 뒤 2-opt, Or-opt로 개선한다.
+ * 거리 행렬은 n*n 크기의 double[] 하나에 저장한다 (단위: 미터).
+ */
+public final class RouteOptimizer {
+
+    private static final double EARTH_RADIUS_METERS = 6_371_000d;
+
+    // 개선 반복 상한 (최악의 경우에도 요청 시간을 제한)
+    private static final int MAX_IMPROVEMENT_ROUNDS = 50;
+
+    // 부동소수점 오차로 인한 무한 반복 방지용 최소 개선량 (미터)
+    private static final double EPSILON = 1e-7;
+
+    // Or-opt에서 옮겨 볼 연속 구간의 최대 길이
+    private static final int MAX_SEGMENT_LENGTH = 3;
+
+    private RouteOptimizer() {
+        // 유틸리티 클래스이므로 인스턴스화 방지
+    }
+
+    /**
+     * 위/경도 배열로부터 하버사인 거리 행렬 생성
+     * @return matrix[i * n + j] = i번째 장소와 j번째 장소 사이 거리(m)
+     */
+    public static double[] buildDistanceMatrix(double[] latitudes, double[] longitudes) {
+        int n = latitudes.length;
+        double[] latRad = new double[n];
+        double[] lngRad = new double[n];
+        double[] cosLat = new double[n];
+        for (int i = 0; i < n; i++) {
+            latRad[i] = Math.toRadians(latitudes[i]);
+            lngRad[i] = Math.toRadians(longitudes[i]);
+            cosLat[i] = Math.cos(latRad[i]);
+        }
+
+        double[] matrix = new double[n * n];
+        for (int i = 0; i < n; i++) {
+            for (int j = i + 1; j < n; j++) {
+                double sinDLat = Math.sin((latRad[j] - latRad[i]) / 2);
+                double sinDLng = Math.sin((lngRad[j] - lngRad[i]) / 2);
+                double a = sinDLat * sinDLat + cosLat[i] * cosLat[j] * sinDLng * sinDLng;
+                double distance = 2 * EARTH_RADIUS_METERS * Math.asin(Math.min(1d, Math.sqrt(a)));
+                matrix[i * n + j] = distance;
+                matrix[j * n + i] = distance;
+            }
+        }
+        return matrix;
+    }
+
+    /**
+     * 주어진 순서대로 방문할 때의 총 이동 거리(m)
+     */
+    public static double pathLength(double[] matrix, int n, int[] order) {
+        double total = 0;
+        for (int i = 1; i < order.length; i++) {
+            total += matrix[order[i - 1] * n + order[i]];
+        }
+        return total;
+    }
+
+    /**
+     * 0번 장소에서 출발하는 최적화된 방문 순서 반환
+     * @param matrix buildDistanceMatrix로 만든 거리 행렬
+     * @param n 장소 수
+     * @return 장소 인덱스의 방문 순서 (order[0] == 0)
+     */
+    public static int[] optimize(double[] matrix, int n) {
+        int[] order = nearestNeighbour(matrix, n);
+        if (n < 4) {
+            return order;
+        }
+
+        for (int round = 0; round < MAX_IMPROVEMENT_ROUNDS; round++) {
+            boolean improved = twoOpt(matrix, n, order);
+            improved |= orOpt(matrix, n, order);
+            if (!improved) {
+                break;
+            }
+        }
+        return order;
+    }
+
+    /**
+     * 최근접 이웃 방식의 초기 경로
+     */
+    static int[] nearestNeighbour(double[] matrix, int n) {
+        int[] order = new int[n];
+        if (n == 0) {
+            return order;
+        }
+        boolean[] visited = new boolean[n];
+        visited[0] = true;
+        int current = 0;
+        for (int step = 1; step < n; step++) {
+            int next = -1;
+            double best = Double.MAX_VALUE;
+            int row = current * n;
+            for (int candidate = 0; candidate < n; candidate++) {
+                if (!visited[candidate] && matrix[row + candidate] < best) {
+                    best = matrix[row + candidate];
+                    next = candidate;
+                }
+            }
+            visited[next] = true;
+            order[step] = next;
+            current = next;
+        }
+        return order;
+    }
+
+    /**
+     * 2-opt: 구간 [i, j]를 뒤집어 거리가 줄어들면 적용 (출발지는 고정)
+     */
+    static boolean twoOpt(double[] matrix, int n, int[] order) {
+        boolean improved = false;
+        for (int i = 1; i < n - 1; i++) {
+            int prev = order[i - 1];
+            int first = order[i];
+            for (int j = i + 1; j < n; j++) {
+                int last = order[j];
+                double removed = matrix[prev * n + first];
+                double added = matrix[prev * n + last];
+                if (j + 1 < n) {
+                    int next = order[j + 1];
+                    removed += matrix[last * n + next];
+                    added += matrix[first * n + next];
+                }
+                if (added < removed - EPSILON) {
+                    reverse(order, i, j);
+                    first = order[i];
+                    improved = true;
+                }
+            }
+        }
+        return improved;
+    }
+
+    /**
+     * Or-opt: 길이 1~3의 연속 구간을 다른 위치로 옮겨(필요 시 뒤집어) 거리가 줄어들면 적용
+     */
+    static boolean orOpt(double[] matrix, int n, int[] order) {
+        boolean improved = false;
+        int[] buffer = new int[n];
+        for (int length = 1; length <= MAX_SEGMENT_LENGTH; length++) {
+            for (int start = 1; start + length <= n; start++) {
+                int end = start + length - 1;
+                int prev = order[start - 1];
+                int first = order[start];
+                int last = order[end];
+                boolean hasNext = end + 1 < n;
+                int next = hasNext ? order[end + 1] : -1;
+
+                // 구간을 빼냈을 때 줄어드는 거리
+                double removeGain = matrix[prev * n + first]
+                        + (hasNext ? matrix[last * n + next] - matrix[prev * n + next] : 0);
+
+                int bestPos = -1;
+                boolean bestReversed = false;
+                double bestDelta = -EPSILON;
+                // 구간을 order[pos]와 order[pos + 1] 사이(또는 맨 끝)에 끼워 넣는 경우
+                for (int pos = 0; pos < n; pos++) {
+                    if (pos >= start - 1 && pos <= end) {
+                        continue;
+                    }
+                    int a = order[pos];
+                    boolean hasB = pos + 1 < n;
+                    int b = hasB ? order[pos + 1] : -1;
+                    double base = hasB ? matrix[a * n + b] : 0;
+                    double forward = matrix[a * n + first] + (hasB ? matrix[last * n + b] : 0) - base;
+                    double reversed = matrix[a * n + last] + (hasB ? matrix[first * n + b] : 0) - base;
+                    if (forward - removeGain < bestDelta) {
+                        bestDelta = forward - removeGain;
+                        bestPos = pos;
+                        bestReversed = false;
+                    }
+                    if (reversed - removeGain < bestDelta) {
+                        bestDelta = reversed - removeGain;
+                        bestPos = pos;
+                        bestReversed = true;
+                    }
+                }
+
+                if (bestPos >= 0) {
+                    moveSegment(order, buffer, start, end, bestPos, bestReversed);
+                    improved = true;
+                }
+            }
+        }
+        return improved;
+    }
+
+    private static void reverse(int[] order, int from, int to) {
+        while (from < to) {
+            int tmp = order[from];
+            order[from++] = order[to];
+            order[to--] = tmp;
+        }
+    }
+
+    // order[start..end] 구간을 order[pos] 바로 뒤로 이동
+    private static void moveSegment(int[] order, int[] buffer, int start, int end, int pos, boolean reversed) {
+        int n = order.length;
+        int length = end - start + 1;
+        int size = 0;
+        for (int i = 0; i < n; i++) {
+            if (i >= start && i <= end) {
+                continue;
+            }
+            buffer[size++] = order[i];
+            if (i == pos) {
+                for (int k = 0; k < length; k++) {
+                    buffer[size++] = reversed ? order[end - k] : order[start + k];
+                }
+            }
+        }
+        System.arraycopy(buffer, 0, order, 0, n);
+    }
+}
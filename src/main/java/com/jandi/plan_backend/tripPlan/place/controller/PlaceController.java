@@ -4,10 +4,14 @@ import com.jandi.plan_backend.tripPlan.place.dto.PlaceReqDTO;
 import com.jandi.plan_backend.tripPlan.place.dto.PlaceRespDTO;
 import com.jandi.plan_backend.tripPlan.place.service.PlaceService;
 import com.jandi.plan_backend.security.JwtTokenProvider;
+import org.springframework.data.domain.Page;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/place")
@@ -42,4 +46,31 @@ public class PlaceController {
         List<PlaceRespDTO> places = placeService.getAllPlaces();
         return ResponseEntity.ok(places);
     }
+
+    /** 장소 목록 페이지 조회 API */
+    @GetMapping("/paged")
+    public Map<String, Object> getPagedPlaces(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        Page<PlaceRespDTO> placePage = placeService.getPagedPlaces(page, size);
+        return Map.of(
+                "pageInfo", Map.of(
+                        "currentPage", placePage.getNumber(),
+                        "currentSize", placePage.getContent().size(),
+                        "totalPages", placePage.getTotalPages(),
+                        "totalSize", placePage.getTotalElements()
+                ),
+                "items", placePage.getContent()
+        );
+    }
+
+    /** 전체 장소 스트리밍 조회 API (JSON 배열을 행 단위로 기록) */
+    @GetMapping("/stream")
+    public ResponseEntity<StreamingResponseBody> streamAllPlaces() {
+        StreamingResponseBody body = placeService::writeAllPlaces;
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
 }
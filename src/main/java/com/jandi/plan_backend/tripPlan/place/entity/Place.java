@@ -1,11 +1,14 @@
 package com.jandi.plan_backend.tripPlan.place.entity;
 
+import com.jandi.plan_backend.util.PlaceUtil;
 import jakarta.persistence.*;
 import lombok.Data;
 
 @Entity
 @Table(name = "place", uniqueConstraints = {
         @UniqueConstraint(columnNames = {"name", "address"})
+}, indexes = {
+        @Index(name = "idx_place_normalized_key", columnList = "normalized_key")
 })
 @Data
 public class Place {
@@ -25,4 +28,14 @@ public class Place {
 
     @Column(nullable = false)
     private Double longitude;
+
+    // 중복 판별용 정규화 키 (PlaceUtil.normalizeKey), 기존 데이터는 서버 시작 시 채움
+    @Column(name = "normalized_key", length = 520)
+    private String normalizedKey;
+
+    @PrePersist
+    @PreUpdate
+    protected void onSave() {
+        this.normalizedKey = PlaceUtil.normalizeKey(this.name, this.address);
+    }
 }
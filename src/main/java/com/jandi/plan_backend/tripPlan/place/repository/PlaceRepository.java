@@ -1,7 +1,45 @@
 package com.jandi.plan_backend.tripPlan.place.repository;
 
 import com.jandi.plan_backend.tripPlan.place.entity.Place;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 public interface PlaceRepository extends JpaRepository<Place, Long> {
+
+    // 공간 인덱스 구성용 [placeId, latitude, longitude]
+    @Query("select p.placeId, p.latitude, p.longitude from Place p")
+    List<Object[]> findAllCoordinates();
+
+    Page<Place> findAllByOrderByPlaceIdAsc(Pageable pageable);
+
+    Optional<Place> findFirstByNormalizedKeyOrderByPlaceIdAsc(String normalizedKey);
+
+    Optional<Place> findByNameAndAddress(String name, String address);
+
+    // 정규화 키가 없는 기존 장소 (placeId 순으로 나눠서 채움)
+    List<Place> findTop500ByNormalizedKeyIsNullAndPlaceIdGreaterThanOrderByPlaceIdAsc(Long placeId);
+
+    /**
+     * 전체 장소 스트리밍 조회 (트랜잭션 안에서 사용 후 반드시 close)
+     * MySQL 드라이버는 fetch size가 Integer.MIN_VALUE일 때 결과를 한 번에 적재하지 않고 행 단위로 읽음
+     */
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+            @QueryHint(name = HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HINT_CACHEABLE, value = "false")
+    })
+    @Query("select p from Place p order by p.placeId")
+    Stream<Place> streamAll();
 }
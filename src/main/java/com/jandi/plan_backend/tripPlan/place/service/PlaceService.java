@@ -1,37 +1,155 @@
 package com.jandi.plan_backend.tripPlan.place.service;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jandi.plan_backend.geo.service.NearbySearchService;
 import com.jandi.plan_backend.tripPlan.place.entity.Place;
 import com.jandi.plan_backend.tripPlan.place.dto.PlaceReqDTO;
 import com.jandi.plan_backend.tripPlan.place.dto.PlaceRespDTO;
 import com.jandi.plan_backend.tripPlan.place.repository.PlaceRepository;
+import com.jandi.plan_backend.util.PlaceUtil;
 import com.jandi.plan_backend.util.ValidationUtil;
 import com.jandi.plan_backend.util.service.BadRequestExceptionMessage;
+import com.jandi.plan_backend.util.service.PaginationService;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+@Slf4j
 @Service
 public class PlaceService {
 
     private final PlaceRepository placeRepository;
     private final ValidationUtil validationUtil;
+    private final NearbySearchService nearbySearchService;
+    private final ObjectMapper objectMapper;
+    private final EntityManager entityManager;
 
-    public PlaceService(PlaceRepository placeRepository, ValidationUtil validationUtil) {
+    public static final int MAX_PAGE_SIZE = 100;
+    // 같은 이름의 장소를 같은 장소로 보는 거리 (m)
+    public static final double DUPLICATE_DISTANCE_METERS = 5;
+    private static final int MAX_CACHED_KEYS = 100_000;
+    private static final int CREATE_LOCK_STRIPES = 64;
+
+    // 정규화 키 → 장소 (장소는 수정/삭제되지 않으므로 무효화가 필요 없음)
+    private final Map<String, PlaceRespDTO> placeByKey = new ConcurrentHashMap<>();
+    // 같은 키의 동시 생성을 직렬화하기 위한 잠금 (키 해시로 분산)
+    private final Object[] createLocks = new Object[CREATE_LOCK_STRIPES];
+
+    public PlaceService(PlaceRepository placeRepository, ValidationUtil validationUtil,
+                        NearbySearchService nearbySearchService, ObjectMapper objectMapper,
+                        EntityManager entityManager) {
         this.placeRepository = placeRepository;
         this.validationUtil = validationUtil;
+        this.nearbySearchService = nearbySearchService;
+        this.objectMapper = objectMapper;
+        this.entityManager = entityManager;
+        for (int i = 0; i < createLocks.length; i++) {
+            createLocks[i] = new Object();
+        }
     }
 
+    /**
+     * 장소 등록 (이미 같은 장소가 있으면 기존 장소를 반환)
+     * 같은 장소: 정규화한 이름+주소가 같거나, 정규화한 이름이 같고 DUPLICATE_DISTANCE_METERS 이내
+     */
     public PlaceRespDTO createPlace(String userEmail, PlaceReqDTO reqDTO) {
         validationUtil.validateUserExists(userEmail);
 
-        Place place = new Place();
-        place.setName(reqDTO.getName());
-        place.setAddress(reqDTO.getAddress());
-        place.setLatitude(reqDTO.getLatitude());
-        place.setLongitude(reqDTO.getLongitude());
-        Place savedPlace = placeRepository.save(place);
-        return mapToDTO(savedPlace);
+        String key = PlaceUtil.normalizeKey(reqDTO.getName(), reqDTO.getAddress());
+        PlaceRespDTO cached = placeByKey.get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        synchronized (createLocks[Math.floorMod(key.hashCode(), createLocks.length)]) {
+            Optional<Place> duplicate = findDuplicate(key, reqDTO);
+            if (duplicate.isPresent()) {
+                return cache(key, mapToDTO(duplicate.get()));
+            }
+
+            Place place = new Place();
+            place.setName(reqDTO.getName());
+            place.setAddress(reqDTO.getAddress());
+            place.setLatitude(reqDTO.getLatitude());
+            place.setLongitude(reqDTO.getLongitude());
+            Place savedPlace;
+            try {
+                savedPlace = placeRepository.save(place);
+            } catch (DataIntegrityViolationException e) {
+                // 다른 서버에서 같은 이름/주소로 먼저 저장한 경우
+                savedPlace = placeRepository.findByNameAndAddress(reqDTO.getName(), reqDTO.getAddress())
+                        .orElseThrow(() -> e);
+            }
+            nearbySearchService.indexPlace(savedPlace);
+            return cache(key, mapToDTO(savedPlace));
+        }
+    }
+
+    private Optional<Place> findDuplicate(String key, PlaceReqDTO reqDTO) {
+        Optional<Place> sameKey = placeRepository.findFirstByNormalizedKeyOrderByPlaceIdAsc(key);
+        if (sameKey.isPresent()) {
+            return sameKey;
+        }
+        if (reqDTO.getLatitude() == null || reqDTO.getLongitude() == null) {
+            return Optional.empty();
+        }
+
+        // 주소 표기만 다른 근처의 같은 이름 장소
+        List<Long> nearbyIds = nearbySearchService.findPlaceIdsWithin(
+                reqDTO.getLatitude(), reqDTO.getLongitude(), DUPLICATE_DISTANCE_METERS);
+        if (nearbyIds.isEmpty()) {
+            return Optional.empty();
+        }
+        String name = PlaceUtil.normalizeText(reqDTO.getName());
+        Map<Long, Place> nearby = placeRepository.findAllById(nearbyIds).stream()
+                .collect(Collectors.toMap(Place::getPlaceId, p -> p));
+        return nearbyIds.stream()
+                .map(nearby::get)
+                .filter(p -> p != null && PlaceUtil.normalizeText(p.getName()).equals(name))
+                .findFirst();
+    }
+
+    private PlaceRespDTO cache(String key, PlaceRespDTO dto) {
+        if (placeByKey.size() < MAX_CACHED_KEYS) {
+            placeByKey.put(key, dto);
+        }
+        return dto;
+    }
+
+    /**
+     * 정규화 키가 없는 기존 장소의 키를 채움 (서버 시작 시, placeId 순으로 나눠서 저장)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillNormalizedKeys() {
+        long lastId = 0;
+        int filled = 0;
+        List<Place> batch;
+        while (!(batch = placeRepository
+                .findTop500ByNormalizedKeyIsNullAndPlaceIdGreaterThanOrderByPlaceIdAsc(lastId)).isEmpty()) {
+            batch.forEach(place -> place.setNormalizedKey(PlaceUtil.normalizeKey(place.getName(), place.getAddress())));
+            placeRepository.saveAll(batch);
+            lastId = batch.get(batch.size() - 1).getPlaceId();
+            filled += batch.size();
+        }
+        if (filled > 0) {
+            log.info("장소 정규화 키 채움: {}건", filled);
+        }
     }
 
     public PlaceRespDTO getPlace(Long placeId) {
@@ -47,6 +165,40 @@ public class PlaceService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 장소 목록 페이지 조회 (placeId 순)
+     */
+    @Transactional(readOnly = true)
+    public Page<PlaceRespDTO> getPagedPlaces(int page, int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new BadRequestExceptionMessage("size는 1 이상 " + MAX_PAGE_SIZE + " 이하여야 합니다.");
+        }
+        long totalCount = placeRepository.count();
+        return PaginationService.getPagedData(page, size, totalCount,
+                placeRepository::findAllByOrderByPlaceIdAsc, this::mapToDTO);
+    }
+
+    /**
+     * 전체 장소를 JSON 배열로 출력 스트림에 바로 기록 (목록을 메모리에 만들지 않음)
+     * - DB 결과도 행 단위로 읽고, 기록한 엔티티는 영속성 컨텍스트에서 분리해 메모리에 쌓이지 않게 함
+     */
+    @Transactional(readOnly = true)
+    public void writeAllPlaces(OutputStream out) throws IOException {
+        try (Stream<Place> places = placeRepository.streamAll();
+             JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            // 응답 스트림은 서블릿 컨테이너가 닫음
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.writeStartArray();
+            Iterator<Place> iterator = places.iterator();
+            while (iterator.hasNext()) {
+                Place place = iterator.next();
+                objectMapper.writeValue(generator, mapToDTO(place));
+                entityManager.detach(place);
+            }
+            generator.writeEndArray();
+        }
+    }
+
     private PlaceRespDTO mapToDTO(Place place) {
         return new PlaceRespDTO(
                 place.getPlaceId(),
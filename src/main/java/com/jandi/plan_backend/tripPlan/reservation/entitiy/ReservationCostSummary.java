@@ -0,0 +1,38 @@
+package com.jandi.plan_backend.tripPlan.reservation.entitiy;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 여행별/카테고리별 예약 비용 합계 (예약 생성/수정/삭제 시 함께 갱신)
+ */
+@Entity
+@Table(name = "reservation_cost_summary")
+@IdClass(ReservationCostSummaryId.class)
+@Data
+@NoArgsConstructor
+public class ReservationCostSummary {
+
+    @Id
+    @Column(name = "trip_id")
+    private Integer tripId;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20)
+    private ReservationCategory category;
+
+    @Column(nullable = false)
+    private Integer totalCost;
+
+    @Column(nullable = false)
+    private Integer reservationCount;
+
+    public ReservationCostSummary(Integer tripId, ReservationCategory category, Integer totalCost, Integer reservationCount) {
+        this.tripId = tripId;
+        this.category = category;
+        this.totalCost = totalCost;
+        this.reservationCount = reservationCount;
+    }
+}
@@ -0,0 +1,13 @@
+package com.jandi.plan_backend.tripPlan.reservation.entitiy;
+
+import lombok.Data;
+import java.io.Serializable;
+
+/**
+ * 복합 키: trip_id + category
+ */
+@Data
+public class ReservationCostSummaryId implements Serializable {
+    private Integer tripId;
+    private ReservationCategory category;
+}
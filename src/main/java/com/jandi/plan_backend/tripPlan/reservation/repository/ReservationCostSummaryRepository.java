@@ -0,0 +1,37 @@
+package com.jandi.plan_backend.tripPlan.reservation.repository;
+
+import com.jandi.plan_backend.tripPlan.reservation.entitiy.ReservationCategory;
+import com.jandi.plan_backend.tripPlan.reservation.entitiy.ReservationCostSummary;
+import com.jandi.plan_backend.tripPlan.reservation.entitiy.ReservationCostSummaryId;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface ReservationCostSummaryRepository extends JpaRepository<ReservationCostSummary, ReservationCostSummaryId> {
+    List<ReservationCostSummary> findByTripId(Integer tripId);
+    boolean existsByTripId(Integer tripId);
+
+    // 잠금 조회 (트랜잭션 시작 시점 스냅샷이 아닌 최신 커밋 상태를 읽음)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from ReservationCostSummary s where s.tripId = :tripId")
+    List<ReservationCostSummary> findByTripIdForUpdate(@Param("tripId") Integer tripId);
+
+    // 증감 쿼리 (행 잠금으로 동시 수정 시에도 합계 보존)
+    @Modifying
+    @Query("update ReservationCostSummary s " +
+            "set s.totalCost = s.totalCost + :costDelta, s.reservationCount = s.reservationCount + :countDelta " +
+            "where s.tripId = :tripId and s.category = :category")
+    int addCost(@Param("tripId") Integer tripId,
+                @Param("category") ReservationCategory category,
+                @Param("costDelta") int costDelta,
+                @Param("countDelta") int countDelta);
+
+    @Modifying
+    @Query("delete from ReservationCostSummary s where s.tripId = :tripId")
+    void deleteByTripId(@Param("tripId") Integer tripId);
+}
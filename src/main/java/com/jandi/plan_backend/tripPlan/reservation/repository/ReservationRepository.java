@@ -2,13 +2,25 @@ package com.jandi.plan_backend.tripPlan.reservation.repository;
 
 import com.jandi.plan_backend.tripPlan.reservation.entitiy.Reservation;
 import com.jandi.plan_backend.tripPlan.trip.entity.Trip;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
 
 public interface ReservationRepository extends JpaRepository<Reservation, Long> {
     List<Reservation> findByTrip_TripId(Integer tripId);
+
+    // 수정/삭제 시 권한 검증에 여행 정보가 필요하므로 함께 조회
+    @EntityGraph(attributePaths = {"trip"})
     Optional<Reservation> findByReservationId(Long reservationId);
+
     List<Reservation> findByTrip(Trip trip);
+
+    // 카테고리별 [카테고리, 비용 합계, 예약 수] (합계 테이블 초기화용)
+    @Query("select r.category, sum(r.cost), count(r) from Reservation r " +
+            "where r.trip.tripId = :tripId group by r.category")
+    List<Object[]> sumCostByCategory(@Param("tripId") Integer tripId);
 }
@@ -0,0 +1,139 @@
+package com.jandi.plan_backend.tripPlan.reservation.service;
+
+import com.jandi.plan_backend.tripPlan.reservation.entitiy.ReservationCategory;
+import com.jandi.plan_backend.tripPlan.reservation.entitiy.ReservationCostSummary;
+import com.jandi.plan_backend.tripPlan.reservation.repository.ReservationCostSummaryRepository;
+import com.jandi.plan_backend.tripPlan.reservation.repository.ReservationRepository;
+import com.jandi.plan_backend.tripPlan.trip.repository.TripRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 여행별/카테고리별 예약 비용 합계 관리
+ * - 예약 변경과 같은 트랜잭션에서 증감 쿼리로 합계를 갱신
+ * - 합계가 아직 없는 여행(기존 데이터)은 처음 변경될 때 DB 집계로 초기화
+ *   동시에 처음 변경되는 경우 같은 키를 중복 삽입하지 않도록 여행 행을 잠근 뒤 최신 상태로 다시 확인
+ */
+@Service
+@RequiredArgsConstructor
+public class ReservationCostSummaryService {
+
+    public static final String TOTAL_KEY = "TOTAL";
+
+    private final ReservationCostSummaryRepository reservationCostSummaryRepository;
+    private final ReservationRepository reservationRepository;
+    private final TripRepository tripRepository;
+
+    /**
+     * 카테고리별 비용/예약 수 변화량을 합계에 반영
+     * 예약 저장/수정/삭제 이후에 호출해야 함 (초기화 시 변경 내용이 포함된 집계를 사용)
+     */
+    @Transactional
+    public void applyChange(Integer tripId, ReservationChange change) {
+        if (!reservationCostSummaryRepository.existsByTripId(tripId)) {
+            // 먼저 잠근 트랜잭션이 초기화했으면 그 합계에 변화량만 반영
+            tripRepository.findByIdForUpdate(tripId);
+            if (reservationCostSummaryRepository.findByTripIdForUpdate(tripId).isEmpty()) {
+                initialize(tripId);
+                return;
+            }
+        }
+        change.deltas().forEach((category, delta) -> {
+            if (delta[0] != 0 || delta[1] != 0) {
+                reservationCostSummaryRepository.addCost(tripId, category, delta[0], delta[1]);
+            }
+        });
+    }
+
+    /**
+     * 카테고리별/전체 비용 합계 ("TOTAL" 포함, 예약이 있는 카테고리만)
+     */
+    @Transactional(readOnly = true)
+    public Map<String, Integer> getCostByCategory(Integer tripId) {
+        List<ReservationCostSummary> summaries = reservationCostSummaryRepository.findByTripId(tripId);
+        if (summaries.isEmpty()) {
+            // 아직 합계가 없는 여행은 DB 집계 결과를 그대로 사용
+            summaries = aggregate(tripId);
+        }
+
+        Map<String, Integer> cost = new LinkedHashMap<>();
+        int totalCost = 0;
+        for (ReservationCostSummary summary : summaries) {
+            if (summary.getReservationCount() > 0) {
+                cost.put(summary.getCategory().name(), summary.getTotalCost());
+                totalCost += summary.getTotalCost();
+            }
+        }
+        cost.put(TOTAL_KEY, totalCost);
+        return cost;
+    }
+
+    /**
+     * 여행 삭제 시 합계 삭제
+     */
+    @Transactional
+    public void deleteByTrip(Integer tripId) {
+        reservationCostSummaryRepository.deleteByTripId(tripId);
+    }
+
+    // 모든 카테고리의 합계 행을 생성 (예약이 없는 카테고리는 0)
+    private void initialize(Integer tripId) {
+        Map<ReservationCategory, ReservationCostSummary> byCategory = new EnumMap<>(ReservationCategory.class);
+        for (ReservationCategory category : ReservationCategory.values()) {
+            byCategory.put(category, new ReservationCostSummary(tripId, category, 0, 0));
+        }
+        aggregate(tripId).forEach(summary -> byCategory.put(summary.getCategory(), summary));
+        reservationCostSummaryRepository.saveAll(byCategory.values());
+    }
+
+    private List<ReservationCostSummary> aggregate(Integer tripId) {
+        List<ReservationCostSummary> summaries = new ArrayList<>();
+        for (Object[] row : reservationRepository.sumCostByCategory(tripId)) {
+            summaries.add(new ReservationCostSummary(
+                    tripId,
+                    (ReservationCategory) row[0],
+                    ((Number) row[1]).intValue(),
+                    ((Number) row[2]).intValue()
+            ));
+        }
+        return summaries;
+    }
+
+    /**
+     * 한 번의 예약 변경으로 생기는 카테고리별 [비용, 예약 수] 변화량
+     */
+    public record ReservationChange(Map<ReservationCategory, int[]> deltas) {
+
+        // 여행 전체 예약 비용 변화량
+        public int costDelta() {
+            return deltas.values().stream().mapToInt(delta -> delta[0]).sum();
+        }
+
+        public static ReservationChange created(ReservationCategory category, int cost) {
+            return new ReservationChange(Map.of(category, new int[]{cost, 1}));
+        }
+
+        public static ReservationChange deleted(ReservationCategory category, int cost) {
+            return new ReservationChange(Map.of(category, new int[]{-cost, -1}));
+        }
+
+        public static ReservationChange updated(ReservationCategory oldCategory, int oldCost,
+                                                ReservationCategory newCategory, int newCost) {
+            Map<ReservationCategory, int[]> deltas = new EnumMap<>(ReservationCategory.class);
+            if (oldCategory == newCategory) {
+                deltas.put(newCategory, new int[]{newCost - oldCost, 0});
+            } else {
+                deltas.put(oldCategory, new int[]{-oldCost, -1});
+                deltas.put(newCategory, new int[]{newCost, 1});
+            }
+            return new ReservationChange(deltas);
+        }
+    }
+}
@@ -25,6 +25,7 @@ public class ReservationQueryService {
     private final TripUtil tripUtil;
     private final UserRepository userRepository;
     private final ReservationRepository reservationRepository;
+    private final ReservationCostSummaryService reservationCostSummaryService;
 
     public Map<String, Object> getReservation(String userEmail, Integer tripId) {
         User user = userRepository.findByEmail(userEmail).orElse(null);
@@ -39,7 +40,7 @@ public class ReservationQueryService {
         // 예약 정보 가져오기
         List<Reservation> reservations = reservationRepository.findByTrip_TripId(tripId);
         Map<String, List<ReservationRespDTO>> data = organizeGroupByCategory(reservations);
-        Map<String, Integer> cost = calculateGroupByCategory(reservations);
+        Map<String, Integer> cost = reservationCostSummaryService.getCostByCategory(tripId);
 
         return Map.of(
                 "cost", cost,
@@ -54,21 +55,5 @@ public class ReservationQueryService {
                 .collect(Collectors.groupingBy(ReservationRespDTO::getCategory));
     }
 
-    // 예약 정보에서 카테고리별/전체 합산 비용 추출
-    private Map<String, Integer> calculateGroupByCategory(List<Reservation> reservations) {
-        // 카테고리별 비용 합산
-        Map<String, Integer> cost = reservations.stream()
-                .collect(Collectors.groupingBy(
-                        r -> r.getCategory().name(),
-                        Collectors.summingInt(Reservation::getCost)
-                ));
-
-        // 전체 비용 추가
-        int totalCost = cost.values().stream().mapToInt(Integer::intValue).sum();
-        cost.put("TOTAL", totalCost);
-
-        return cost;
-    }
-
 
 }
@@ -3,8 +3,11 @@ package com.jandi.plan_backend.tripPlan.reservation.service;
 import com.jandi.plan_backend.tripPlan.reservation.dto.ReservationReqDTO;
 import com.jandi.plan_backend.tripPlan.reservation.dto.ReservationRespDTO;
 import com.jandi.plan_backend.tripPlan.reservation.entitiy.Reservation;
+import com.jandi.plan_backend.tripPlan.reservation.entitiy.ReservationCategory;
 import com.jandi.plan_backend.tripPlan.reservation.repository.ReservationRepository;
+import com.jandi.plan_backend.tripPlan.reservation.service.ReservationCostSummaryService.ReservationChange;
 import com.jandi.plan_backend.tripPlan.trip.entity.Trip;
+import com.jandi.plan_backend.tripPlan.trip.service.TripSpendService;
 import com.jandi.plan_backend.user.entity.User;
 import com.jandi.plan_backend.user.repository.UserRepository;
 import com.jandi.plan_backend.util.TripUtil;
@@ -22,6 +25,8 @@ public class ReservationUpdateService {
     private final ValidationUtil validationUtil;
     private final TripUtil tripUtil;
     private final ReservationRepository reservationRepository;
+    private final ReservationCostSummaryService reservationCostSummaryService;
+    private final TripSpendService tripSpendService;
 
     @Transactional
     public ReservationRespDTO createReservation(String userEmail, Integer tripId, ReservationReqDTO reservedDTO) {
@@ -34,6 +39,7 @@ public class ReservationUpdateService {
 
         // 예약 추가
         Reservation reservation = createReservationData(trip, reservedDTO);
+        applyCostChange(trip.getTripId(), ReservationChange.created(reservation.getCategory(), reservation.getCost()));
         return new ReservationRespDTO(reservation, false);
     }
 
@@ -48,7 +54,11 @@ public class ReservationUpdateService {
         tripUtil.isCanEditTrip(trip, user);
 
         // 예약 수정
+        ReservationCategory oldCategory = reservation.getCategory();
+        int oldCost = reservation.getCost();
         updateReservation(reservation, reservedDTO);
+        applyCostChange(trip.getTripId(), ReservationChange.updated(
+                oldCategory, oldCost, reservation.getCategory(), reservation.getCost()));
         return new ReservationRespDTO(reservation, false);
     }
 
@@ -63,9 +73,16 @@ public class ReservationUpdateService {
 
         // 예약 삭제
         reservationRepository.delete(reservation);
+        applyCostChange(trip.getTripId(), ReservationChange.deleted(reservation.getCategory(), reservation.getCost()));
         return !reservationRepository.existsById(Long.valueOf(reservationId));
     }
 
+    // 카테고리별 합계와 여행 지출 합계에 비용 변화 반영
+    private void applyCostChange(Integer tripId, ReservationChange change) {
+        reservationCostSummaryService.applyChange(tripId, change);
+        tripSpendService.applyReservationChange(tripId, change.costDelta());
+    }
+
     private Reservation createReservationData(Trip trip, ReservationReqDTO reservedDTO) {
         Reservation reservation = new Reservation();
         reservation.setTrip(trip);
@@ -2,6 +2,7 @@ package com.jandi.plan_backend.tripPlan.trip.controller;
 
 import com.jandi.plan_backend.tripPlan.trip.dto.*;
 import com.jandi.plan_backend.tripPlan.trip.service.TripService;
+import com.jandi.plan_backend.tripPlan.trip.service.TripSpendService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.http.HttpStatus;
@@ -22,6 +23,7 @@ import java.util.Map;
 public class TripController {
 
     private final TripService tripService;
+    private final TripSpendService tripSpendService;
 
     /**
      * 공개 설정된 여행 계획 목록 조회 (로그인 시 본인+타인 공개, 관리자면 전체)
@@ -114,6 +116,18 @@ public class TripController {
         return ResponseEntity.ok(tripResp);
     }
 
+    /**
+     * 여행 계획 예산 대비 지출 요약 조회
+     */
+    @GetMapping("/{tripId}/spend")
+    public ResponseEntity<TripSpendRespDTO> getSpendSummary(
+            @PathVariable Integer tripId,
+            @AuthenticationPrincipal UserDetails userDetails
+    ) {
+        String userEmail = (userDetails != null) ? userDetails.getUsername() : null;
+        return ResponseEntity.ok(tripSpendService.getSpendSummary(userEmail, tripId));
+    }
+
     /**
      * 여행 계획 생성
      */
@@ -27,6 +27,10 @@ public class TripRespDTO {
     private final Double longitude;
     private final String cityImageUrl;
     private final String tripImageUrl;
+    // 예산 대비 지출 (집계 전이거나 비공개 마스킹 시 null)
+    private final Integer totalSpend;
+    private final Integer remainingBudget;
+    private final Boolean overBudget;
 
     public TripRespDTO(Trip trip, String cityImageUrl) {
         // 비공개여도 넘겨줄 정보
@@ -47,6 +51,9 @@ public class TripRespDTO {
         this.budget = null;
         this.privatePlan = true;
         tripImageUrl = "";
+        this.totalSpend = null;
+        this.remainingBudget = null;
+        this.overBudget = null;
     }
 
     public TripRespDTO(User user,
@@ -69,6 +76,17 @@ public class TripRespDTO {
         this.longitude = trip.getCity().getLongitude();
         this.cityImageUrl = cityImageUrl;
         this.tripImageUrl = tripImageUrl;
+
+        // 여행 엔티티에 유지되는 합계만 사용 (추가 쿼리 없음)
+        if (trip.getItinerarySpend() != null && trip.getReservationSpend() != null) {
+            this.totalSpend = trip.getItinerarySpend() + trip.getReservationSpend();
+            this.remainingBudget = (trip.getBudget() != null) ? trip.getBudget() - this.totalSpend : null;
+            this.overBudget = (this.remainingBudget != null) ? this.remainingBudget < 0 : null;
+        } else {
+            this.totalSpend = null;
+            this.remainingBudget = null;
+            this.overBudget = null;
+        }
     }
 
     public TripRespDTO(TripRespDTO other) {
@@ -87,5 +105,8 @@ public class TripRespDTO {
         this.longitude = other.getLongitude();
         this.cityImageUrl = other.getCityImageUrl();
         this.tripImageUrl = other.getTripImageUrl();
+        this.totalSpend = other.getTotalSpend();
+        this.remainingBudget = other.getRemainingBudget();
+        this.overBudget = other.getOverBudget();
     }
 }
@@ -0,0 +1,40 @@
+package com.jandi.plan_backend.tripPlan.trip.dto;
+
+import com.jandi.plan_backend.tripPlan.reservation.service.ReservationCostSummaryService;
+import com.jandi.plan_backend.tripPlan.trip.entity.Trip;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+/**
+ * 여행 예산 대비 지출 요약 DTO
+ */
+@Getter
+public class TripSpendRespDTO {
+
+    private final Integer tripId;
+    private final Integer budget;
+    private final Integer itinerarySpend;
+    private final Integer reservationSpend;
+    private final Integer totalSpend;
+    private final Integer remainingBudget;
+    private final Boolean overBudget;
+    private final Map<LocalDate, Integer> itinerarySpendByDate;
+    private final Map<String, Integer> reservationSpendByCategory;
+
+    public TripSpendRespDTO(Trip trip,
+                            Map<LocalDate, Integer> itinerarySpendByDate,
+                            Map<String, Integer> reservationSpendByCategory) {
+        this.tripId = trip.getTripId();
+        this.budget = trip.getBudget();
+        // 상세 값에서 합계를 계산하여 카드 목록의 값과 달라지지 않도록 함
+        this.itinerarySpend = itinerarySpendByDate.values().stream().mapToInt(Integer::intValue).sum();
+        this.reservationSpend = reservationSpendByCategory.getOrDefault(ReservationCostSummaryService.TOTAL_KEY, 0);
+        this.totalSpend = this.itinerarySpend + this.reservationSpend;
+        this.remainingBudget = (trip.getBudget() != null) ? trip.getBudget() - this.totalSpend : null;
+        this.overBudget = (this.remainingBudget != null) ? this.remainingBudget < 0 : null;
+        this.itinerarySpendByDate = itinerarySpendByDate;
+        this.reservationSpendByCategory = reservationSpendByCategory;
+    }
+}
@@ -56,6 +56,13 @@ public class Trip {
     @Column(nullable = false)
     private Integer budget;
 
+    // 일정/예약 비용 합계 (TripSpendService가 증감 쿼리로만 갱신, null이면 아직 집계 전)
+    @Column(updatable = false)
+    private Integer itinerarySpend;
+
+    @Column(updatable = false)
+    private Integer reservationSpend;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "city_id", nullable = false)
     private City city;
@@ -93,6 +100,12 @@ public class Trip {
         if (this.likeCount == null) {
             this.likeCount = 0;
         }
+        if (this.itinerarySpend == null) {
+            this.itinerarySpend = 0;
+        }
+        if (this.reservationSpend == null) {
+            this.reservationSpend = 0;
+        }
     }
 
     @PreUpdate
@@ -0,0 +1,34 @@
+package com.jandi.plan_backend.tripPlan.trip.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 여행 날짜별 일정 비용 합계 (일정 생성/수정/삭제 시 함께 갱신)
+ */
+@Entity
+@Table(name = "trip_daily_spend")
+@IdClass(TripDailySpendId.class)
+@Data
+@NoArgsConstructor
+public class TripDailySpend {
+
+    @Id
+    @Column(name = "trip_id")
+    private Integer tripId;
+
+    @Id
+    private LocalDate spendDate;
+
+    @Column(nullable = false)
+    private Integer totalCost;
+
+    public TripDailySpend(Integer tripId, LocalDate spendDate, Integer totalCost) {
+        this.tripId = tripId;
+        this.spendDate = spendDate;
+        this.totalCost = totalCost;
+    }
+}
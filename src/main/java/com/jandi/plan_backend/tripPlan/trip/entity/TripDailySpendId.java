@@ -0,0 +1,14 @@
+package com.jandi.plan_backend.tripPlan.trip.entity;
+
+import lombok.Data;
+import java.io.Serializable;
+import java.time.LocalDate;
+
+/**
+ * 복합 키: trip_id + spend_date
+ */
+@Data
+public class TripDailySpendId implements Serializable {
+    private Integer tripId;
+    private LocalDate spendDate;
+}
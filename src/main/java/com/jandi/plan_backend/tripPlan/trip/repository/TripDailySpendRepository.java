@@ -0,0 +1,25 @@
+package com.jandi.plan_backend.tripPlan.trip.repository;
+
+import com.jandi.plan_backend.tripPlan.trip.entity.TripDailySpend;
+import com.jandi.plan_backend.tripPlan.trip.entity.TripDailySpendId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface TripDailySpendRepository extends JpaRepository<TripDailySpend, TripDailySpendId> {
+    List<TripDailySpend> findByTripIdOrderBySpendDate(Integer tripId);
+
+    // 증감 쿼리 (해당 날짜 행이 없으면 0건 갱신)
+    @Modifying
+    @Query("update TripDailySpend s set s.totalCost = s.totalCost + :delta " +
+            "where s.tripId = :tripId and s.spendDate = :spendDate")
+    int addCost(@Param("tripId") Integer tripId, @Param("spendDate") LocalDate spendDate, @Param("delta") int delta);
+
+    @Modifying
+    @Query("delete from TripDailySpend s where s.tripId = :tripId")
+    void deleteByTripId(@Param("tripId") Integer tripId);
+}
@@ -3,11 +3,15 @@ package com.jandi.plan_backend.tripPlan.trip.repository;
 import com.jandi.plan_backend.tripPlan.trip.entity.Trip;
 import com.jandi.plan_backend.user.entity.City;
 import com.jandi.plan_backend.user.entity.User;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
@@ -24,6 +28,11 @@ public interface TripRepository extends JpaRepository<Trip, Long> {
     @EntityGraph(attributePaths = {"user", "city", "city.country"})
     Optional<Trip> findByTripId(Integer tripId);
 
+    // 여행 단위 초기화 작업을 직렬화하기 위한 행 잠금 (SELECT ... FOR UPDATE)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select t from Trip t where t.tripId = :tripId")
+    Optional<Trip> findByIdForUpdate(@Param("tripId") Integer tripId);
+
     long countByUser(User user);
 
     @EntityGraph(attributePaths = {"user", "city", "city.country"})
@@ -67,4 +76,28 @@ public interface TripRepository extends JpaRepository<Trip, Long> {
             "(SELECT tp.trip.tripId FROM TripParticipant tp WHERE tp.participant = :user)")
     Page<Trip> findVisibleTrips(User user, Pageable pageable);
 
+    // 비용 합계 증감 쿼리 (아직 집계 전(null)인 여행은 0건 갱신)
+    @Modifying
+    @Query("update Trip t set t.itinerarySpend = t.itinerarySpend + :delta " +
+            "where t.tripId = :tripId and t.itinerarySpend is not null")
+    int addItinerarySpend(@Param("tripId") Integer tripId, @Param("delta") int delta);
+
+    @Modifying
+    @Query("update Trip t set t.reservationSpend = t.reservationSpend + :delta " +
+            "where t.tripId = :tripId and t.reservationSpend is not null")
+    int addReservationSpend(@Param("tripId") Integer tripId, @Param("delta") int delta);
+
+    // 비용 합계를 현재 일정/예약 기준으로 다시 계산
+    @Modifying
+    @Query("update Trip t set t.itinerarySpend = " +
+            "(select coalesce(sum(i.cost), 0) from Itinerary i where i.trip.tripId = :tripId) " +
+            "where t.tripId = :tripId")
+    int recalculateItinerarySpend(@Param("tripId") Integer tripId);
+
+    @Modifying
+    @Query("update Trip t set t.reservationSpend = " +
+            "(select coalesce(sum(r.cost), 0) from Reservation r where r.trip.tripId = :tripId) " +
+            "where t.tripId = :tripId")
+    int recalculateReservationSpend(@Param("tripId") Integer tripId);
+
 }
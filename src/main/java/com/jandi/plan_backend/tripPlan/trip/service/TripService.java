@@ -3,6 +3,7 @@ package com.jandi.plan_backend.tripPlan.trip.service;
 import com.jandi.plan_backend.image.service.ImageService;
 import com.jandi.plan_backend.tripPlan.itinerary.repository.ItineraryRepository;
 import com.jandi.plan_backend.tripPlan.reservation.repository.ReservationRepository;
+import com.jandi.plan_backend.tripPlan.reservation.service.ReservationCostSummaryService;
 import com.jandi.plan_backend.tripPlan.trip.dto.*;
 import com.jandi.plan_backend.tripPlan.trip.entity.Trip;
 import com.jandi.plan_backend.tripPlan.trip.entity.TripLike;
@@ -43,6 +44,8 @@ public class TripService {
     private final ItineraryRepository itineraryRepository;
     private final ReservationRepository reservationRepository;
     private final TripParticipantRepository tripParticipantRepository;
+    private final ReservationCostSummaryService reservationCostSummaryService;
+    private final TripSpendService tripSpendService;
 
     private final String urlPrefix = "https://storage.googleapis.com/plan-storage/";
     private final Sort sortByCreate = Sort.by(Sort.Direction.DESC, "createdAt");
@@ -54,7 +57,9 @@ public class TripService {
                        CityRepository cityRepository,
                        ItineraryRepository itineraryRepository,
                        ReservationRepository reservationRepository,
-                       TripParticipantRepository tripParticipantRepository) {
+                       TripParticipantRepository tripParticipantRepository,
+                       ReservationCostSummaryService reservationCostSummaryService,
+                       TripSpendService tripSpendService) {
         this.tripRepository = tripRepository;
         this.tripLikeRepository = tripLikeRepository;
         this.validationUtil = validationUtil;
@@ -63,6 +68,8 @@ public class TripService {
         this.itineraryRepository = itineraryRepository;
         this.reservationRepository = reservationRepository;
         this.tripParticipantRepository = tripParticipantRepository;
+        this.reservationCostSummaryService = reservationCostSummaryService;
+        this.tripSpendService = tripSpendService;
     }
 
     /**
@@ -313,6 +320,8 @@ public class TripService {
         // 일정, 예약 삭제
         itineraryRepository.deleteAll(itineraryRepository.findByTrip(trip));
         reservationRepository.deleteAll(reservationRepository.findByTrip(trip));
+        reservationCostSummaryService.deleteByTrip(tripId);
+        tripSpendService.deleteByTrip(tripId);
 
         // 대표 이미지 삭제
         imageService.getImageByTarget("trip", tripId)
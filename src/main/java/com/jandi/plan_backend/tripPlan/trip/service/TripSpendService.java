@@ -0,0 +1,135 @@
+package com.jandi.plan_backend.tripPlan.trip.service;
+
+import com.jandi.plan_backend.tripPlan.itinerary.repository.ItineraryRepository;
+import com.jandi.plan_backend.tripPlan.reservation.service.ReservationCostSummaryService;
+import com.jandi.plan_backend.tripPlan.trip.dto.TripSpendRespDTO;
+import com.jandi.plan_backend.tripPlan.trip.entity.Trip;
+import com.jandi.plan_backend.tripPlan.trip.entity.TripDailySpend;
+import com.jandi.plan_backend.tripPlan.trip.repository.TripDailySpendRepository;
+import com.jandi.plan_backend.tripPlan.trip.repository.TripRepository;
+import com.jandi.plan_backend.user.entity.User;
+import com.jandi.plan_backend.user.repository.UserRepository;
+import com.jandi.plan_backend.util.TripUtil;
+import com.jandi.plan_backend.util.ValidationUtil;
+import com.jandi.plan_backend.util.service.BadRequestExceptionMessage;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 여행 예산 대비 지출 요약 관리
+ * - 여행 엔티티의 일정/예약 비용 합계와 날짜별 일정 비용을 변경 시점에 증감 쿼리로 갱신
+ * - 여행 행의 갱신이 행 잠금을 잡으므로 같은 여행의 지출 갱신은 커밋 순서대로 직렬화됨
+ * - 합계가 아직 없는 여행(기존 데이터)은 처음 변경될 때 DB 집계로 초기화
+ */
+@Service
+@RequiredArgsConstructor
+public class TripSpendService {
+
+    private final TripRepository tripRepository;
+    private final TripDailySpendRepository tripDailySpendRepository;
+    private final ItineraryRepository itineraryRepository;
+    private final ReservationCostSummaryService reservationCostSummaryService;
+    private final ValidationUtil validationUtil;
+    private final TripUtil tripUtil;
+    private final UserRepository userRepository;
+
+    /**
+     * 날짜별 일정 비용 변화량 반영
+     * 일정 저장/수정/삭제 이후에 호출해야 함 (초기화 시 변경 내용이 포함된 집계를 사용)
+     */
+    @Transactional
+    public void applyItineraryChange(Integer tripId, Map<LocalDate, Integer> costDeltas) {
+        int totalDelta = costDeltas.values().stream().mapToInt(Integer::intValue).sum();
+        if (tripRepository.addItinerarySpend(tripId, totalDelta) == 0) {
+            initializeItinerarySpend(tripId);
+            return;
+        }
+        costDeltas.forEach((date, delta) -> {
+            if (delta != 0 && tripDailySpendRepository.addCost(tripId, date, delta) == 0) {
+                tripDailySpendRepository.save(new TripDailySpend(tripId, date, delta));
+            }
+        });
+    }
+
+    /**
+     * 날짜별 일정 비용을 주어진 값으로 교체 (일괄 변경처럼 최종 상태를 이미 알고 있는 경우)
+     */
+    @Transactional
+    public void replaceItinerarySpend(Integer tripId, Map<LocalDate, Integer> costByDate) {
+        tripRepository.recalculateItinerarySpend(tripId);
+        tripDailySpendRepository.deleteByTripId(tripId);
+        tripDailySpendRepository.saveAll(toDailySpends(tripId, costByDate));
+    }
+
+    /**
+     * 예약 비용 변화량 반영 (카테고리별 합계는 ReservationCostSummaryService가 관리)
+     */
+    @Transactional
+    public void applyReservationChange(Integer tripId, int costDelta) {
+        if (tripRepository.addReservationSpend(tripId, costDelta) == 0) {
+            tripRepository.recalculateReservationSpend(tripId);
+        }
+    }
+
+    /**
+     * 여행 삭제 시 날짜별 합계 삭제
+     */
+    @Transactional
+    public void deleteByTrip(Integer tripId) {
+        tripDailySpendRepository.deleteByTripId(tripId);
+    }
+
+    /**
+     * 여행의 예산 대비 지출 요약 조회
+     */
+    @Transactional(readOnly = true)
+    public TripSpendRespDTO getSpendSummary(String userEmail, Integer tripId) {
+        Trip trip = validationUtil.validateTripExists(tripId);
+        User user = userRepository.findByEmail(userEmail).orElse(null);
+
+        // 접근 권한 검증
+        if (!tripUtil.isCanViewTrip(trip, user)) {
+            throw new BadRequestExceptionMessage("비공개 여행 계획입니다");
+        }
+
+        Map<LocalDate, Integer> itinerarySpendByDate = new TreeMap<>();
+        if (trip.getItinerarySpend() != null) {
+            tripDailySpendRepository.findByTripIdOrderBySpendDate(tripId).stream()
+                    .filter(spend -> spend.getTotalCost() != 0)
+                    .forEach(spend -> itinerarySpendByDate.put(spend.getSpendDate(), spend.getTotalCost()));
+        } else {
+            // 아직 합계가 없는 여행은 DB 집계 결과를 그대로 사용
+            itinerarySpendByDate.putAll(aggregateByDate(tripId));
+        }
+        Map<String, Integer> reservationSpendByCategory = reservationCostSummaryService.getCostByCategory(tripId);
+
+        return new TripSpendRespDTO(trip, itinerarySpendByDate, reservationSpendByCategory);
+    }
+
+    private void initializeItinerarySpend(Integer tripId) {
+        tripRepository.recalculateItinerarySpend(tripId);
+        tripDailySpendRepository.deleteByTripId(tripId);
+        tripDailySpendRepository.saveAll(toDailySpends(tripId, aggregateByDate(tripId)));
+    }
+
+    private Map<LocalDate, Integer> aggregateByDate(Integer tripId) {
+        Map<LocalDate, Integer> costByDate = new TreeMap<>();
+        for (Object[] row : itineraryRepository.sumCostByDate(tripId)) {
+            costByDate.put((LocalDate) row[0], ((Number) row[1]).intValue());
+        }
+        return costByDate;
+    }
+
+    private List<TripDailySpend> toDailySpends(Integer tripId, Map<LocalDate, Integer> costByDate) {
+        List<TripDailySpend> spends = new ArrayList<>(costByDate.size());
+        costByDate.forEach((date, cost) -> spends.add(new TripDailySpend(tripId, date, cost)));
+        return spends;
+    }
+}
@@ -1,7 +1,10 @@
 package com.jandi.plan_backend.user.repository;
 
 import com.jandi.plan_backend.user.entity.City;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 import java.util.Collection;
 import java.util.List;
@@ -16,4 +19,14 @@ public interface CityRepository extends JpaRepository<City, Integer> {
     List<City> findByCountry_NameIn(Collection<String> country_name); //국가 필터링
 
     List<City> findByContinent_NameIn(List<String> filter); //대륙 필터링
+
+    @EntityGraph(attributePaths = {"country"})
+    List<City> findByCityIdIn(Collection<Integer> cityIds); //국가 정보와 함께 일괄 조회
+
+    @EntityGraph(attributePaths = {"country"})
+    List<City> findByOrderBySearchCountDesc(Pageable pageable); //검색 수 상위 도시
+
+    // 공간 인덱스 구성용 [cityId, latitude, longitude]
+    @Query("select c.cityId, c.latitude, c.longitude from City c")
+    List<Object[]> findAllCoordinates();
 }
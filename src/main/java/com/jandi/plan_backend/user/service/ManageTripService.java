@@ -1,5 +1,6 @@
 package com.jandi.plan_backend.user.service;
 
+import com.jandi.plan_backend.geo.service.NearbySearchService;
 import com.jandi.plan_backend.image.dto.ImageRespDto;
 import com.jandi.plan_backend.image.repository.ImageRepository;
 import com.jandi.plan_backend.image.service.ImageService;
@@ -33,6 +34,7 @@ public class ManageTripService {
     private final CountryRepository countryRepository;
     private final CityRepository cityRepository;
     private final UserCityPreferenceRepository userCityPreferenceRepository;
+    private final NearbySearchService nearbySearchService;
 
     public ManageTripService(
             ImageRepository imageRepository,
@@ -42,7 +44,8 @@ public class ManageTripService {
             ImageService imageService,
             CountryRepository countryRepository,
             CityRepository cityRepository,
-            UserCityPreferenceRepository userCityPreferenceRepository) {
+            UserCityPreferenceRepository userCityPreferenceRepository,
+            NearbySearchService nearbySearchService) {
         this.imageRepository = imageRepository;
         this.tripRepository = tripRepository;
         this.validationUtil = validationUtil;
@@ -51,6 +54,7 @@ public class ManageTripService {
         this.countryRepository = countryRepository;
         this.cityRepository = cityRepository;
         this.userCityPreferenceRepository = userCityPreferenceRepository;
+        this.nearbySearchService = nearbySearchService;
     }
 
     /** 여행지 생성 관련 */
@@ -123,6 +127,7 @@ public class ManageTripService {
         newCity.setLatitude(latitude);
         newCity.setLongitude(longitude);
         cityRepository.save(newCity);
+        nearbySearchService.indexCity(newCity);
 
         // 이미지 업로드 (Image 테이블에 저장)
         // targetType="city", targetId=cityId
@@ -164,6 +169,7 @@ public class ManageTripService {
         if(latitude != null && !latitude.isNaN()) {city.setLatitude(latitude);}
         if(longitude != null && !longitude.isNaN()) {city.setLongitude(longitude);}
         cityRepository.save(city);
+        nearbySearchService.indexCity(city);
 
         // 대체될 이미지가 있다면 기존 이미지 삭제 후 신규 이미지로 치환
         String imageUrl = null;
@@ -212,6 +218,7 @@ public class ManageTripService {
 
             // 도시 정보 삭제
             cityRepository.delete(city);
+            nearbySearchService.removeCity(city.getCityId());
             deletedCitiesCount++;
         }
         countryRepository.delete(country); // 국가 삭제
@@ -240,6 +247,7 @@ public class ManageTripService {
 
         // 도시 정보 삭제 및 삭제 결과 반환
         cityRepository.delete(city);
+        nearbySearchService.removeCity(cityId);
         return cityRepository.findById(cityId).isEmpty();
     }
 }
@@ -0,0 +1,327 @@
+package com.jandi.plan_backend.util;
+
+import java.text.Normalizer;
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 2-gram(bigram) 역색인 (서버 메모리)
+ * - 텍스트를 정규화(NFKC, 소문자, 문자/숫자 외에는 공백 하나)한 뒤 연속한 두 글자 단위로 색인
+ *   띄어쓰기 단위가 아니므로 "여행지"에서 "여행"처럼 한글 단어의 일부로도 검색 가능
+ * - 검색어의 모든 bigram을 포함한 문서를 찾고, bigram 등장 횟수의 합을 점수로 반환
+ *   (bigram이 모두 있는지만 보므로 세 글자 이상 검색어는 순서가 다른 문서도 포함될 수 있음)
+ * - posting list는 내부 문서 번호의 차이값 varint + 등장 횟수(최대 255) 1바이트로 압축한 byte[]
+ * - 문서 번호는 추가할 때마다 새로 발급하므로 posting list에는 항상 뒤에 붙이기만 하고,
+ *   수정/삭제된 문서의 이전 번호는 삭제 표시 후 일정 비율이 넘으면 전체를 압축(compact)
+ * 읽기는 동시에, 쓰기는 배타적으로 수행 (ReadWriteLock)
+ */
+public class BigramIndex {
+
+    // 삭제 표시된 문서 번호가 이 수 이상이고 살아있는 문서의 절반을 넘으면 compact
+    private static final int COMPACT_MIN_DEAD = 1024;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // bigram((앞 글자 << 16) | 뒤 글자) -> posting list
+    private final Map<Integer, PostingList> postings = new HashMap<>();
+
+    // 내부 문서 번호 -> 외부 id (삭제된 번호는 -1)
+    private int[] idByDoc = new int[16];
+    private int docCount;
+    private int deadCount;
+    private final Map<Integer, Integer> docById = new HashMap<>();
+
+    /**
+     * 검색 결과 (외부 id, 점수)
+     */
+    public record Match(int id, int score) {
+    }
+
+    /**
+     * 문서 추가 (이미 있는 id면 교체)
+     */
+    public void put(int id, String text) {
+        long[] terms = terms(text);
+        lock.writeLock().lock();
+        try {
+            removeInternal(id);
+            int doc = allocateDoc(id);
+            for (long term : terms) {
+                postings.computeIfAbsent(bigramOf(term), key -> new PostingList()).append(doc, countOf(term));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 문서 제거
+     * @return 제거 여부
+     */
+    public boolean remove(int id) {
+        lock.writeLock().lock();
+        try {
+            return removeInternal(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 검색어의 모든 bigram을 포함한 문서 (순서 없음). 검색어가 정규화 후 두 글자 미만이면 빈 목록
+     */
+    public List<Match> search(String query) {
+        long[] terms = terms(query);
+        if (terms.length == 0) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            PostingList[] lists = new PostingList[terms.length];
+            for (int i = 0; i < terms.length; i++) {
+                lists[i] = postings.get(bigramOf(terms[i]));
+                if (lists[i] == null) {
+                    return List.of();
+                }
+            }
+            // 짧은 목록부터 교집합을 구해 후보를 빨리 줄임
+            Arrays.sort(lists, Comparator.comparingInt(list -> list.count));
+
+            int[] docs = new int[lists[0].count];
+            int[] scores = new int[lists[0].count];
+            int size = 0;
+            for (PostingList.Cursor cursor = lists[0].cursor(); cursor.next(); ) {
+                if (idByDoc[cursor.doc] >= 0) {
+                    docs[size] = cursor.doc;
+                    scores[size++] = cursor.count;
+                }
+            }
+            for (int i = 1; i < lists.length && size > 0; i++) {
+                PostingList.Cursor cursor = lists[i].cursor();
+                int kept = 0;
+                boolean more = cursor.next();
+                for (int j = 0; j < size && more; j++) {
+                    while (more && cursor.doc < docs[j]) {
+                        more = cursor.next();
+                    }
+                    if (more && cursor.doc == docs[j]) {
+                        docs[kept] = docs[j];
+                        scores[kept++] = scores[j] + cursor.count;
+                    }
+                }
+                size = kept;
+            }
+
+            List<Match> matches = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                matches.add(new Match(idByDoc[docs[i]], scores[i]));
+            }
+            return matches;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** 색인된 문서 수 */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return docById.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** posting list가 차지하는 바이트 수 (압축된 데이터 기준) */
+    public long postingBytes() {
+        lock.readLock().lock();
+        try {
+            long bytes = 0;
+            for (PostingList list : postings.values()) {
+                bytes += list.length;
+            }
+            return bytes;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** 서로 다른 bigram 수 */
+    public int termCount() {
+        lock.readLock().lock();
+        try {
+            return postings.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // ==================== 내부 구현 ====================
+
+    private int allocateDoc(int id) {
+        if (docCount == idByDoc.length) {
+            idByDoc = Arrays.copyOf(idByDoc, docCount * 2);
+        }
+        idByDoc[docCount] = id;
+        docById.put(id, docCount);
+        return docCount++;
+    }
+
+    private boolean removeInternal(int id) {
+        Integer doc = docById.remove(id);
+        if (doc == null) {
+            return false;
+        }
+        idByDoc[doc] = -1;
+        deadCount++;
+        if (deadCount >= COMPACT_MIN_DEAD && deadCount > docById.size() / 2) {
+            compact();
+        }
+        return true;
+    }
+
+    // 삭제된 문서 번호를 빼고 남은 번호를 순서대로 다시 발급 (순서가 유지되므로 posting list는 다시 정렬할 필요 없음)
+    private void compact() {
+        int[] remap = new int[docCount];
+        int[] compacted = new int[Math.max(16, docById.size() * 2)];
+        int live = 0;
+        for (int doc = 0; doc < docCount; doc++) {
+            if (idByDoc[doc] >= 0) {
+                remap[doc] = live;
+                compacted[live] = idByDoc[doc];
+                docById.put(idByDoc[doc], live);
+                live++;
+            } else {
+                remap[doc] = -1;
+            }
+        }
+        Iterator<PostingList> iterator = postings.values().iterator();
+        while (iterator.hasNext()) {
+            PostingList list = iterator.next();
+            PostingList rewritten = new PostingList();
+            for (PostingList.Cursor cursor = list.cursor(); cursor.next(); ) {
+                if (remap[cursor.doc] >= 0) {
+                    rewritten.append(remap[cursor.doc], cursor.count);
+                }
+            }
+            if (rewritten.count == 0) {
+                iterator.remove();
+            } else {
+                list.replaceWith(rewritten);
+            }
+        }
+        idByDoc = compacted;
+        docCount = live;
+        deadCount = 0;
+    }
+
+    /**
+     * 텍스트의 서로 다른 bigram과 등장 횟수 ((bigram << 32) | 횟수, bigram 순 정렬)
+     */
+    static long[] terms(String text) {
+        if (text == null || text.isEmpty()) {
+            return new long[0];
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        char[] chars = new char[normalized.length()];
+        int length = 0;
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (Character.isLetterOrDigit(c) || Character.isSurrogate(c)) {
+                chars[length++] = c;
+            } else if (length > 0 && chars[length - 1] != ' ') {
+                chars[length++] = ' ';
+            }
+        }
+        if (length > 0 && chars[length - 1] == ' ') {
+            length--;
+        }
+        if (length < 2) {
+            return new long[0];
+        }
+
+        int[] grams = new int[length - 1];
+        for (int i = 0; i < grams.length; i++) {
+            grams[i] = (chars[i] << 16) | chars[i + 1];
+        }
+        Arrays.sort(grams);
+        long[] terms = new long[grams.length];
+        int size = 0;
+        for (int i = 0; i < grams.length; ) {
+            int j = i;
+            while (j < grams.length && grams[j] == grams[i]) {
+                j++;
+            }
+            terms[size++] = ((long) grams[i] << 32) | Math.min(j - i, 255);
+            i = j;
+        }
+        return Arrays.copyOf(terms, size);
+    }
+
+    private static int bigramOf(long term) {
+        return (int) (term >>> 32);
+    }
+
+    private static int countOf(long term) {
+        return (int) term;
+    }
+
+    /**
+     * 한 bigram의 문서 목록 (문서 번호 오름차순, 차이값 varint + 등장 횟수 1바이트)
+     */
+    private static final class PostingList {
+        private byte[] data = new byte[8];
+        private int length;
+        private int count;
+        private int lastDoc = -1;
+
+        void append(int doc, int termCount) {
+            if (length + 6 > data.length) {
+                data = Arrays.copyOf(data, Math.max(data.length * 2, length + 6));
+            }
+            int delta = doc - lastDoc;
+            while ((delta & ~0x7F) != 0) {
+                data[length++] = (byte) ((delta & 0x7F) | 0x80);
+                delta >>>= 7;
+            }
+            data[length++] = (byte) delta;
+            data[length++] = (byte) termCount;
+            lastDoc = doc;
+            count++;
+        }
+
+        void replaceWith(PostingList other) {
+            data = Arrays.copyOf(other.data, other.length);
+            length = other.length;
+            count = other.count;
+            lastDoc = other.lastDoc;
+        }
+
+        Cursor cursor() {
+            return new Cursor();
+        }
+
+        final class Cursor {
+            private int position;
+            int doc = -1;
+            int count;
+
+            boolean next() {
+                if (position >= length) {
+                    return false;
+                }
+                int delta = 0;
+                int shift = 0;
+                byte b;
+                do {
+                    b = data[position++];
+                    delta |= (b & 0x7F) << shift;
+                    shift += 7;
+                } while (b < 0);
+                doc += delta;
+                count = data[position++] & 0xFF;
+                return true;
+            }
+        }
+    }
+}
@@ -1,8 +1,5 @@
 package com.jandi.plan_backend.util;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.jandi.plan_backend.commu.community.entity.Community;
 import com.jandi.plan_backend.commu.community.repository.CommunityLikeRepository;
 import com.jandi.plan_backend.image.entity.Image;
@@ -27,6 +24,8 @@ public class CommunityUtil {
     private final ImageRepository imageRepository;
     private final CommunityLikeRepository communityLikeRepository;
 
+    private static final int MAX_PREVIEW_LENGTH = 200;
+
     @Value("${image-prefix}")
     private String prefix;
 
@@ -45,38 +44,33 @@ public class CommunityUtil {
         return user != null && communityLikeRepository.existsByUserAndCommunity(user, community);
     }
 
+    /** 목록 썸네일: 게시글에 저장된 값을 사용하고, 아직 계산 전인 기존 게시글만 이미지 테이블에서 조회 */
     public String getThumbnailUrl(Community community) {
-        List<Image> thumbnails = imageRepository.findAllByTargetTypeAndTargetId("community", community.getPostId());
+        return getThumbnailUrl(community.getPostId(), community.getThumbnailUrl());
+    }
+
+    /** 목록 썸네일 (엔티티 없이 게시글 id와 저장된 썸네일 값만 있는 목록 프로젝션용) */
+    public String getThumbnailUrl(Integer postId, String thumbnailUrl) {
+        if (thumbnailUrl != null) {
+            return thumbnailUrl;
+        }
+        List<Image> thumbnails = imageRepository.findAllByTargetTypeAndTargetId("community", postId);
         return (thumbnails.isEmpty()) ? "" : prefix + thumbnails.get(0).getImageUrl();
     }
 
+    /** 본문(Quill JSON)에 들어 있는 첫 번째 이미지 주소 (없으면 "") */
+    public String getFirstInlineImageUrl(String contents) {
+        if (contents == null) {
+            return "";
+        }
+        Matcher matcher = Pattern.compile(Pattern.quote(prefix) + "([^\"\\s]+)").matcher(contents);
+        return matcher.find() ? prefix + matcher.group(1) : "";
+    }
+
     /** 엔터는 ""로 치환 후, 최대 200자 길이의 미리보기 내용을 추출합니다. */
     public String getPreview(String contents) {
-        StringBuilder preview = new StringBuilder();
-        try {
-            // contents를 ObjectMapper로 파싱
-            ObjectMapper mapper = new ObjectMapper();
-            JsonNode node = mapper.readTree(contents);
-
-            // contents 의 구조: {"ops":[{"insert":"..."},{"attributes":{"code-block":"plain"},..}
-            // 여기서 실제 추출해야 할 부분은 insert의 값이므로, for문을 돌면서 글자수가 채워질 때까지 insert 안의 내용을 순차적으로 더해갑니다
-            for(JsonNode opsNode : node.get("ops")) {
-                // 남은 preview의 길이 계산해서 공간 없다면
-                int maxPreviewLength = 200;
-                int leftLength = maxPreviewLength - preview.length();
-                if(leftLength < 1) break;
-
-                JsonNode insertNode = opsNode.get("insert");
-                if(insertNode != null) {
-                    //원문에서 \n은 ""으로 치환
-                    String insertNodeText = insertNode.asText().replace("\n", "");
-                    preview.append((insertNodeText.length() > leftLength) ? //넘치면 잘라내기
-                            insertNodeText.substring(0, leftLength) : insertNodeText);
-                }
-            }
-        } catch (JsonProcessingException e) {
-            throw new RuntimeException(e);
-        }
-        return preview.toString();
+        // contents 의 구조: {"ops":[{"insert":"..."},{"attributes":{"code-block":"plain"},..}
+        // insert의 값을 순서대로 더하되, 200자가 채워지면 나머지 본문은 파싱하지 않음
+        return QuillPreviewExtractor.extract(contents, MAX_PREVIEW_LENGTH);
     }
 }
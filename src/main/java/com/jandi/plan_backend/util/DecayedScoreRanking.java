@@ -0,0 +1,192 @@
+package com.jandi.plan_backend.util;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * 시간 감쇠 점수 순위 (서버 메모리, 인기 게시글 등)
+ * - 이벤트마다 가중치를 더하고, 점수는 반감기(halfLife)마다 절반으로 줄어듦
+ * - 점수를 로그 값 key = ln(Σ 가중치 × e^(λ × 이벤트 시각))으로 저장 (현재 점수 = e^(key - λ × 현재 시각))
+ *   모든 항목이 같은 비율로 감쇠하므로 이벤트가 없는 동안에는 순서가 바뀌지 않고,
+ *   로그 값이라 시간이 지나도 값이 넘치지 않아 주기적으로 전체 점수를 다시 계산할 필요가 없음
+ * - key 내림차순(같으면 id 내림차순)의 ConcurrentSkipListSet으로 유지하고, (key, id) 커서 다음부터 페이지 조회
+ *   항목별 갱신은 ConcurrentHashMap.compute 안에서 이전 항목을 빼고 새 항목을 넣음 (갱신 중인 항목은 잠시 조회에서 빠질 수 있음)
+ */
+public class DecayedScoreRanking {
+
+    private static final Comparator<Entry> ORDER = Comparator.comparingDouble(Entry::key).reversed()
+            .thenComparing(Comparator.comparingInt(Entry::id).reversed());
+
+    private final double lambda; // 1ms당 감쇠율 (ln2 / 반감기)
+    private final ConcurrentHashMap<Integer, Entry> entries = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListSet<Entry> order = new ConcurrentSkipListSet<>(ORDER);
+
+    /**
+     * 순위 항목 (id, 로그 점수, 생성 시각 epoch ms)
+     */
+    public record Entry(int id, double key, long createdAt) {
+    }
+
+    /**
+     * 페이지 커서 (마지막으로 조회한 항목의 key, id)
+     */
+    public record Cursor(double key, int id) {
+
+        public String encode() {
+            return Long.toHexString(Double.doubleToLongBits(key)) + "-" + id;
+        }
+
+        /**
+         * @throws IllegalArgumentException 형식이 잘못된 경우
+         */
+        public static Cursor decode(String value) {
+            int separator = value.indexOf('-');
+            if (separator <= 0) {
+                throw new IllegalArgumentException("잘못된 커서: " + value);
+            }
+            double key = Double.longBitsToDouble(Long.parseUnsignedLong(value.substring(0, separator), 16));
+            int id = Integer.parseInt(value.substring(separator + 1));
+            return new Cursor(key, id);
+        }
+    }
+
+    public DecayedScoreRanking(Duration halfLife) {
+        this.lambda = Math.log(2) / halfLife.toMillis();
+    }
+
+    /**
+     * 항목 추가 (이미 있으면 교체). weight는 at 시점의 점수
+     */
+    public void put(int id, double weight, long at, long createdAt) {
+        Entry entry = new Entry(id, Math.log(weight) + lambda * at, createdAt);
+        entries.compute(id, (key, previous) -> {
+            if (previous != null) {
+                order.remove(previous);
+            }
+            order.add(entry);
+            return entry;
+        });
+    }
+
+    /**
+     * 순위에 있는 항목의 점수에 weight를 더함 (음수면 뺌, 0 아래로는 내려가지 않음)
+     * @return 순위에 있던 항목인지 여부
+     */
+    public boolean add(int id, double weight, long at) {
+        return entries.computeIfPresent(id, (key, previous) -> {
+            Entry entry = new Entry(id, plus(previous.key(), weight, at), previous.createdAt());
+            order.remove(previous);
+            order.add(entry);
+            return entry;
+        }) != null;
+    }
+
+    public void remove(int id) {
+        entries.computeIfPresent(id, (key, previous) -> {
+            order.remove(previous);
+            return null;
+        });
+    }
+
+    /**
+     * 커서 다음부터 size개 (점수 내림차순). cursor가 null이면 처음부터
+     */
+    public List<Entry> page(Cursor cursor, int size) {
+        NavigableSet<Entry> view = (cursor == null) ? order
+                : order.tailSet(new Entry(cursor.id(), cursor.key(), 0), false);
+        List<Entry> page = new ArrayList<>(size);
+        Iterator<Entry> iterator = view.iterator();
+        while (page.size() < size && iterator.hasNext()) {
+            page.add(iterator.next());
+        }
+        return page;
+    }
+
+    /** now 시점의 점수 */
+    public double score(Entry entry, long now) {
+        return Math.exp(entry.key() - lambda * now);
+    }
+
+    /**
+     * createdBefore 이전에 생성된 항목 제거
+     * @return 제거한 수
+     */
+    public int removeCreatedBefore(long createdBefore) {
+        int removed = 0;
+        for (Entry entry : entries.values()) {
+            if (entry.createdAt() < createdBefore && removeIfSame(entry)) {
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * 점수가 낮은 항목부터 제거하여 최대 maxSize개만 남김
+     * @return 제거한 수
+     */
+    public int trim(int maxSize) {
+        int removed = 0;
+        while (entries.size() > maxSize) {
+            Entry last = order.pollLast();
+            if (last == null) {
+                break;
+            }
+            if (removeIfPolled(last)) {
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    // ==================== 내부 구현 ====================
+
+    private boolean removeIfSame(Entry entry) {
+        boolean[] removed = new boolean[1];
+        entries.computeIfPresent(entry.id(), (key, current) -> {
+            if (current != entry) {
+                return current;
+            }
+            order.remove(current);
+            removed[0] = true;
+            return null;
+        });
+        return removed[0];
+    }
+
+    // order에서 꺼낸 항목을 항목별 compute 안에서 제거 (꺼낸 사이 다른 스레드가 교체했으면 현재 항목을 order에 되돌림)
+    private boolean removeIfPolled(Entry polled) {
+        boolean[] removed = new boolean[1];
+        entries.computeIfPresent(polled.id(), (key, current) -> {
+            if (current != polled) {
+                order.add(current);
+                return current;
+            }
+            removed[0] = true;
+            return null;
+        });
+        return removed[0];
+    }
+
+    // ln(e^key ± |weight| × e^(λ × at))
+    private double plus(double key, double weight, long at) {
+        if (weight == 0) {
+            return key;
+        }
+        double x = Math.log(Math.abs(weight)) + lambda * at;
+        if (weight > 0) {
+            return (key >= x) ? key + Math.log1p(Math.exp(x - key)) : x + Math.log1p(Math.exp(key - x));
+        }
+        return (x >= key) ? Double.NEGATIVE_INFINITY : key + Math.log1p(-Math.exp(x - key));
+    }
+}
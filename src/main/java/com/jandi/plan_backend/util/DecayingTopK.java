@@ -0,0 +1,216 @@
+package com.jandi.plan_backend.util;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 시간 감쇠 상위 K개 추적 (서버 메모리, 인기 해시태그 등)
+ * - 키별 점수는 Count-Min Sketch(깊이 4, 너비 width)로 추정하므로 키 종류가 늘어도 메모리는 일정
+ *   (추정값은 실제보다 작지 않고, 다른 키와 충돌한 만큼만 커짐)
+ * - 상위 capacity개 후보는 점수 최소 힙으로 유지하고, 새 키의 추정값이 힙의 최솟값보다 크면 교체
+ * - 점수는 반감기(halfLife)마다 절반으로 줄어드는 지수 감쇠. 모든 값을 주기적으로 줄이는 대신
+ *   기준 시각(landmark) 이후 경과 시간만큼 가중치를 키워서 더하고(forward decay), 조회 시 현재 시각 기준으로 환산
+ *   가중치가 너무 커지기 전에 기준 시각을 옮기며 전체 값을 한 번에 줄임
+ * - 조회용 순위는 변경이 있을 때만 다시 정렬해 두고, 조회는 잠금 없이 상위 k개만 복사
+ */
+public class DecayingTopK {
+
+    private static final int DEPTH = 4;
+    private static final int[] SEEDS = {0x9E3779B9, 0x85EBCA6B, 0xC2B2AE35, 0x27D4EB2F};
+
+    // 가중치 지수(λ × 경과 시간)가 이 값을 넘으면 기준 시각을 옮김 (e^32 ≈ 8e13, double 정밀도 안에서 충분히 여유)
+    private static final double RESCALE_EXPONENT = 32;
+
+    private final int capacity;
+    private final int mask;
+    private final double lambda; // 1ms당 감쇠율 (ln2 / 반감기)
+    private final double[][] sketch;
+
+    private long landmark;
+
+    // 후보 최소 힙 (keys[i]의 점수 = values[i], 기준 시각 landmark 기준 값)
+    private final String[] keys;
+    private final double[] values;
+    private final Map<String, Integer> positions = new HashMap<>();
+    private int size;
+
+    private volatile Ranking ranking;
+    private volatile boolean dirty;
+
+    /**
+     * 조회 결과 (키, 조회 시각 기준 감쇠된 점수)
+     */
+    public record Item(String key, double score) {
+    }
+
+    // 점수 내림차순으로 정렬해 둔 후보
+    private record Ranking(String[] keys, double[] values, long landmark) {
+    }
+
+    /**
+     * @param capacity 추적할 상위 키 수
+     * @param width 스케치 너비 (2의 거듭제곱으로 올림)
+     * @param halfLife 점수 반감기
+     * @param now 기준 시각 (epoch ms)
+     */
+    public DecayingTopK(int capacity, int width, Duration halfLife, long now) {
+        this.capacity = capacity;
+        int tableSize = Integer.highestOneBit(Math.max(16, width - 1) << 1);
+        this.mask = tableSize - 1;
+        this.lambda = Math.log(2) / halfLife.toMillis();
+        this.sketch = new double[DEPTH][tableSize];
+        this.landmark = now;
+        this.keys = new String[capacity];
+        this.values = new double[capacity];
+        this.ranking = new Ranking(new String[0], new double[0], now);
+    }
+
+    /**
+     * 키의 점수에 weight를 더함 (now 시점의 가중치)
+     */
+    public synchronized void add(String key, double weight, long now) {
+        if (lambda * (now - landmark) > RESCALE_EXPONENT) {
+            rescale(now);
+        }
+        double scaled = weight * Math.exp(lambda * (now - landmark));
+        int hash = key.hashCode();
+        double estimate = Double.MAX_VALUE;
+        for (int d = 0; d < DEPTH; d++) {
+            int index = mix(hash ^ SEEDS[d]) & mask;
+            sketch[d][index] += scaled;
+            estimate = Math.min(estimate, sketch[d][index]);
+        }
+
+        Integer position = positions.get(key);
+        if (position != null) {
+            values[position] = estimate;
+            siftDown(position);
+        } else if (size < capacity) {
+            keys[size] = key;
+            values[size] = estimate;
+            positions.put(key, size);
+            siftUp(size++);
+        } else if (estimate > values[0]) {
+            positions.remove(keys[0]);
+            keys[0] = key;
+            values[0] = estimate;
+            positions.put(key, 0);
+            siftDown(0);
+        } else {
+            return;
+        }
+        dirty = true;
+    }
+
+    /**
+     * 점수 상위 k개 (점수 내림차순, now 시점 기준 점수)
+     */
+    public List<Item> top(int k, long now) {
+        Ranking current = dirty ? rebuildRanking() : ranking;
+        double factor = Math.exp(-lambda * (now - current.landmark()));
+        int count = Math.min(k, current.keys().length);
+        List<Item> items = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            items.add(new Item(current.keys()[i], current.values()[i] * factor));
+        }
+        return items;
+    }
+
+    /** 추적 중인 후보 수 */
+    public synchronized int size() {
+        return size;
+    }
+
+    // ==================== 내부 구현 ====================
+
+    private synchronized Ranking rebuildRanking() {
+        if (!dirty) {
+            return ranking;
+        }
+        Integer[] order = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Double.compare(values[b], values[a]));
+        String[] sortedKeys = new String[size];
+        double[] sortedValues = new double[size];
+        for (int i = 0; i < size; i++) {
+            sortedKeys[i] = keys[order[i]];
+            sortedValues[i] = values[order[i]];
+        }
+        Ranking rebuilt = new Ranking(sortedKeys, sortedValues, landmark);
+        ranking = rebuilt;
+        dirty = false;
+        return rebuilt;
+    }
+
+    // 기준 시각을 now로 옮기고 그동안의 감쇠를 모든 값에 반영 (순서는 그대로이므로 힙은 다시 정렬할 필요 없음)
+    private void rescale(long now) {
+        double factor = Math.exp(-lambda * (now - landmark));
+        for (double[] row : sketch) {
+            for (int i = 0; i < row.length; i++) {
+                row[i] *= factor;
+            }
+        }
+        for (int i = 0; i < size; i++) {
+            values[i] *= factor;
+        }
+        landmark = now;
+        dirty = true;
+    }
+
+    private void siftUp(int position) {
+        while (position > 0) {
+            int parent = (position - 1) >>> 1;
+            if (values[parent] <= values[position]) {
+                break;
+            }
+            swap(position, parent);
+            position = parent;
+        }
+    }
+
+    private void siftDown(int position) {
+        while (true) {
+            int smallest = position;
+            int left = 2 * position + 1;
+            int right = left + 1;
+            if (left < size && values[left] < values[smallest]) {
+                smallest = left;
+            }
+            if (right < size && values[right] < values[smallest]) {
+                smallest = right;
+            }
+            if (smallest == position) {
+                return;
+            }
+            swap(position, smallest);
+            position = smallest;
+        }
+    }
+
+    private void swap(int a, int b) {
+        String key = keys[a];
+        double value = values[a];
+        keys[a] = keys[b];
+        values[a] = values[b];
+        keys[b] = key;
+        values[b] = value;
+        positions.put(keys[a], a);
+        positions.put(keys[b], b);
+    }
+
+    // 비트를 고르게 섞는 해시 (murmur3 fmix32)
+    private static int mix(int h) {
+        h ^= h >>> 16;
+        h *= 0x85EBCA6B;
+        h ^= h >>> 13;
+        h *= 0xC2B2AE35;
+        h ^= h >>> 16;
+        return h;
+    }
+}
@@ -0,0 +1,252 @@
+package com.jandi.plan_backend.util;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardOpenOption.*;
+
+/**
+ * 용량 제한이 있는 디스크 LRU 캐시
+ * - 값은 dir/data/<키 해시>.bin 파일로 저장
+ * - 색인은 고정 크기 레코드 배열인 dir/index.bin을 메모리 매핑해 기록 (재시작 후에도 캐시 유지)
+ * - 사용 순서는 메모리의 access-order LinkedHashMap으로 관리하고, 마지막 사용 시각만 색인에 기록
+ * - 전체 크기가 maxBytes를 넘거나 레코드가 부족하면 가장 오래 사용하지 않은 값부터 삭제
+ * 스레드 안전 (색인 변경은 모두 동기화)
+ */
+public class DiskLruCache implements Closeable {
+
+    // 레코드: [사용 여부 1][키 SHA-256 32][크기 8][마지막 사용 시각 8][값 SHA-256 앞 16][콘텐츠 타입 길이 1][콘텐츠 타입 62]
+    private static final int RECORD_SIZE = 128;
+    private static final int OFFSET_USED = 0;
+    private static final int OFFSET_KEY = 1;
+    private static final int OFFSET_SIZE = 33;
+    private static final int OFFSET_LAST_ACCESS = 41;
+    private static final int OFFSET_DIGEST = 49;
+    private static final int OFFSET_CONTENT_TYPE_LENGTH = 65;
+    private static final int OFFSET_CONTENT_TYPE = 66;
+    private static final int KEY_BYTES = 32;
+    private static final int DIGEST_BYTES = 16;
+    private static final int MAX_CONTENT_TYPE_BYTES = RECORD_SIZE - OFFSET_CONTENT_TYPE;
+
+    /**
+     * 캐시에 저장된 값 (etag는 값의 해시라 내용이 같으면 항상 같음)
+     */
+    public record Entry(String etag, String contentType, long size, Path file) {
+    }
+
+    private record Node(int slot, Entry entry) {
+    }
+
+    private final Path dataDir;
+    private final Path tmpDir;
+    private final long maxBytes;
+    private final int maxEntries;
+    private final FileChannel indexChannel;
+    private final MappedByteBuffer index;
+
+    // 키 해시(hex) → 레코드, 가장 오래 사용하지 않은 것이 맨 앞
+    private final LinkedHashMap<String, Node> nodes = new LinkedHashMap<>(16, 0.75f, true);
+    private final Deque<Integer> freeSlots = new ArrayDeque<>();
+    private long totalBytes;
+
+    public DiskLruCache(Path dir, long maxBytes, int maxEntries) throws IOException {
+        if (maxBytes <= 0 || maxEntries <= 0) {
+            throw new IllegalArgumentException("maxBytes와 maxEntries는 0보다 커야 합니다.");
+        }
+        this.dataDir = Files.createDirectories(dir.resolve("data"));
+        this.tmpDir = Files.createDirectories(dir.resolve("tmp"));
+        this.maxBytes = maxBytes;
+        this.maxEntries = maxEntries;
+        this.indexChannel = FileChannel.open(dir.resolve("index.bin"), CREATE, READ, WRITE);
+        this.index = indexChannel.map(FileChannel.MapMode.READ_WRITE, 0, (long) RECORD_SIZE * maxEntries);
+        load();
+    }
+
+    /**
+     * 키의 값 조회 (조회한 값은 가장 최근 사용으로 표시)
+     */
+    public synchronized Optional<Entry> get(String key) {
+        Node node = nodes.get(hashKey(key));
+        if (node == null) {
+            return Optional.empty();
+        }
+        index.putLong(node.slot() * RECORD_SIZE + OFFSET_LAST_ACCESS, System.currentTimeMillis());
+        return Optional.of(node.entry());
+    }
+
+    /**
+     * 값 저장 (같은 키의 기존 값은 교체)
+     * 파일 쓰기는 임시 파일에 먼저 하고, 색인 갱신 직전에 제자리로 옮김
+     */
+    public Entry put(String key, byte[] value, String contentType) throws IOException {
+        if (value.length > maxBytes) {
+            throw new IOException("캐시 최대 크기보다 큰 값입니다: " + value.length + " bytes");
+        }
+        String keyHash = hashKey(key);
+        byte[] digest = Arrays.copyOf(sha256(value), DIGEST_BYTES);
+        byte[] contentTypeBytes = contentType.getBytes(US_ASCII);
+        if (contentTypeBytes.length > MAX_CONTENT_TYPE_BYTES) {
+            throw new IllegalArgumentException("콘텐츠 타입이 너무 깁니다: " + contentType);
+        }
+
+        Path tmp = Files.createTempFile(tmpDir, keyHash, ".part");
+        try (FileChannel channel = FileChannel.open(tmp, WRITE)) {
+            ByteBuffer buffer = ByteBuffer.wrap(value);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        } catch (IOException e) {
+            Files.deleteIfExists(tmp);
+            throw e;
+        }
+
+        Path file = dataDir.resolve(keyHash + ".bin");
+        Entry entry = new Entry(HexFormat.of().formatHex(digest), contentType, value.length, file);
+        synchronized (this) {
+            Node previous = nodes.remove(keyHash);
+            if (previous != null) {
+                releaseSlot(previous);
+            }
+            while (!nodes.isEmpty() && (totalBytes + value.length > maxBytes || freeSlots.isEmpty())) {
+                evictEldest();
+            }
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+            int slot = freeSlots.poll();
+            int base = slot * RECORD_SIZE;
+            index.put(base + OFFSET_KEY, HexFormat.of().parseHex(keyHash));
+            index.putLong(base + OFFSET_SIZE, value.length);
+            index.putLong(base + OFFSET_LAST_ACCESS, System.currentTimeMillis());
+            index.put(base + OFFSET_DIGEST, digest);
+            index.put(base + OFFSET_CONTENT_TYPE_LENGTH, (byte) contentTypeBytes.length);
+            index.put(base + OFFSET_CONTENT_TYPE, contentTypeBytes);
+            // 레코드 내용을 모두 쓴 뒤에 사용 표시 (중간에 종료되면 빈 레코드로 남음)
+            index.put(base + OFFSET_USED, (byte) 1);
+
+            nodes.put(keyHash, new Node(slot, entry));
+            totalBytes += value.length;
+        }
+        return entry;
+    }
+
+    /**
+     * 키의 값 삭제
+     */
+    public synchronized boolean remove(String key) {
+        Node node = nodes.remove(hashKey(key));
+        if (node == null) {
+            return false;
+        }
+        releaseSlot(node);
+        return true;
+    }
+
+    public synchronized int size() {
+        return nodes.size();
+    }
+
+    public synchronized long totalBytes() {
+        return totalBytes;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        index.force();
+        indexChannel.close();
+    }
+
+    // 색인 파일에서 레코드를 읽어 사용 순서를 복원하고, 색인에 없는 파일은 삭제
+    private void load() throws IOException {
+        record Loaded(String keyHash, int slot, long lastAccess, Entry entry) {
+        }
+        List<Loaded> loaded = new ArrayList<>();
+        for (int slot = 0; slot < maxEntries; slot++) {
+            int base = slot * RECORD_SIZE;
+            if (index.get(base + OFFSET_USED) != 1) {
+                freeSlots.add(slot);
+                continue;
+            }
+            byte[] keyBytes = new byte[KEY_BYTES];
+            index.get(base + OFFSET_KEY, keyBytes);
+            byte[] digest = new byte[DIGEST_BYTES];
+            index.get(base + OFFSET_DIGEST, digest);
+            byte[] contentType = new byte[Math.min(index.get(base + OFFSET_CONTENT_TYPE_LENGTH) & 0xFF,
+                    MAX_CONTENT_TYPE_BYTES)];
+            index.get(base + OFFSET_CONTENT_TYPE, contentType);
+            long size = index.getLong(base + OFFSET_SIZE);
+
+            String keyHash = HexFormat.of().formatHex(keyBytes);
+            Path file = dataDir.resolve(keyHash + ".bin");
+            if (!Files.isRegularFile(file) || Files.size(file) != size) {
+                index.put(base + OFFSET_USED, (byte) 0);
+                freeSlots.add(slot);
+                continue;
+            }
+            Entry entry = new Entry(HexFormat.of().formatHex(digest), new String(contentType, US_ASCII), size, file);
+            loaded.add(new Loaded(keyHash, slot, index.getLong(base + OFFSET_LAST_ACCESS), entry));
+        }
+
+        loaded.sort(Comparator.comparingLong(Loaded::lastAccess));
+        for (Loaded l : loaded) {
+            nodes.put(l.keyHash(), new Node(l.slot(), l.entry()));
+            totalBytes += l.entry().size();
+        }
+        // 설정이 줄어든 경우를 대비해 제한을 넘는 만큼 정리
+        while (totalBytes > maxBytes) {
+            evictEldest();
+        }
+
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(dataDir)) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                if (!name.endsWith(".bin") || !nodes.containsKey(name.substring(0, name.length() - 4))) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(tmpDir)) {
+            for (Path file : files) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+
+    private void evictEldest() {
+        Iterator<Node> it = nodes.values().iterator();
+        Node eldest = it.next();
+        it.remove();
+        releaseSlot(eldest);
+    }
+
+    private void releaseSlot(Node node) {
+        index.put(node.slot() * RECORD_SIZE + OFFSET_USED, (byte) 0);
+        freeSlots.add(node.slot());
+        totalBytes -= node.entry().size();
+        try {
+            Files.deleteIfExists(node.entry().file());
+        } catch (IOException ignored) {
+            // 남은 파일은 다음 시작 시 정리됨
+        }
+    }
+
+    private static String hashKey(String key) {
+        return HexFormat.of().formatHex(sha256(key.getBytes(UTF_8)));
+    }
+
+    private static byte[] sha256(byte[] bytes) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(bytes);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,412 @@
+package com.jandi.plan_backend.util;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * 위/경도 격자(grid) 기반 공간 인덱스 (서버 메모리)
+ * - 좌표는 슬롯 번호로 관리하는 원시 배열(long[], double[])에 저장
+ * - 위도/경도를 cellDegrees 크기의 칸으로 나누고, 칸별로 슬롯 번호 목록을 유지
+ * - 반경/영역 조회는 겹치는 칸만, 최근접 조회는 중심 칸에서 바깥으로 링을 넓혀가며 탐색
+ * - 살펴볼 칸 수가 점유된 칸 수보다 많아지면 전체 슬롯을 순회하는 편이 빠르므로 전체 스캔으로 전환
+ * 읽기는 동시에, 쓰기는 배타적으로 수행 (ReadWriteLock)
+ */
+public class GeoGridIndex {
+
+    private static final double EARTH_RADIUS_METERS = 6_371_000d;
+    private static final double METERS_PER_DEGREE = Math.PI * EARTH_RADIUS_METERS / 180d;
+
+    private final double cellDegrees;
+    private final int rows;
+    private final int cols;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // 슬롯별 좌표 (삭제된 슬롯은 freeSlots에 보관 후 재사용)
+    private long[] ids = new long[16];
+    private double[] lats = new double[16];
+    private double[] lngs = new double[16];
+    private int slotCount;
+    private int[] freeSlots = new int[16];
+    private int freeCount;
+
+    private final Map<Long, Integer> slotById = new HashMap<>();
+    private final Map<Long, Cell> cells = new HashMap<>();
+
+    /**
+     * @param cellDegrees 격자 한 칸의 크기(도). 조회 반경과 비슷한 크기가 적당
+     */
+    public GeoGridIndex(double cellDegrees) {
+        if (cellDegrees <= 0 || cellDegrees > 90) {
+            throw new IllegalArgumentException("cellDegrees must be in (0, 90]: " + cellDegrees);
+        }
+        this.cellDegrees = cellDegrees;
+        this.rows = (int) Math.ceil(180d / cellDegrees);
+        this.cols = (int) Math.ceil(360d / cellDegrees);
+    }
+
+    /**
+     * 좌표 추가 (이미 있는 id면 위치 갱신)
+     */
+    public void put(long id, double latitude, double longitude) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(id);
+            int slot = allocateSlot();
+            ids[slot] = id;
+            lats[slot] = latitude;
+            lngs[slot] = longitude;
+            slotById.put(id, slot);
+            cells.computeIfAbsent(cellKey(row(latitude), col(longitude)), key -> new Cell()).add(slot);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 좌표 제거
+     * @return 제거 여부
+     */
+    public boolean remove(long id) {
+        lock.writeLock().lock();
+        try {
+            return removeInternal(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 인덱스를 비우고 주어진 좌표로 다시 구성
+     */
+    public void replaceAll(long[] newIds, double[] newLats, double[] newLngs) {
+        lock.writeLock().lock();
+        try {
+            slotById.clear();
+            cells.clear();
+            slotCount = 0;
+            freeCount = 0;
+            for (int i = 0; i < newIds.length; i++) {
+                int slot = allocateSlot();
+                ids[slot] = newIds[i];
+                lats[slot] = newLats[i];
+                lngs[slot] = newLngs[i];
+                slotById.put(newIds[i], slot);
+                cells.computeIfAbsent(cellKey(row(newLats[i]), col(newLngs[i])), key -> new Cell()).add(slot);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return slotById.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 중심에서 반경(m) 이내의 좌표 (가까운 순)
+     */
+    public List<Hit> withinRadius(double latitude, double longitude, double radiusMeters) {
+        lock.readLock().lock();
+        try {
+            List<Hit> hits = new ArrayList<>();
+            double latSpan = radiusMeters / METERS_PER_DEGREE;
+            int rowFrom = row(latitude - latSpan);
+            int rowTo = row(latitude + latSpan);
+
+            // 극지방에 가깝거나 반경이 넓으면 경도 방향은 전체 칸을 대상으로 함
+            double maxAbsLat = Math.abs(latitude) + latSpan;
+            double lngSpan = (maxAbsLat >= 90) ? 180 : latSpan / Math.cos(Math.toRadians(maxAbsLat));
+            int colFrom;
+            int colCount;
+            if (lngSpan >= 180) {
+                colFrom = 0;
+                colCount = cols;
+            } else {
+                colFrom = (int) Math.floor((longitude - lngSpan + 180) / cellDegrees);
+                colCount = Math.min(cols, (int) Math.floor((longitude + lngSpan + 180) / cellDegrees) - colFrom + 1);
+            }
+
+            if ((long) (rowTo - rowFrom + 1) * colCount > cells.size()) {
+                for (Cell cell : cells.values()) {
+                    collectWithinRadius(cell, latitude, longitude, radiusMeters, hits);
+                }
+            } else {
+                for (int r = rowFrom; r <= rowTo; r++) {
+                    for (int c = 0; c < colCount; c++) {
+                        Cell cell = cells.get(cellKey(r, Math.floorMod(colFrom + c, cols)));
+                        if (cell != null) {
+                            collectWithinRadius(cell, latitude, longitude, radiusMeters, hits);
+                        }
+                    }
+                }
+            }
+            hits.sort(Hit.BY_DISTANCE);
+            return hits;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 영역 안의 좌표 id (오름차순)
+     * minLongitude > maxLongitude이면 날짜 변경선을 넘는 영역으로 간주
+     */
+    public long[] withinBox(double minLatitude, double minLongitude, double maxLatitude, double maxLongitude) {
+        lock.readLock().lock();
+        try {
+            boolean wraps = minLongitude > maxLongitude;
+            int rowFrom = row(minLatitude);
+            int rowTo = row(maxLatitude);
+            int colFrom = col(minLongitude);
+            int colTo = col(maxLongitude);
+            int colCount = wraps ? (cols - colFrom) + colTo + 1 : colTo - colFrom + 1;
+            colCount = Math.min(cols, Math.max(colCount, 0));
+
+            LongList result = new LongList();
+            if ((long) Math.max(rowTo - rowFrom + 1, 0) * colCount > cells.size()) {
+                for (Cell cell : cells.values()) {
+                    collectWithinBox(cell, minLatitude, minLongitude, maxLatitude, maxLongitude, wraps, result);
+                }
+            } else {
+                for (int r = rowFrom; r <= rowTo; r++) {
+                    for (int c = 0; c < colCount; c++) {
+                        Cell cell = cells.get(cellKey(r, Math.floorMod(colFrom + c, cols)));
+                        if (cell != null) {
+                            collectWithinBox(cell, minLatitude, minLongitude, maxLatitude, maxLongitude, wraps, result);
+                        }
+                    }
+                }
+            }
+            long[] sorted = result.toArray();
+            Arrays.sort(sorted);
+            return sorted;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 중심에서 가까운 k개 좌표 (가까운 순)
+     */
+    public List<Hit> nearest(double latitude, double longitude, int k) {
+        if (k <= 0) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            // 거리가 가장 먼 후보가 맨 앞에 오는 최대 힙 (크기 k 유지)
+            PriorityQueue<Hit> heap = new PriorityQueue<>(k + 1, Hit.BY_DISTANCE.reversed());
+            if (k >= slotById.size()) {
+                for (Cell cell : cells.values()) {
+                    offerAll(cell, latitude, longitude, k, heap);
+                }
+                return drainSorted(heap);
+            }
+
+            int centerRow = row(latitude);
+            int centerCol = col(longitude);
+            for (int ring = 0; ; ring++) {
+                visitRing(centerRow, centerCol, ring, cell -> offerAll(cell, latitude, longitude, k, heap));
+
+                // 다음 링 밖의 좌표는 현재 블록 경계까지의 거리보다 가까울 수 없음
+                if (heap.size() == k) {
+                    double kthDistance = heap.peek().distanceMeters();
+                    if (kthDistance <= blockGapMeters(latitude, longitude, centerRow, centerCol, ring, kthDistance)) {
+                        return drainSorted(heap);
+                    }
+                }
+
+                // 다음 링까지의 칸 수가 점유된 칸 수보다 많아지면 전체 스캔이 더 저렴
+                int nextWidth = 2 * (ring + 1) + 1;
+                if ((long) nextWidth * nextWidth > cells.size() || nextWidth >= cols) {
+                    heap.clear();
+                    for (Cell cell : cells.values()) {
+                        offerAll(cell, latitude, longitude, k, heap);
+                    }
+                    return drainSorted(heap);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 두 좌표 사이의 거리(m, 하버사인)
+     */
+    public static double distanceMeters(double lat1, double lng1, double lat2, double lng2) {
+        double sinDLat = Math.sin(Math.toRadians(lat2 - lat1) / 2);
+        double sinDLng = Math.sin(Math.toRadians(lng2 - lng1) / 2);
+        double a = sinDLat * sinDLat
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) * sinDLng * sinDLng;
+        return 2 * EARTH_RADIUS_METERS * Math.asin(Math.min(1d, Math.sqrt(a)));
+    }
+
+    // 중심 칸에서 ring만큼 떨어진 블록의 경계까지 최소 거리 (블록 밖 좌표의 거리 하한)
+    private double blockGapMeters(double latitude, double longitude, int centerRow, int centerCol, int ring, double reach) {
+        double south = (centerRow - ring) * cellDegrees - 90;
+        double north = (centerRow + ring + 1) * cellDegrees - 90;
+        double west = (centerCol - ring) * cellDegrees - 180;
+        double east = (centerCol + ring + 1) * cellDegrees - 180;
+        double latGap = Math.min(latitude - south, north - latitude) * METERS_PER_DEGREE;
+        // 경도 1도의 길이는 고위도로 갈수록 짧아지므로, 관심 범위(reach) 안의 최고 위도 기준으로 보수적으로 계산
+        double maxAbsLat = Math.min(90, Math.abs(latitude) + reach / METERS_PER_DEGREE);
+        double lngGap = Math.min(longitude - west, east - longitude) * METERS_PER_DEGREE * Math.cos(Math.toRadians(maxAbsLat));
+        return Math.min(latGap, lngGap);
+    }
+
+    private void visitRing(int centerRow, int centerCol, int ring, Consumer<Cell> visitor) {
+        for (int r = centerRow - ring; r <= centerRow + ring; r++) {
+            if (r < 0 || r >= rows) {
+                continue;
+            }
+            boolean edgeRow = (r == centerRow - ring || r == centerRow + ring);
+            int step = edgeRow ? 1 : 2 * ring;
+            for (int c = centerCol - ring; c <= centerCol + ring; c += Math.max(step, 1)) {
+                Cell cell = cells.get(cellKey(r, Math.floorMod(c, cols)));
+                if (cell != null) {
+                    visitor.accept(cell);
+                }
+            }
+        }
+    }
+
+    private void collectWithinRadius(Cell cell, double latitude, double longitude, double radiusMeters, List<Hit> hits) {
+        for (int i = 0; i < cell.size; i++) {
+            int slot = cell.slots[i];
+            double distance = distanceMeters(latitude, longitude, lats[slot], lngs[slot]);
+            if (distance <= radiusMeters) {
+                hits.add(new Hit(ids[slot], distance));
+            }
+        }
+    }
+
+    private void collectWithinBox(Cell cell, double minLat, double minLng, double maxLat, double maxLng,
+                                  boolean wraps, LongList result) {
+        for (int i = 0; i < cell.size; i++) {
+            int slot = cell.slots[i];
+            double lat = lats[slot];
+            double lng = lngs[slot];
+            boolean inLng = wraps ? (lng >= minLng || lng <= maxLng) : (lng >= minLng && lng <= maxLng);
+            if (lat >= minLat && lat <= maxLat && inLng) {
+                result.add(ids[slot]);
+            }
+        }
+    }
+
+    private void offerAll(Cell cell, double latitude, double longitude, int k, PriorityQueue<Hit> heap) {
+        for (int i = 0; i < cell.size; i++) {
+            int slot = cell.slots[i];
+            double distance = distanceMeters(latitude, longitude, lats[slot], lngs[slot]);
+            if (heap.size() < k) {
+                heap.add(new Hit(ids[slot], distance));
+            } else if (distance < heap.peek().distanceMeters()) {
+                heap.poll();
+                heap.add(new Hit(ids[slot], distance));
+            }
+        }
+    }
+
+    private static List<Hit> drainSorted(PriorityQueue<Hit> heap) {
+        List<Hit> hits = new ArrayList<>(heap);
+        hits.sort(Hit.BY_DISTANCE);
+        return hits;
+    }
+
+    private boolean removeInternal(long id) {
+        Integer slot = slotById.remove(id);
+        if (slot == null) {
+            return false;
+        }
+        long key = cellKey(row(lats[slot]), col(lngs[slot]));
+        Cell cell = cells.get(key);
+        if (cell != null && cell.remove(slot) && cell.size == 0) {
+            cells.remove(key);
+        }
+        if (freeCount == freeSlots.length) {
+            freeSlots = Arrays.copyOf(freeSlots, freeCount * 2);
+        }
+        freeSlots[freeCount++] = slot;
+        return true;
+    }
+
+    private int allocateSlot() {
+        if (freeCount > 0) {
+            return freeSlots[--freeCount];
+        }
+        if (slotCount == ids.length) {
+            int capacity = ids.length * 2;
+            ids = Arrays.copyOf(ids, capacity);
+            lats = Arrays.copyOf(lats, capacity);
+            lngs = Arrays.copyOf(lngs, capacity);
+        }
+        return slotCount++;
+    }
+
+    private int row(double latitude) {
+        int row = (int) Math.floor((latitude + 90) / cellDegrees);
+        return Math.max(0, Math.min(rows - 1, row));
+    }
+
+    private int col(double longitude) {
+        return Math.floorMod((int) Math.floor((longitude + 180) / cellDegrees), cols);
+    }
+
+    private long cellKey(int row, int col) {
+        return (long) row * cols + col;
+    }
+
+    /**
+     * 조회 결과 (id, 중심으로부터의 거리(m))
+     */
+    public record Hit(long id, double distanceMeters) {
+        static final Comparator<Hit> BY_DISTANCE = Comparator
+                .comparingDouble(Hit::distanceMeters)
+                .thenComparingLong(Hit::id);
+    }
+
+    // 칸에 속한 슬롯 번호 목록 (순서 무관, 삭제는 마지막 원소와 교체)
+    private static final class Cell {
+        private int[] slots = new int[4];
+        private int size;
+
+        void add(int slot) {
+            if (size == slots.length) {
+                slots = Arrays.copyOf(slots, size * 2);
+            }
+            slots[size++] = slot;
+        }
+
+        boolean remove(int slot) {
+            for (int i = 0; i < size; i++) {
+                if (slots[i] == slot) {
+                    slots[i] = slots[--size];
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    private static final class LongList {
+        private long[] values = new long[16];
+        private int size;
+
+        void add(long value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        long[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.jandi.plan_backend.util;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * HyperLogLog 고유 개수 추정 (게시글 고유 조회자 수 등)
+ * - 레지스터 2^14개(16KB)로 개수와 상관없이 메모리가 일정하고, 표준 오차는 약 0.8%
+ * - 키의 64비트 해시에서 앞 14비트로 레지스터를 고르고, 나머지 비트의 선행 0 개수 + 1 중 최댓값을 기록
+ * - 두 스케치는 레지스터별 최댓값으로 합칠 수 있어 메모리에 모은 조회자를 저장된 스케치에 나중에 합침
+ * - 저장 형식: 값이 있는 레지스터가 적으면 (번호 차이값 varint, 값) 목록, 많으면 레지스터 배열 그대로
+ * 스레드 안전하지 않으므로 호출하는 쪽에서 동기화
+ */
+public class HyperLogLog {
+
+    private static final int PRECISION = 14;
+    private static final int REGISTER_COUNT = 1 << PRECISION;
+
+    // 보정 상수 α(m) = 0.7213 / (1 + 1.079 / m)
+    private static final double ALPHA = 0.7213 / (1 + 1.079 / REGISTER_COUNT);
+
+    private static final byte FORMAT_SPARSE = 1;
+    private static final byte FORMAT_DENSE = 2;
+
+    private final byte[] registers = new byte[REGISTER_COUNT];
+
+    /**
+     * 키 추가
+     * @return 레지스터가 바뀌었는지 여부 (이미 본 키면 항상 false)
+     */
+    public boolean add(String key) {
+        long hash = hash64(key);
+        int index = (int) (hash >>> (64 - PRECISION));
+        // 나머지 50비트의 선행 0 개수 + 1 (모두 0이면 51)
+        int rank = Long.numberOfLeadingZeros((hash << PRECISION) | (1L << (PRECISION - 1))) + 1;
+        if (rank > registers[index]) {
+            registers[index] = (byte) rank;
+            return true;
+        }
+        return false;
+    }
+
+    /** other의 키를 모두 추가한 것과 같도록 합침 */
+    public void merge(HyperLogLog other) {
+        for (int i = 0; i < REGISTER_COUNT; i++) {
+            if (other.registers[i] > registers[i]) {
+                registers[i] = other.registers[i];
+            }
+        }
+    }
+
+    /** 추정 고유 개수 */
+    public long estimate() {
+        double sum = 0;
+        int zeros = 0;
+        for (byte register : registers) {
+            sum += 1.0 / (1L << register);
+            if (register == 0) {
+                zeros++;
+            }
+        }
+        double estimate = ALPHA * REGISTER_COUNT * REGISTER_COUNT / sum;
+        // 작은 개수는 빈 레지스터 비율로 계산 (linear counting)
+        if (estimate <= 2.5 * REGISTER_COUNT && zeros > 0) {
+            estimate = REGISTER_COUNT * Math.log((double) REGISTER_COUNT / zeros);
+        }
+        return Math.round(estimate);
+    }
+
+    /** 저장용 바이트 배열 */
+    public byte[] toBytes() {
+        int nonZero = 0;
+        for (byte register : registers) {
+            if (register != 0) {
+                nonZero++;
+            }
+        }
+        // 차이값 varint는 대부분 1~2바이트이므로 레지스터당 최대 3바이트로 보고 형식 선택
+        if (nonZero * 3 + 4 >= REGISTER_COUNT) {
+            byte[] dense = new byte[REGISTER_COUNT + 1];
+            dense[0] = FORMAT_DENSE;
+            System.arraycopy(registers, 0, dense, 1, REGISTER_COUNT);
+            return dense;
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream(nonZero * 3 + 4);
+        out.write(FORMAT_SPARSE);
+        writeVarint(out, nonZero);
+        int previous = 0;
+        for (int i = 0; i < REGISTER_COUNT; i++) {
+            if (registers[i] != 0) {
+                writeVarint(out, i - previous);
+                out.write(registers[i]);
+                previous = i;
+            }
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * 저장된 바이트 배열로 복원 (null이나 빈 배열이면 빈 스케치)
+     * @throws IllegalArgumentException 형식이 잘못된 경우
+     */
+    public static HyperLogLog fromBytes(byte[] bytes) {
+        HyperLogLog sketch = new HyperLogLog();
+        if (bytes == null || bytes.length == 0) {
+            return sketch;
+        }
+        try {
+            if (bytes[0] == FORMAT_DENSE && bytes.length == REGISTER_COUNT + 1) {
+                System.arraycopy(bytes, 1, sketch.registers, 0, REGISTER_COUNT);
+                return sketch;
+            }
+            if (bytes[0] == FORMAT_SPARSE) {
+                int[] position = {1};
+                int count = readVarint(bytes, position);
+                int index = 0;
+                for (int i = 0; i < count; i++) {
+                    index += readVarint(bytes, position);
+                    sketch.registers[index] = bytes[position[0]++];
+                }
+                return sketch;
+            }
+        } catch (ArrayIndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("손상된 HyperLogLog 데이터입니다", e);
+        }
+        throw new IllegalArgumentException("알 수 없는 HyperLogLog 형식입니다: " + bytes[0]);
+    }
+
+    // ==================== 내부 구현 ====================
+
+    // UTF-8 바이트의 FNV-1a 64비트 해시를 murmur3 fmix64로 섞음
+    static long hash64(String key) {
+        long hash = 0xCBF29CE484222325L;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= (b & 0xFF);
+            hash *= 0x100000001B3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xFF51AFD7ED558CCDL;
+        hash ^= hash >>> 33;
+        hash *= 0xC4CEB9FE1A85EC53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+    private static void writeVarint(ByteArrayOutputStream out, int value) {
+        while ((value & ~0x7F) != 0) {
+            out.write((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.write(value);
+    }
+
+    private static int readVarint(byte[] bytes, int[] position) {
+        int value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = bytes[position[0]++];
+            value |= (b & 0x7F) << shift;
+            shift += 7;
+        } while (b < 0);
+        return value;
+    }
+}
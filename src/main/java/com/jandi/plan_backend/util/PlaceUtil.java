@@ -9,13 +9,49 @@ import com.jandi.plan_backend.util.service.BadRequestExceptionMessage;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.text.Normalizer;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Component
 @RequiredArgsConstructor
 public class PlaceUtil {
     private final PlaceRepository placeRepository;
 
+    // 이름과 주소를 구분하는 문자 (정규화 후 입력에 남지 않는 제어 문자)
+    private static final char KEY_SEPARATOR = '\u001F';
+
+    /**
+     * 장소 중복 판별용 정규화 키 (이름 + 주소)
+     */
+    public static String normalizeKey(String name, String address) {
+        return normalizeText(name) + KEY_SEPARATOR + normalizeText(address);
+    }
+
+    /**
+     * 전각/반각(NFKC), 대소문자, 공백/제어 문자 차이를 없앤 문자열
+     * 예: "Ｓｅｏｕｌ  Tower" → "seoultower"
+     */
+    public static String normalizeText(String text) {
+        if (text == null) {
+            return "";
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        StringBuilder sb = new StringBuilder(normalized.length());
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (!Character.isWhitespace(c) && !Character.isSpaceChar(c) && !Character.isISOControl(c)) {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
     public ItineraryRespDTO convertPlaceToDto(Long placeId, Itinerary itinerary) {
         Optional<Place> placeOpt = placeRepository.findById(placeId);
 
@@ -35,4 +71,29 @@ public class PlaceUtil {
         );
         return new ItineraryRespDTO(itinerary, placeDto);
     }
+
+    /**
+     * 여러 일정의 장소 정보를 한 번에 조회하여 DTO로 변환 (N+1 방지)
+     * @param itineraries 일정 목록 (순서 유지)
+     * @return 일정 DTO 목록
+     */
+    public List<ItineraryRespDTO> convertPlacesToDto(List<Itinerary> itineraries) {
+        if (itineraries == null || itineraries.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<Long> placeIds = itineraries.stream()
+                .map(Itinerary::getPlaceId)
+                .distinct()
+                .collect(Collectors.toList());
+        Map<Long, Place> placeMap = placeRepository.findAllById(placeIds).stream()
+                .collect(Collectors.toMap(Place::getPlaceId, Function.identity()));
+
+        return itineraries.stream().map(itinerary -> {
+            Place place = placeMap.get(itinerary.getPlaceId());
+            if (place == null)
+                throw new BadRequestExceptionMessage("일정에 연결된 장소 정보가 없습니다. placeId: " + itinerary.getPlaceId());
+            return convertPlaceToDto(place, itinerary);
+        }).collect(Collectors.toList());
+    }
 }
@@ -0,0 +1,102 @@
+package com.jandi.plan_backend.util;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+
+/**
+ * Quill 본문(JSON)에서 미리보기/검색용 텍스트를 추출하는 유틸리티 클래스.
+ * 본문 구조: {"ops":[{"insert":"..."},{"attributes":{"code-block":"plain"},"insert":"\n"},{"insert":{"image":"..."}}]}
+ *
+ * - 트리(JsonNode)를 만들지 않고 스트리밍 파서로 ops 배열을 순서대로 읽으며 insert 텍스트만 이어 붙임
+ * - 미리보기는 줄바꿈을 건너뛰고, 최대 길이가 채워지면 나머지 본문은 읽지 않음
+ * - 검색용 전체 텍스트는 줄바꿈을 공백으로 바꿈
+ * - 텍스트가 아닌 insert(이미지 등)는 건너뜀
+ */
+public final class QuillPreviewExtractor {
+
+    // 파서 생성용 팩토리 (스레드 안전, 버퍼 재활용을 위해 공유)
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private QuillPreviewExtractor() {
+        // 유틸리티 클래스이므로 인스턴스화 방지
+    }
+
+    /**
+     * 줄바꿈을 제외한 insert 텍스트를 최대 maxLength자까지 추출합니다.
+     * @param contents Quill 본문 JSON
+     * @param maxLength 미리보기 최대 길이
+     * @return 미리보기 텍스트 (ops가 없으면 "")
+     */
+    public static String extract(String contents, int maxLength) {
+        return read(contents, maxLength, false);
+    }
+
+    /**
+     * 검색 색인용 전체 텍스트 (줄바꿈은 공백으로 바꿔 줄 사이의 글자가 붙지 않도록 함)
+     * @param contents Quill 본문 JSON
+     * @return insert 텍스트 전체 (ops가 없으면 "")
+     */
+    public static String plainText(String contents) {
+        return read(contents, Integer.MAX_VALUE, true);
+    }
+
+    private static String read(String contents, int maxLength, boolean lineBreakAsSpace) {
+        StringBuilder preview = new StringBuilder(Math.min(maxLength, contents.length()));
+        try (JsonParser parser = JSON_FACTORY.createParser(contents)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return "";
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if ("ops".equals(field) && value == JsonToken.START_ARRAY) {
+                    readOps(parser, preview, maxLength, lineBreakAsSpace);
+                    break;
+                }
+                parser.skipChildren();
+            }
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+        return preview.toString();
+    }
+
+    // ops 배열의 각 op에서 insert 텍스트를 이어 붙임 (미리보기가 채워지면 중단)
+    private static void readOps(JsonParser parser, StringBuilder preview, int maxLength,
+                                boolean lineBreakAsSpace) throws IOException {
+        JsonToken token;
+        while (preview.length() < maxLength
+                && (token = parser.nextToken()) != null && token != JsonToken.END_ARRAY) {
+            if (token != JsonToken.START_OBJECT) {
+                parser.skipChildren();
+                continue;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if ("insert".equals(field) && value.isScalarValue()) {
+                    appendText(parser, preview, maxLength, lineBreakAsSpace);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+    }
+
+    // 파서 버퍼의 문자를 String으로 만들지 않고 바로 복사 (줄바꿈은 제외하거나 공백으로)
+    private static void appendText(JsonParser parser, StringBuilder preview, int maxLength,
+                                   boolean lineBreakAsSpace) throws IOException {
+        char[] text = parser.getTextCharacters();
+        int end = parser.getTextOffset() + parser.getTextLength();
+        for (int i = parser.getTextOffset(); i < end && preview.length() < maxLength; i++) {
+            if (text[i] != '\n') {
+                preview.append(text[i]);
+            } else if (lineBreakAsSpace) {
+                preview.append(' ');
+            }
+        }
+    }
+}
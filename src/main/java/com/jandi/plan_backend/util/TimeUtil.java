@@ -23,4 +23,13 @@ public final class TimeUtil {
     public static LocalDateTime now() {
         return LocalDateTime.now(KST);
     }
+
+    /**
+     * KST 시각을 epoch 밀리초로 변환합니다.
+     * @param time KST LocalDateTime
+     * @return epoch ms
+     */
+    public static long toEpochMilli(LocalDateTime time) {
+        return time.atZone(KST).toInstant().toEpochMilli();
+    }
 }
@@ -7,6 +7,7 @@ import com.jandi.plan_backend.commu.comment.repository.CommentLikeRepository;
 import com.jandi.plan_backend.commu.comment.repository.CommentReportedRepository;
 import com.jandi.plan_backend.commu.comment.repository.CommentRepository;
 import com.jandi.plan_backend.commu.community.entity.Community;
+import com.jandi.plan_backend.commu.community.service.HotPostService;
 import com.jandi.plan_backend.fixture.CommentFixture;
 import com.jandi.plan_backend.fixture.CommunityFixture;
 import com.jandi.plan_backend.fixture.UserFixture;
@@ -53,6 +54,9 @@ class CommentUpdateServiceTest {
     @Mock
     private CommentReportedRepository commentReportedRepository;
 
+    @Mock
+    private HotPostService hotPostService;
+
     @InjectMocks
     private CommentUpdateService commentUpdateService;
 
@@ -105,6 +109,7 @@ class CommentUpdateServiceTest {
             assertThat(result).isNotNull();
             verify(commentRepository).save(any(Comment.class));
             verify(commentRepository).increaseCommentCount(postId, 1);
+            verify(hotPostService).recordComment(postId, 1);
         }
 
         @Test
@@ -0,0 +1,135 @@
+package com.jandi.plan_backend.commu.community.entity;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * CommunityContentsCodec 단위 테스트
+ *
+ * 테스트 대상: 게시글 본문 압축 저장/복원, 기존(비압축) 본문 호환, 엔티티의 지연 복원
+ */
+class CommunityContentsCodecTest {
+
+    // 한글 문단과 서식 op가 섞인 Quill JSON
+    private static String quillContents(int minLength) {
+        String[] words = {"여행", "파리", "에펠탑", "야경이", "정말", "아름다웠다", "다음에는", "로마에", "가고", "싶다"};
+        Random random = new Random(3);
+        StringBuilder builder = new StringBuilder("{\"ops\":[");
+        while (builder.length() < minLength) {
+            builder.append("{\"insert\":\"");
+            for (int i = 0; i < 12; i++) {
+                builder.append(words[random.nextInt(words.length)]).append(' ');
+            }
+            builder.append("\\n\"},{\"attributes\":{\"bold\":true},\"insert\":\"강조\"},");
+        }
+        builder.setLength(builder.length() - 1);
+        return builder.append("]}").toString();
+    }
+
+    @Nested
+    @DisplayName("저장 형식 변환")
+    class EncodeDecodeTest {
+
+        @Test
+        @DisplayName("[성공] 기준 이상인 본문은 압축해서 저장하고 원문으로 복원")
+        void encode_LargeContents_ShouldCompressAndRestore() {
+            // given
+            String contents = quillContents(CommunityContentsCodec.COMPRESS_THRESHOLD * 4);
+
+            // when
+            String stored = CommunityContentsCodec.encode(contents);
+
+            // then
+            assertThat(CommunityContentsCodec.isCompressed(stored)).isTrue();
+            assertThat(stored.length()).isLessThan(contents.getBytes(StandardCharsets.UTF_8).length / 3);
+            assertThat(CommunityContentsCodec.decode(stored)).isEqualTo(contents);
+        }
+
+        @Test
+        @DisplayName("[경계] 기준보다 작은 본문과 기존 게시글(헤더 없음)은 그대로")
+        void encode_SmallOrLegacyContents_ShouldPassThrough() {
+            // given
+            String small = quillContents(100);
+            String legacy = quillContents(CommunityContentsCodec.COMPRESS_THRESHOLD * 2);
+
+            // when & then
+            assertThat(CommunityContentsCodec.encode(small)).isSameAs(small);
+            assertThat(CommunityContentsCodec.decode(legacy)).isSameAs(legacy);
+            assertThat(CommunityContentsCodec.encode(null)).isNull();
+            assertThat(CommunityContentsCodec.decode(null)).isNull();
+        }
+
+        @Test
+        @DisplayName("[경계] 압축해도 줄지 않는 본문은 원문 그대로 저장")
+        void encode_IncompressibleContents_ShouldKeepRaw() {
+            // given
+            Random random = new Random(5);
+            StringBuilder builder = new StringBuilder();
+            while (builder.length() < CommunityContentsCodec.COMPRESS_THRESHOLD) {
+                builder.append((char) ('!' + random.nextInt(90)));
+            }
+            String contents = builder.toString();
+
+            // when & then
+            assertThat(CommunityContentsCodec.encode(contents)).isSameAs(contents);
+        }
+
+        @Test
+        @DisplayName("[실패] 손상된 압축본은 예외")
+        void decode_Corrupted_ShouldThrow() {
+            // given
+            String stored = CommunityContentsCodec.encode(quillContents(CommunityContentsCodec.COMPRESS_THRESHOLD * 2));
+            String corrupted = stored.substring(0, stored.length() / 2);
+
+            // when & then
+            assertThatThrownBy(() -> CommunityContentsCodec.decode(corrupted))
+                    .isInstanceOf(RuntimeException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("엔티티 본문")
+    class CommunityContentsTest {
+
+        @Test
+        @DisplayName("[성공] setContents는 압축본을 컬럼에 저장하고 getContents는 원문 반환")
+        void setContents_ShouldStoreCompressed() {
+            // given
+            String contents = quillContents(CommunityContentsCodec.COMPRESS_THRESHOLD * 2);
+            Community community = new Community();
+
+            // when
+            community.setContents(contents);
+
+            // then
+            assertThat(CommunityContentsCodec.isCompressed(
+                    (String) ReflectionTestUtils.getField(community, "contents"))).isTrue();
+            assertThat(community.getContents()).isEqualTo(contents);
+        }
+
+        @Test
+        @DisplayName("[성공] DB에서 읽은 압축본은 getContents를 처음 호출할 때 복원하고, 값이 바뀌면 다시 복원")
+        void getContents_ShouldDecodeLazily() {
+            // given: JPA가 필드에 직접 넣는 것과 같이 저장값 설정
+            String first = quillContents(CommunityContentsCodec.COMPRESS_THRESHOLD * 2);
+            String second = quillContents(CommunityContentsCodec.COMPRESS_THRESHOLD * 3);
+            Community community = new Community();
+            ReflectionTestUtils.setField(community, "contents", CommunityContentsCodec.encode(first));
+
+            // when & then
+            assertThat(ReflectionTestUtils.getField(community, "decodedContents")).isNull();
+            assertThat(community.getContents()).isEqualTo(first);
+            assertThat(community.getContents()).isSameAs(community.getContents());
+
+            ReflectionTestUtils.setField(community, "contents", CommunityContentsCodec.encode(second));
+            assertThat(community.getContents()).isEqualTo(second);
+        }
+    }
+}
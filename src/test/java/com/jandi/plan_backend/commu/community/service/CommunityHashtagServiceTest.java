@@ -0,0 +1,111 @@
+package com.jandi.plan_backend.commu.community.service;
+
+import com.jandi.plan_backend.commu.community.entity.PostHashtag;
+import com.jandi.plan_backend.commu.community.entity.PostHashtagId;
+import com.jandi.plan_backend.commu.community.repository.PostHashtagRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * CommunityHashtagService 단위 테스트
+ *
+ * 테스트 대상: 게시글 생성/수정 시 post_hashtag 반영
+ */
+@ExtendWith(MockitoExtension.class)
+class CommunityHashtagServiceTest {
+
+    @Mock
+    private PostHashtagRepository postHashtagRepository;
+
+    @InjectMocks
+    private CommunityHashtagService communityHashtagService;
+
+    @SuppressWarnings("unchecked")
+    private List<PostHashtag> captureSaved() {
+        ArgumentCaptor<List<PostHashtag>> captor = ArgumentCaptor.forClass(List.class);
+        verify(postHashtagRepository).saveAll(captor.capture());
+        return captor.getValue();
+    }
+
+    @Nested
+    @DisplayName("해시태그 추가")
+    class AddTest {
+
+        @Test
+        @DisplayName("[성공] 중복을 제외한 해시태그를 한 번에 저장")
+        void addHashtags_ShouldSaveDistinctTags() {
+            // when
+            communityHashtagService.addHashtags(1, List.of("#여행", "#유럽", "#여행"));
+
+            // then
+            assertThat(captureSaved()).containsExactly(new PostHashtag(1, "#여행"), new PostHashtag(1, "#유럽"));
+        }
+
+        @Test
+        @DisplayName("[성공] 저장하는 해시태그는 새 행으로 표시되어 SELECT 없이 INSERT")
+        void addHashtags_ShouldSaveAsNewEntities() {
+            // when
+            communityHashtagService.addHashtags(1, List.of("#여행"));
+
+            // then
+            List<PostHashtag> saved = captureSaved();
+            assertThat(saved).allMatch(PostHashtag::isNew);
+            assertThat(saved.get(0).getId()).isEqualTo(new PostHashtagId(1, "#여행"));
+        }
+
+        @Test
+        @DisplayName("[경계] 해시태그가 없으면 저장하지 않음")
+        void addHashtags_Empty_ShouldNotSave() {
+            // when
+            communityHashtagService.addHashtags(1, List.of());
+
+            // then
+            verifyNoInteractions(postHashtagRepository);
+        }
+    }
+
+    @Nested
+    @DisplayName("해시태그 수정")
+    class ReplaceTest {
+
+        @Test
+        @DisplayName("[성공] 빠진 해시태그만 삭제하고 새 해시태그만 추가")
+        void replaceHashtags_ShouldApplyOnlyChanges() {
+            // given
+            when(postHashtagRepository.findTagsByPostId(1)).thenReturn(List.of("#여행", "#유럽"));
+
+            // when
+            communityHashtagService.replaceHashtags(1, List.of("#여행", "#부산"));
+
+            // then
+            verify(postHashtagRepository).deleteByPostIdAndTagIn(1, List.of("#유럽"));
+            assertThat(captureSaved()).containsExactly(new PostHashtag(1, "#부산"));
+        }
+
+        @Test
+        @DisplayName("[경계] 해시태그가 그대로면 변경 쿼리를 실행하지 않음")
+        void replaceHashtags_Unchanged_ShouldNotWrite() {
+            // given
+            when(postHashtagRepository.findTagsByPostId(1)).thenReturn(List.of("#여행"));
+
+            // when
+            communityHashtagService.replaceHashtags(1, List.of("#여행"));
+
+            // then
+            verify(postHashtagRepository, never()).deleteByPostIdAndTagIn(anyInt(), anyCollection());
+            verify(postHashtagRepository, never()).saveAll(anyList());
+        }
+    }
+}
@@ -42,6 +42,9 @@ class CommunityLikeServiceTest {
     @Mock
     private CommunityRepository communityRepository;
 
+    @Mock
+    private HotPostService hotPostService;
+
     @InjectMocks
     private CommunityLikeService communityLikeService;
 
@@ -83,6 +86,7 @@ class CommunityLikeServiceTest {
             // then
             verify(communityLikeRepository).save(any(CommunityLike.class));
             verify(communityRepository).incrementLikeCount(postId);
+            verify(hotPostService).recordLike(postId, 1);
         }
 
         @Test
@@ -189,6 +193,7 @@ class CommunityLikeServiceTest {
             // then
             verify(communityLikeRepository).delete(existingLike);
             verify(communityRepository).decrementLikeCount(postId);
+            verify(hotPostService).recordLike(postId, -1);
         }
 
         @Test
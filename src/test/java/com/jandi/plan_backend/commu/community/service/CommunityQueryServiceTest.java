@@ -2,6 +2,7 @@ package com.jandi.plan_backend.commu.community.service;
 
 import com.jandi.plan_backend.commu.community.dto.CommunityItemDTO;
 import com.jandi.plan_backend.commu.community.dto.CommunityListDTO;
+import com.jandi.plan_backend.commu.community.dto.CommunitySummaryDTO;
 import com.jandi.plan_backend.commu.community.entity.Community;
 import com.jandi.plan_backend.commu.community.repository.CommunityRepository;
 import com.jandi.plan_backend.fixture.CommunityFixture;
@@ -50,6 +51,12 @@ class CommunityQueryServiceTest {
     @Mock
     private CommunityUtil communityUtil;
 
+    @Mock
+    private HotPostService hotPostService;
+
+    @Mock
+    private PostViewService postViewService;
+
     @InjectMocks
     private CommunityQueryService communityQueryService;
 
@@ -74,12 +81,12 @@ class CommunityQueryServiceTest {
             // given
             int page = 0;
             int size = 10;
-            List<Community> communities = CommunityFixture.createCommunityList(normalUser, 3);
-            Page<Community> communityPage = new PageImpl<>(communities);
+            List<CommunitySummaryDTO> summaries = CommunityFixture.createSummaryList(normalUser, 3);
+            Page<CommunitySummaryDTO> summaryPage = new PageImpl<>(summaries);
 
             when(communityRepository.count()).thenReturn(3L);
-            when(communityRepository.findAll(any(Pageable.class))).thenReturn(communityPage);
-            when(communityUtil.getThumbnailUrl(any(Community.class))).thenReturn("https://example.com/thumbnail.jpg");
+            when(communityRepository.findSummaries(any(Pageable.class))).thenReturn(summaryPage);
+            when(communityUtil.getThumbnailUrl(anyInt(), any())).thenReturn("https://example.com/thumbnail.jpg");
 
             // when
             Page<CommunityListDTO> result = communityQueryService.getAllPosts(page, size);
@@ -87,8 +94,11 @@ class CommunityQueryServiceTest {
             // then
             assertThat(result).isNotNull();
             assertThat(result.getContent()).hasSize(3);
+            assertThat(result.getContent().get(0).getTitle()).isEqualTo("테스트 게시물 1");
+            assertThat(result.getContent().get(0).getThumbnail()).isEqualTo("https://example.com/thumbnail.jpg");
+            assertThat(result.getContent().get(0).getUser().getUserName()).isEqualTo(normalUser.getUserName());
             verify(communityRepository).count();
-            verify(communityRepository).findAll(any(Pageable.class));
+            verify(communityRepository).findSummaries(any(Pageable.class));
         }
 
         @Test
@@ -97,10 +107,10 @@ class CommunityQueryServiceTest {
             // given
             int page = 0;
             int size = 10;
-            Page<Community> emptyPage = new PageImpl<>(List.of());
+            Page<CommunitySummaryDTO> emptyPage = new PageImpl<>(List.of());
 
             when(communityRepository.count()).thenReturn(0L);
-            when(communityRepository.findAll(any(Pageable.class))).thenReturn(emptyPage);
+            when(communityRepository.findSummaries(any(Pageable.class))).thenReturn(emptyPage);
 
             // when
             Page<CommunityListDTO> result = communityQueryService.getAllPosts(page, size);
@@ -117,12 +127,12 @@ class CommunityQueryServiceTest {
             // given - 경계값: 페이지 인덱스 최소값
             int page = 0;
             int size = 5;
-            List<Community> communities = CommunityFixture.createCommunityList(normalUser, 5);
-            Page<Community> communityPage = new PageImpl<>(communities);
+            List<CommunitySummaryDTO> summaries = CommunityFixture.createSummaryList(normalUser, 5);
+            Page<CommunitySummaryDTO> summaryPage = new PageImpl<>(summaries);
 
             when(communityRepository.count()).thenReturn(10L);
-            when(communityRepository.findAll(any(Pageable.class))).thenReturn(communityPage);
-            when(communityUtil.getThumbnailUrl(any(Community.class))).thenReturn("https://example.com/thumbnail.jpg");
+            when(communityRepository.findSummaries(any(Pageable.class))).thenReturn(summaryPage);
+            when(communityUtil.getThumbnailUrl(anyInt(), any())).thenReturn("https://example.com/thumbnail.jpg");
 
             // when
             Page<CommunityListDTO> result = communityQueryService.getAllPosts(page, size);
@@ -139,12 +149,12 @@ class CommunityQueryServiceTest {
             // given - 경계값: 페이지 사이즈 최소값
             int page = 0;
             int size = 1;
-            List<Community> communities = CommunityFixture.createCommunityList(normalUser, 1);
-            Page<Community> communityPage = new PageImpl<>(communities);
+            List<CommunitySummaryDTO> summaries = CommunityFixture.createSummaryList(normalUser, 1);
+            Page<CommunitySummaryDTO> summaryPage = new PageImpl<>(summaries);
 
             when(communityRepository.count()).thenReturn(5L);
-            when(communityRepository.findAll(any(Pageable.class))).thenReturn(communityPage);
-            when(communityUtil.getThumbnailUrl(any(Community.class))).thenReturn("https://example.com/thumbnail.jpg");
+            when(communityRepository.findSummaries(any(Pageable.class))).thenReturn(summaryPage);
+            when(communityUtil.getThumbnailUrl(anyInt(), any())).thenReturn("https://example.com/thumbnail.jpg");
 
             // when
             Page<CommunityListDTO> result = communityQueryService.getAllPosts(page, size);
@@ -169,18 +179,18 @@ class CommunityQueryServiceTest {
             String userEmail = null;
 
             when(validationUtil.validatePostExists(postId)).thenReturn(community);
-            doNothing().when(communityRepository).incrementViewCount(postId);
             when(communityUtil.isLikedCommunity(userEmail, community)).thenReturn(false);
 
             // when
-            CommunityItemDTO result = communityQueryService.getSpecPost(postId, userEmail);
+            CommunityItemDTO result = communityQueryService.getSpecPost(postId, userEmail, "127.0.0.1|test-agent");
 
             // then
             assertThat(result).isNotNull();
             assertThat(result.getPostId()).isEqualTo(postId);
             assertThat(result.getTitle()).isEqualTo(community.getTitle());
             assertThat(result.getLiked()).isFalse();
-            verify(communityRepository).incrementViewCount(postId);
+            verify(postViewService).recordView(postId, "client:127.0.0.1|test-agent");
+            verify(hotPostService).recordView(postId);
         }
 
         @Test
@@ -191,15 +201,15 @@ class CommunityQueryServiceTest {
             String userEmail = normalUser.getEmail();
 
             when(validationUtil.validatePostExists(postId)).thenReturn(community);
-            doNothing().when(communityRepository).incrementViewCount(postId);
             when(communityUtil.isLikedCommunity(userEmail, community)).thenReturn(true);
 
             // when
-            CommunityItemDTO result = communityQueryService.getSpecPost(postId, userEmail);
+            CommunityItemDTO result = communityQueryService.getSpecPost(postId, userEmail, "127.0.0.1|test-agent");
 
             // then
             assertThat(result).isNotNull();
             assertThat(result.getLiked()).isTrue();
+            verify(postViewService).recordView(postId, "user:" + userEmail);
         }
 
         @Test
@@ -210,17 +220,36 @@ class CommunityQueryServiceTest {
             String userEmail = normalUser.getEmail();
 
             when(validationUtil.validatePostExists(postId)).thenReturn(community);
-            doNothing().when(communityRepository).incrementViewCount(postId);
             when(communityUtil.isLikedCommunity(userEmail, community)).thenReturn(false);
 
             // when
-            CommunityItemDTO result = communityQueryService.getSpecPost(postId, userEmail);
+            CommunityItemDTO result = communityQueryService.getSpecPost(postId, userEmail, "127.0.0.1|test-agent");
 
             // then
             assertThat(result).isNotNull();
             assertThat(result.getLiked()).isFalse();
         }
 
+        @Test
+        @DisplayName("[성공] 아직 반영하지 않은 조회 수와 고유 조회자 추정값 포함")
+        void getSpecPost_WithPendingViews_ShouldIncludePendingViews() {
+            // given
+            Integer postId = 1;
+            community.setViewCount(10);
+            community.setUniqueViewers(4);
+
+            when(validationUtil.validatePostExists(postId)).thenReturn(community);
+            when(postViewService.getPendingViews(postId)).thenReturn(3);
+            when(postViewService.getUniqueViewers(postId, 4)).thenReturn(6);
+
+            // when
+            CommunityItemDTO result = communityQueryService.getSpecPost(postId, null, "127.0.0.1|test-agent");
+
+            // then
+            assertThat(result.getViewCount()).isEqualTo(13);
+            assertThat(result.getUniqueViewers()).isEqualTo(6);
+        }
+
         @Test
         @DisplayName("[실패] 존재하지 않는 게시물 조회 시 예외 발생")
         void getSpecPost_WithNonExistentPostId_ShouldThrowException() {
@@ -232,11 +261,11 @@ class CommunityQueryServiceTest {
                     .thenThrow(new BadRequestExceptionMessage("해당 게시글을 찾을 수 없습니다"));
 
             // when & then
-            assertThatThrownBy(() -> communityQueryService.getSpecPost(nonExistentPostId, userEmail))
+            assertThatThrownBy(() -> communityQueryService.getSpecPost(nonExistentPostId, userEmail, "127.0.0.1|test-agent"))
                     .isInstanceOf(BadRequestExceptionMessage.class)
                     .hasMessageContaining("해당 게시글을 찾을 수 없습니다");
 
-            verify(communityRepository, never()).incrementViewCount(anyInt());
+            verify(postViewService, never()).recordView(anyInt(), anyString());
         }
     }
 }
@@ -0,0 +1,170 @@
+package com.jandi.plan_backend.commu.community.service;
+
+import com.jandi.plan_backend.commu.community.entity.Community;
+import com.jandi.plan_backend.commu.community.entity.CommunityContentsCodec;
+import com.jandi.plan_backend.commu.community.repository.CommunityRepository;
+import com.jandi.plan_backend.commu.community.service.CommunitySearchIndexService.Field;
+import com.jandi.plan_backend.fixture.CommunityFixture;
+import com.jandi.plan_backend.fixture.UserFixture;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * CommunitySearchIndexService 단위 테스트
+ *
+ * 테스트 대상: 검색 인덱스 구성/갱신, 제목/내용 검색 순위
+ */
+@ExtendWith(MockitoExtension.class)
+class CommunitySearchIndexServiceTest {
+
+    @Mock
+    private CommunityRepository communityRepository;
+
+    @InjectMocks
+    private CommunitySearchIndexService communitySearchIndexService;
+
+    private static String quill(String text) {
+        return "{\"ops\":[{\"insert\":\"" + text + "\\n\"}]}";
+    }
+
+    private static Community post(int postId, String title, String text) {
+        Community community = CommunityFixture.createCommunityWithId(postId, UserFixture.createNormalUser());
+        community.setTitle(title);
+        community.setContents(quill(text));
+        return community;
+    }
+
+    @Nested
+    @DisplayName("인덱스 구성")
+    class RebuildIndexTest {
+
+        @Test
+        @DisplayName("[성공] 키셋 배치로 읽은 게시글의 제목과 본문 텍스트(압축본 포함)를 색인")
+        void rebuildIndex_ShouldIndexTitleAndPlainText() {
+            // given: 두 번째 게시글은 압축 저장된 긴 본문, 세 번째는 Quill JSON이 아닌 초기 데이터
+            String longText = "긴 본문 ".repeat(CommunityContentsCodec.COMPRESS_THRESHOLD / 4) + "숨은 맛집";
+            List<Object[]> rows = new ArrayList<>();
+            rows.add(new Object[]{1, "유럽 여행", quill("파리 에펠탑")});
+            rows.add(new Object[]{2, "제주 후기", CommunityContentsCodec.encode(quill(longText))});
+            rows.add(new Object[]{3, "부산", "초기 데이터 본문"});
+            when(communityRepository.findSearchSourcesAfter(eq(0), any(Pageable.class))).thenReturn(rows);
+
+            // when
+            communitySearchIndexService.rebuildIndex();
+
+            // then
+            assertThat(communitySearchIndexService.isReady()).isTrue();
+            assertThat(communitySearchIndexService.search(Field.TITLE, "유럽")).containsExactly(1);
+            assertThat(communitySearchIndexService.search(Field.CONTENT, "에펠")).containsExactly(1);
+            assertThat(communitySearchIndexService.search(Field.CONTENT, "숨은 맛집")).containsExactly(2);
+            assertThat(communitySearchIndexService.search(Field.CONTENT, "초기")).containsExactly(3);
+            // Quill 서식(키 이름)은 색인하지 않음
+            assertThat(communitySearchIndexService.search(Field.CONTENT, "insert")).isEmpty();
+            verify(communityRepository, times(1)).findSearchSourcesAfter(anyInt(), any(Pageable.class));
+        }
+
+        @Test
+        @DisplayName("[성공] 다른 인스턴스에서 작성된 게시글은 마지막으로 읽은 postId 이후부터 색인")
+        void catchUp_ShouldIndexPostsAfterLastIndexedId() {
+            // given
+            List<Object[]> initial = new ArrayList<>();
+            initial.add(new Object[]{1, "유럽 여행", quill("파리")});
+            List<Object[]> created = new ArrayList<>();
+            created.add(new Object[]{2, "제주 여행", quill("한라산")});
+            when(communityRepository.findSearchSourcesAfter(eq(0), any(Pageable.class))).thenReturn(initial);
+            when(communityRepository.findSearchSourcesAfter(eq(1), any(Pageable.class))).thenReturn(created);
+            when(communityRepository.findSearchSourcesAfter(eq(2), any(Pageable.class))).thenReturn(List.of());
+            communitySearchIndexService.rebuildIndex();
+
+            // when
+            communitySearchIndexService.catchUp();
+            communitySearchIndexService.catchUp();
+
+            // then
+            assertThat(communitySearchIndexService.search(Field.BOTH, "제주")).containsExactly(2);
+            verify(communityRepository, times(1)).findSearchSourcesAfter(eq(1), any(Pageable.class));
+            verify(communityRepository, times(1)).findSearchSourcesAfter(eq(2), any(Pageable.class));
+        }
+
+        @Test
+        @DisplayName("[경계] 구성 전에는 새 게시글 확인을 하지 않음")
+        void catchUp_BeforeReady_ShouldDoNothing() {
+            // when
+            communitySearchIndexService.catchUp();
+
+            // then
+            verifyNoInteractions(communityRepository);
+        }
+
+        @Test
+        @DisplayName("[성공] 다시 구성하면 다른 인스턴스의 수정/삭제가 반영된 인덱스로 교체")
+        void rebuildIndex_ShouldReplaceStaleEntries() {
+            // given: 이 인스턴스가 색인한 뒤 다른 인스턴스에서 1번은 수정, 2번은 삭제됨
+            communitySearchIndexService.index(post(1, "유럽 여행", "파리"));
+            communitySearchIndexService.index(post(2, "유럽 배낭", "로마"));
+            List<Object[]> rows = new ArrayList<>();
+            rows.add(new Object[]{1, "일본 여행", quill("도쿄")});
+            when(communityRepository.findSearchSourcesAfter(eq(0), any(Pageable.class))).thenReturn(rows);
+
+            // when
+            communitySearchIndexService.rebuildIndex();
+
+            // then
+            assertThat(communitySearchIndexService.search(Field.BOTH, "유럽")).isEmpty();
+            assertThat(communitySearchIndexService.search(Field.BOTH, "일본")).containsExactly(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("검색")
+    class SearchTest {
+
+        @Test
+        @DisplayName("[성공] 제목 + 내용 검색은 제목 일치에 가중치를 두고, 점수가 같으면 최신 순")
+        void search_Both_ShouldRankTitleMatchesFirst() {
+            // given
+            communitySearchIndexService.index(post(1, "일정 공유", "제주 여행 일정"));
+            communitySearchIndexService.index(post(2, "제주 여행", "일정 공유"));
+            communitySearchIndexService.index(post(3, "일정 공유", "제주 여행 일정"));
+
+            // when
+            List<Integer> both = communitySearchIndexService.search(Field.BOTH, "제주");
+            List<Integer> title = communitySearchIndexService.search(Field.TITLE, "제주");
+
+            // then
+            assertThat(both).containsExactly(2, 3, 1);
+            assertThat(title).containsExactly(2);
+        }
+
+        @Test
+        @DisplayName("[성공] 수정/삭제가 검색에 반영")
+        void indexAndRemove_ShouldUpdateResults() {
+            // given
+            Community community = post(1, "유럽 여행", "파리");
+            communitySearchIndexService.index(community);
+
+            // when
+            community.setTitle("일본 여행");
+            communitySearchIndexService.index(community);
+            communitySearchIndexService.index(post(2, "유럽 배낭", "로마"));
+            communitySearchIndexService.remove(2);
+
+            // then
+            assertThat(communitySearchIndexService.search(Field.BOTH, "유럽")).isEmpty();
+            assertThat(communitySearchIndexService.search(Field.BOTH, "일본")).containsExactly(1);
+        }
+    }
+}
@@ -0,0 +1,217 @@
+package com.jandi.plan_backend.commu.community.service;
+
+import com.jandi.plan_backend.commu.community.dto.CommunityListDTO;
+import com.jandi.plan_backend.commu.community.dto.CommunitySummaryDTO;
+import com.jandi.plan_backend.commu.community.repository.CommunityRepository;
+import com.jandi.plan_backend.commu.community.repository.PostHashtagRepository;
+import com.jandi.plan_backend.commu.community.service.CommunitySearchIndexService.Field;
+import com.jandi.plan_backend.fixture.CommunityFixture;
+import com.jandi.plan_backend.fixture.UserFixture;
+import com.jandi.plan_backend.image.service.ImageService;
+import com.jandi.plan_backend.user.entity.User;
+import com.jandi.plan_backend.util.CommunityUtil;
+import com.jandi.plan_backend.util.ValidationUtil;
+import com.jandi.plan_backend.util.service.BadRequestExceptionMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * CommunitySearchService 단위 테스트
+ *
+ * 테스트 대상: 카테고리별 게시글 검색과 페이지 조회
+ */
+@ExtendWith(MockitoExtension.class)
+class CommunitySearchServiceTest {
+
+    @Mock
+    private ValidationUtil validationUtil;
+
+    @Mock
+    private ImageService imageService;
+
+    @Mock
+    private CommunityRepository communityRepository;
+
+    @Mock
+    private CommunityUtil communityUtil;
+
+    @Mock
+    private CommunitySearchIndexService communitySearchIndexService;
+
+    @Mock
+    private PostHashtagRepository postHashtagRepository;
+
+    @Mock
+    private HashtagTrendService hashtagTrendService;
+
+    @InjectMocks
+    private CommunitySearchService communitySearchService;
+
+    private User normalUser;
+
+    @BeforeEach
+    void setUp() {
+        normalUser = UserFixture.createNormalUser();
+    }
+
+    private CommunitySummaryDTO summary(int postId) {
+        return CommunityFixture.createSummary(CommunityFixture.createCommunityWithId(postId, normalUser));
+    }
+
+    @Nested
+    @DisplayName("검색 인덱스 사용")
+    class IndexSearchTest {
+
+        @Test
+        @DisplayName("[성공] 인덱스 순위대로 현재 페이지의 게시글만 조회")
+        void search_WithIndex_ShouldLoadOnlyCurrentPageInRankOrder() {
+            // given
+            when(communitySearchIndexService.isReady()).thenReturn(true);
+            when(communitySearchIndexService.search(Field.BOTH, "여행")).thenReturn(List.of(5, 9, 2, 7, 1));
+            when(communityRepository.findSummariesByPostIdIn(List.of(2, 7)))
+                    .thenReturn(List.of(summary(7), summary(2)));
+
+            // when
+            Page<CommunityListDTO> result = communitySearchService.search("BOTH", "여행", 1, 2);
+
+            // then
+            assertThat(result.getContent()).extracting(CommunityListDTO::getPostId).containsExactly(2, 7);
+            assertThat(result.getTotalElements()).isEqualTo(5);
+            verify(communityRepository, never()).countByTitleContaining(anyString());
+        }
+
+        @Test
+        @DisplayName("[경계] DB에 없는 게시글은 결과에서 빼고 인덱스에서 제거")
+        void search_WithDeletedPost_ShouldRemoveFromIndex() {
+            // given
+            when(communitySearchIndexService.isReady()).thenReturn(true);
+            when(communitySearchIndexService.search(Field.TITLE, "여행")).thenReturn(List.of(3, 4));
+            when(communityRepository.findSummariesByPostIdIn(List.of(3, 4))).thenReturn(List.of(summary(4)));
+
+            // when
+            Page<CommunityListDTO> result = communitySearchService.search("TITLE", "여행", 0, 10);
+
+            // then
+            assertThat(result.getContent()).extracting(CommunityListDTO::getPostId).containsExactly(4);
+            verify(communitySearchIndexService).remove(3);
+        }
+
+        @Test
+        @DisplayName("[성공] 인덱스 구성 전 제목 검색은 DB 검색")
+        void search_BeforeIndexReady_ShouldUseDatabase() {
+            // given
+            when(communitySearchIndexService.isReady()).thenReturn(false);
+            when(communityRepository.countByTitleContaining("여행")).thenReturn(2L);
+            when(communityRepository.searchSummariesByTitle(eq("여행"), any(Pageable.class)))
+                    .thenReturn(List.of(summary(3), summary(1)));
+
+            // when
+            Page<CommunityListDTO> result = communitySearchService.search("TITLE", "여행", 0, 10);
+
+            // then
+            assertThat(result.getContent()).extracting(CommunityListDTO::getPostId).containsExactly(3, 1);
+            verify(communitySearchIndexService, never()).search(any(), anyString());
+        }
+
+        @Test
+        @DisplayName("[실패] 인덱스 구성 전 내용 검색은 압축된 본문을 검색할 수 없으므로 예외 발생")
+        void search_ContentBeforeIndexReady_ShouldThrowException() {
+            // given
+            when(communitySearchIndexService.isReady()).thenReturn(false);
+
+            // when & then
+            assertThatThrownBy(() -> communitySearchService.search("CONTENT", "여행", 0, 10))
+                    .isInstanceOf(BadRequestExceptionMessage.class)
+                    .hasMessageContaining("검색 준비 중");
+            assertThatThrownBy(() -> communitySearchService.search("BOTH", "여행", 0, 10))
+                    .isInstanceOf(BadRequestExceptionMessage.class);
+            verifyNoInteractions(communityRepository);
+        }
+    }
+
+    @Nested
+    @DisplayName("DB 검색")
+    class DatabaseSearchTest {
+
+        @Test
+        @DisplayName("[성공] 현재 페이지만 DB에서 조회하고 전체 개수는 count 쿼리로 계산")
+        void search_Title_ShouldQueryOnlyCurrentPage() {
+            // given
+            when(communityRepository.countByTitleContaining("여행")).thenReturn(25L);
+            when(communityRepository.searchSummariesByTitle(eq("여행"), any(Pageable.class)))
+                    .thenReturn(List.of(summary(15), summary(14)));
+
+            // when
+            Page<CommunityListDTO> result = communitySearchService.search("TITLE", "여행", 1, 10);
+
+            // then
+            ArgumentCaptor<Pageable> captor = ArgumentCaptor.forClass(Pageable.class);
+            verify(communityRepository).searchSummariesByTitle(eq("여행"), captor.capture());
+            assertThat(captor.getValue().getOffset()).isEqualTo(10);
+            assertThat(captor.getValue().getPageSize()).isEqualTo(10);
+            assertThat(result.getTotalElements()).isEqualTo(25);
+            assertThat(result.getTotalPages()).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("[성공] 해시태그 검색은 post_hashtag에서 현재 페이지의 id를 구해 그 순서대로 게시글 조회")
+        void search_HashTag_ShouldKeepIdOrder() {
+            // given
+            when(postHashtagRepository.countByTag("#여행")).thenReturn(3L);
+            when(postHashtagRepository.findPostIdsByTag(eq("#여행"), any(Pageable.class)))
+                    .thenReturn(List.of(9, 4, 2));
+            when(communityRepository.findSummariesByPostIdIn(List.of(9, 4, 2)))
+                    .thenReturn(List.of(summary(2), summary(9), summary(4)));
+
+            // when
+            Page<CommunityListDTO> result = communitySearchService.search("HASHTAG", "#여행", 0, 10);
+
+            // then
+            verify(validationUtil).validateIsHashTagValid("#여행");
+            verify(hashtagTrendService).recordSearch("#여행");
+            assertThat(result.getContent()).extracting(CommunityListDTO::getPostId).containsExactly(9, 4, 2);
+            verify(communitySearchIndexService, never()).search(any(), anyString());
+        }
+
+        @Test
+        @DisplayName("[실패] 결과 페이지 수를 넘는 페이지 요청은 조회 전에 예외")
+        void search_PageOutOfRange_ShouldThrow() {
+            // given
+            when(communityRepository.countByTitleContaining("여행")).thenReturn(5L);
+
+            // when & then
+            assertThatThrownBy(() -> communitySearchService.search("TITLE", "여행", 3, 10))
+                    .isInstanceOf(RuntimeException.class)
+                    .hasMessageContaining("잘못된 페이지 번호");
+            verify(communityRepository, never()).searchSummariesByTitle(anyString(), any(Pageable.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("검색어 검증")
+    class ValidationTest {
+
+        @Test
+        @DisplayName("[실패] 두 글자 미만 검색어는 예외")
+        void search_WithShortKeyword_ShouldThrow() {
+            assertThatThrownBy(() -> communitySearchService.search("TITLE", " 여 ", 0, 10))
+                    .isInstanceOf(BadRequestExceptionMessage.class)
+                    .hasMessageContaining("2글자 이상");
+        }
+    }
+}
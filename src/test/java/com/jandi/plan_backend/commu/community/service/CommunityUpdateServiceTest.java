@@ -28,6 +28,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
 import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.Arrays;
@@ -82,6 +83,21 @@ class CommunityUpdateServiceTest {
     @Mock
     private ImageCleanupService imageCleanupService;
 
+    @Mock
+    private CommunitySearchIndexService communitySearchIndexService;
+
+    @Mock
+    private CommunityHashtagService communityHashtagService;
+
+    @Mock
+    private HashtagTrendService hashtagTrendService;
+
+    @Mock
+    private HotPostService hotPostService;
+
+    @Mock
+    private PostViewService postViewService;
+
     @InjectMocks
     private CommunityUpdateService communityUpdateService;
 
@@ -138,6 +154,7 @@ class CommunityUpdateServiceTest {
             });
             doNothing().when(imageService).updateTargetId(anyString(), anyInt(), anyInt());
             doNothing().when(inMemoryTempPostService).removeTempId(tempPostId);
+            when(communityHashtagService.addHashtags(1, reqDTO.getHashtag())).thenReturn(List.of("#여행"));
 
             // when
             CommunityRespDTO result = communityUpdateService.finalizePost(userEmail, reqDTO);
@@ -147,6 +164,12 @@ class CommunityUpdateServiceTest {
             verify(communityRepository).save(any(Community.class));
             verify(imageService).updateTargetId("community", tempPostId, 1);
             verify(inMemoryTempPostService).removeTempId(tempPostId);
+            verify(communityHashtagService).addHashtags(1, reqDTO.getHashtag());
+
+            // 커밋 후 새로 붙은 해시태그를 인기 해시태그에 반영
+            verify(hashtagTrendService, never()).recordPostHashtags(anyList());
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            verify(hashtagTrendService).recordPostHashtags(List.of("#여행"));
         }
 
         @Test
@@ -189,6 +212,7 @@ class CommunityUpdateServiceTest {
             when(validationUtil.validatePostExists(postId)).thenReturn(community);
             doNothing().when(validationUtil).validateUserIsAuthorOfPost(normalUser, community);
             when(communityUtil.getPreview(anyString())).thenReturn("수정된 미리보기");
+            when(communityUtil.getFirstInlineImageUrl(anyString())).thenReturn("https://example.com/first.jpg");
 
             // when
             CommunityRespDTO result = communityUpdateService.updatePost(reqDTO, postId, userEmail);
@@ -197,6 +221,9 @@ class CommunityUpdateServiceTest {
             assertThat(result).isNotNull();
             assertThat(community.getTitle()).isEqualTo(reqDTO.getTitle());
             assertThat(community.getContents()).isEqualTo(reqDTO.getContent());
+            assertThat(community.getThumbnailUrl()).isEqualTo("https://example.com/first.jpg");
+            assertThat(community.getHashtags()).isEqualTo(reqDTO.getHashtag());
+            verify(communityHashtagService).replaceHashtags(community.getPostId(), reqDTO.getHashtag());
         }
 
         @Test
@@ -269,6 +296,15 @@ class CommunityUpdateServiceTest {
             // then
             assertThat(deletedComments).isEqualTo(5);
             verify(communityRepository).delete(community);
+            verify(communityHashtagService).removeHashtags(postId);
+            verify(postViewService).deleteSketch(postId);
+
+            // 커밋 후 검색 인덱스에서 제거
+            verify(communitySearchIndexService, never()).remove(anyInt());
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            verify(communitySearchIndexService).remove(postId);
+            verify(hotPostService).removePost(postId);
+            verify(postViewService).discardPending(postId);
         }
 
         @Test
@@ -0,0 +1,100 @@
+package com.jandi.plan_backend.commu.community.service;
+
+import com.jandi.plan_backend.commu.community.dto.TrendingHashtagDTO;
+import com.jandi.plan_backend.commu.community.entity.HashtagTrend;
+import com.jandi.plan_backend.commu.community.repository.HashtagTrendRepository;
+import com.jandi.plan_backend.util.TimeUtil;
+import com.jandi.plan_backend.util.service.BadRequestExceptionMessage;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * HashtagTrendService 단위 테스트
+ *
+ * 테스트 대상: 인기 해시태그 반영/조회, 스냅샷 저장/복원
+ */
+@ExtendWith(MockitoExtension.class)
+class HashtagTrendServiceTest {
+
+    @Mock
+    private HashtagTrendRepository hashtagTrendRepository;
+
+    @InjectMocks
+    private HashtagTrendService hashtagTrendService;
+
+    @Nested
+    @DisplayName("인기 해시태그 조회")
+    class GetTrendingTest {
+
+        @Test
+        @DisplayName("[성공] 게시글 해시태그가 검색보다 높은 점수로 반영")
+        void getTrending_ShouldWeightPostsOverSearches() {
+            // given
+            hashtagTrendService.recordSearch("#부산");
+            hashtagTrendService.recordSearch("#부산");
+            hashtagTrendService.recordPostHashtags(List.of("#제주"));
+
+            // when
+            List<TrendingHashtagDTO> trending = hashtagTrendService.getTrending(10);
+
+            // then
+            assertThat(trending).extracting(TrendingHashtagDTO::getHashtag).containsExactly("#제주", "#부산");
+        }
+
+        @Test
+        @DisplayName("[실패] 최대 개수를 넘는 조회는 예외")
+        void getTrending_TooLargeSize_ShouldThrow() {
+            assertThatThrownBy(() -> hashtagTrendService.getTrending(HashtagTrendService.MAX_SIZE + 1))
+                    .isInstanceOf(BadRequestExceptionMessage.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("스냅샷")
+    class SnapshotTest {
+
+        @Test
+        @DisplayName("[성공] 저장한 스냅샷을 저장 시각 기준으로 감쇠하여 복원")
+        void restoreSnapshot_ShouldDecayBySavedAt() {
+            // given: 반감기 전에 저장된 점수 8
+            when(hashtagTrendRepository.findAll()).thenReturn(List.of(
+                    new HashtagTrend("#제주", 8, TimeUtil.now().minus(HashtagTrendService.HALF_LIFE))));
+
+            // when
+            hashtagTrendService.restoreSnapshot();
+
+            // then
+            List<TrendingHashtagDTO> trending = hashtagTrendService.getTrending(1);
+            assertThat(trending.get(0).getHashtag()).isEqualTo("#제주");
+            assertThat(trending.get(0).getScore()).isCloseTo(4.0, within(0.01));
+        }
+
+        @Test
+        @DisplayName("[성공] 이전 스냅샷을 지우고 현재 상위 목록 저장")
+        @SuppressWarnings("unchecked")
+        void saveSnapshot_ShouldReplaceRows() {
+            // given
+            hashtagTrendService.recordPostHashtags(List.of("#제주", "#부산"));
+
+            // when
+            hashtagTrendService.saveSnapshot();
+
+            // then
+            ArgumentCaptor<List<HashtagTrend>> captor = ArgumentCaptor.forClass(List.class);
+            verify(hashtagTrendRepository).deleteAllInBatch();
+            verify(hashtagTrendRepository).saveAll(captor.capture());
+            assertThat(captor.getValue()).extracting(HashtagTrend::getTag).containsExactlyInAnyOrder("#제주", "#부산");
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package com.jandi.plan_backend.commu.community.service;
+
+import com.jandi.plan_backend.commu.community.dto.CommunityListDTO;
+import com.jandi.plan_backend.commu.community.dto.CommunitySummaryDTO;
+import com.jandi.plan_backend.commu.community.dto.HotPostPageDTO;
+import com.jandi.plan_backend.commu.community.repository.CommunityRepository;
+import com.jandi.plan_backend.fixture.CommunityFixture;
+import com.jandi.plan_backend.fixture.UserFixture;
+import com.jandi.plan_backend.image.service.ImageService;
+import com.jandi.plan_backend.user.entity.User;
+import com.jandi.plan_backend.util.CommunityUtil;
+import com.jandi.plan_backend.util.TimeUtil;
+import com.jandi.plan_backend.util.service.BadRequestExceptionMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * HotPostService 단위 테스트
+ *
+ * 테스트 대상: 이벤트에 따른 인기 게시글 순서, 커서 페이지
+ */
+@ExtendWith(MockitoExtension.class)
+class HotPostServiceTest {
+
+    @Mock
+    private CommunityRepository communityRepository;
+
+    @Mock
+    private ImageService imageService;
+
+    @Mock
+    private CommunityUtil communityUtil;
+
+    @InjectMocks
+    private HotPostService hotPostService;
+
+    private User normalUser;
+
+    @BeforeEach
+    void setUp() {
+        normalUser = UserFixture.createNormalUser();
+    }
+
+    // 요청한 id의 목록 프로젝션을 반환하도록 설정 (existing에 없는 id는 DB에 없는 게시글)
+    private void stubSummaries(Collection<Integer> existing) {
+        when(communityRepository.findSummariesByPostIdIn(anyCollection())).thenAnswer(invocation -> {
+            Collection<Integer> postIds = invocation.getArgument(0);
+            List<CommunitySummaryDTO> summaries = new ArrayList<>();
+            for (Integer postId : postIds) {
+                if (existing.contains(postId)) {
+                    summaries.add(CommunityFixture.createSummary(CommunityFixture.createCommunityWithId(postId, normalUser)));
+                }
+            }
+            return summaries;
+        });
+    }
+
+    private static List<Integer> postIds(HotPostPageDTO page) {
+        return page.getItems().stream().map(CommunityListDTO::getPostId).toList();
+    }
+
+    @Nested
+    @DisplayName("인기 게시글 순서")
+    class RankingTest {
+
+        @Test
+        @DisplayName("[성공] 좋아요/댓글이 많은 게시글이 앞에 오고 취소하면 반영")
+        void getHotPosts_ShouldOrderByActivity() {
+            // given
+            LocalDateTime now = TimeUtil.now();
+            hotPostService.addPost(1, now);
+            hotPostService.addPost(2, now);
+            hotPostService.addPost(3, now);
+            hotPostService.recordComment(2, 1);
+            hotPostService.recordLike(3, 1);
+            stubSummaries(List.of(1, 2, 3));
+
+            // when & then
+            assertThat(postIds(hotPostService.getHotPosts(null, 10))).containsExactly(3, 2, 1);
+
+            hotPostService.recordLike(3, -1);
+            assertThat(postIds(hotPostService.getHotPosts(null, 10))).startsWith(2).containsExactlyInAnyOrder(1, 2, 3);
+        }
+
+        @Test
+        @DisplayName("[성공] 트랜잭션 안의 좋아요/댓글은 커밋 후에만 반영하고 롤백되면 버림")
+        void recordLikeAndComment_InTransaction_ShouldApplyAfterCommitOnly() {
+            // given: 같은 점수면 postId 역순
+            LocalDateTime now = TimeUtil.now();
+            hotPostService.addPost(1, now);
+            hotPostService.addPost(2, now);
+            stubSummaries(List.of(1, 2));
+
+            try {
+                // when: 롤백된 트랜잭션 (afterCommit 없이 정리)
+                TransactionSynchronizationManager.initSynchronization();
+                hotPostService.recordLike(1, 1);
+                hotPostService.recordComment(1, 1);
+                TransactionSynchronizationManager.clearSynchronization();
+
+                // then
+                assertThat(postIds(hotPostService.getHotPosts(null, 10))).containsExactly(2, 1);
+
+                // when: 커밋된 트랜잭션
+                TransactionSynchronizationManager.initSynchronization();
+                hotPostService.recordLike(1, 1);
+                assertThat(postIds(hotPostService.getHotPosts(null, 10))).containsExactly(2, 1);
+                TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+                // then
+                assertThat(postIds(hotPostService.getHotPosts(null, 10))).containsExactly(1, 2);
+            } finally {
+                if (TransactionSynchronizationManager.isSynchronizationActive()) {
+                    TransactionSynchronizationManager.clearSynchronization();
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("[성공] 서버 시작 시 최근 게시글만 좋아요/댓글/조회 수로 순위 구성")
+        void rebuildRanking_ShouldLoadRecentPostsOnly() {
+            // given: postId 역순 (4, 3은 최근, 2는 기간 밖)
+            LocalDateTime now = TimeUtil.now();
+            List<Object[]> rows = List.of(
+                    new Object[]{4, now.minusHours(1), 0, 0, 1},
+                    new Object[]{3, now.minusHours(2), 5, 1, 30},
+                    new Object[]{2, now.minusDays(8), 100, 100, 100});
+            when(communityRepository.findRankingSourcesBefore(eq(Integer.MAX_VALUE), any())).thenReturn(rows);
+            stubSummaries(List.of(2, 3, 4));
+
+            // when
+            hotPostService.rebuildRanking();
+
+            // then
+            assertThat(postIds(hotPostService.getHotPosts(null, 10))).containsExactly(3, 4);
+        }
+
+        @Test
+        @DisplayName("[경계] DB에 없는 게시글은 결과에서 빼고 순위에서 제거")
+        void getHotPosts_WithDeletedPost_ShouldRemoveFromRanking() {
+            // given
+            hotPostService.addPost(1, TimeUtil.now());
+            hotPostService.addPost(2, TimeUtil.now());
+            stubSummaries(List.of(2));
+
+            // when
+            HotPostPageDTO first = hotPostService.getHotPosts(null, 10);
+            HotPostPageDTO second = hotPostService.getHotPosts(null, 10);
+
+            // then
+            assertThat(postIds(first)).containsExactly(2);
+            assertThat(postIds(second)).containsExactly(2);
+            verify(communityRepository).findSummariesByPostIdIn(List.of(2, 1));
+            verify(communityRepository).findSummariesByPostIdIn(List.of(2));
+        }
+    }
+
+    @Nested
+    @DisplayName("커서 페이지")
+    class PageTest {
+
+        @Test
+        @DisplayName("[성공] nextCursor로 다음 페이지를 이어서 조회하고 마지막 페이지는 커서 없음")
+        void getHotPosts_WithCursor_ShouldReturnNextPage() {
+            // given
+            LocalDateTime now = TimeUtil.now();
+            for (int postId = 1; postId <= 5; postId++) {
+                hotPostService.addPost(postId, now);
+            }
+            stubSummaries(List.of(1, 2, 3, 4, 5));
+
+            // when
+            HotPostPageDTO first = hotPostService.getHotPosts(null, 3);
+            HotPostPageDTO second = hotPostService.getHotPosts(first.getNextCursor(), 3);
+
+            // then: 점수가 같으면 최신(postId 큰) 순
+            assertThat(postIds(first)).containsExactly(5, 4, 3);
+            assertThat(postIds(second)).containsExactly(2, 1);
+            assertThat(second.getNextCursor()).isNull();
+        }
+
+        @Test
+        @DisplayName("[실패] 잘못된 커서나 범위를 벗어난 개수는 예외")
+        void getHotPosts_InvalidRequest_ShouldThrow() {
+            assertThatThrownBy(() -> hotPostService.getHotPosts("not-a-cursor", 10))
+                    .isInstanceOf(BadRequestExceptionMessage.class);
+            assertThatThrownBy(() -> hotPostService.getHotPosts(null, HotPostService.MAX_PAGE_SIZE + 1))
+                    .isInstanceOf(BadRequestExceptionMessage.class);
+        }
+    }
+}
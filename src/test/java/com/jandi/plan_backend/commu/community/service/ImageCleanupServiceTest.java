@@ -0,0 +1,152 @@
+package com.jandi.plan_backend.commu.community.service;
+
+import com.jandi.plan_backend.commu.community.entity.Community;
+import com.jandi.plan_backend.commu.community.repository.CommunityRepository;
+import com.jandi.plan_backend.fixture.CommunityFixture;
+import com.jandi.plan_backend.fixture.UserFixture;
+import com.jandi.plan_backend.image.entity.Image;
+import com.jandi.plan_backend.image.repository.ImageRepository;
+import com.jandi.plan_backend.image.service.ImageService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * ImageCleanupService 단위 테스트
+ *
+ * 테스트 대상: 사용하지 않는 이미지 정리와 썸네일 동기화, 기존 게시글 썸네일 채우기
+ */
+@ExtendWith(MockitoExtension.class)
+class ImageCleanupServiceTest {
+
+    private static final String PREFIX = "https://storage.googleapis.com/plan-storage/";
+
+    @Mock
+    private ImageRepository imageRepository;
+
+    @Mock
+    private ImageService imageService;
+
+    @Mock
+    private CommunityRepository communityRepository;
+
+    @InjectMocks
+    private ImageCleanupService imageCleanupService;
+
+    private Community post;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(imageCleanupService, "prefix", PREFIX);
+        post = CommunityFixture.createCommunity(UserFixture.createNormalUser());
+    }
+
+    private Image createImage(Integer imageId, Integer postId, String fileName) {
+        Image image = new Image();
+        image.setImageId(imageId);
+        image.setTargetType("community");
+        image.setTargetId(postId);
+        image.setImageUrl(fileName);
+        return image;
+    }
+
+    @Nested
+    @DisplayName("이미지 정리")
+    class CleanupUnusedImagesTest {
+
+        @Test
+        @DisplayName("[성공] 본문에 없는 이미지를 삭제하고, 썸네일을 본문 순서상 첫 번째 남은 이미지로 갱신")
+        void cleanupUnusedImages_ShouldDeleteUnusedAndSyncThumbnail() {
+            // given: 본문에는 b.jpg, a.jpg 순서로 포함, old.jpg는 본문에서 빠짐
+            post.setContents("{\"ops\":[{\"insert\":{\"image\":\"" + PREFIX + "b.jpg\"}},"
+                    + "{\"insert\":{\"image\":\"" + PREFIX + "a.jpg\"}}]}");
+            post.setThumbnailUrl(PREFIX + "old.jpg");
+            when(imageRepository.findAllByTargetTypeAndTargetId("community", post.getPostId())).thenReturn(List.of(
+                    createImage(1, post.getPostId(), "old.jpg"),
+                    createImage(2, post.getPostId(), "a.jpg"),
+                    createImage(3, post.getPostId(), "b.jpg")
+            ));
+            when(imageService.deleteImage(1)).thenReturn(true);
+
+            // when
+            imageCleanupService.cleanupUnusedImages(post);
+
+            // then
+            verify(imageService).deleteImage(1);
+            verify(imageService, never()).deleteImage(2);
+            verify(communityRepository).updateThumbnailUrl(post.getPostId(), PREFIX + "b.jpg");
+        }
+
+        @Test
+        @DisplayName("[경계] 썸네일이 그대로면 갱신 쿼리를 실행하지 않음")
+        void cleanupUnusedImages_SameThumbnail_ShouldSkipUpdate() {
+            // given
+            post.setContents("{\"ops\":[{\"insert\":{\"image\":\"" + PREFIX + "a.jpg\"}}]}");
+            post.setThumbnailUrl(PREFIX + "a.jpg");
+            when(imageRepository.findAllByTargetTypeAndTargetId("community", post.getPostId()))
+                    .thenReturn(List.of(createImage(2, post.getPostId(), "a.jpg")));
+
+            // when
+            imageCleanupService.cleanupUnusedImages(post);
+
+            // then
+            verify(imageService, never()).deleteImage(anyInt());
+            verify(communityRepository, never()).updateThumbnailUrl(anyInt(), anyString());
+        }
+
+        @Test
+        @DisplayName("[경계] 이미지가 모두 정리되면 썸네일은 빈 문자열")
+        void cleanupUnusedImages_NoImagesLeft_ShouldClearThumbnail() {
+            // given
+            post.setThumbnailUrl(PREFIX + "old.jpg");
+            when(imageRepository.findAllByTargetTypeAndTargetId("community", post.getPostId()))
+                    .thenReturn(List.of(createImage(1, post.getPostId(), "old.jpg")));
+            when(imageService.deleteImage(1)).thenReturn(true);
+
+            // when
+            imageCleanupService.cleanupUnusedImages(post);
+
+            // then
+            verify(communityRepository).updateThumbnailUrl(post.getPostId(), "");
+        }
+    }
+
+    @Nested
+    @DisplayName("기존 게시글 썸네일 채우기")
+    class BackfillThumbnailsTest {
+
+        @Test
+        @DisplayName("[성공] 게시글마다 첫 번째 이미지(이미지 id 순)로 채우고, 이미지가 없으면 빈 문자열")
+        void backfillThumbnails_ShouldUseFirstImagePerPost() {
+            // given
+            when(communityRepository.findPostIdsWithoutThumbnail(eq(0), any(Pageable.class)))
+                    .thenReturn(List.of(1, 2));
+            when(communityRepository.findPostIdsWithoutThumbnail(eq(2), any(Pageable.class)))
+                    .thenReturn(List.of());
+            when(imageRepository.findAllByTargetTypeAndTargetIdIn("community", List.of(1, 2))).thenReturn(List.of(
+                    createImage(7, 1, "second.jpg"),
+                    createImage(5, 1, "first.jpg")
+            ));
+
+            // when
+            imageCleanupService.backfillThumbnails();
+
+            // then
+            verify(communityRepository).updateThumbnailUrl(1, PREFIX + "first.jpg");
+            verify(communityRepository).updateThumbnailUrl(2, "");
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package com.jandi.plan_backend.commu.community.service;
+
+import com.jandi.plan_backend.commu.community.entity.PostViewSketch;
+import com.jandi.plan_backend.commu.community.repository.CommunityRepository;
+import com.jandi.plan_backend.commu.community.repository.PostViewSketchRepository;
+import com.jandi.plan_backend.util.HyperLogLog;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * PostViewService 단위 테스트
+ *
+ * 테스트 대상: 조회 기록, 반영 전 조회 수/고유 조회자 수, 스케치 병합 반영
+ */
+@ExtendWith(MockitoExtension.class)
+class PostViewServiceTest {
+
+    @Mock
+    private CommunityRepository communityRepository;
+
+    @Mock
+    private PostViewSketchRepository postViewSketchRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private PostViewService postViewService;
+
+    @BeforeEach
+    void setUp() {
+        postViewService = new PostViewService(communityRepository, postViewSketchRepository, transactionManager);
+    }
+
+    @Nested
+    @DisplayName("조회 기록")
+    class RecordViewTest {
+
+        @Test
+        @DisplayName("[성공] 반영 전 조회 수는 모든 조회, 고유 조회자 수는 조회자 수")
+        void recordView_ShouldCountViewsAndUniqueViewers() {
+            // given
+            Integer postId = 1;
+
+            // when: 조회자 2명이 각각 3번 조회
+            for (int i = 0; i < 3; i++) {
+                postViewService.recordView(postId, "user:a@test.com");
+                postViewService.recordView(postId, "client:127.0.0.1|agent");
+            }
+
+            // then
+            assertThat(postViewService.getPendingViews(postId)).isEqualTo(6);
+            assertThat(postViewService.getUniqueViewers(postId, 0)).isEqualTo(2);
+            verifyNoInteractions(communityRepository, postViewSketchRepository);
+        }
+
+        @Test
+        @DisplayName("[경계] 조회 기록이 없으면 반영 전 조회 수 0, 고유 조회자 수는 저장된 값")
+        void getPendingViews_WithoutViews_ShouldReturnStoredValues() {
+            assertThat(postViewService.getPendingViews(1)).isZero();
+            assertThat(postViewService.getUniqueViewers(1, 7)).isEqualTo(7);
+        }
+    }
+
+    @Nested
+    @DisplayName("DB 반영")
+    class FlushTest {
+
+        @Test
+        @DisplayName("[성공] 저장된 스케치와 합쳐 조회 수와 고유 조회자 추정값을 한 번에 반영")
+        void flush_ShouldMergeStoredSketch() {
+            // given: 저장된 스케치에 a, b / 새 조회자 b, c
+            Integer postId = 1;
+            HyperLogLog stored = new HyperLogLog();
+            stored.add("user:a");
+            stored.add("user:b");
+            when(postViewSketchRepository.findByIdForUpdate(postId))
+                    .thenReturn(Optional.of(new PostViewSketch(postId, stored.toBytes())));
+            when(communityRepository.addViews(postId, 3, 3)).thenReturn(1);
+
+            postViewService.recordView(postId, "user:b");
+            postViewService.recordView(postId, "user:c");
+            postViewService.recordView(postId, "user:c");
+
+            // when
+            postViewService.flush();
+
+            // then
+            ArgumentCaptor<PostViewSketch> saved = ArgumentCaptor.forClass(PostViewSketch.class);
+            verify(postViewSketchRepository).save(saved.capture());
+            assertThat(HyperLogLog.fromBytes(saved.getValue().getSketch()).estimate()).isEqualTo(3L);
+            assertThat(postViewService.getPendingViews(postId)).isZero();
+        }
+
+        @Test
+        @DisplayName("[성공] 모인 게시글 수가 한도에 이르면 주기를 기다리지 않고 반영")
+        void recordView_OverPendingLimit_ShouldFlushEarly() {
+            // when
+            for (int postId = 1; postId <= PostViewService.MAX_PENDING_POSTS; postId++) {
+                postViewService.recordView(postId, "user:a");
+            }
+
+            // then
+            verify(communityRepository, timeout(5000).times(PostViewService.MAX_PENDING_POSTS))
+                    .addViews(anyInt(), eq(1), eq(1));
+        }
+
+        @Test
+        @DisplayName("[성공] 삭제된 게시글은 스케치를 저장하지 않음")
+        void flush_DeletedPost_ShouldNotSaveSketch() {
+            // given
+            Integer postId = 1;
+            when(postViewSketchRepository.findByIdForUpdate(postId)).thenReturn(Optional.empty());
+            when(communityRepository.addViews(postId, 1, 1)).thenReturn(0);
+            postViewService.recordView(postId, "user:a");
+
+            // when
+            postViewService.flush();
+
+            // then
+            verify(postViewSketchRepository, never()).save(any());
+            assertThat(postViewService.getPendingViews(postId)).isZero();
+        }
+
+        @Test
+        @DisplayName("[실패] 반영에 실패하면 다음 반영을 위해 메모리에 다시 합침")
+        void flush_WhenFails_ShouldKeepPendingViews() {
+            // given
+            Integer postId = 1;
+            when(postViewSketchRepository.findByIdForUpdate(postId)).thenReturn(Optional.empty());
+            when(communityRepository.addViews(anyInt(), anyInt(), anyInt()))
+                    .thenThrow(new IllegalStateException("DB 오류"));
+            postViewService.recordView(postId, "user:a");
+            postViewService.recordView(postId, "user:b");
+
+            // when
+            postViewService.flush();
+            postViewService.recordView(postId, "user:c");
+
+            // then
+            assertThat(postViewService.getPendingViews(postId)).isEqualTo(3);
+            assertThat(postViewService.getUniqueViewers(postId, 0)).isEqualTo(3);
+            verify(transactionManager).rollback(any());
+        }
+
+        @Test
+        @DisplayName("[성공] 삭제된 게시글의 모아 둔 조회는 버림")
+        void discardPending_ShouldDropPendingViews() {
+            // given
+            postViewService.recordView(1, "user:a");
+
+            // when
+            postViewService.discardPending(1);
+            postViewService.flush();
+
+            // then
+            assertThat(postViewService.getPendingViews(1)).isZero();
+            verifyNoInteractions(communityRepository);
+        }
+    }
+}
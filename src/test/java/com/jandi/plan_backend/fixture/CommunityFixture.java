@@ -1,8 +1,10 @@
 package com.jandi.plan_backend.fixture;
 
 import com.jandi.plan_backend.commu.community.dto.CommunityReqDTO;
+import com.jandi.plan_backend.commu.community.dto.CommunitySummaryDTO;
 import com.jandi.plan_backend.commu.community.dto.PostFinalizeReqDTO;
 import com.jandi.plan_backend.commu.community.entity.Community;
+import com.jandi.plan_backend.commu.community.entity.CommunityHashtagConverter;
 import com.jandi.plan_backend.user.entity.User;
 import com.jandi.plan_backend.util.TimeUtil;
 
@@ -86,6 +88,28 @@ public class CommunityFixture {
         );
     }
 
+    /**
+     * 게시물의 목록 프로젝션 (본문 제외)
+     */
+    public static CommunitySummaryDTO createSummary(Community community) {
+        User user = community.getUser();
+        return new CommunitySummaryDTO(
+                community.getPostId(), community.getCreatedAt(), community.getTitle(), community.getPreview(),
+                community.getThumbnailUrl(), CommunityHashtagConverter.toJson(community.getHashtags()),
+                community.getLikeCount(), community.getCommentCount(), community.getViewCount(),
+                user.getUserId(), user.getUserName(), user.getFirstName(), user.getLastName(), user.getEmail()
+        );
+    }
+
+    /**
+     * 여러 게시물의 목록 프로젝션 생성
+     */
+    public static List<CommunitySummaryDTO> createSummaryList(User user, int count) {
+        return createCommunityList(user, count).stream()
+                .map(CommunityFixture::createSummary)
+                .toList();
+    }
+
     /**
      * 여러 게시물 목록 생성
      */
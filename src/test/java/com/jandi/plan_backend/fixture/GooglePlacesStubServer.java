@@ -0,0 +1,228 @@
+package com.jandi.plan_backend.fixture;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 테스트용 Google Places API 스텁 서버 (Nearby Search / Place Details / Place Photo)
+ * - GeoApiContext.Builder.baseUrlOverride(baseUrl())로 연결
+ * - Nearby Search: searchLatencyMillis만큼 지연 후 pages개 페이지, 페이지마다 resultsPerPage개 결과와 다음 페이지 토큰
+ *   (placeIdsPerLocation()이면 검색 위치마다 다른 placeId → 여러 도시를 동시에 조회하는 부하 측정용)
+ * - Place Details: detailsLatencyMillis만큼 지연 후 응답, 동시 처리 수 최댓값을 기록
+ *   detailsErrorEvery(n)이면 n번째 호출마다 HTTP 500 응답
+ * - Place Photo: photoBytes(photoReference) 내용의 image/jpeg 응답
+ */
+public class GooglePlacesStubServer implements AutoCloseable {
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final int pages;
+    private final int resultsPerPage;
+
+    private volatile long searchLatencyMillis;
+    private volatile long detailsLatencyMillis;
+    private volatile int detailsErrorEvery;
+    private volatile boolean placeIdsPerLocation;
+    private volatile String searchStatus = "OK";
+
+    private final AtomicInteger searchCalls = new AtomicInteger();
+    private final AtomicInteger detailsCalls = new AtomicInteger();
+    private final AtomicInteger photoCalls = new AtomicInteger();
+    private final AtomicInteger inFlightDetails = new AtomicInteger();
+    private final AtomicInteger maxInFlightDetails = new AtomicInteger();
+    private final List<String> receivedPageTokens = Collections.synchronizedList(new ArrayList<>());
+
+    private GooglePlacesStubServer(int pages, int resultsPerPage) throws IOException {
+        this.pages = pages;
+        this.resultsPerPage = resultsPerPage;
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        this.executor = Executors.newCachedThreadPool();
+        server.setExecutor(executor);
+        server.createContext("/maps/api/place/nearbysearch/json", this::handleNearbySearch);
+        server.createContext("/maps/api/place/details/json", this::handleDetails);
+        server.createContext("/maps/api/place/photo", this::handlePhoto);
+        server.start();
+    }
+
+    public static GooglePlacesStubServer start(int pages, int resultsPerPage) throws IOException {
+        return new GooglePlacesStubServer(pages, resultsPerPage);
+    }
+
+    public String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    public GooglePlacesStubServer searchLatencyMillis(long millis) {
+        this.searchLatencyMillis = millis;
+        return this;
+    }
+
+    // n번째 Place Details 호출마다 HTTP 500 (0이면 오류 없음)
+    public GooglePlacesStubServer detailsErrorEvery(int n) {
+        this.detailsErrorEvery = n;
+        return this;
+    }
+
+    public GooglePlacesStubServer placeIdsPerLocation() {
+        this.placeIdsPerLocation = true;
+        return this;
+    }
+
+    public GooglePlacesStubServer detailsLatencyMillis(long millis) {
+        this.detailsLatencyMillis = millis;
+        return this;
+    }
+
+    // Nearby Search 응답 상태 (예: "REQUEST_DENIED")
+    public GooglePlacesStubServer searchStatus(String status) {
+        this.searchStatus = status;
+        return this;
+    }
+
+    public int searchCalls() {
+        return searchCalls.get();
+    }
+
+    public int detailsCalls() {
+        return detailsCalls.get();
+    }
+
+    public int photoCalls() {
+        return photoCalls.get();
+    }
+
+    public int maxInFlightDetails() {
+        return maxInFlightDetails.get();
+    }
+
+    public List<String> receivedPageTokens() {
+        return List.copyOf(receivedPageTokens);
+    }
+
+    public static String placeId(int page, int index) {
+        return "stub-place-" + page + "-" + index;
+    }
+
+    public static String photoReference(String placeId) {
+        return "photo-" + placeId;
+    }
+
+    public static byte[] photoBytes(String photoReference) {
+        return ("stub-image:" + photoReference).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handleNearbySearch(HttpExchange exchange) throws IOException {
+        searchCalls.incrementAndGet();
+        Map<String, String> query = parseQuery(exchange);
+        String token = query.get("pagetoken");
+        if (token != null) {
+            receivedPageTokens.add(token);
+        }
+        sleep(searchLatencyMillis);
+        if (!"OK".equals(searchStatus)) {
+            respond(exchange, "{\"status\":\"" + searchStatus + "\",\"results\":[]}");
+            return;
+        }
+
+        // 토큰: "page-{페이지}" 또는 위치별 placeId 사용 시 "page-{페이지}@{위치}"
+        String[] tokenParts = token == null ? null : token.substring("page-".length()).split("@", 2);
+        int page = tokenParts == null ? 0 : Integer.parseInt(tokenParts[0]);
+        String location = tokenParts == null ? query.get("location") : tokenParts.length > 1 ? tokenParts[1] : null;
+        String suffix = placeIdsPerLocation && location != null ? "@" + location : "";
+        StringJoiner results = new StringJoiner(",");
+        for (int i = 0; i < resultsPerPage; i++) {
+            results.add("{\"place_id\":\"" + placeId(page, i) + suffix + "\",\"name\":\"맛집 " + page + "-" + i + "\"}");
+        }
+        String nextToken = page + 1 < pages ? ",\"next_page_token\":\"page-" + (page + 1) + suffix + "\"" : "";
+        respond(exchange, "{\"status\":\"OK\",\"results\":[" + results + "]" + nextToken + "}");
+    }
+
+    private void handleDetails(HttpExchange exchange) throws IOException {
+        int call = detailsCalls.incrementAndGet();
+        int inFlight = inFlightDetails.incrementAndGet();
+        maxInFlightDetails.accumulateAndGet(inFlight, Math::max);
+        try {
+            sleep(detailsLatencyMillis);
+            int errorEvery = detailsErrorEvery;
+            if (errorEvery > 0 && call % errorEvery == 0) {
+                exchange.sendResponseHeaders(500, -1);
+                exchange.close();
+                return;
+            }
+            Map<String, String> query = parseQuery(exchange);
+            String placeId = query.getOrDefault("placeid", query.get("place_id"));
+            respond(exchange, "{\"status\":\"OK\",\"result\":{"
+                    + "\"place_id\":\"" + placeId + "\","
+                    + "\"name\":\"" + placeId + " 식당\","
+                    + "\"formatted_address\":\"서울특별시 중구 세종대로 110\","
+                    + "\"geometry\":{\"location\":{\"lat\":37.5665,\"lng\":126.978}},"
+                    + "\"rating\":4.5,\"user_ratings_total\":120,\"dine_in\":true,"
+                    + "\"photos\":[{\"photo_reference\":\"" + photoReference(placeId) + "\",\"width\":800,\"height\":600}],"
+                    + "\"url\":\"https://maps.google.com/?cid=1\"}}");
+        } finally {
+            inFlightDetails.decrementAndGet();
+        }
+    }
+
+    private void handlePhoto(HttpExchange exchange) throws IOException {
+        photoCalls.incrementAndGet();
+        byte[] bytes = photoBytes(parseQuery(exchange).get("photoreference"));
+        exchange.getResponseHeaders().add("Content-Type", "image/jpeg");
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static void sleep(long millis) {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static Map<String, String> parseQuery(HttpExchange exchange) {
+        Map<String, String> params = new HashMap<>();
+        String rawQuery = exchange.getRequestURI().getRawQuery();
+        if (rawQuery == null) {
+            return params;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int eq = pair.indexOf('=');
+            if (eq > 0) {
+                params.put(URLDecoder.decode(pair.substring(0, eq), StandardCharsets.UTF_8),
+                        URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8));
+            }
+        }
+        return params;
+    }
+
+    private static void respond(HttpExchange exchange, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json; charset=UTF-8");
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
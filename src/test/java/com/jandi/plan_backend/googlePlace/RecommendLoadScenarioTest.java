@@ -0,0 +1,312 @@
+package com.jandi.plan_backend.googlePlace;
+
+import com.jandi.plan_backend.config.GooglePlacesConfig;
+import com.jandi.plan_backend.fixture.GooglePlacesStubServer;
+import com.jandi.plan_backend.fixture.TripFixture;
+import com.jandi.plan_backend.geo.service.NearbySearchService;
+import com.jandi.plan_backend.global.GlobalExceptionHandler;
+import com.jandi.plan_backend.googlePlace.controller.RecommendController;
+import com.jandi.plan_backend.googlePlace.entity.PlaceRecommendation;
+import com.jandi.plan_backend.googlePlace.repository.PlaceRecommendationRepository;
+import com.jandi.plan_backend.googlePlace.service.GooglePlacesClient;
+import com.jandi.plan_backend.googlePlace.service.RecommendService;
+import com.jandi.plan_backend.user.entity.City;
+import com.jandi.plan_backend.user.repository.CityRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.tomcat.util.threads.ThreadPoolExecutor;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.http.HttpMessageConvertersAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.embedded.EmbeddedWebServerFactoryCustomizerAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.DispatcherServletAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.ServletWebServerFactoryAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.WebMvcAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.embedded.tomcat.TomcatWebServer;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 맛집 추천 API 부하 시나리오 (./gradlew loadTest, 기본 test 태스크에서는 제외)
+ *
+ * 실제 Tomcat에 RecommendController/RecommendService/GooglePlacesConfig만 올리고,
+ * Google Places는 google.places.base-url로 로컬 스텁 서버에 연결, DB는 메모리 저장소로 대체
+ * - cold: 데이터가 없는 도시들에 동시에 요청 (Google 조회 포함)
+ * - warm: 같은 도시들에 다시 요청 (DB 데이터만 사용)
+ * 단계별 지연 시간 p50/p95/p99와 Tomcat 작업 스레드 최대 사용 수를 출력
+ */
+@Tag("load")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class RecommendLoadScenarioTest {
+
+    private static final int CITY_COUNT = 20;
+    private static final int COLD_REQUESTS_PER_CITY = 10;
+    private static final int WARM_REQUESTS = 2000;
+    private static final int CONCURRENCY = 100;
+    private static final int TOMCAT_MAX_THREADS = 50;
+
+    private GooglePlacesStubServer stub;
+    private ServletWebServerApplicationContext context;
+    private ThreadPoolExecutor tomcatExecutor;
+    private HttpClient httpClient;
+    private URI endpoint;
+
+    @BeforeAll
+    void startServer() throws Exception {
+        // 페이지 3개 × 20개, Google 응답 지연과 상세 조회 50번에 1번 오류
+        stub = GooglePlacesStubServer.start(3, 20)
+                .placeIdsPerLocation()
+                .searchLatencyMillis(80)
+                .detailsLatencyMillis(40)
+                .detailsErrorEvery(50);
+
+        context = (ServletWebServerApplicationContext) new SpringApplicationBuilder(LoadScenarioConfig.class)
+                .web(WebApplicationType.SERVLET)
+                .properties(
+                        "server.port=0",
+                        "server.tomcat.threads.max=" + TOMCAT_MAX_THREADS,
+                        "google.api.key=AIzaStubKey",
+                        "google.places.base-url=" + stub.baseUrl(),
+                        "google.places.page-token-delay-ms=50",
+                        "spring.main.banner-mode=off"
+                )
+                .run();
+        TomcatWebServer webServer = (TomcatWebServer) context.getWebServer();
+        tomcatExecutor = (ThreadPoolExecutor) webServer.getTomcat().getConnector().getProtocolHandler().getExecutor();
+        endpoint = URI.create("http://127.0.0.1:" + webServer.getPort() + "/api/map/recommend/restaurant");
+        httpClient = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    @AfterAll
+    void stopServer() {
+        if (context != null) {
+            context.close();
+        }
+        if (stub != null) {
+            stub.close();
+        }
+    }
+
+    @Test
+    @DisplayName("cold/warm 도시 추천 요청 지연 시간과 Tomcat 스레드 사용량")
+    void recommendLoadScenario() throws Exception {
+        // cold: 도시마다 동시에 여러 요청 → 도시별 Google 조회는 한 번만
+        List<Integer> coldCityIds = new ArrayList<>();
+        for (int cityId = 1; cityId <= CITY_COUNT; cityId++) {
+            for (int i = 0; i < COLD_REQUESTS_PER_CITY; i++) {
+                coldCityIds.add(cityId);
+            }
+        }
+        Collections.shuffle(coldCityIds, new Random(1));
+        PhaseResult cold = runPhase("cold", coldCityIds);
+
+        Random random = new Random(2);
+        List<Integer> warmCityIds = new ArrayList<>();
+        for (int i = 0; i < WARM_REQUESTS; i++) {
+            warmCityIds.add(1 + random.nextInt(CITY_COUNT));
+        }
+        PhaseResult warm = runPhase("warm", warmCityIds);
+
+        System.out.printf("google calls - search: %d, details: %d%n", stub.searchCalls(), stub.detailsCalls());
+
+        assertThat(cold.errors()).isZero();
+        assertThat(warm.errors()).isZero();
+        // 동시 요청이 합쳐져 도시마다 검색은 최대 페이지 수만큼만
+        assertThat(stub.searchCalls()).isBetween(CITY_COUNT, CITY_COUNT * 3);
+    }
+
+    private PhaseResult runPhase(String name, List<Integer> cityIds) throws Exception {
+        long[] latencies = new long[cityIds.size()];
+        AtomicInteger errors = new AtomicInteger();
+        AtomicInteger peakBusyThreads = new AtomicInteger();
+        AtomicBoolean running = new AtomicBoolean(true);
+        Semaphore permits = new Semaphore(CONCURRENCY);
+
+        // Tomcat 작업 스레드 사용량 샘플링
+        Thread sampler = Thread.ofPlatform().daemon().start(() -> {
+            while (running.get()) {
+                peakBusyThreads.accumulateAndGet(tomcatExecutor.getActiveCount(), Math::max);
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(2));
+            }
+        });
+
+        long startedAt = System.nanoTime();
+        List<CompletableFuture<Void>> futures = new ArrayList<>(cityIds.size());
+        for (int i = 0; i < cityIds.size(); i++) {
+            permits.acquire();
+            int index = i;
+            long requestStartedAt = System.nanoTime();
+            HttpRequest request = HttpRequest.newBuilder(endpoint)
+                    .header("Content-Type", "application/json")
+                    .timeout(Duration.ofSeconds(60))
+                    .POST(HttpRequest.BodyPublishers.ofString("{\"cityId\":" + cityIds.get(i) + "}"))
+                    .build();
+            futures.add(httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .handle((response, e) -> {
+                        latencies[index] = System.nanoTime() - requestStartedAt;
+                        if (e != null || response.statusCode() != 200) {
+                            errors.incrementAndGet();
+                        }
+                        permits.release();
+                        return null;
+                    }));
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get(2, TimeUnit.MINUTES);
+        long elapsedNanos = System.nanoTime() - startedAt;
+        running.set(false);
+        sampler.join();
+
+        Arrays.sort(latencies);
+        PhaseResult result = new PhaseResult(name, latencies, errors.get(), peakBusyThreads.get(), elapsedNanos);
+        System.out.println(result);
+        return result;
+    }
+
+    private record PhaseResult(String name, long[] sortedLatencies, int errors, int peakBusyThreads,
+                               long elapsedNanos) {
+
+        long percentileMillis(double percentile) {
+            int index = (int) Math.ceil(percentile * sortedLatencies.length) - 1;
+            return TimeUnit.NANOSECONDS.toMillis(sortedLatencies[Math.max(index, 0)]);
+        }
+
+        @Override
+        public String toString() {
+            double seconds = elapsedNanos / 1e9;
+            return String.format("[%s] requests: %d, errors: %d, throughput: %.0f req/s, "
+                            + "p50: %dms, p95: %dms, p99: %dms, max: %dms, tomcat busy threads (peak): %d/%d",
+                    name, sortedLatencies.length, errors, sortedLatencies.length / seconds,
+                    percentileMillis(0.50), percentileMillis(0.95), percentileMillis(0.99),
+                    percentileMillis(1.0), peakBusyThreads, TOMCAT_MAX_THREADS);
+        }
+    }
+
+    /**
+     * 추천 API에 필요한 빈만 구성 (보안/JPA 제외)
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ImportAutoConfiguration({
+            ServletWebServerFactoryAutoConfiguration.class,
+            EmbeddedWebServerFactoryCustomizerAutoConfiguration.class,
+            DispatcherServletAutoConfiguration.class,
+            WebMvcAutoConfiguration.class,
+            HttpMessageConvertersAutoConfiguration.class,
+            JacksonAutoConfiguration.class,
+            ValidationAutoConfiguration.class
+    })
+    @Import({GooglePlacesConfig.class, GooglePlacesClient.class, RecommendService.class,
+            RecommendController.class, GlobalExceptionHandler.class})
+    static class LoadScenarioConfig {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+        @Bean
+        NearbySearchService nearbySearchService() {
+            return mock(NearbySearchService.class, withSettings().stubOnly());
+        }
+
+        @Bean
+        CityRepository cityRepository() {
+            // 호출 기록을 남기지 않는 목 (부하 중 메모리/잠금 비용 제외)
+            CityRepository cityRepository = mock(CityRepository.class, withSettings().stubOnly());
+            when(cityRepository.findById(anyInt())).thenAnswer(invocation -> {
+                Integer cityId = invocation.getArgument(0);
+                City city = TripFixture.createDefaultCity();
+                city.setCityId(cityId);
+                city.setName("도시" + cityId);
+                city.setLatitude(33.0 + cityId * 0.1);
+                city.setLongitude(126.0 + cityId * 0.1);
+                return Optional.of(city);
+            });
+            return cityRepository;
+        }
+
+        @Bean
+        PlaceRecommendationRepository placeRecommendationRepository() {
+            return InMemoryPlaceRecommendations.mockRepository();
+        }
+    }
+
+    /**
+     * PlaceRecommendationRepository 목 (메모리 목록에 저장)
+     */
+    private static final class InMemoryPlaceRecommendations {
+
+        private final List<PlaceRecommendation> stored = new ArrayList<>();
+        private long nextId = 1;
+
+        static PlaceRecommendationRepository mockRepository() {
+            InMemoryPlaceRecommendations store = new InMemoryPlaceRecommendations();
+            PlaceRecommendationRepository repository = mock(PlaceRecommendationRepository.class,
+                    withSettings().stubOnly());
+            when(repository.findByCountryAndCityAndCreatedAtAfter(anyString(), anyString(), any()))
+                    .thenAnswer(invocation -> store.find(invocation.getArgument(1), invocation.getArgument(2)));
+            when(repository.countByCountryAndCityAndCreatedAtAfter(anyString(), anyString(), any()))
+                    .thenAnswer(invocation -> (long) store.find(invocation.getArgument(1),
+                            invocation.getArgument(2)).size());
+            when(repository.findByCountryAndCity(anyString(), anyString()))
+                    .thenAnswer(invocation -> store.find(invocation.getArgument(1), LocalDateTime.MIN));
+            when(repository.findByCountryAndCityAndPlaceIdIn(anyString(), anyString(), anyCollection()))
+                    .thenAnswer(invocation -> store.findByPlaceIds(invocation.getArgument(1), invocation.getArgument(2)));
+            when(repository.saveAll(anyList()))
+                    .thenAnswer(invocation -> store.saveAll(invocation.getArgument(0)));
+            return repository;
+        }
+
+        synchronized List<PlaceRecommendation> find(String city, LocalDateTime after) {
+            return stored.stream()
+                    .filter(place -> place.getCity().equals(city) && place.getCreatedAt().isAfter(after))
+                    .toList();
+        }
+
+        synchronized List<PlaceRecommendation> findByPlaceIds(String city, Collection<String> placeIds) {
+            return stored.stream()
+                    .filter(place -> place.getCity().equals(city) && placeIds.contains(place.getPlaceId()))
+                    .toList();
+        }
+
+        synchronized List<PlaceRecommendation> saveAll(List<PlaceRecommendation> places) {
+            for (PlaceRecommendation place : places) {
+                if (place.getId() == null) {
+                    place.setId(nextId++);
+                    place.setCreatedAt(LocalDateTime.now());
+                    stored.add(place);
+                }
+            }
+            return places;
+        }
+    }
+}
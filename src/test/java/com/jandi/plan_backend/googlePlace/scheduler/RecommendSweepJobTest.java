@@ -0,0 +1,76 @@
+package com.jandi.plan_backend.googlePlace.scheduler;
+
+import com.jandi.plan_backend.geo.service.NearbySearchService;
+import com.jandi.plan_backend.googlePlace.repository.PlaceRecommendationRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * RecommendSweepJob 단위 테스트
+ *
+ * 테스트 대상: 오래된 추천 데이터 키셋 배치 삭제
+ */
+@ExtendWith(MockitoExtension.class)
+class RecommendSweepJobTest {
+
+    @Mock
+    private PlaceRecommendationRepository placeRecommendationRepository;
+
+    @Mock
+    private NearbySearchService nearbySearchService;
+
+    @InjectMocks
+    private RecommendSweepJob recommendSweepJob;
+
+    @Test
+    @DisplayName("[성공] 마지막으로 삭제한 id 다음부터 배치 단위로 삭제하고, 덜 찬 배치에서 종료")
+    void sweepExpired_ShouldDeleteInKeysetBatches() {
+        // given
+        ReflectionTestUtils.setField(recommendSweepJob, "batchSize", 3);
+        when(placeRecommendationRepository.findIdsCreatedBefore(any(), eq(0L), any(Pageable.class)))
+                .thenReturn(List.of(1L, 4L, 5L));
+        when(placeRecommendationRepository.findIdsCreatedBefore(any(), eq(5L), any(Pageable.class)))
+                .thenReturn(List.of(9L));
+        when(placeRecommendationRepository.deleteByIdIn(anyCollection()))
+                .thenAnswer(invocation -> invocation.<List<Long>>getArgument(0).size());
+
+        // when
+        LocalDateTime before = LocalDateTime.now().minusDays(90);
+        recommendSweepJob.sweepExpired();
+
+        // then
+        verify(placeRecommendationRepository).deleteByIdIn(List.of(1L, 4L, 5L));
+        verify(placeRecommendationRepository).deleteByIdIn(List.of(9L));
+        verify(placeRecommendationRepository, times(2))
+                .findIdsCreatedBefore(argThat(threshold -> !threshold.isBefore(before)), anyLong(),
+                        argThat(pageable -> pageable.getPageSize() == 3));
+        verify(nearbySearchService).removeRecommendation(9L);
+        verify(nearbySearchService, times(4)).removeRecommendation(anyLong());
+    }
+
+    @Test
+    @DisplayName("[경계] 삭제할 데이터가 없으면 DELETE를 실행하지 않음")
+    void sweepExpired_Nothing_ShouldNotDelete() {
+        // given
+        when(placeRecommendationRepository.findIdsCreatedBefore(any(), anyLong(), any(Pageable.class)))
+                .thenReturn(List.of());
+
+        // when
+        recommendSweepJob.sweepExpired();
+
+        // then
+        verify(placeRecommendationRepository, never()).deleteByIdIn(anyCollection());
+    }
+}
@@ -0,0 +1,209 @@
+package com.jandi.plan_backend.googlePlace.service;
+
+import com.google.maps.GeoApiContext;
+import com.jandi.plan_backend.fixture.GooglePlacesStubServer;
+import com.jandi.plan_backend.googlePlace.dto.RecommPlaceRespDTO;
+import com.jandi.plan_backend.googlePlace.entity.PlaceRecommendation;
+import com.jandi.plan_backend.googlePlace.repository.PlaceRecommendationRepository;
+import com.jandi.plan_backend.googlePlace.service.RecommendPhotoService.Photo;
+import com.jandi.plan_backend.util.service.BadRequestExceptionMessage;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * RecommendPhotoService 단위 테스트 (Google Place Photo는 로컬 스텁 서버 사용)
+ *
+ * 테스트 대상: 프록시 주소 생성, 사진 캐시/다운로드
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class RecommendPhotoServiceTest {
+
+    private static final String PLACE_ID = GooglePlacesStubServer.placeId(0, 0);
+    private static final String REFERENCE = GooglePlacesStubServer.photoReference(PLACE_ID);
+
+    @Mock
+    private PlaceRecommendationRepository placeRepo;
+
+    @TempDir
+    Path cacheDir;
+
+    private GooglePlacesStubServer stub;
+    private GeoApiContext context;
+    private RecommendPhotoService photoService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        stub = GooglePlacesStubServer.start(1, 1);
+        context = new GeoApiContext.Builder()
+                .apiKey("AIzaStubKey")
+                .baseUrlOverride(stub.baseUrl())
+                .disableRetries()
+                .build();
+        photoService = createService();
+
+        PlaceRecommendation place = new PlaceRecommendation();
+        place.setPlaceId(PLACE_ID);
+        place.setPhotoUrl("https://maps.googleapis.com/maps/api/place/photo?maxwidth=500&photoreference="
+                + REFERENCE + "&key=AIzaStubKey");
+        when(placeRepo.findByPlaceIdIn(List.of(PLACE_ID))).thenReturn(List.of(place));
+    }
+
+    private RecommendPhotoService createService() throws Exception {
+        return new RecommendPhotoService(placeRepo, new GooglePlacesClient(context, new SimpleMeterRegistry()),
+                cacheDir.toString(), 1024 * 1024, 100);
+    }
+
+    @AfterEach
+    void tearDown() {
+        photoService.shutdown();
+        context.shutdown();
+        stub.close();
+    }
+
+    private Photo get(String version) throws Exception {
+        return photoService.getPhoto(PLACE_ID, version).get(5, TimeUnit.SECONDS);
+    }
+
+    private byte[] read(Photo photo) throws Exception {
+        try (FileChannel channel = photoService.open(photo)) {
+            ByteBuffer buffer = ByteBuffer.allocate((int) channel.size());
+            channel.read(buffer);
+            return buffer.array();
+        }
+    }
+
+    @Nested
+    @DisplayName("프록시 주소")
+    class ProxyUrlTest {
+
+        @Test
+        @DisplayName("[성공] API 키 없이 서버 공개 주소, 장소 ID, 사진 버전만 담은 절대 주소로 변환")
+        void proxyUrl_ShouldHideApiKey() {
+            // when
+            PlaceRecommendation place = placeRepo.findByPlaceIdIn(List.of(PLACE_ID)).get(0);
+            String url = new RecommPlaceRespDTO(place, "https://api.example.com/").getPhotoUrl();
+
+            // then
+            assertThat(url).isEqualTo("https://api.example.com/api/recommend/photo/" + PLACE_ID + "?v="
+                    + RecommendPhotoService.version(REFERENCE));
+            assertThat(url).doesNotContain("key");
+            assertThat(RecommendPhotoService.proxyUrl("https://api.example.com", PLACE_ID, null)).isNull();
+        }
+
+        @Test
+        @DisplayName("[경계] 서버 공개 주소가 없으면 상대 경로")
+        void proxyUrl_WithoutBaseUrl_ShouldReturnRelativePath() {
+            // when
+            String url = RecommendPhotoService.proxyUrl("", PLACE_ID,
+                    "https://maps.googleapis.com/maps/api/place/photo?photoreference=" + REFERENCE);
+
+            // then
+            assertThat(url).startsWith("/api/recommend/photo/" + PLACE_ID);
+        }
+    }
+
+    @Nested
+    @DisplayName("사진 조회")
+    class GetPhotoTest {
+
+        @Test
+        @DisplayName("[성공] 처음 한 번만 Google에서 받고 이후에는 DB/Google 조회 없이 캐시에서 응답")
+        void getPhoto_ShouldFetchOnce() throws Exception {
+            // given
+            String version = RecommendPhotoService.version(REFERENCE);
+
+            // when
+            Photo first = get(version);
+            Photo second = get(version);
+
+            // then
+            assertThat(stub.photoCalls()).isEqualTo(1);
+            assertThat(first.versioned()).isTrue();
+            assertThat(second.entry()).isEqualTo(first.entry());
+            assertThat(first.entry().contentType()).isEqualTo("image/jpeg");
+            assertThat(read(second)).isEqualTo(GooglePlacesStubServer.photoBytes(REFERENCE));
+            verify(placeRepo, times(1)).findByPlaceIdIn(anyCollection());
+        }
+
+        @Test
+        @DisplayName("[성공] 재시작 후에도 디스크 캐시에서 응답")
+        void getPhoto_AfterRestart_ShouldUseDiskCache() throws Exception {
+            // given
+            String version = RecommendPhotoService.version(REFERENCE);
+            get(version);
+            photoService.shutdown();
+
+            // when
+            photoService = createService();
+            Photo photo = get(version);
+
+            // then
+            assertThat(stub.photoCalls()).isEqualTo(1);
+            assertThat(read(photo)).isEqualTo(GooglePlacesStubServer.photoBytes(REFERENCE));
+        }
+
+        @Test
+        @DisplayName("[성공] 같은 사진을 동시에 요청하면 Google 호출은 한 번")
+        void getPhoto_Concurrent_ShouldCoalesceDownloads() throws Exception {
+            // when
+            List<CompletableFuture<Photo>> futures = IntStream.range(0, 8)
+                    .mapToObj(i -> photoService.getPhoto(PLACE_ID, null))
+                    .toList();
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get(5, TimeUnit.SECONDS);
+
+            // then
+            assertThat(stub.photoCalls()).isEqualTo(1);
+            assertThat(futures).allSatisfy(future -> assertThat(future.join().versioned()).isFalse());
+        }
+
+        @Test
+        @DisplayName("[경계] 지난 버전으로 요청하면 현재 사진을 짧은 캐시 대상으로 응답")
+        void getPhoto_StaleVersion_ShouldServeCurrentPhotoUnversioned() throws Exception {
+            // when
+            Photo photo = get("000000000000");
+
+            // then
+            assertThat(photo.versioned()).isFalse();
+            assertThat(read(photo)).isEqualTo(GooglePlacesStubServer.photoBytes(REFERENCE));
+        }
+
+        @Test
+        @DisplayName("[실패] 사진이 없는 장소는 예외")
+        void getPhoto_NoPhoto_ShouldThrow() {
+            // given
+            PlaceRecommendation place = new PlaceRecommendation();
+            place.setPlaceId("no-photo");
+            when(placeRepo.findByPlaceIdIn(List.of("no-photo"))).thenReturn(List.of(place));
+
+            // when & then
+            assertThatThrownBy(() -> photoService.getPhoto("no-photo", null).get(5, TimeUnit.SECONDS))
+                    .isInstanceOf(ExecutionException.class)
+                    .hasCauseInstanceOf(BadRequestExceptionMessage.class);
+            assertThat(stub.photoCalls()).isZero();
+        }
+    }
+}
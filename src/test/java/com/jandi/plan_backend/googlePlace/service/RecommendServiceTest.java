@@ -0,0 +1,405 @@
+package com.jandi.plan_backend.googlePlace.service;
+
+import com.google.maps.GeoApiContext;
+import com.jandi.plan_backend.fixture.GooglePlacesStubServer;
+import com.jandi.plan_backend.fixture.TripFixture;
+import com.jandi.plan_backend.geo.service.NearbySearchService;
+import com.jandi.plan_backend.googlePlace.dto.RecommPlaceReqDTO;
+import com.jandi.plan_backend.googlePlace.dto.RecommPlaceRespDTO;
+import com.jandi.plan_backend.googlePlace.entity.PlaceRecommendation;
+import com.jandi.plan_backend.googlePlace.repository.PlaceRecommendationRepository;
+import com.jandi.plan_backend.user.entity.City;
+import com.jandi.plan_backend.user.repository.CityRepository;
+import com.jandi.plan_backend.util.service.GoogleApiException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * RecommendService 단위 테스트 (Google Places API는 로컬 스텁 서버 사용)
+ *
+ * 테스트 대상: 추천 맛집 조회, 비동기 Google 조회 파이프라인, 동시 갱신 병합, 백그라운드 갱신/미리 갱신
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class RecommendServiceTest {
+
+    private static final int DETAILS_CONCURRENCY = 3;
+
+    @Mock
+    private PlaceRecommendationRepository placeRepo;
+
+    @Mock
+    private CityRepository cityRepo;
+
+    @Mock
+    private NearbySearchService nearbySearchService;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private GooglePlacesStubServer stub;
+    private City city;
+    private GeoApiContext context;
+    private RecommendService recommendService;
+
+    // 저장된 추천 장소 (placeRepo 목 대신 보관)
+    private final List<PlaceRecommendation> stored = Collections.synchronizedList(new ArrayList<>());
+    private final AtomicInteger saveAllCalls = new AtomicInteger();
+
+    private void setUp(GooglePlacesStubServer stubServer) {
+        stub = stubServer;
+        context = new GeoApiContext.Builder()
+                .apiKey("AIzaStubKey")
+                .baseUrlOverride(stub.baseUrl())
+                .disableRetries()
+                .build();
+        recommendService = new RecommendService(placeRepo, cityRepo, nearbySearchService,
+                new GooglePlacesClient(context, meterRegistry), meterRegistry);
+        ReflectionTestUtils.setField(recommendService, "googleApiKey", "AIzaStubKey");
+        ReflectionTestUtils.setField(recommendService, "detailsConcurrency", DETAILS_CONCURRENCY);
+        ReflectionTestUtils.setField(recommendService, "pageTokenDelayMillis", 20L);
+
+        city = TripFixture.createDefaultCity();
+        when(cityRepo.findById(city.getCityId())).thenReturn(Optional.of(city));
+        when(placeRepo.findByCountryAndCityAndCreatedAtAfter(anyString(), anyString(), any()))
+                .thenAnswer(invocation -> {
+                    LocalDateTime after = invocation.getArgument(2);
+                    return cityPlaces(invocation.getArgument(0), invocation.getArgument(1)).stream()
+                            .filter(place -> place.getCreatedAt().isAfter(after)).toList();
+                });
+        when(placeRepo.findByCountryAndCity(anyString(), anyString()))
+                .thenAnswer(invocation -> cityPlaces(invocation.getArgument(0), invocation.getArgument(1)));
+        when(placeRepo.countByCountryAndCityAndCreatedAtAfter(anyString(), anyString(), any()))
+                .thenAnswer(invocation -> {
+                    LocalDateTime after = invocation.getArgument(2);
+                    return cityPlaces(invocation.getArgument(0), invocation.getArgument(1)).stream()
+                            .filter(place -> place.getCreatedAt().isAfter(after)).count();
+                });
+        when(placeRepo.findByCountryAndCityAndPlaceIdIn(anyString(), anyString(), anyCollection())).thenAnswer(invocation -> {
+            java.util.Collection<String> placeIds = invocation.getArgument(2);
+            return cityPlaces(invocation.getArgument(0), invocation.getArgument(1)).stream()
+                    .filter(place -> placeIds.contains(place.getPlaceId())).toList();
+        });
+        when(placeRepo.saveAll(anyList())).thenAnswer(invocation -> {
+            List<PlaceRecommendation> places = invocation.getArgument(0);
+            saveAllCalls.incrementAndGet();
+            synchronized (stored) {
+                for (PlaceRecommendation place : places) {
+                    if (place.getCreatedAt() == null) {
+                        place.setCreatedAt(LocalDateTime.now());
+                    }
+                    if (!stored.contains(place)) {
+                        stored.add(place);
+                    }
+                }
+            }
+            return places;
+        });
+        doAnswer(invocation -> {
+            String country = invocation.getArgument(0);
+            String cityName = invocation.getArgument(1);
+            LocalDateTime before = invocation.getArgument(2);
+            stored.removeIf(place -> country.equals(place.getCountry()) && cityName.equals(place.getCity())
+                    && place.getCreatedAt().isBefore(before));
+            return null;
+        }).when(placeRepo).deleteByCountryAndCityAndCreatedAtBefore(anyString(), anyString(), any());
+    }
+
+    // 진행 중인 갱신이 끝날 때까지 대기 (지표 기록까지 끝난 뒤 맵에서 제거됨)
+    private void awaitBackgroundRefresh() throws InterruptedException {
+        Map<?, ?> inFlight = (Map<?, ?>) ReflectionTestUtils.getField(recommendService, "inFlightRefreshes");
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!inFlight.isEmpty() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(inFlight).isEmpty();
+    }
+
+    private List<PlaceRecommendation> snapshot() {
+        synchronized (stored) {
+            return List.copyOf(stored);
+        }
+    }
+
+    private List<PlaceRecommendation> cityPlaces(String country, String cityName) {
+        return snapshot().stream()
+                .filter(place -> country.equals(place.getCountry()) && cityName.equals(place.getCity()))
+                .toList();
+    }
+
+    // 스텁 서버의 첫 페이지 장소를 daysAgo일 전에 저장된 것처럼 추가
+    private void storePlaces(int count, int daysAgo) {
+        for (int i = 0; i < count; i++) {
+            PlaceRecommendation place = new PlaceRecommendation();
+            place.setPlaceId(GooglePlacesStubServer.placeId(0, i));
+            place.setName("저장된 맛집 " + i);
+            place.setCountry("대한민국");
+            place.setCity("서울");
+            place.setCreatedAt(LocalDateTime.now().minusDays(daysAgo));
+            stored.add(place);
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        recommendService.shutdown();
+        context.shutdown();
+        stub.close();
+    }
+
+    private RecommPlaceReqDTO request() {
+        RecommPlaceReqDTO reqDTO = new RecommPlaceReqDTO();
+        reqDTO.setCityId(1);
+        return reqDTO;
+    }
+
+    @Nested
+    @DisplayName("추천 맛집 조회")
+    class GetAllRecommendedPlaceTest {
+
+        @Test
+        @DisplayName("[성공] 데이터가 없는 도시는 다음 페이지까지 비동기로 조회해 10개를 반환")
+        void getAllRecommendedPlace_ColdCity_ShouldFetchPagesAsynchronously() throws Exception {
+            // given: 페이지당 6개, 2페이지
+            setUp(GooglePlacesStubServer.start(2, 6).detailsLatencyMillis(50));
+
+            // when
+            CompletableFuture<List<RecommPlaceRespDTO>> future = recommendService.getAllRecommendedPlace(request());
+
+            // then: 요청 스레드는 Google 응답을 기다리지 않음
+            assertThat(future).isNotDone();
+            List<RecommPlaceRespDTO> result = future.get(10, TimeUnit.SECONDS);
+            assertThat(result).hasSize(10);
+            assertThat(stub.searchCalls()).isEqualTo(2);
+            assertThat(stub.receivedPageTokens()).containsExactly("page-1");
+            assertThat(stub.detailsCalls()).isEqualTo(12);
+            assertThat(stub.maxInFlightDetails()).isBetween(2, DETAILS_CONCURRENCY);
+            verify(nearbySearchService, times(12)).indexRecommendation(any());
+            // 페이지마다 존재 확인 IN 쿼리 1번, 일괄 저장 1번
+            verify(placeRepo, times(2)).findByCountryAndCityAndPlaceIdIn(eq("대한민국"), eq("서울"), anyCollection());
+            assertThat(saveAllCalls).hasValue(2);
+            verify(placeRepo, never()).save(any());
+        }
+
+        @Test
+        @DisplayName("[성공] 최근 데이터가 10개 이상이면 Google을 호출하지 않음")
+        void getAllRecommendedPlace_WarmCity_ShouldNotCallGoogle() throws Exception {
+            // given
+            setUp(GooglePlacesStubServer.start(1, 10));
+            storePlaces(10, 1);
+
+            // when
+            CompletableFuture<List<RecommPlaceRespDTO>> future = recommendService.getAllRecommendedPlace(request());
+
+            // then
+            assertThat(future).isDone();
+            assertThat(future.get()).hasSize(10);
+            assertThat(stub.searchCalls()).isZero();
+        }
+
+        @Test
+        @DisplayName("[실패] Nearby Search가 실패하면 GoogleApiException으로 완료")
+        void getAllRecommendedPlace_SearchDenied_ShouldFailWithGoogleApiException() throws IOException {
+            // given
+            setUp(GooglePlacesStubServer.start(1, 5).searchStatus("REQUEST_DENIED"));
+
+            // when
+            CompletableFuture<List<RecommPlaceRespDTO>> future = recommendService.getAllRecommendedPlace(request());
+
+            // then
+            assertThatThrownBy(() -> future.get(10, TimeUnit.SECONDS))
+                    .isInstanceOf(ExecutionException.class)
+                    .hasCauseInstanceOf(GoogleApiException.class);
+            assertThat(stub.detailsCalls()).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("동시 갱신 병합")
+    class CoalesceRefreshTest {
+
+        @Test
+        @DisplayName("[성공] 같은 도시의 동시 요청은 하나의 Google 조회 결과를 공유")
+        void getAllRecommendedPlace_ConcurrentRequests_ShouldShareOneRefresh() throws Exception {
+            // given
+            setUp(GooglePlacesStubServer.start(1, 10).detailsLatencyMillis(50));
+
+            // when
+            CompletableFuture<List<RecommPlaceRespDTO>> first = recommendService.getAllRecommendedPlace(request());
+            CompletableFuture<List<RecommPlaceRespDTO>> second = recommendService.getAllRecommendedPlace(request());
+
+            // then
+            assertThat(first.get(10, TimeUnit.SECONDS)).hasSize(10);
+            assertThat(second.get(10, TimeUnit.SECONDS)).hasSize(10);
+            assertThat(stub.searchCalls()).isEqualTo(1);
+            assertThat(stub.detailsCalls()).isEqualTo(10);
+        }
+
+        @Test
+        @DisplayName("[성공] 한 요청이 취소되어도 공유 중인 갱신은 계속 진행")
+        void getAllRecommendedPlace_CancelOneCaller_ShouldNotCancelSharedRefresh() throws Exception {
+            // given
+            setUp(GooglePlacesStubServer.start(1, 10).detailsLatencyMillis(50));
+            CompletableFuture<List<RecommPlaceRespDTO>> first = recommendService.getAllRecommendedPlace(request());
+            CompletableFuture<List<RecommPlaceRespDTO>> second = recommendService.getAllRecommendedPlace(request());
+
+            // when
+            first.cancel(true);
+
+            // then
+            assertThat(second.get(10, TimeUnit.SECONDS)).hasSize(10);
+        }
+
+        @Test
+        @DisplayName("[성공] 검색 결과가 없던 도시는 제한 시간 동안 다시 조회하지 않음")
+        void getAllRecommendedPlace_EmptyResult_ShouldBeNegativelyCached() throws Exception {
+            // given
+            setUp(GooglePlacesStubServer.start(1, 0));
+
+            // when
+            List<RecommPlaceRespDTO> first = recommendService.getAllRecommendedPlace(request()).get(10, TimeUnit.SECONDS);
+            List<RecommPlaceRespDTO> second = recommendService.getAllRecommendedPlace(request()).get(10, TimeUnit.SECONDS);
+
+            // then
+            assertThat(first).isEmpty();
+            assertThat(second).isEmpty();
+            assertThat(stub.searchCalls()).isEqualTo(1);
+
+            // when: 제한 시간이 지나면 다시 조회
+            ((Map<?, ?>) ReflectionTestUtils.getField(recommendService, "emptyResultUntil")).clear();
+            recommendService.getAllRecommendedPlace(request()).get(10, TimeUnit.SECONDS);
+
+            // then
+            assertThat(stub.searchCalls()).isEqualTo(2);
+        }
+    }
+
+    @Nested
+    @DisplayName("백그라운드 갱신")
+    class StaleWhileRevalidateTest {
+
+        @Test
+        @DisplayName("[성공] 만료된 데이터는 바로 반환하고 백그라운드에서 갱신")
+        void getAllRecommendedPlace_StaleData_ShouldServeImmediatelyAndRefresh() throws Exception {
+            // given: 40일 전에 저장된 10개 + 스텁에는 다른 장소 2개 추가
+            setUp(GooglePlacesStubServer.start(1, 12).detailsLatencyMillis(20));
+            storePlaces(10, 40);
+
+            // when
+            CompletableFuture<List<RecommPlaceRespDTO>> future = recommendService.getAllRecommendedPlace(request());
+
+            // then: 기다리지 않고 만료된 데이터를 반환
+            assertThat(future).isDone();
+            assertThat(future.get()).hasSize(10).extracting(RecommPlaceRespDTO::getName).allMatch(name -> name.startsWith("저장된"));
+            assertThat(meterRegistry.summary(RecommendService.METRIC_STALENESS_AGE).max())
+                    .isGreaterThanOrEqualTo(40 * 24 * 3600d - 60);
+
+            // then: 백그라운드 갱신 완료 후 기존 장소는 덮어쓰고 오래된 데이터는 정리
+            awaitBackgroundRefresh();
+            verify(placeRepo).deleteByCountryAndCityAndCreatedAtBefore(eq("대한민국"), eq("서울"), any());
+            assertThat(stub.detailsCalls()).isEqualTo(12);
+            assertThat(snapshot()).hasSize(12)
+                    .allMatch(place -> place.getCreatedAt().isAfter(LocalDateTime.now().minusMinutes(1)));
+            assertThat(meterRegistry.timer(RecommendService.METRIC_REFRESH_LATENCY,
+                    "trigger", "background", "outcome", "success").count()).isEqualTo(1);
+            assertThat(meterRegistry.counter(GooglePlacesClient.METRIC_API_CALLS,
+                    "api", "details", "outcome", "success").count()).isEqualTo(12);
+        }
+
+        @Test
+        @DisplayName("[성공] 다른 도시에 저장된 같은 장소는 옮기지 않고 이 도시에 새로 저장")
+        void getAllRecommendedPlace_PlaceStoredForOtherCity_ShouldKeepOtherCityRow() throws Exception {
+            // given: 다른 도시 검색에서 40일 전에 저장된 장소
+            setUp(GooglePlacesStubServer.start(1, 10));
+            PlaceRecommendation otherCity = new PlaceRecommendation();
+            otherCity.setPlaceId(GooglePlacesStubServer.placeId(0, 0));
+            otherCity.setName("부산에 저장된 맛집");
+            otherCity.setCountry("대한민국");
+            otherCity.setCity("부산");
+            otherCity.setCreatedAt(LocalDateTime.now().minusDays(40));
+            stored.add(otherCity);
+
+            // when
+            List<RecommPlaceRespDTO> result = recommendService.getAllRecommendedPlace(request()).get(10, TimeUnit.SECONDS);
+
+            // then
+            assertThat(result).hasSize(10);
+            assertThat(otherCity.getCity()).isEqualTo("부산");
+            assertThat(otherCity.getName()).isEqualTo("부산에 저장된 맛집");
+            assertThat(cityPlaces("대한민국", "서울")).hasSize(10)
+                    .anyMatch(place -> place.getPlaceId().equals(otherCity.getPlaceId()));
+        }
+
+        @Test
+        @DisplayName("[성공] 곧 만료될 데이터만 미리 갱신")
+        void prewarm_ShouldRefreshOnlyExpiringCities() throws Exception {
+            // given: 28일 전 데이터 → 3일 안에 만료
+            setUp(GooglePlacesStubServer.start(1, 10));
+            storePlaces(10, 28);
+
+            // when & then
+            assertThat(recommendService.prewarm(city, 3).get(10, TimeUnit.SECONDS)).isTrue();
+            assertThat(stub.detailsCalls()).isEqualTo(10);
+
+            // when & then: 방금 갱신된 도시는 건너뜀
+            assertThat(recommendService.prewarm(city, 3).get(10, TimeUnit.SECONDS)).isFalse();
+            assertThat(stub.searchCalls()).isEqualTo(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("동시 처리 개수 제한")
+    class MapWithConcurrencyTest {
+
+        @Test
+        @DisplayName("[성공] 동시에 최대 concurrency개만 실행하고 결과는 입력 순서대로")
+        void mapWithConcurrency_ShouldLimitInFlightAndKeepOrder() throws Exception {
+            // given
+            stub = GooglePlacesStubServer.start(1, 1);
+            context = new GeoApiContext.Builder().apiKey("AIzaStubKey").build();
+            recommendService = new RecommendService(placeRepo, cityRepo, nearbySearchService,
+                    new GooglePlacesClient(context, meterRegistry), meterRegistry);
+            List<Integer> items = List.of(1, 2, 3, 4, 5, 6, 7);
+            List<CompletableFuture<Integer>> pending = Collections.synchronizedList(new ArrayList<>());
+
+            // when
+            CompletableFuture<List<Integer>> result = RecommendService.mapWithConcurrency(items, 2, item -> {
+                CompletableFuture<Integer> future = new CompletableFuture<>();
+                pending.add(future);
+                return future;
+            });
+
+            // then: 앞의 작업이 끝나야 다음 작업이 시작됨
+            assertThat(pending).hasSize(2);
+            pending.get(1).complete(20);
+            assertThat(pending).hasSize(3);
+            for (int i = 0; i < items.size(); i++) {
+                pending.get(i).complete(items.get(i) * 10);
+            }
+            assertThat(result.get(1, TimeUnit.SECONDS)).containsExactly(10, 20, 30, 40, 50, 60, 70);
+        }
+    }
+}
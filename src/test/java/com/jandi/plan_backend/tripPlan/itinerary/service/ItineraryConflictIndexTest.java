@@ -0,0 +1,159 @@
+package com.jandi.plan_backend.tripPlan.itinerary.service;
+
+import com.jandi.plan_backend.fixture.TripFixture;
+import com.jandi.plan_backend.fixture.UserFixture;
+import com.jandi.plan_backend.tripPlan.itinerary.entity.Itinerary;
+import com.jandi.plan_backend.tripPlan.itinerary.repository.ItineraryRepository;
+import com.jandi.plan_backend.tripPlan.trip.entity.Trip;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * ItineraryConflictIndex 단위 테스트
+ *
+ * 테스트 대상: 시간 구간 충돌 탐색, 인덱스 갱신
+ */
+@ExtendWith(MockitoExtension.class)
+class ItineraryConflictIndexTest {
+
+    @Mock
+    private ItineraryRepository itineraryRepository;
+
+    @InjectMocks
+    private ItineraryConflictIndex itineraryConflictIndex;
+
+    private Trip trip;
+    private Integer tripId;
+    private LocalDate day;
+
+    @BeforeEach
+    void setUp() {
+        trip = TripFixture.createPublicTrip(UserFixture.createNormalUser(), TripFixture.createDefaultCity());
+        tripId = trip.getTripId();
+        day = LocalDate.now().plusDays(7);
+    }
+
+    private Itinerary createTimedItinerary(Long id, LocalTime startTime, Integer duration) {
+        Itinerary itinerary = new Itinerary();
+        itinerary.setItineraryId(id);
+        itinerary.setTrip(trip);
+        itinerary.setDate(day);
+        itinerary.setStartTime(startTime);
+        itinerary.setDuration(duration);
+        return itinerary;
+    }
+
+    @Nested
+    @DisplayName("충돌 탐색")
+    class FindConflictsTest {
+
+        @Test
+        @DisplayName("[성공] 긴 일정에 가려진 앞쪽 구간까지 겹치는 일정을 모두 찾음")
+        void findConflicts_WithNestedIntervals_ShouldReturnAllOverlaps() {
+            // given: 09:00~18:00, 10:00~10:30, 13:00~14:00
+            when(itineraryRepository.findByTrip_TripIdAndDate(tripId, day)).thenReturn(new ArrayList<>(List.of(
+                    createTimedItinerary(1L, LocalTime.of(9, 0), 540),
+                    createTimedItinerary(2L, LocalTime.of(10, 0), 30),
+                    createTimedItinerary(3L, LocalTime.of(13, 0), 60)
+            )));
+
+            // when & then
+            assertThat(itineraryConflictIndex.findConflicts(tripId, day, LocalTime.of(13, 30), 60, null))
+                    .containsExactlyInAnyOrder(1L, 3L);
+            assertThat(itineraryConflictIndex.findConflicts(tripId, day, LocalTime.of(10, 30), 30, null))
+                    .containsExactly(1L);
+            assertThat(itineraryConflictIndex.findConflicts(tripId, day, LocalTime.of(18, 0), 60, null))
+                    .isEmpty();
+            verify(itineraryRepository, times(1)).findByTrip_TripIdAndDate(tripId, day);
+        }
+
+        @Test
+        @DisplayName("[경계] 자기 자신과 소요 시간이 없는 구간은 제외")
+        void findConflicts_ExcludeSelfAndNoDuration_ShouldReturnEmpty() {
+            // given
+            when(itineraryRepository.findByTrip_TripIdAndDate(tripId, day)).thenReturn(List.of(
+                    createTimedItinerary(1L, LocalTime.of(10, 0), 60),
+                    createTimedItinerary(2L, LocalTime.of(10, 0), null)
+            ));
+
+            // when & then
+            assertThat(itineraryConflictIndex.findConflicts(tripId, day, LocalTime.of(10, 0), 60, 1L)).isEmpty();
+            assertThat(itineraryConflictIndex.findConflicts(tripId, day, LocalTime.of(10, 0), null, null)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("[성공] 저장 전 검사는 캐시가 아닌 DB의 최신 일정으로 판단하고 캐시를 교체")
+        void findConflictsForUpdate_WithStaleCache_ShouldUseLatestRows() {
+            // given: 캐시에는 10:00 일정만 있고, 다른 트랜잭션이 14:00 일정을 커밋함
+            when(itineraryRepository.findByTrip_TripIdAndDate(tripId, day)).thenReturn(List.of(
+                    createTimedItinerary(1L, LocalTime.of(10, 0), 60)
+            ));
+            assertThat(itineraryConflictIndex.findConflicts(tripId, day, LocalTime.of(14, 0), 30, null)).isEmpty();
+            when(itineraryRepository.findByTripIdAndDateForUpdate(tripId, day)).thenReturn(List.of(
+                    createTimedItinerary(1L, LocalTime.of(10, 0), 60),
+                    createTimedItinerary(2L, LocalTime.of(14, 0), 60)
+            ));
+
+            // when
+            List<Long> conflicts = itineraryConflictIndex.findConflictsForUpdate(tripId, day, LocalTime.of(14, 0), 30, null);
+
+            // then
+            assertThat(conflicts).containsExactly(2L);
+            assertThat(itineraryConflictIndex.findConflicts(tripId, day, LocalTime.of(14, 0), 30, null))
+                    .containsExactly(2L);
+            verify(itineraryRepository, times(1)).findByTrip_TripIdAndDate(tripId, day);
+        }
+    }
+
+    @Nested
+    @DisplayName("인덱스 갱신")
+    class UpdateIndexTest {
+
+        @Test
+        @DisplayName("[성공] 추가/이동/삭제가 조회 결과에 반영됨")
+        void putAndRemove_ShouldBeReflectedInConflicts() {
+            // given
+            when(itineraryRepository.findByTrip_TripIdAndDate(tripId, day)).thenReturn(List.of(
+                    createTimedItinerary(1L, LocalTime.of(10, 0), 60)
+            ));
+            assertThat(itineraryConflictIndex.findConflicts(tripId, day, LocalTime.of(14, 0), 30, null)).isEmpty();
+
+            // when: 14:00 일정 추가
+            Itinerary added = createTimedItinerary(2L, LocalTime.of(14, 0), 60);
+            itineraryConflictIndex.putAfterCommit(added, null);
+
+            // then
+            assertThat(itineraryConflictIndex.findConflicts(tripId, day, LocalTime.of(14, 0), 30, null))
+                    .containsExactly(2L);
+
+            // when: 16:00으로 이동
+            added.setStartTime(LocalTime.of(16, 0));
+            itineraryConflictIndex.putAfterCommit(added, day);
+
+            // then
+            assertThat(itineraryConflictIndex.findConflicts(tripId, day, LocalTime.of(14, 0), 30, null)).isEmpty();
+            assertThat(itineraryConflictIndex.findConflicts(tripId, day, LocalTime.of(16, 30), 30, null))
+                    .containsExactly(2L);
+
+            // when: 삭제
+            itineraryConflictIndex.removeAfterCommit(tripId, day, 2L);
+
+            // then
+            assertThat(itineraryConflictIndex.findConflicts(tripId, day, LocalTime.of(16, 30), 30, null)).isEmpty();
+        }
+    }
+}
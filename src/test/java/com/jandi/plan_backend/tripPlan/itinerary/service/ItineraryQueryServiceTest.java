@@ -2,6 +2,7 @@ package com.jandi.plan_backend.tripPlan.itinerary.service;
 
 import com.jandi.plan_backend.fixture.TripFixture;
 import com.jandi.plan_backend.fixture.UserFixture;
+import com.jandi.plan_backend.tripPlan.itinerary.dto.ItineraryConflictRespDTO;
 import com.jandi.plan_backend.tripPlan.itinerary.dto.ItineraryRespDTO;
 import com.jandi.plan_backend.tripPlan.itinerary.entity.Itinerary;
 import com.jandi.plan_backend.tripPlan.itinerary.repository.ItineraryRepository;
@@ -204,6 +205,94 @@ class ItineraryQueryServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("시간 충돌 일정 조회")
+    class GetConflictsTest {
+
+        private Itinerary createTimedItinerary(Long id, LocalDate date, LocalTime startTime, Integer duration) {
+            Itinerary timed = createTestItinerary(publicTrip);
+            timed.setItineraryId(id);
+            timed.setDate(date);
+            timed.setStartTime(startTime);
+            timed.setDuration(duration);
+            return timed;
+        }
+
+        @Test
+        @DisplayName("[성공] 겹치는 일정 쌍과 겹친 시간(분)을 반환")
+        void getConflicts_WithOverlappingItineraries_ShouldReturnPairs() {
+            // given: 10:00~11:00, 10:30~12:00, 11:30~11:45, 다음 날 10:00~11:00
+            String userEmail = normalUser.getEmail();
+            Integer tripId = 1;
+            LocalDate day = LocalDate.now().plusDays(7);
+            List<Itinerary> itineraries = List.of(
+                    createTimedItinerary(3L, day, LocalTime.of(11, 30), 15),
+                    createTimedItinerary(1L, day, LocalTime.of(10, 0), 60),
+                    createTimedItinerary(2L, day, LocalTime.of(10, 30), 90),
+                    createTimedItinerary(4L, day.plusDays(1), LocalTime.of(10, 0), 60)
+            );
+
+            when(validationUtil.validateTripExists(tripId)).thenReturn(publicTrip);
+            when(userRepository.findByEmail(userEmail)).thenReturn(Optional.of(normalUser));
+            when(tripUtil.isCanViewTrip(publicTrip, normalUser)).thenReturn(true);
+            when(itineraryRepository.findByTrip_TripId(tripId)).thenReturn(itineraries);
+
+            // when
+            List<ItineraryConflictRespDTO> result = itineraryQueryService.getConflicts(userEmail, tripId);
+
+            // then
+            assertThat(result).extracting(
+                    ItineraryConflictRespDTO::getItineraryId,
+                    ItineraryConflictRespDTO::getConflictingItineraryId,
+                    ItineraryConflictRespDTO::getOverlapMinutes
+            ).containsExactly(
+                    tuple(1L, 2L, 30),
+                    tuple(2L, 3L, 15)
+            );
+        }
+
+        @Test
+        @DisplayName("[성공] 소요 시간이 없는 일정은 충돌 검사에서 제외")
+        void getConflicts_WithoutDuration_ShouldBeIgnored() {
+            // given
+            String userEmail = normalUser.getEmail();
+            Integer tripId = 1;
+            LocalDate day = LocalDate.now().plusDays(7);
+            List<Itinerary> itineraries = List.of(
+                    createTimedItinerary(1L, day, LocalTime.of(10, 0), null),
+                    createTimedItinerary(2L, day, LocalTime.of(10, 0), 60)
+            );
+
+            when(validationUtil.validateTripExists(tripId)).thenReturn(publicTrip);
+            when(userRepository.findByEmail(userEmail)).thenReturn(Optional.of(normalUser));
+            when(tripUtil.isCanViewTrip(publicTrip, normalUser)).thenReturn(true);
+            when(itineraryRepository.findByTrip_TripId(tripId)).thenReturn(itineraries);
+
+            // when
+            List<ItineraryConflictRespDTO> result = itineraryQueryService.getConflicts(userEmail, tripId);
+
+            // then
+            assertThat(result).isEmpty();
+        }
+
+        @Test
+        @DisplayName("[실패] 타인의 비공개 여행 계획 충돌 조회 시 예외 발생")
+        void getConflicts_WithPrivateTripByOtherUser_ShouldThrowException() {
+            // given
+            String userEmail = otherUser.getEmail();
+            Integer tripId = 2;
+
+            when(validationUtil.validateTripExists(tripId)).thenReturn(privateTrip);
+            when(userRepository.findByEmail(userEmail)).thenReturn(Optional.of(otherUser));
+            when(tripUtil.isCanViewTrip(privateTrip, otherUser)).thenReturn(false);
+
+            // when & then
+            assertThatThrownBy(() -> itineraryQueryService.getConflicts(userEmail, tripId))
+                    .isInstanceOf(BadRequestExceptionMessage.class)
+                    .hasMessageContaining("비공개");
+        }
+    }
+
     private ItineraryRespDTO createMockItineraryRespDTO() {
         // Mock DTO 생성 - PlaceUtil.convertPlaceToDto가 반환하는 값
         return mock(ItineraryRespDTO.class);
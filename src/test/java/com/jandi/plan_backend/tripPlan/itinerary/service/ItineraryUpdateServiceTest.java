@@ -2,11 +2,16 @@ package com.jandi.plan_backend.tripPlan.itinerary.service;
 
 import com.jandi.plan_backend.fixture.TripFixture;
 import com.jandi.plan_backend.fixture.UserFixture;
+import com.jandi.plan_backend.tripPlan.itinerary.dto.ItineraryBulkReqDTO;
+import com.jandi.plan_backend.tripPlan.itinerary.dto.ItineraryMoveReqDTO;
 import com.jandi.plan_backend.tripPlan.itinerary.dto.ItineraryReqDTO;
 import com.jandi.plan_backend.tripPlan.itinerary.dto.ItineraryRespDTO;
+import com.jandi.plan_backend.tripPlan.itinerary.dto.ItineraryUpsertReqDTO;
 import com.jandi.plan_backend.tripPlan.itinerary.entity.Itinerary;
 import com.jandi.plan_backend.tripPlan.itinerary.repository.ItineraryRepository;
 import com.jandi.plan_backend.tripPlan.trip.entity.Trip;
+import com.jandi.plan_backend.tripPlan.trip.repository.TripRepository;
+import com.jandi.plan_backend.tripPlan.trip.service.TripSpendService;
 import com.jandi.plan_backend.user.entity.City;
 import com.jandi.plan_backend.user.entity.User;
 import com.jandi.plan_backend.util.PlaceUtil;
@@ -18,12 +23,18 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -44,12 +55,21 @@ class ItineraryUpdateServiceTest {
     @Mock
     private ItineraryRepository itineraryRepository;
 
+    @Mock
+    private TripRepository tripRepository;
+
     @Mock
     private TripUtil tripUtil;
 
     @Mock
     private PlaceUtil placeUtil;
 
+    @Mock
+    private ItineraryConflictIndex itineraryConflictIndex;
+
+    @Mock
+    private TripSpendService tripSpendService;
+
     @InjectMocks
     private ItineraryUpdateService itineraryUpdateService;
 
@@ -109,6 +129,7 @@ class ItineraryUpdateServiceTest {
             when(validationUtil.validateUserExists(userEmail)).thenReturn(normalUser);
             when(validationUtil.validateTripExists(tripId)).thenReturn(trip);
             doNothing().when(tripUtil).isCanEditTrip(trip, normalUser);
+            when(tripRepository.findByIdForUpdate(tripId)).thenReturn(Optional.of(trip));
             when(itineraryRepository.save(any(Itinerary.class))).thenAnswer(invocation -> {
                 Itinerary saved = invocation.getArgument(0);
                 saved.setItineraryId(1L);
@@ -122,6 +143,43 @@ class ItineraryUpdateServiceTest {
             // then
             assertThat(result).isNotNull();
             verify(itineraryRepository).save(any(Itinerary.class));
+            verify(tripSpendService).applyItineraryChange(tripId, Map.of(LocalDate.now().plusDays(7), 15000));
+
+            // 여행 행 잠금을 잡은 뒤 충돌 검사 (동시 생성이 서로를 보고 검사하도록)
+            InOrder inOrder = inOrder(tripRepository, itineraryConflictIndex, itineraryRepository);
+            inOrder.verify(tripRepository).findByIdForUpdate(tripId);
+            inOrder.verify(itineraryConflictIndex).findConflictsForUpdate(eq(tripId), any(LocalDate.class), any(LocalTime.class), any(), isNull());
+            inOrder.verify(itineraryRepository).save(any(Itinerary.class));
+        }
+
+        @Test
+        @DisplayName("[실패] 같은 시간대에 다른 일정이 있으면 예외 발생")
+        void createItinerary_WithTimeConflict_ShouldThrowException() {
+            // given
+            String userEmail = normalUser.getEmail();
+            Integer tripId = 1;
+            ItineraryReqDTO reqDTO = new ItineraryReqDTO(
+                    12345L,
+                    LocalDate.now().plusDays(7).toString(),
+                    "10:30",
+                    60,
+                    "겹치는 일정",
+                    15000
+            );
+
+            when(validationUtil.validateUserExists(userEmail)).thenReturn(normalUser);
+            when(validationUtil.validateTripExists(tripId)).thenReturn(trip);
+            doNothing().when(tripUtil).isCanEditTrip(trip, normalUser);
+            when(tripRepository.findByIdForUpdate(tripId)).thenReturn(Optional.of(trip));
+            when(itineraryConflictIndex.findConflictsForUpdate(any(), any(LocalDate.class), eq(LocalTime.of(10, 30)), eq(60), isNull()))
+                    .thenReturn(List.of(1L));
+
+            // when & then
+            assertThatThrownBy(() -> itineraryUpdateService.createItinerary(userEmail, tripId, reqDTO))
+                    .isInstanceOf(BadRequestExceptionMessage.class)
+                    .hasMessageContaining("같은 시간대");
+
+            verify(itineraryRepository, never()).save(any(Itinerary.class));
         }
 
         @Test
@@ -186,6 +244,7 @@ class ItineraryUpdateServiceTest {
             when(validationUtil.validateUserExists(userEmail)).thenReturn(normalUser);
             when(validationUtil.validateItineraryExists(itineraryId)).thenReturn(itinerary);
             doNothing().when(tripUtil).isCanEditTrip(trip, normalUser);
+            when(tripRepository.findByIdForUpdate(trip.getTripId())).thenReturn(Optional.of(trip));
             when(placeUtil.convertPlaceToDto(anyLong(), any(Itinerary.class))).thenReturn(mockRespDTO);
 
             // when
@@ -197,6 +256,39 @@ class ItineraryUpdateServiceTest {
             assertThat(itinerary.getCost()).isEqualTo(20000);
         }
 
+        @Test
+        @DisplayName("[실패] 수정할 시간대에 다른 일정이 있으면 일정을 변경하지 않고 예외 발생")
+        void updateItinerary_WithTimeConflict_ShouldThrowBeforeChangingEntity() {
+            // given
+            String userEmail = normalUser.getEmail();
+            Long itineraryId = 1L;
+            itinerary.setDuration(30);
+            ItineraryReqDTO updateReqDTO = new ItineraryReqDTO(
+                    null,
+                    null,
+                    "14:00",
+                    "수정된 일정",
+                    20000
+            );
+
+            when(validationUtil.validateUserExists(userEmail)).thenReturn(normalUser);
+            when(validationUtil.validateItineraryExists(itineraryId)).thenReturn(itinerary);
+            doNothing().when(tripUtil).isCanEditTrip(trip, normalUser);
+            when(tripRepository.findByIdForUpdate(trip.getTripId())).thenReturn(Optional.of(trip));
+            when(itineraryConflictIndex.findConflictsForUpdate(trip.getTripId(), itinerary.getDate(), LocalTime.of(14, 0), 30, itineraryId))
+                    .thenReturn(List.of(2L));
+
+            // when & then
+            assertThatThrownBy(() -> itineraryUpdateService.updateItinerary(userEmail, itineraryId, updateReqDTO))
+                    .isInstanceOf(BadRequestExceptionMessage.class)
+                    .hasMessageContaining("같은 시간대");
+
+            // 검사 시점(인덱스 적재 시 자동 flush)에 엔티티가 변경되어 있으면 안 됨
+            assertThat(itinerary.getStartTime()).isEqualTo(LocalTime.of(10, 0));
+            assertThat(itinerary.getTitle()).isEqualTo("테스트 일정");
+            verify(itineraryConflictIndex, never()).putAfterCommit(any(), any());
+        }
+
         @Test
         @DisplayName("[실패] 타인의 일정 수정 시 예외 발생")
         void updateItinerary_ByNonOwner_ShouldThrowException() {
@@ -297,4 +389,190 @@ class ItineraryUpdateServiceTest {
                     .hasMessageContaining("일정을 찾을 수 없습니다");
         }
     }
+
+    // ==================== 일정 일괄 처리 테스트 ====================
+
+    @Nested
+    @DisplayName("일정 일괄 처리")
+    class BulkUpdateItinerariesTest {
+
+        @Test
+        @DisplayName("[성공] 생성/수정/이동/삭제를 한 번에 처리하고 정렬된 목록 반환")
+        @SuppressWarnings("unchecked")
+        void bulkUpdate_WithMixedOperations_ShouldApplyAllAndReturnOrdered() {
+            // given
+            String userEmail = normalUser.getEmail();
+            Integer tripId = 1;
+            LocalDate day = LocalDate.now().plusDays(7);
+            Itinerary second = createTestItinerary(trip);
+            second.setItineraryId(2L);
+            Itinerary third = createTestItinerary(trip);
+            third.setItineraryId(3L);
+
+            ItineraryBulkReqDTO reqDTO = new ItineraryBulkReqDTO(
+                    null,
+                    List.of(
+                            new ItineraryUpsertReqDTO(null, 12345L, day.toString(), "09:00", "새 일정", 5000),
+                            new ItineraryUpsertReqDTO(1L, null, null, null, "수정된 일정", null)
+                    ),
+                    List.of(new ItineraryMoveReqDTO(2L, null, "08:00")),
+                    List.of(3L)
+            );
+
+            when(validationUtil.validateUserExists(userEmail)).thenReturn(normalUser);
+            when(validationUtil.validateTripExists(tripId)).thenReturn(trip);
+            doNothing().when(tripUtil).isCanEditTrip(trip, normalUser);
+            when(tripRepository.findByIdForUpdate(tripId)).thenReturn(Optional.of(trip));
+            when(itineraryRepository.findByTripIdForUpdate(tripId))
+                    .thenReturn(new ArrayList<>(List.of(itinerary, second, third)));
+            when(itineraryRepository.saveAll(anyList())).thenAnswer(invocation -> {
+                List<Itinerary> saved = invocation.getArgument(0);
+                saved.forEach(it -> it.setItineraryId(100L));
+                return saved;
+            });
+            when(placeUtil.convertPlacesToDto(anyList())).thenReturn(List.of());
+
+            // when
+            itineraryUpdateService.bulkUpdateItineraries(userEmail, tripId, reqDTO);
+
+            // then
+            verify(validationUtil, times(1)).validateUserExists(userEmail);
+            verify(itineraryRepository).deleteAllInBatch(List.of(third));
+            verify(itineraryRepository, never()).save(any(Itinerary.class));
+            assertThat(itinerary.getTitle()).isEqualTo("수정된 일정");
+            assertThat(second.getStartTime()).isEqualTo(LocalTime.of(8, 0));
+
+            ArgumentCaptor<List<Itinerary>> captor = ArgumentCaptor.forClass(List.class);
+            verify(placeUtil).convertPlacesToDto(captor.capture());
+            assertThat(captor.getValue())
+                    .extracting(Itinerary::getItineraryId)
+                    .containsExactly(2L, 100L, 1L);
+        }
+
+        @Test
+        @DisplayName("[실패] 이동 후 같은 날짜에 시간이 겹치는 일정이 생기면 예외 발생")
+        void bulkUpdate_WithResultingOverlap_ShouldThrowException() {
+            // given: 1번 10:00~11:00, 2번 08:00~09:00 → 2번을 10:30으로 이동
+            String userEmail = normalUser.getEmail();
+            Integer tripId = 1;
+            itinerary.setDuration(60);
+            Itinerary second = createTestItinerary(trip);
+            second.setItineraryId(2L);
+            second.setStartTime(LocalTime.of(8, 0));
+            second.setDuration(60);
+            ItineraryBulkReqDTO reqDTO = new ItineraryBulkReqDTO(
+                    null, null, List.of(new ItineraryMoveReqDTO(2L, null, "10:30")), null);
+
+            when(validationUtil.validateUserExists(userEmail)).thenReturn(normalUser);
+            when(validationUtil.validateTripExists(tripId)).thenReturn(trip);
+            doNothing().when(tripUtil).isCanEditTrip(trip, normalUser);
+            when(tripRepository.findByIdForUpdate(tripId)).thenReturn(Optional.of(trip));
+            when(itineraryRepository.findByTripIdForUpdate(tripId)).thenReturn(new ArrayList<>(List.of(itinerary, second)));
+
+            // when & then
+            assertThatThrownBy(() -> itineraryUpdateService.bulkUpdateItineraries(userEmail, tripId, reqDTO))
+                    .isInstanceOf(BadRequestExceptionMessage.class)
+                    .hasMessageContaining("같은 시간대")
+                    .hasMessageContaining("[1, 2]");
+
+            verify(tripSpendService, never()).replaceItinerarySpend(any(), any());
+        }
+
+        @Test
+        @DisplayName("[성공] 변경하지 않은 날짜의 기존 겹침은 일괄 처리를 막지 않음")
+        void bulkUpdate_WithOverlapOnUntouchedDay_ShouldSucceed() {
+            // given: 1번, 2번이 다른 날짜에서 겹치고, 3번만 이동
+            String userEmail = normalUser.getEmail();
+            Integer tripId = 1;
+            itinerary.setDuration(60);
+            Itinerary second = createTestItinerary(trip);
+            second.setItineraryId(2L);
+            second.setDuration(60);
+            Itinerary third = createTestItinerary(trip);
+            third.setItineraryId(3L);
+            third.setDate(itinerary.getDate().plusDays(1));
+            third.setDuration(60);
+            ItineraryBulkReqDTO reqDTO = new ItineraryBulkReqDTO(
+                    null, null, List.of(new ItineraryMoveReqDTO(3L, null, "15:00")), null);
+
+            when(validationUtil.validateUserExists(userEmail)).thenReturn(normalUser);
+            when(validationUtil.validateTripExists(tripId)).thenReturn(trip);
+            doNothing().when(tripUtil).isCanEditTrip(trip, normalUser);
+            when(tripRepository.findByIdForUpdate(tripId)).thenReturn(Optional.of(trip));
+            when(itineraryRepository.findByTripIdForUpdate(tripId)).thenReturn(new ArrayList<>(List.of(itinerary, second, third)));
+            when(placeUtil.convertPlacesToDto(anyList())).thenReturn(List.of());
+
+            // when
+            itineraryUpdateService.bulkUpdateItineraries(userEmail, tripId, reqDTO);
+
+            // then
+            assertThat(third.getStartTime()).isEqualTo(LocalTime.of(15, 0));
+            verify(itineraryConflictIndex).evictTripAfterCommit(tripId);
+        }
+
+        @Test
+        @DisplayName("[실패] 다른 여행의 일정을 수정하려 하면 예외 발생")
+        void bulkUpdate_WithForeignItinerary_ShouldThrowException() {
+            // given
+            String userEmail = normalUser.getEmail();
+            Integer tripId = 1;
+            ItineraryBulkReqDTO reqDTO = new ItineraryBulkReqDTO(
+                    null, null, List.of(new ItineraryMoveReqDTO(9999L, null, "08:00")), null);
+
+            when(validationUtil.validateUserExists(userEmail)).thenReturn(normalUser);
+            when(validationUtil.validateTripExists(tripId)).thenReturn(trip);
+            doNothing().when(tripUtil).isCanEditTrip(trip, normalUser);
+            when(tripRepository.findByIdForUpdate(tripId)).thenReturn(Optional.of(trip));
+            when(itineraryRepository.findByTripIdForUpdate(tripId)).thenReturn(new ArrayList<>(List.of(itinerary)));
+
+            // when & then
+            assertThatThrownBy(() -> itineraryUpdateService.bulkUpdateItineraries(userEmail, tripId, reqDTO))
+                    .isInstanceOf(BadRequestExceptionMessage.class)
+                    .hasMessageContaining("존재하지 않는 일정");
+
+            verify(itineraryRepository, never()).saveAll(anyList());
+        }
+
+        @Test
+        @DisplayName("[실패] 필수 값이 빠진 새 일정 생성 시 예외 발생")
+        void bulkUpdate_WithIncompleteNewItinerary_ShouldThrowException() {
+            // given
+            String userEmail = normalUser.getEmail();
+            Integer tripId = 1;
+            ItineraryBulkReqDTO reqDTO = new ItineraryBulkReqDTO(
+                    null, List.of(new ItineraryUpsertReqDTO(null, 12345L, null, "09:00", "새 일정", 0)), null, null);
+
+            when(validationUtil.validateUserExists(userEmail)).thenReturn(normalUser);
+            when(validationUtil.validateTripExists(tripId)).thenReturn(trip);
+            doNothing().when(tripUtil).isCanEditTrip(trip, normalUser);
+            when(tripRepository.findByIdForUpdate(tripId)).thenReturn(Optional.of(trip));
+            when(itineraryRepository.findByTripIdForUpdate(tripId)).thenReturn(new ArrayList<>());
+
+            // when & then
+            assertThatThrownBy(() -> itineraryUpdateService.bulkUpdateItineraries(userEmail, tripId, reqDTO))
+                    .isInstanceOf(BadRequestExceptionMessage.class)
+                    .hasMessageContaining("새 일정");
+        }
+
+        @Test
+        @DisplayName("[실패] 타인의 여행 계획 일괄 처리 시 예외 발생")
+        void bulkUpdate_ToOthersTrip_ShouldThrowException() {
+            // given
+            String userEmail = otherUser.getEmail();
+            Integer tripId = 1;
+            ItineraryBulkReqDTO reqDTO = new ItineraryBulkReqDTO(null, null, null, List.of(1L));
+
+            when(validationUtil.validateUserExists(userEmail)).thenReturn(otherUser);
+            when(validationUtil.validateTripExists(tripId)).thenReturn(trip);
+            doThrow(new BadRequestExceptionMessage("수정 권한이 없습니다"))
+                    .when(tripUtil).isCanEditTrip(trip, otherUser);
+
+            // when & then
+            assertThatThrownBy(() -> itineraryUpdateService.bulkUpdateItineraries(userEmail, tripId, reqDTO))
+                    .isInstanceOf(BadRequestExceptionMessage.class)
+                    .hasMessageContaining("수정 권한");
+
+            verify(itineraryRepository, never()).deleteAllInBatch(anyList());
+        }
+    }
 }
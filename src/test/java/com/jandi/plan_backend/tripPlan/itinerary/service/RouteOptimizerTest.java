@@ -0,0 +1,95 @@
+package com.jandi.plan_backend.tripPlan.itinerary.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * RouteOptimizer 단위 테스트
+ *
+ * 테스트 대상: 거리 행렬 생성, 방문 순서 최적화
+ */
+class RouteOptimizerTest {
+
+    @Nested
+    @DisplayName("거리 행렬 생성")
+    class BuildDistanceMatrixTest {
+
+        @Test
+        @DisplayName("[성공] 서울시청-부산시청 거리는 약 325km")
+        void buildDistanceMatrix_SeoulToBusan_ShouldBeAbout325Km() {
+            // given
+            double[] latitudes = {37.5665, 35.1796};
+            double[] longitudes = {126.9780, 129.0756};
+
+            // when
+            double[] matrix = RouteOptimizer.buildDistanceMatrix(latitudes, longitudes);
+
+            // then
+            assertThat(matrix[1]).isCloseTo(325_000d, within(5_000d));
+            assertThat(matrix[2]).isEqualTo(matrix[1]);
+            assertThat(matrix[0]).isZero();
+            assertThat(matrix[3]).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("방문 순서 최적화")
+    class OptimizeTest {
+
+        @Test
+        @DisplayName("[성공] 지그재그로 정렬된 일직선 장소는 순서대로 방문하도록 정리")
+        void optimize_ZigZagOnLine_ShouldVisitInOrder() {
+            // given: 경도 0, 4, 1, 3, 2 순으로 왕복하는 일정
+            double[] latitudes = {37.5, 37.5, 37.5, 37.5, 37.5};
+            double[] longitudes = {127.00, 127.04, 127.01, 127.03, 127.02};
+            double[] matrix = RouteOptimizer.buildDistanceMatrix(latitudes, longitudes);
+
+            // when
+            int[] order = RouteOptimizer.optimize(matrix, 5);
+
+            // then
+            assertThat(order).containsExactly(0, 2, 4, 3, 1);
+            assertThat(RouteOptimizer.pathLength(matrix, 5, order))
+                    .isLessThan(RouteOptimizer.pathLength(matrix, 5, new int[]{0, 1, 2, 3, 4}));
+        }
+
+        @Test
+        @DisplayName("[성공] 무작위 200개 장소도 출발지를 유지한 순열을 반환하고 초기 경로보다 길지 않음")
+        void optimize_RandomStops_ShouldReturnPermutationNotWorseThanSeed() {
+            // given
+            int n = 200;
+            Random random = new Random(42);
+            double[] latitudes = new double[n];
+            double[] longitudes = new double[n];
+            for (int i = 0; i < n; i++) {
+                latitudes[i] = 37.45 + random.nextDouble() * 0.2;
+                longitudes[i] = 126.85 + random.nextDouble() * 0.3;
+            }
+            double[] matrix = RouteOptimizer.buildDistanceMatrix(latitudes, longitudes);
+            int[] seed = RouteOptimizer.nearestNeighbour(matrix, n);
+
+            // when
+            int[] order = RouteOptimizer.optimize(matrix, n);
+
+            // then
+            assertThat(order[0]).isZero();
+            assertThat(Arrays.stream(order).sorted().toArray()).isEqualTo(IntStream.range(0, n).toArray());
+            assertThat(RouteOptimizer.pathLength(matrix, n, order))
+                    .isLessThanOrEqualTo(RouteOptimizer.pathLength(matrix, n, seed));
+        }
+
+        @Test
+        @DisplayName("[경계] 장소가 0~1개면 그대로 반환")
+        void optimize_TrivialInput_ShouldReturnAsIs() {
+            assertThat(RouteOptimizer.optimize(new double[0], 0)).isEmpty();
+            assertThat(RouteOptimizer.optimize(new double[1], 1)).containsExactly(0);
+        }
+    }
+}
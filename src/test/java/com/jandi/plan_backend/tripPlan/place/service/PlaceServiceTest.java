@@ -0,0 +1,206 @@
+package com.jandi.plan_backend.tripPlan.place.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jandi.plan_backend.geo.service.NearbySearchService;
+import com.jandi.plan_backend.tripPlan.place.dto.PlaceReqDTO;
+import com.jandi.plan_backend.tripPlan.place.dto.PlaceRespDTO;
+import com.jandi.plan_backend.tripPlan.place.entity.Place;
+import com.jandi.plan_backend.tripPlan.place.repository.PlaceRepository;
+import com.jandi.plan_backend.util.PlaceUtil;
+import com.jandi.plan_backend.util.ValidationUtil;
+import com.jandi.plan_backend.util.service.BadRequestExceptionMessage;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * PlaceService 단위 테스트
+ *
+ * 테스트 대상: 장소 등록(중복 제거), 장소 목록 페이지/스트리밍 조회
+ */
+@ExtendWith(MockitoExtension.class)
+class PlaceServiceTest {
+
+    @Mock
+    private PlaceRepository placeRepository;
+
+    @Mock
+    private ValidationUtil validationUtil;
+
+    @Mock
+    private NearbySearchService nearbySearchService;
+
+    @Mock
+    private EntityManager entityManager;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private PlaceService placeService;
+
+    @BeforeEach
+    void setUp() {
+        placeService = new PlaceService(placeRepository, validationUtil, nearbySearchService,
+                objectMapper, entityManager);
+    }
+
+    private Place createPlace(Long id, String name) {
+        Place place = new Place();
+        place.setPlaceId(id);
+        place.setName(name);
+        place.setAddress("서울특별시 중구");
+        place.setLatitude(37.5665);
+        place.setLongitude(126.9780);
+        return place;
+    }
+
+    private PlaceReqDTO createRequest(String name, String address, double latitude, double longitude) {
+        PlaceReqDTO reqDTO = new PlaceReqDTO();
+        reqDTO.setName(name);
+        reqDTO.setAddress(address);
+        reqDTO.setLatitude(latitude);
+        reqDTO.setLongitude(longitude);
+        return reqDTO;
+    }
+
+    @Nested
+    @DisplayName("장소 등록")
+    class CreatePlaceTest {
+
+        private final String userEmail = "user@test.com";
+
+        @Test
+        @DisplayName("[성공] 공백/대소문자/전각만 다른 장소는 기존 장소를 반환하고 이후 요청은 DB 조회 없이 처리")
+        void createPlace_SameNormalizedKey_ShouldReturnExistingPlace() {
+            // given
+            Place existing = createPlace(10L, "Seoul Tower");
+            existing.setAddress("서울 용산구 남산공원길 105");
+            when(placeRepository.findFirstByNormalizedKeyOrderByPlaceIdAsc(
+                    PlaceUtil.normalizeKey("Seoul Tower", "서울 용산구 남산공원길 105")))
+                    .thenReturn(Optional.of(existing));
+            PlaceReqDTO reqDTO = createRequest("ＳＥＯＵＬ  tower", "서울 용산구  남산공원길 105", 37.5512, 126.9882);
+
+            // when
+            PlaceRespDTO first = placeService.createPlace(userEmail, reqDTO);
+            PlaceRespDTO second = placeService.createPlace(userEmail, reqDTO);
+
+            // then
+            assertThat(first.getPlaceId()).isEqualTo(10L);
+            assertThat(second.getPlaceId()).isEqualTo(10L);
+            verify(placeRepository, times(1)).findFirstByNormalizedKeyOrderByPlaceIdAsc(anyString());
+            verify(placeRepository, never()).save(any());
+        }
+
+        @Test
+        @DisplayName("[성공] 주소 표기가 달라도 가까운 곳의 같은 이름 장소는 재사용")
+        void createPlace_NearbySameName_ShouldReturnExistingPlace() {
+            // given
+            Place nearby = createPlace(20L, "서울시청");
+            when(placeRepository.findFirstByNormalizedKeyOrderByPlaceIdAsc(anyString())).thenReturn(Optional.empty());
+            when(nearbySearchService.findPlaceIdsWithin(37.5665, 126.9780, PlaceService.DUPLICATE_DISTANCE_METERS))
+                    .thenReturn(List.of(20L));
+            when(placeRepository.findAllById(List.of(20L))).thenReturn(List.of(nearby));
+
+            // when
+            PlaceRespDTO result = placeService.createPlace(userEmail,
+                    createRequest("서울 시청", "서울특별시 중구 세종대로 110", 37.5665, 126.9780));
+
+            // then
+            assertThat(result.getPlaceId()).isEqualTo(20L);
+            verify(placeRepository, never()).save(any());
+        }
+
+        @Test
+        @DisplayName("[성공] 근처에 이름이 다른 장소만 있으면 새로 저장하고 위치 인덱스에 추가")
+        void createPlace_NearbyDifferentName_ShouldSaveNewPlace() {
+            // given
+            when(placeRepository.findFirstByNormalizedKeyOrderByPlaceIdAsc(anyString())).thenReturn(Optional.empty());
+            when(nearbySearchService.findPlaceIdsWithin(anyDouble(), anyDouble(), anyDouble())).thenReturn(List.of(20L));
+            when(placeRepository.findAllById(List.of(20L))).thenReturn(List.of(createPlace(20L, "서울시청")));
+            when(placeRepository.save(any(Place.class))).thenAnswer(invocation -> {
+                Place place = invocation.getArgument(0);
+                place.setPlaceId(30L);
+                return place;
+            });
+
+            // when
+            PlaceRespDTO result = placeService.createPlace(userEmail,
+                    createRequest("시청 앞 카페", "서울특별시 중구 세종대로 110", 37.5665, 126.9780));
+
+            // then
+            assertThat(result.getPlaceId()).isEqualTo(30L);
+            verify(nearbySearchService).indexPlace(argThat(place -> place.getPlaceId() == 30L));
+        }
+    }
+
+    @Nested
+    @DisplayName("스트리밍 조회")
+    class WriteAllPlacesTest {
+
+        @Test
+        @DisplayName("[성공] 모든 장소를 JSON 배열로 기록하고 엔티티를 분리한 뒤 스트림을 닫음")
+        void writeAllPlaces_ShouldWriteJsonArrayAndDetach() throws Exception {
+            // given
+            Place first = createPlace(1L, "서울시청");
+            Place second = createPlace(2L, "덕수궁");
+            AtomicBoolean closed = new AtomicBoolean(false);
+            when(placeRepository.streamAll()).thenReturn(Stream.of(first, second).onClose(() -> closed.set(true)));
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+            // when
+            placeService.writeAllPlaces(out);
+
+            // then
+            JsonNode json = objectMapper.readTree(out.toByteArray());
+            assertThat(json.isArray()).isTrue();
+            assertThat(json).hasSize(2);
+            assertThat(json.get(0).get("placeId").asLong()).isEqualTo(1L);
+            assertThat(json.get(1).get("name").asText()).isEqualTo("덕수궁");
+            verify(entityManager).detach(first);
+            verify(entityManager).detach(second);
+            assertThat(closed).isTrue();
+        }
+
+        @Test
+        @DisplayName("[경계] 장소가 없으면 빈 배열")
+        void writeAllPlaces_Empty_ShouldWriteEmptyArray() throws Exception {
+            // given
+            when(placeRepository.streamAll()).thenReturn(Stream.empty());
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+            // when
+            placeService.writeAllPlaces(out);
+
+            // then
+            assertThat(out.toString()).isEqualTo("[]");
+        }
+    }
+
+    @Nested
+    @DisplayName("페이지 조회")
+    class GetPagedPlacesTest {
+
+        @Test
+        @DisplayName("[실패] 페이지 크기가 범위를 벗어나면 예외")
+        void getPagedPlaces_InvalidSize_ShouldThrow() {
+            assertThatThrownBy(() -> placeService.getPagedPlaces(0, PlaceService.MAX_PAGE_SIZE + 1))
+                    .isInstanceOf(BadRequestExceptionMessage.class);
+            verify(placeRepository, never()).count();
+        }
+    }
+}
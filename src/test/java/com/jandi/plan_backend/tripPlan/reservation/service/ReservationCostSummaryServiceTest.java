@@ -0,0 +1,177 @@
+package com.jandi.plan_backend.tripPlan.reservation.service;
+
+import com.jandi.plan_backend.tripPlan.reservation.entitiy.ReservationCategory;
+import com.jandi.plan_backend.tripPlan.reservation.entitiy.ReservationCostSummary;
+import com.jandi.plan_backend.tripPlan.reservation.repository.ReservationCostSummaryRepository;
+import com.jandi.plan_backend.tripPlan.reservation.repository.ReservationRepository;
+import com.jandi.plan_backend.tripPlan.reservation.service.ReservationCostSummaryService.ReservationChange;
+import com.jandi.plan_backend.tripPlan.trip.repository.TripRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * ReservationCostSummaryService 단위 테스트
+ *
+ * 테스트 대상: 예약 비용 합계 갱신/조회
+ */
+@ExtendWith(MockitoExtension.class)
+class ReservationCostSummaryServiceTest {
+
+    @Mock
+    private ReservationCostSummaryRepository reservationCostSummaryRepository;
+
+    @Mock
+    private ReservationRepository reservationRepository;
+
+    @Mock
+    private TripRepository tripRepository;
+
+    @InjectMocks
+    private ReservationCostSummaryService reservationCostSummaryService;
+
+    private final Integer tripId = 1;
+
+    @Nested
+    @DisplayName("합계 갱신")
+    class ApplyChangeTest {
+
+        @Test
+        @DisplayName("[성공] 카테고리 변경 시 이전 카테고리는 감소, 새 카테고리는 증가")
+        void applyChange_CategoryMoved_ShouldAddToBothCategories() {
+            // given
+            when(reservationCostSummaryRepository.existsByTripId(tripId)).thenReturn(true);
+
+            // when
+            reservationCostSummaryService.applyChange(tripId, ReservationChange.updated(
+                    ReservationCategory.TRANSPORTATION, 50000, ReservationCategory.ETC, 30000));
+
+            // then
+            verify(reservationCostSummaryRepository).addCost(tripId, ReservationCategory.TRANSPORTATION, -50000, -1);
+            verify(reservationCostSummaryRepository).addCost(tripId, ReservationCategory.ETC, 30000, 1);
+            verify(reservationRepository, never()).sumCostByCategory(anyInt());
+        }
+
+        @Test
+        @DisplayName("[경계] 비용 변화가 없으면 갱신 쿼리를 실행하지 않음")
+        void applyChange_NoDelta_ShouldSkipUpdate() {
+            // given
+            when(reservationCostSummaryRepository.existsByTripId(tripId)).thenReturn(true);
+
+            // when
+            reservationCostSummaryService.applyChange(tripId, ReservationChange.updated(
+                    ReservationCategory.ETC, 10000, ReservationCategory.ETC, 10000));
+
+            // then
+            verify(reservationCostSummaryRepository, never()).addCost(anyInt(), any(), anyInt(), anyInt());
+        }
+
+        @Test
+        @DisplayName("[성공] 합계가 없는 여행은 DB 집계로 모든 카테고리를 초기화")
+        @SuppressWarnings("unchecked")
+        void applyChange_NotInitialized_ShouldSeedFromAggregate() {
+            // given
+            when(reservationCostSummaryRepository.existsByTripId(tripId)).thenReturn(false);
+            List<Object[]> rows = new ArrayList<>();
+            rows.add(new Object[]{ReservationCategory.ACCOMMODATION, 120000L, 2L});
+            when(reservationRepository.sumCostByCategory(tripId)).thenReturn(rows);
+            ArgumentCaptor<Iterable<ReservationCostSummary>> captor = ArgumentCaptor.forClass(Iterable.class);
+
+            // when
+            reservationCostSummaryService.applyChange(tripId,
+                    ReservationChange.created(ReservationCategory.ACCOMMODATION, 60000));
+
+            // then: 여행 행을 잠근 뒤 초기화, 집계에 이미 이번 변경이 포함되므로 증감은 하지 않음
+            InOrder inOrder = inOrder(tripRepository, reservationCostSummaryRepository);
+            inOrder.verify(tripRepository).findByIdForUpdate(tripId);
+            inOrder.verify(reservationCostSummaryRepository).findByTripIdForUpdate(tripId);
+            inOrder.verify(reservationCostSummaryRepository).saveAll(captor.capture());
+            verify(reservationCostSummaryRepository, never()).addCost(anyInt(), any(), anyInt(), anyInt());
+            assertThat(captor.getValue())
+                    .extracting(ReservationCostSummary::getCategory, ReservationCostSummary::getTotalCost)
+                    .containsExactlyInAnyOrder(
+                            tuple(ReservationCategory.TRANSPORTATION, 0),
+                            tuple(ReservationCategory.ACCOMMODATION, 120000),
+                            tuple(ReservationCategory.ETC, 0)
+                    );
+        }
+    }
+
+    @Nested
+    @DisplayName("합계 동시 초기화")
+    class ConcurrentInitializeTest {
+
+        @Test
+        @DisplayName("[성공] 잠금을 기다리는 동안 다른 트랜잭션이 초기화했으면 변화량만 반영")
+        void applyChange_InitializedWhileWaiting_ShouldApplyDeltaOnly() {
+            // given: 스냅샷에는 합계가 없지만 잠금 조회 시점에는 이미 초기화됨
+            when(reservationCostSummaryRepository.existsByTripId(tripId)).thenReturn(false);
+            when(reservationCostSummaryRepository.findByTripIdForUpdate(tripId)).thenReturn(List.of(
+                    new ReservationCostSummary(tripId, ReservationCategory.ETC, 10000, 1)));
+
+            // when
+            reservationCostSummaryService.applyChange(tripId, ReservationChange.created(ReservationCategory.ETC, 5000));
+
+            // then
+            verify(tripRepository).findByIdForUpdate(tripId);
+            verify(reservationCostSummaryRepository).addCost(tripId, ReservationCategory.ETC, 5000, 1);
+            verify(reservationCostSummaryRepository, never()).saveAll(anyIterable());
+            verify(reservationRepository, never()).sumCostByCategory(anyInt());
+        }
+    }
+
+    @Nested
+    @DisplayName("합계 조회")
+    class GetCostByCategoryTest {
+
+        @Test
+        @DisplayName("[성공] 예약이 있는 카테고리와 전체 합계만 반환")
+        void getCostByCategory_ShouldReturnNonEmptyCategoriesAndTotal() {
+            // given
+            when(reservationCostSummaryRepository.findByTripId(tripId)).thenReturn(List.of(
+                    new ReservationCostSummary(tripId, ReservationCategory.TRANSPORTATION, 50000, 1),
+                    new ReservationCostSummary(tripId, ReservationCategory.ACCOMMODATION, 0, 0),
+                    new ReservationCostSummary(tripId, ReservationCategory.ETC, 20000, 2)
+            ));
+
+            // when
+            Map<String, Integer> cost = reservationCostSummaryService.getCostByCategory(tripId);
+
+            // then
+            assertThat(cost).containsExactlyInAnyOrderEntriesOf(Map.of(
+                    "TRANSPORTATION", 50000,
+                    "ETC", 20000,
+                    "TOTAL", 70000
+            ));
+            verify(reservationRepository, never()).sumCostByCategory(anyInt());
+        }
+
+        @Test
+        @DisplayName("[경계] 합계가 없는 여행은 DB 집계 결과를 사용")
+        void getCostByCategory_NotInitialized_ShouldFallBackToAggregate() {
+            // given
+            when(reservationCostSummaryRepository.findByTripId(tripId)).thenReturn(List.of());
+            when(reservationRepository.sumCostByCategory(tripId)).thenReturn(List.of());
+
+            // when
+            Map<String, Integer> cost = reservationCostSummaryService.getCostByCategory(tripId);
+
+            // then
+            assertThat(cost).containsExactly(entry("TOTAL", 0));
+        }
+    }
+}
@@ -49,6 +49,9 @@ class ReservationQueryServiceTest {
     @Mock
     private ReservationRepository reservationRepository;
 
+    @Mock
+    private ReservationCostSummaryService reservationCostSummaryService;
+
     @InjectMocks
     private ReservationQueryService reservationQueryService;
 
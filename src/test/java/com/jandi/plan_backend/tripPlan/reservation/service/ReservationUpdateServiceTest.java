@@ -8,6 +8,7 @@ import com.jandi.plan_backend.tripPlan.reservation.dto.ReservationRespDTO;
 import com.jandi.plan_backend.tripPlan.reservation.entitiy.Reservation;
 import com.jandi.plan_backend.tripPlan.reservation.repository.ReservationRepository;
 import com.jandi.plan_backend.tripPlan.trip.entity.Trip;
+import com.jandi.plan_backend.tripPlan.trip.service.TripSpendService;
 import com.jandi.plan_backend.user.entity.City;
 import com.jandi.plan_backend.user.entity.User;
 import com.jandi.plan_backend.util.TripUtil;
@@ -44,6 +45,12 @@ class ReservationUpdateServiceTest {
     @Mock
     private ReservationRepository reservationRepository;
 
+    @Mock
+    private ReservationCostSummaryService reservationCostSummaryService;
+
+    @Mock
+    private TripSpendService tripSpendService;
+
     @InjectMocks
     private ReservationUpdateService reservationUpdateService;
 
@@ -95,6 +102,7 @@ class ReservationUpdateServiceTest {
             // then
             assertThat(result).isNotNull();
             verify(reservationRepository).save(any(Reservation.class));
+            verify(reservationCostSummaryService).applyChange(eq(publicTrip.getTripId()), any());
         }
 
         @Test
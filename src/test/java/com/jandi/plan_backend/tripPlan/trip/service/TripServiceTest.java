@@ -5,6 +5,7 @@ import com.jandi.plan_backend.fixture.UserFixture;
 import com.jandi.plan_backend.image.service.ImageService;
 import com.jandi.plan_backend.tripPlan.itinerary.repository.ItineraryRepository;
 import com.jandi.plan_backend.tripPlan.reservation.repository.ReservationRepository;
+import com.jandi.plan_backend.tripPlan.reservation.service.ReservationCostSummaryService;
 import com.jandi.plan_backend.tripPlan.trip.dto.*;
 import com.jandi.plan_backend.tripPlan.trip.entity.Trip;
 import com.jandi.plan_backend.tripPlan.trip.entity.TripLike;
@@ -69,6 +70,12 @@ class TripServiceTest {
     @Mock
     private TripParticipantRepository tripParticipantRepository;
 
+    @Mock
+    private ReservationCostSummaryService reservationCostSummaryService;
+
+    @Mock
+    private TripSpendService tripSpendService;
+
     @InjectMocks
     private TripService tripService;
 
@@ -0,0 +1,153 @@
+package com.jandi.plan_backend.tripPlan.trip.service;
+
+import com.jandi.plan_backend.fixture.TripFixture;
+import com.jandi.plan_backend.fixture.UserFixture;
+import com.jandi.plan_backend.tripPlan.itinerary.repository.ItineraryRepository;
+import com.jandi.plan_backend.tripPlan.reservation.service.ReservationCostSummaryService;
+import com.jandi.plan_backend.tripPlan.trip.dto.TripSpendRespDTO;
+import com.jandi.plan_backend.tripPlan.trip.entity.Trip;
+import com.jandi.plan_backend.tripPlan.trip.entity.TripDailySpend;
+import com.jandi.plan_backend.tripPlan.trip.repository.TripDailySpendRepository;
+import com.jandi.plan_backend.tripPlan.trip.repository.TripRepository;
+import com.jandi.plan_backend.user.entity.User;
+import com.jandi.plan_backend.user.repository.UserRepository;
+import com.jandi.plan_backend.util.TripUtil;
+import com.jandi.plan_backend.util.ValidationUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * TripSpendService 단위 테스트
+ *
+ * 테스트 대상: 여행 지출 합계 갱신, 예산 대비 지출 요약 조회
+ */
+@ExtendWith(MockitoExtension.class)
+class TripSpendServiceTest {
+
+    @Mock
+    private TripRepository tripRepository;
+
+    @Mock
+    private TripDailySpendRepository tripDailySpendRepository;
+
+    @Mock
+    private ItineraryRepository itineraryRepository;
+
+    @Mock
+    private ReservationCostSummaryService reservationCostSummaryService;
+
+    @Mock
+    private ValidationUtil validationUtil;
+
+    @Mock
+    private TripUtil tripUtil;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @InjectMocks
+    private TripSpendService tripSpendService;
+
+    private final Integer tripId = 1;
+    private final LocalDate day = LocalDate.of(2026, 5, 1);
+
+    private User normalUser;
+    private Trip trip;
+
+    @BeforeEach
+    void setUp() {
+        normalUser = UserFixture.createNormalUser();
+        trip = TripFixture.createPublicTrip(normalUser, TripFixture.createDefaultCity());
+    }
+
+    @Nested
+    @DisplayName("일정 비용 갱신")
+    class ApplyItineraryChangeTest {
+
+        @Test
+        @DisplayName("[성공] 날짜 이동 시 이전 날짜는 감소, 새 날짜는 증가하고 없는 날짜 행은 생성")
+        void applyItineraryChange_DateMoved_ShouldUpdateDailySpend() {
+            // given
+            LocalDate nextDay = day.plusDays(1);
+            when(tripRepository.addItinerarySpend(tripId, 5000)).thenReturn(1);
+            when(tripDailySpendRepository.addCost(tripId, day, -10000)).thenReturn(1);
+            when(tripDailySpendRepository.addCost(tripId, nextDay, 15000)).thenReturn(0);
+
+            // when
+            tripSpendService.applyItineraryChange(tripId, Map.of(day, -10000, nextDay, 15000));
+
+            // then
+            verify(tripDailySpendRepository).save(argThat(spend ->
+                    spend.getSpendDate().equals(nextDay) && spend.getTotalCost() == 15000));
+            verify(itineraryRepository, never()).sumCostByDate(anyInt());
+        }
+
+        @Test
+        @DisplayName("[성공] 합계가 없는 여행은 DB 집계로 초기화")
+        void applyItineraryChange_NotInitialized_ShouldSeedFromAggregate() {
+            // given
+            when(tripRepository.addItinerarySpend(tripId, 15000)).thenReturn(0);
+            List<Object[]> rows = new ArrayList<>();
+            rows.add(new Object[]{day, 40000L});
+            when(itineraryRepository.sumCostByDate(tripId)).thenReturn(rows);
+
+            // when
+            tripSpendService.applyItineraryChange(tripId, Map.of(day, 15000));
+
+            // then: 집계에 이미 이번 변경이 포함되므로 증감은 하지 않음
+            verify(tripRepository).recalculateItinerarySpend(tripId);
+            verify(tripDailySpendRepository).deleteByTripId(tripId);
+            verify(tripDailySpendRepository).saveAll(List.of(new TripDailySpend(tripId, day, 40000)));
+            verify(tripDailySpendRepository, never()).addCost(anyInt(), any(), anyInt());
+        }
+    }
+
+    @Nested
+    @DisplayName("예산 대비 지출 요약 조회")
+    class GetSpendSummaryTest {
+
+        @Test
+        @DisplayName("[성공] 날짜별/카테고리별 지출과 남은 예산 계산")
+        void getSpendSummary_ShouldCalculateRemainingBudget() {
+            // given
+            trip.setBudget(100000);
+            trip.setItinerarySpend(70000);
+            trip.setReservationSpend(50000);
+            when(validationUtil.validateTripExists(tripId)).thenReturn(trip);
+            when(userRepository.findByEmail(normalUser.getEmail())).thenReturn(Optional.of(normalUser));
+            when(tripUtil.isCanViewTrip(trip, normalUser)).thenReturn(true);
+            when(tripDailySpendRepository.findByTripIdOrderBySpendDate(tripId)).thenReturn(List.of(
+                    new TripDailySpend(tripId, day, 30000),
+                    new TripDailySpend(tripId, day.plusDays(1), 0),
+                    new TripDailySpend(tripId, day.plusDays(2), 40000)
+            ));
+            when(reservationCostSummaryService.getCostByCategory(tripId))
+                    .thenReturn(Map.of("ACCOMMODATION", 50000, "TOTAL", 50000));
+
+            // when
+            TripSpendRespDTO result = tripSpendService.getSpendSummary(normalUser.getEmail(), tripId);
+
+            // then
+            assertThat(result.getItinerarySpendByDate()).containsOnlyKeys(day, day.plusDays(2));
+            assertThat(result.getTotalSpend()).isEqualTo(120000);
+            assertThat(result.getRemainingBudget()).isEqualTo(-20000);
+            assertThat(result.getOverBudget()).isTrue();
+        }
+    }
+}
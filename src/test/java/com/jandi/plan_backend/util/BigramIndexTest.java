@@ -0,0 +1,157 @@
+package com.jandi.plan_backend.util;
+
+import com.jandi.plan_backend.util.BigramIndex.Match;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * BigramIndex 단위 테스트
+ *
+ * 테스트 대상: 한글 부분 일치 검색, 점수, 문서 추가/수정/삭제
+ */
+class BigramIndexTest {
+
+    private static List<Integer> ids(List<Match> matches) {
+        return matches.stream().map(Match::id).toList();
+    }
+
+    @Nested
+    @DisplayName("검색")
+    class SearchTest {
+
+        @Test
+        @DisplayName("[성공] 띄어쓰기 단위가 아닌 한글 단어의 일부로도 검색")
+        void search_ShouldMatchKoreanSubWords() {
+            // given
+            BigramIndex index = new BigramIndex();
+            index.put(1, "제주도 여행지 추천");
+            index.put(2, "부산 맛집 리스트");
+            index.put(3, "여행 준비물");
+
+            // when & then
+            assertThat(ids(index.search("여행"))).containsExactlyInAnyOrder(1, 3);
+            assertThat(ids(index.search("행지"))).containsExactly(1);
+            assertThat(ids(index.search("맛집리"))).isEmpty();
+            assertThat(ids(index.search("맛집 리스"))).containsExactly(2);
+        }
+
+        @Test
+        @DisplayName("[성공] 대소문자, 전각 문자, 문장 부호 차이는 무시")
+        void search_ShouldNormalizeText() {
+            // given
+            BigramIndex index = new BigramIndex();
+            index.put(1, "Paris—TRIP!! 후기");
+
+            // when & then
+            assertThat(ids(index.search("paris trip"))).containsExactly(1);
+            assertThat(ids(index.search("ＴＲＩＰ"))).containsExactly(1);
+        }
+
+        @Test
+        @DisplayName("[성공] 검색어가 많이 등장한 문서일수록 점수가 높음")
+        void search_ShouldScoreByTermCount() {
+            // given
+            BigramIndex index = new BigramIndex();
+            index.put(1, "여행");
+            index.put(2, "여행 여행 여행");
+
+            // when
+            Map<Integer, Integer> scores = new HashMap<>();
+            index.search("여행").forEach(match -> scores.put(match.id(), match.score()));
+
+            // then
+            assertThat(scores).containsEntry(1, 1).containsEntry(2, 3);
+        }
+
+        @Test
+        @DisplayName("[경계] 정규화 후 두 글자 미만인 검색어는 빈 결과")
+        void search_TooShortQuery_ShouldReturnEmpty() {
+            // given
+            BigramIndex index = new BigramIndex();
+            index.put(1, "여행");
+
+            // when & then
+            assertThat(index.search("여!")).isEmpty();
+            assertThat(index.search(null)).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("문서 갱신")
+    class UpdateTest {
+
+        @Test
+        @DisplayName("[성공] 같은 id로 다시 추가하면 이전 내용은 검색되지 않음")
+        void put_SameId_ShouldReplace() {
+            // given
+            BigramIndex index = new BigramIndex();
+            index.put(1, "유럽 여행");
+
+            // when
+            index.put(1, "일본 맛집");
+
+            // then
+            assertThat(index.search("유럽")).isEmpty();
+            assertThat(ids(index.search("맛집"))).containsExactly(1);
+            assertThat(index.size()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("[성공] 삭제한 문서는 검색되지 않음")
+        void remove_ShouldHideDocument() {
+            // given
+            BigramIndex index = new BigramIndex();
+            index.put(1, "유럽 여행");
+            index.put(2, "유럽 맛집");
+
+            // when
+            boolean removed = index.remove(1);
+
+            // then
+            assertThat(removed).isTrue();
+            assertThat(index.remove(1)).isFalse();
+            assertThat(ids(index.search("유럽"))).containsExactly(2);
+        }
+
+        @Test
+        @DisplayName("[성공] 수정/삭제가 많아 압축(compact)된 후에도 전체 비교와 같은 결과")
+        void putAndRemove_ManyTimes_ShouldMatchBruteForce() {
+            // given
+            String[] words = {"여행", "제주", "부산", "맛집", "숙소", "카페", "바다", "야경", "산책", "기차"};
+            Random random = new Random(9);
+            BigramIndex index = new BigramIndex();
+            Map<Integer, String> texts = new HashMap<>();
+
+            // when: 문서 300개에 수정/삭제 5000번
+            for (int i = 0; i < 5000; i++) {
+                int id = random.nextInt(300);
+                if (random.nextInt(4) == 0) {
+                    index.remove(id);
+                    texts.remove(id);
+                } else {
+                    String text = words[random.nextInt(words.length)] + " " + words[random.nextInt(words.length)];
+                    index.put(id, text);
+                    texts.put(id, text);
+                }
+            }
+
+            // then
+            for (String word : words) {
+                List<Integer> expected = texts.entrySet().stream()
+                        .filter(entry -> entry.getValue().contains(word))
+                        .map(Map.Entry::getKey)
+                        .toList();
+                assertThat(ids(index.search(word))).containsExactlyInAnyOrderElementsOf(expected);
+            }
+            assertThat(index.size()).isEqualTo(texts.size());
+        }
+    }
+}
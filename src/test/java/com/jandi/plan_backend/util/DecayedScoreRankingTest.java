@@ -0,0 +1,152 @@
+package com.jandi.plan_backend.util;
+
+import com.jandi.plan_backend.util.DecayedScoreRanking.Cursor;
+import com.jandi.plan_backend.util.DecayedScoreRanking.Entry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * DecayedScoreRanking 단위 테스트
+ *
+ * 테스트 대상: 감쇠 점수 순서, 커서 페이지, 기간/개수 정리
+ */
+class DecayedScoreRankingTest {
+
+    private static final long HOUR = Duration.ofHours(1).toMillis();
+
+    // 실제 epoch 시각 근처에서도 로그 점수가 정확한지 확인하기 위한 기준 시각
+    private static final long BASE = 1_760_000_000_000L;
+
+    private static List<Integer> ids(List<Entry> entries) {
+        return entries.stream().map(Entry::id).toList();
+    }
+
+    @Nested
+    @DisplayName("점수")
+    class ScoreTest {
+
+        @Test
+        @DisplayName("[성공] 반감기가 지나면 점수가 절반, 더한 가중치는 합산")
+        void score_ShouldDecayAndAccumulate() {
+            // given
+            DecayedScoreRanking ranking = new DecayedScoreRanking(Duration.ofHours(12));
+            ranking.put(1, 4, BASE, BASE);
+
+            // when
+            ranking.add(1, 2, BASE + 12 * HOUR);
+
+            // then: 4 -> 2 (반감기 1번) + 2 = 4, 다시 12시간 뒤 2
+            Entry entry = ranking.page(null, 1).get(0);
+            assertThat(ranking.score(entry, BASE + 12 * HOUR)).isCloseTo(4.0, within(1e-6));
+            assertThat(ranking.score(entry, BASE + 24 * HOUR)).isCloseTo(2.0, within(1e-6));
+        }
+
+        @Test
+        @DisplayName("[성공] 최근 활동이 있는 항목이 예전에 점수가 높던 항목보다 앞섬")
+        void add_RecentActivity_ShouldMoveUp() {
+            // given
+            DecayedScoreRanking ranking = new DecayedScoreRanking(Duration.ofHours(12));
+            ranking.put(1, 10, BASE, BASE);
+            ranking.put(2, 1, BASE, BASE);
+
+            // when: 이틀 뒤(10 -> 0.625, 1 -> 0.0625) 2번에 가중치 1
+            ranking.add(2, 1, BASE + 48 * HOUR);
+
+            // then
+            assertThat(ids(ranking.page(null, 10))).containsExactly(2, 1);
+        }
+
+        @Test
+        @DisplayName("[경계] 빼는 가중치가 점수보다 크면 0, 순위에 없는 항목은 무시")
+        void add_NegativeOrMissing_ShouldClampOrIgnore() {
+            // given
+            DecayedScoreRanking ranking = new DecayedScoreRanking(Duration.ofHours(12));
+            ranking.put(1, 3, BASE, BASE);
+            ranking.put(2, 1, BASE, BASE);
+
+            // when
+            ranking.add(1, -5, BASE);
+            boolean added = ranking.add(3, 1, BASE);
+
+            // then
+            assertThat(added).isFalse();
+            List<Entry> page = ranking.page(null, 10);
+            assertThat(ids(page)).containsExactly(2, 1);
+            assertThat(ranking.score(page.get(1), BASE)).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("커서 페이지")
+    class PageTest {
+
+        @Test
+        @DisplayName("[성공] 커서로 이어서 조회하면 전체 순서와 같음")
+        void page_WithCursor_ShouldContinueInOrder() {
+            // given
+            DecayedScoreRanking ranking = new DecayedScoreRanking(Duration.ofHours(12));
+            for (int id = 1; id <= 25; id++) {
+                ranking.put(id, id % 7 + 1, BASE + id * HOUR, BASE);
+            }
+            List<Integer> expected = ids(ranking.page(null, 100));
+
+            // when
+            List<Integer> paged = new ArrayList<>();
+            Cursor cursor = null;
+            while (true) {
+                List<Entry> page = ranking.page(cursor, 10);
+                paged.addAll(ids(page));
+                if (page.size() < 10) {
+                    break;
+                }
+                Entry last = page.get(page.size() - 1);
+                cursor = Cursor.decode(new Cursor(last.key(), last.id()).encode());
+            }
+
+            // then
+            assertThat(paged).hasSize(25).isEqualTo(expected);
+        }
+
+        @Test
+        @DisplayName("[실패] 형식이 잘못된 커서는 예외")
+        void decode_InvalidCursor_ShouldThrow() {
+            assertThatThrownBy(() -> Cursor.decode("abc"))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> Cursor.decode("zz-1"))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("정리")
+    class RebalanceTest {
+
+        @Test
+        @DisplayName("[성공] 기간이 지난 항목과 점수가 낮은 초과 항목 제거")
+        void removeAndTrim_ShouldKeepRecentTopEntries() {
+            // given
+            DecayedScoreRanking ranking = new DecayedScoreRanking(Duration.ofHours(12));
+            ranking.put(1, 5, BASE, BASE - 10 * 24 * HOUR);
+            ranking.put(2, 3, BASE, BASE);
+            ranking.put(3, 2, BASE, BASE);
+            ranking.put(4, 1, BASE, BASE);
+
+            // when
+            int expired = ranking.removeCreatedBefore(BASE - 7 * 24 * HOUR);
+            int trimmed = ranking.trim(2);
+
+            // then
+            assertThat(expired).isEqualTo(1);
+            assertThat(trimmed).isEqualTo(1);
+            assertThat(ids(ranking.page(null, 10))).containsExactly(2, 3);
+            assertThat(ranking.size()).isEqualTo(2);
+        }
+    }
+}
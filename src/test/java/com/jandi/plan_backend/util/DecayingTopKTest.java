@@ -0,0 +1,120 @@
+package com.jandi.plan_backend.util;
+
+import com.jandi.plan_backend.util.DecayingTopK.Item;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * DecayingTopK 단위 테스트
+ *
+ * 테스트 대상: 상위 K개 추적, 시간 감쇠
+ */
+class DecayingTopKTest {
+
+    private static final long HOUR = Duration.ofHours(1).toMillis();
+
+    private static List<String> keys(List<Item> items) {
+        return items.stream().map(Item::key).toList();
+    }
+
+    @Nested
+    @DisplayName("상위 K개")
+    class TopTest {
+
+        @Test
+        @DisplayName("[성공] 점수 높은 순으로 요청한 개수만 반환")
+        void top_ShouldReturnHighestScoresFirst() {
+            // given
+            DecayingTopK topK = new DecayingTopK(10, 1024, Duration.ofHours(6), 0);
+            topK.add("#제주", 1, 0);
+            topK.add("#부산", 3, 0);
+            topK.add("#유럽", 2, 0);
+
+            // when
+            List<Item> top = topK.top(2, 0);
+
+            // then
+            assertThat(keys(top)).containsExactly("#부산", "#유럽");
+            assertThat(top.get(0).score()).isEqualTo(3.0);
+        }
+
+        @Test
+        @DisplayName("[성공] 드물게 등장하는 키가 많아도 자주 등장한 키는 상위에 남음")
+        void add_ManyRareKeys_ShouldKeepHeavyHitters() {
+            // given
+            DecayingTopK topK = new DecayingTopK(10, 4096, Duration.ofHours(6), 0);
+            Random random = new Random(3);
+
+            // when: 상위 키 3개(각 300번) 사이에 한 번씩만 등장하는 키 5000개
+            for (int i = 0; i < 5000; i++) {
+                topK.add("#rare" + i, 1, 0);
+                if (random.nextInt(5) == 0) {
+                    topK.add("#제주", 1, 0);
+                    topK.add("#부산", 1, 0);
+                    topK.add("#유럽", 1, 0);
+                }
+            }
+
+            // then
+            assertThat(topK.size()).isEqualTo(10);
+            assertThat(keys(topK.top(3, 0))).containsExactlyInAnyOrder("#제주", "#부산", "#유럽");
+        }
+    }
+
+    @Nested
+    @DisplayName("시간 감쇠")
+    class DecayTest {
+
+        @Test
+        @DisplayName("[성공] 반감기가 지나면 점수가 절반")
+        void top_AfterHalfLife_ShouldHalveScore() {
+            // given
+            DecayingTopK topK = new DecayingTopK(10, 1024, Duration.ofHours(6), 0);
+            topK.add("#제주", 8, 0);
+
+            // when & then
+            assertThat(topK.top(1, 6 * HOUR).get(0).score()).isCloseTo(4.0, within(1e-9));
+            assertThat(topK.top(1, 12 * HOUR).get(0).score()).isCloseTo(2.0, within(1e-9));
+        }
+
+        @Test
+        @DisplayName("[성공] 예전에 많이 쓰인 키보다 최근에 쓰인 키가 앞섬")
+        void add_RecentKey_ShouldOvertakeOldKey() {
+            // given
+            DecayingTopK topK = new DecayingTopK(10, 1024, Duration.ofHours(6), 0);
+            topK.add("#제주", 10, 0);
+
+            // when: 하루 뒤(반감기 4번, 10 -> 0.625)
+            topK.add("#부산", 1, 24 * HOUR);
+
+            // then
+            assertThat(keys(topK.top(2, 24 * HOUR))).containsExactly("#부산", "#제주");
+        }
+
+        @Test
+        @DisplayName("[경계] 기준 시각을 여러 번 옮겨도 점수와 순서가 유지됨")
+        void add_LongRunning_ShouldRescaleWithoutOverflow() {
+            // given
+            DecayingTopK topK = new DecayingTopK(10, 1024, Duration.ofHours(1), 0);
+
+            // when: 1시간 반감기로 1000시간 동안 매시간 추가
+            for (long hour = 0; hour <= 1000; hour++) {
+                topK.add("#제주", 2, hour * HOUR);
+                topK.add("#부산", 1, hour * HOUR);
+            }
+
+            // then: 등비급수 합 (2 + 1 + 0.5 + ...) = 4, (1 + 0.5 + ...) = 2
+            List<Item> top = topK.top(2, 1000 * HOUR);
+            assertThat(keys(top)).containsExactly("#제주", "#부산");
+            assertThat(top.get(0).score()).isCloseTo(4.0, within(1e-6));
+            assertThat(top.get(1).score()).isCloseTo(2.0, within(1e-6));
+        }
+    }
+}
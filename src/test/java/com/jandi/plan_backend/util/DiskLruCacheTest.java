@@ -0,0 +1,173 @@
+package com.jandi.plan_backend.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * DiskLruCache 단위 테스트
+ *
+ * 테스트 대상: 저장/조회, 용량 초과 시 LRU 삭제, 재시작 후 색인 복원
+ */
+class DiskLruCacheTest {
+
+    @TempDir
+    Path dir;
+
+    private static byte[] bytes(int size, char fill) {
+        return String.valueOf(fill).repeat(size).getBytes(UTF_8);
+    }
+
+    @Nested
+    @DisplayName("저장/조회")
+    class PutAndGetTest {
+
+        @Test
+        @DisplayName("[성공] 저장한 값을 파일로 읽을 수 있고, 내용이 같으면 etag도 같음")
+        void put_ShouldStoreFileWithContentETag() throws IOException {
+            try (DiskLruCache cache = new DiskLruCache(dir, 1024, 16)) {
+                // when
+                DiskLruCache.Entry first = cache.put("a", "hello".getBytes(UTF_8), "image/jpeg");
+                DiskLruCache.Entry second = cache.put("b", "hello".getBytes(UTF_8), "image/png");
+
+                // then
+                assertThat(cache.get("a")).contains(first);
+                assertThat(Files.readString(first.file())).isEqualTo("hello");
+                assertThat(first.etag()).isEqualTo(second.etag());
+                assertThat(cache.get("missing")).isEmpty();
+                assertThat(cache.totalBytes()).isEqualTo(10);
+            }
+        }
+
+        @Test
+        @DisplayName("[성공] 같은 키에 다시 저장하면 교체되고 크기 합계도 갱신됨")
+        void put_SameKey_ShouldReplace() throws IOException {
+            try (DiskLruCache cache = new DiskLruCache(dir, 1024, 16)) {
+                // when
+                cache.put("a", bytes(100, 'x'), "image/jpeg");
+                DiskLruCache.Entry replaced = cache.put("a", bytes(30, 'y'), "image/jpeg");
+
+                // then
+                assertThat(cache.size()).isEqualTo(1);
+                assertThat(cache.totalBytes()).isEqualTo(30);
+                assertThat(Files.readString(replaced.file())).isEqualTo("y".repeat(30));
+            }
+        }
+
+        @Test
+        @DisplayName("[실패] 최대 크기보다 큰 값은 저장하지 않음")
+        void put_TooLarge_ShouldThrow() throws IOException {
+            try (DiskLruCache cache = new DiskLruCache(dir, 10, 16)) {
+                assertThatThrownBy(() -> cache.put("a", bytes(11, 'x'), "image/jpeg"))
+                        .isInstanceOf(IOException.class);
+                assertThat(cache.size()).isZero();
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("LRU 삭제")
+    class EvictionTest {
+
+        @Test
+        @DisplayName("[성공] 용량을 넘으면 가장 오래 사용하지 않은 값부터 삭제")
+        void put_OverMaxBytes_ShouldEvictLeastRecentlyUsed() throws IOException {
+            try (DiskLruCache cache = new DiskLruCache(dir, 300, 16)) {
+                // given
+                DiskLruCache.Entry a = cache.put("a", bytes(100, 'a'), "image/jpeg");
+                cache.put("b", bytes(100, 'b'), "image/jpeg");
+                cache.put("c", bytes(100, 'c'), "image/jpeg");
+                cache.get("a");
+
+                // when
+                cache.put("d", bytes(100, 'd'), "image/jpeg");
+
+                // then: b가 가장 오래 사용하지 않은 값
+                assertThat(cache.get("b")).isEmpty();
+                assertThat(cache.get("a")).contains(a);
+                assertThat(cache.get("c")).isPresent();
+                assertThat(cache.get("d")).isPresent();
+                assertThat(cache.totalBytes()).isEqualTo(300);
+                try (var files = Files.list(dir.resolve("data"))) {
+                    assertThat(files.count()).isEqualTo(3);
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("[경계] 레코드 수 제한을 넘어도 가장 오래 사용하지 않은 값부터 삭제")
+        void put_OverMaxEntries_ShouldEvictLeastRecentlyUsed() throws IOException {
+            try (DiskLruCache cache = new DiskLruCache(dir, 1024, 2)) {
+                cache.put("a", bytes(1, 'a'), "image/jpeg");
+                cache.put("b", bytes(1, 'b'), "image/jpeg");
+                cache.put("c", bytes(1, 'c'), "image/jpeg");
+
+                assertThat(cache.size()).isEqualTo(2);
+                assertThat(cache.get("a")).isEmpty();
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("색인 복원")
+    class ReloadTest {
+
+        @Test
+        @DisplayName("[성공] 다시 열면 색인 파일에서 값과 사용 순서를 복원")
+        void reopen_ShouldRestoreEntriesAndOrder() throws IOException, InterruptedException {
+            // given
+            try (DiskLruCache cache = new DiskLruCache(dir, 300, 16)) {
+                cache.put("a", bytes(100, 'a'), "image/jpeg");
+                Thread.sleep(5);
+                cache.put("b", bytes(100, 'b'), "image/webp");
+                Thread.sleep(5);
+                cache.put("c", bytes(100, 'c'), "image/jpeg");
+                Thread.sleep(5);
+                cache.get("a");
+            }
+
+            // when
+            try (DiskLruCache reopened = new DiskLruCache(dir, 300, 16)) {
+                // then
+                assertThat(reopened.size()).isEqualTo(3);
+                assertThat(reopened.get("b")).get()
+                        .extracting(DiskLruCache.Entry::contentType)
+                        .isEqualTo("image/webp");
+
+                reopened.put("d", bytes(100, 'd'), "image/jpeg");
+                assertThat(reopened.get("c")).isEmpty();
+                assertThat(reopened.get("a")).isPresent();
+            }
+        }
+
+        @Test
+        @DisplayName("[경계] 파일이 없어진 레코드와 색인에 없는 파일은 정리")
+        void reopen_WithMissingOrOrphanFiles_ShouldCleanUp() throws IOException {
+            // given
+            Path orphan;
+            try (DiskLruCache cache = new DiskLruCache(dir, 300, 16)) {
+                DiskLruCache.Entry a = cache.put("a", bytes(10, 'a'), "image/jpeg");
+                cache.put("b", bytes(10, 'b'), "image/jpeg");
+                Files.delete(a.file());
+                orphan = Files.writeString(dir.resolve("data").resolve("orphan.bin"), "x");
+            }
+
+            // when
+            try (DiskLruCache reopened = new DiskLruCache(dir, 300, 16)) {
+                // then
+                assertThat(reopened.get("a")).isEmpty();
+                assertThat(reopened.get("b")).isPresent();
+                assertThat(reopened.totalBytes()).isEqualTo(10);
+                assertThat(orphan).doesNotExist();
+            }
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package com.jandi.plan_backend.util;
+
+import com.jandi.plan_backend.util.GeoGridIndex.Hit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * GeoGridIndex 단위 테스트
+ *
+ * 테스트 대상: 반경/영역/최근접 조회, 좌표 추가/이동/삭제
+ */
+class GeoGridIndexTest {
+
+    // 서울 시청 주변 임의 좌표
+    private GeoGridIndex createRandomIndex(int count, double[] lats, double[] lngs) {
+        Random random = new Random(7);
+        long[] ids = new long[count];
+        for (int i = 0; i < count; i++) {
+            ids[i] = i + 1;
+            lats[i] = 37.40 + random.nextDouble() * 0.3;
+            lngs[i] = 126.80 + random.nextDouble() * 0.4;
+        }
+        GeoGridIndex index = new GeoGridIndex(0.01);
+        index.replaceAll(ids, lats, lngs);
+        return index;
+    }
+
+    @Nested
+    @DisplayName("반경 조회")
+    class WithinRadiusTest {
+
+        @Test
+        @DisplayName("[성공] 전체 스캔과 같은 결과를 가까운 순으로 반환")
+        void withinRadius_ShouldMatchFullScan() {
+            // given
+            int count = 2000;
+            double[] lats = new double[count];
+            double[] lngs = new double[count];
+            GeoGridIndex index = createRandomIndex(count, lats, lngs);
+            double lat = 37.5665, lng = 126.9780, radius = 3000;
+
+            // when
+            List<Hit> hits = index.withinRadius(lat, lng, radius);
+
+            // then
+            long[] expected = IntStream.range(0, count)
+                    .filter(i -> GeoGridIndex.distanceMeters(lat, lng, lats[i], lngs[i]) <= radius)
+                    .mapToLong(i -> i + 1)
+                    .toArray();
+            assertThat(hits).extracting(Hit::id).containsExactlyInAnyOrder(Arrays.stream(expected).boxed().toArray(Long[]::new));
+            assertThat(hits).isSortedAccordingTo(Comparator.comparingDouble(Hit::distanceMeters));
+        }
+    }
+
+    @Nested
+    @DisplayName("영역 조회")
+    class WithinBoxTest {
+
+        @Test
+        @DisplayName("[성공] 날짜 변경선을 넘는 영역도 조회")
+        void withinBox_AcrossAntimeridian_ShouldReturnBothSides() {
+            // given
+            GeoGridIndex index = new GeoGridIndex(1.0);
+            index.put(1L, -17.7, 178.4);   // 피지
+            index.put(2L, -13.8, -171.8);  // 사모아
+            index.put(3L, 37.5, 127.0);    // 서울
+
+            // when & then
+            assertThat(index.withinBox(-20, 170, -10, -170)).containsExactly(1L, 2L);
+            assertThat(index.withinBox(30, 120, 40, 130)).containsExactly(3L);
+        }
+    }
+
+    @Nested
+    @DisplayName("최근접 조회")
+    class NearestTest {
+
+        @Test
+        @DisplayName("[성공] 전체 스캔으로 구한 가장 가까운 k개와 일치")
+        void nearest_ShouldMatchFullScan() {
+            // given
+            int count = 2000;
+            double[] lats = new double[count];
+            double[] lngs = new double[count];
+            GeoGridIndex index = createRandomIndex(count, lats, lngs);
+            double lat = 37.55, lng = 126.99;
+
+            // when
+            List<Hit> hits = index.nearest(lat, lng, 15);
+
+            // then
+            List<Long> expected = IntStream.range(0, count).boxed()
+                    .sorted(Comparator.comparingDouble(i -> GeoGridIndex.distanceMeters(lat, lng, lats[i], lngs[i])))
+                    .limit(15)
+                    .map(i -> (long) i + 1)
+                    .toList();
+            assertThat(hits).extracting(Hit::id).containsExactlyElementsOf(expected);
+        }
+
+        @Test
+        @DisplayName("[경계] 멀리 떨어진 좌표만 있으면 전체 스캔으로 찾음")
+        void nearest_SparsePoints_ShouldFallBackToFullScan() {
+            // given
+            GeoGridIndex index = new GeoGridIndex(0.01);
+            index.put(1L, 35.1796, 129.0756); // 부산
+            index.put(2L, 33.4996, 126.5312); // 제주
+
+            // when
+            List<Hit> hits = index.nearest(37.5665, 126.9780, 5);
+
+            // then
+            assertThat(hits).extracting(Hit::id).containsExactly(1L, 2L);
+        }
+    }
+
+    @Nested
+    @DisplayName("인덱스 갱신")
+    class UpdateIndexTest {
+
+        @Test
+        @DisplayName("[성공] 이동/삭제가 조회 결과에 반영되고 빈 슬롯은 재사용")
+        void putAndRemove_ShouldBeReflectedInQueries() {
+            // given
+            GeoGridIndex index = new GeoGridIndex(0.01);
+            index.put(1L, 37.5665, 126.9780);
+            index.put(2L, 37.5700, 126.9800);
+
+            // when: 1번을 부산으로 이동
+            index.put(1L, 35.1796, 129.0756);
+
+            // then
+            assertThat(index.withinRadius(37.5665, 126.9780, 1000)).extracting(Hit::id).containsExactly(2L);
+            assertThat(index.size()).isEqualTo(2);
+
+            // when: 2번 삭제 후 3번 추가
+            assertThat(index.remove(2L)).isTrue();
+            assertThat(index.remove(2L)).isFalse();
+            index.put(3L, 37.5665, 126.9780);
+
+            // then
+            assertThat(index.withinRadius(37.5665, 126.9780, 1000)).extracting(Hit::id).containsExactly(3L);
+            assertThat(index.size()).isEqualTo(2);
+        }
+    }
+}
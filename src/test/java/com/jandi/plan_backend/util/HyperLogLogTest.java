@@ -0,0 +1,159 @@
+package com.jandi.plan_backend.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * HyperLogLog 단위 테스트
+ *
+ * 테스트 대상: 고유 개수 추정 오차, 병합, 저장 형식 복원
+ */
+class HyperLogLogTest {
+
+    private static HyperLogLog sketchOf(String prefix, int count) {
+        HyperLogLog sketch = new HyperLogLog();
+        for (int i = 0; i < count; i++) {
+            sketch.add(prefix + i);
+        }
+        return sketch;
+    }
+
+    @Nested
+    @DisplayName("추정")
+    class EstimateTest {
+
+        @Test
+        @DisplayName("[성공] 10만 개 고유 키의 추정 오차 2% 이내")
+        void estimate_LargeCardinality_ShouldBeWithinError() {
+            // given
+            HyperLogLog sketch = sketchOf("user:", 100_000);
+
+            // when
+            long estimate = sketch.estimate();
+
+            // then
+            assertThat(estimate).isCloseTo(100_000L, withinPercentage(2));
+        }
+
+        @Test
+        @DisplayName("[성공] 적은 개수는 거의 정확하게 추정")
+        void estimate_SmallCardinality_ShouldBeNearlyExact() {
+            // given
+            HyperLogLog sketch = sketchOf("client:", 100);
+
+            // when & then
+            assertThat(sketch.estimate()).isBetween(98L, 102L);
+        }
+
+        @Test
+        @DisplayName("[성공] 같은 키를 여러 번 추가해도 한 번으로 추정")
+        void add_DuplicateKeys_ShouldNotIncreaseEstimate() {
+            // given
+            HyperLogLog sketch = new HyperLogLog();
+            assertThat(sketch.add("user:a@test.com")).isTrue();
+
+            // when
+            boolean changed = false;
+            for (int i = 0; i < 1000; i++) {
+                changed |= sketch.add("user:a@test.com");
+            }
+
+            // then
+            assertThat(changed).isFalse();
+            assertThat(sketch.estimate()).isEqualTo(1L);
+        }
+
+        @Test
+        @DisplayName("[경계] 빈 스케치는 0")
+        void estimate_Empty_ShouldBeZero() {
+            assertThat(new HyperLogLog().estimate()).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("병합")
+    class MergeTest {
+
+        @Test
+        @DisplayName("[성공] 겹치는 키가 있는 두 스케치를 합치면 합집합 개수로 추정")
+        void merge_OverlappingSketches_ShouldEstimateUnion() {
+            // given: 0~29999, 20000~49999 (합집합 50000)
+            HyperLogLog first = new HyperLogLog();
+            HyperLogLog second = new HyperLogLog();
+            for (int i = 0; i < 50_000; i++) {
+                if (i < 30_000) {
+                    first.add("user:" + i);
+                }
+                if (i >= 20_000) {
+                    second.add("user:" + i);
+                }
+            }
+
+            // when
+            first.merge(second);
+
+            // then
+            assertThat(first.estimate()).isCloseTo(50_000L, withinPercentage(2));
+        }
+    }
+
+    @Nested
+    @DisplayName("저장 형식")
+    class SerializationTest {
+
+        @Test
+        @DisplayName("[성공] 키가 적으면 작은 형식으로 저장하고 같은 추정값으로 복원")
+        void toBytes_Sparse_ShouldRoundTrip() {
+            // given
+            HyperLogLog sketch = sketchOf("user:", 50);
+
+            // when
+            byte[] bytes = sketch.toBytes();
+            HyperLogLog restored = HyperLogLog.fromBytes(bytes);
+
+            // then
+            assertThat(bytes.length).isLessThan(200);
+            assertThat(restored.estimate()).isEqualTo(sketch.estimate());
+            assertThat(restored.toBytes()).isEqualTo(bytes);
+        }
+
+        @Test
+        @DisplayName("[성공] 키가 많으면 레지스터 배열 형식으로 저장하고 같은 추정값으로 복원")
+        void toBytes_Dense_ShouldRoundTrip() {
+            // given
+            HyperLogLog sketch = sketchOf("user:", 100_000);
+
+            // when
+            byte[] bytes = sketch.toBytes();
+            HyperLogLog restored = HyperLogLog.fromBytes(bytes);
+
+            // then
+            assertThat(bytes.length).isEqualTo((1 << 14) + 1);
+            assertThat(restored.estimate()).isEqualTo(sketch.estimate());
+        }
+
+        @Test
+        @DisplayName("[경계] null이나 빈 배열은 빈 스케치")
+        void fromBytes_NullOrEmpty_ShouldReturnEmptySketch() {
+            assertThat(HyperLogLog.fromBytes(null).estimate()).isZero();
+            assertThat(HyperLogLog.fromBytes(new byte[0]).estimate()).isZero();
+        }
+
+        @Test
+        @DisplayName("[실패] 알 수 없는 형식이나 잘린 데이터는 예외 발생")
+        void fromBytes_InvalidData_ShouldThrowException() {
+            byte[] valid = sketchOf("user:", 50).toBytes();
+            byte[] cut = Arrays.copyOf(valid, valid.length - 3);
+
+            assertThatThrownBy(() -> HyperLogLog.fromBytes(new byte[]{9, 1, 2}))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> HyperLogLog.fromBytes(cut))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+}
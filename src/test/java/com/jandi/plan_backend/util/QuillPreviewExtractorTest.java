@@ -0,0 +1,105 @@
+package com.jandi.plan_backend.util;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * QuillPreviewExtractor 단위 테스트
+ *
+ * 테스트 대상: Quill 본문의 미리보기 추출 (줄바꿈 제거, 이미지 건너뛰기, 길이 제한)
+ */
+class QuillPreviewExtractorTest {
+
+    // 이전 구현(JsonNode 트리 순회)과 같은 결과인지 비교하기 위한 기준 구현
+    private static String treePreview(String contents, int maxLength) throws Exception {
+        StringBuilder preview = new StringBuilder();
+        for (JsonNode opsNode : new ObjectMapper().readTree(contents).get("ops")) {
+            int leftLength = maxLength - preview.length();
+            if (leftLength < 1) break;
+            JsonNode insertNode = opsNode.get("insert");
+            if (insertNode != null) {
+                String text = insertNode.asText().replace("\n", "");
+                preview.append(text.length() > leftLength ? text.substring(0, leftLength) : text);
+            }
+        }
+        return preview.toString();
+    }
+
+    @Test
+    @DisplayName("[성공] insert 텍스트를 줄바꿈 없이 이어 붙이고 이미지와 서식 정보는 건너뜀")
+    void extract_ShouldJoinTextInserts() {
+        // given
+        String contents = "{\"ops\":[{\"insert\":\"파리 여행\\n\"},"
+                + "{\"attributes\":{\"header\":1},\"insert\":\"\\n\"},"
+                + "{\"insert\":{\"image\":\"https://example.com/a.jpg\"}},"
+                + "{\"attributes\":{\"bold\":true},\"insert\":\"에펠탑\"}]}";
+
+        // when
+        String preview = QuillPreviewExtractor.extract(contents, 200);
+
+        // then
+        assertThat(preview).isEqualTo("파리 여행에펠탑");
+    }
+
+    @Test
+    @DisplayName("[경계] 최대 길이에서 잘리고, 이후 본문은 읽지 않음")
+    void extract_ShouldStopAtMaxLength() {
+        // given: 미리보기가 채워진 뒤의 본문은 깨진 JSON
+        String contents = "{\"ops\":[{\"insert\":\"" + "가".repeat(150) + "\"},{\"insert\":\"" + "나".repeat(100)
+                + "\"},{\"insert\":\"다\"}, BROKEN";
+
+        // when
+        String preview = QuillPreviewExtractor.extract(contents, 200);
+
+        // then
+        assertThat(preview).isEqualTo("가".repeat(150) + "나".repeat(50));
+    }
+
+    @Test
+    @DisplayName("[경계] ops가 없으면 빈 문자열")
+    void extract_WithoutOps_ShouldReturnEmpty() {
+        assertThat(QuillPreviewExtractor.extract("{\"version\":1}", 200)).isEmpty();
+        assertThat(QuillPreviewExtractor.extract("{\"ops\":[]}", 200)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("[실패] JSON이 아닌 본문은 예외")
+    void extract_InvalidJson_ShouldThrow() {
+        assertThatThrownBy(() -> QuillPreviewExtractor.extract("{\"ops\":[{\"insert\":", 200))
+                .isInstanceOf(RuntimeException.class);
+    }
+
+    @Test
+    @DisplayName("[성공] 임의의 본문에서 이전 트리 방식과 같은 미리보기")
+    void extract_ShouldMatchTreeImplementation() throws Exception {
+        // given
+        Random random = new Random(11);
+        String[] texts = {"여행", "\\n", "Paris ", "\\n\\n", "맛집 추천", "😀", "a\\nb", "\\\"인용\\\""};
+        for (int doc = 0; doc < 200; doc++) {
+            StringBuilder contents = new StringBuilder("{\"ops\":[");
+            int ops = random.nextInt(40);
+            for (int i = 0; i < ops; i++) {
+                if (i > 0) contents.append(',');
+                switch (random.nextInt(4)) {
+                    case 0 -> contents.append("{\"insert\":{\"image\":\"x.jpg\"}}");
+                    case 1 -> contents.append("{\"attributes\":{\"list\":\"bullet\"},\"insert\":\"\\n\"}");
+                    default -> contents.append("{\"insert\":\"")
+                            .append(texts[random.nextInt(texts.length)].repeat(1 + random.nextInt(20)))
+                            .append("\"}");
+                }
+            }
+            contents.append("]}");
+            int maxLength = 1 + random.nextInt(200);
+
+            // when & then
+            assertThat(QuillPreviewExtractor.extract(contents.toString(), maxLength))
+                    .isEqualTo(treePreview(contents.toString(), maxLength));
+        }
+    }
+}